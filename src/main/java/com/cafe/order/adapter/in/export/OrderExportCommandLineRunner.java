@@ -0,0 +1,60 @@
+package com.cafe.order.adapter.in.export;
+
+import com.cafe.order.application.port.in.order.OrderExportUseCase;
+import com.cafe.order.application.port.in.order.query.OrderExportQuery;
+import com.cafe.order.config.OrderExportProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 커맨드라인 주문 내보내기 (정산 배치용)
+ * order.export.cli.output 을 지정해 기동하면 파일로 내보낸 뒤 종료한다. 파일 이름이 .gz 로 끝나면 gzip 으로 압축한다.
+ *
+ * java -jar order.jar --spring.main.web-application-type=none \
+ *   --order.export.cli.output=orders.csv.gz --order.export.cli.from=2025-01-01T00:00 --order.export.cli.to=2025-02-01T00:00
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(OrderExportProperties.class)
+@ConditionalOnProperty(prefix = "order.export.cli", name = "output")
+public class OrderExportCommandLineRunner implements ApplicationRunner {
+
+    private final OrderExportUseCase orderExportUseCase;
+    private final OrderExportProperties orderExportProperties;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        OrderExportProperties.Cli cli = orderExportProperties.getCli();
+        if (cli.getFrom() == null || cli.getTo() == null || !cli.getFrom().isBefore(cli.getTo())) {
+            throw new IllegalArgumentException("order.export.cli.from, to 를 from < to 로 지정해야 합니다.");
+        }
+
+        Path output = cli.getOutput();
+        OrderExportFormat format = OrderExportFormat.from(cli.getFormat());
+        boolean gzip = output.getFileName().toString().endsWith(".gz");
+
+        long rows;
+        try (OutputStream file = Files.newOutputStream(output);
+             OrderExportWriter writer = new OrderExportWriter(file, format, gzip)) {
+            rows = orderExportUseCase.exportOrders(new OrderExportQuery(cli.getFrom(), cli.getTo()), writer);
+        }
+        log.info("주문 내보내기 파일 생성: output={}, rows={}, size={}bytes", output, rows, Files.size(output));
+
+        // 스케줄러 스레드가 남아 있어 main 이 끝나도 종료되지 않으므로 직접 종료
+        System.exit(SpringApplication.exit(applicationContext));
+    }
+}
@@ -0,0 +1,26 @@
+package com.cafe.order.adapter.in.export;
+
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    public static OrderExportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BizException(ErrorCode.INVALID_REQUEST, "지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+}
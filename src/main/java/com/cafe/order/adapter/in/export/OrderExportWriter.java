@@ -0,0 +1,160 @@
+package com.cafe.order.adapter.in.export;
+
+import com.cafe.order.application.port.in.order.query.OrderExportRow;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 내보내기 행을 CSV(RFC 4180) 또는 NDJSON 으로 출력 스트림에 바로 쓴다 (gzip 선택).
+ * 64KB 버퍼가 찰 때마다 내려보내므로 메모리에는 버퍼만 남고, HTTP 응답은 chunked 로 전송된다.
+ * close() 는 버퍼와 gzip 트레일러까지 내보내지만 출력 스트림 자체는 닫지 않는다.
+ */
+public class OrderExportWriter implements Consumer<OrderExportRow>, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String CSV_HEADER =
+            "order_id,member_id,status,payment_id,order_date_time,cancel_date_time,payment_date_time,product_id,quantity";
+
+    private final OrderExportFormat format;
+    private final Writer writer;
+    private final JsonGenerator json;
+
+    public OrderExportWriter(OutputStream output, OrderExportFormat format, boolean gzip) throws IOException {
+        OutputStream target = new NonClosingOutputStream(output);
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(
+                gzip ? new GZIPOutputStream(target, BUFFER_SIZE) : target, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        if (format == OrderExportFormat.NDJSON) {
+            this.json = JSON_FACTORY.createGenerator(writer);
+        } else {
+            this.json = null;
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+    }
+
+    @Override
+    public void accept(OrderExportRow row) {
+        try {
+            if (format == OrderExportFormat.NDJSON) {
+                writeJson(row);
+            } else {
+                writeCsv(row);
+            }
+        } catch (IOException e) {
+            // 클라이언트 연결 끊김 등: 커서 순회를 중단시키기 위해 그대로 전파
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(OrderExportRow row) throws IOException {
+        writer.write(Long.toString(row.orderId()));
+        writer.write(',');
+        writer.write(Long.toString(row.memberId()));
+        writer.write(',');
+        writer.write(row.status().name());
+        writer.write(',');
+        writeCsvText(row.paymentId());
+        writer.write(',');
+        writeCsvDateTime(row.orderDateTime());
+        writer.write(',');
+        writeCsvDateTime(row.cancelDateTime());
+        writer.write(',');
+        writeCsvDateTime(row.paymentDateTime());
+        writer.write(',');
+        writer.write(Long.toString(row.productId()));
+        writer.write(',');
+        writer.write(Integer.toString(row.quantity()));
+        writer.write("\r\n");
+    }
+
+    /**
+     * 구분자/따옴표/줄바꿈이 있는 값만 큰따옴표로 감싸고 안의 큰따옴표는 두 번 쓴다
+     */
+    private void writeCsvText(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\r' || c == '\n')) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void writeCsvDateTime(LocalDateTime value) throws IOException {
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    private void writeJson(OrderExportRow row) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("orderId", row.orderId());
+        json.writeNumberField("memberId", row.memberId());
+        json.writeStringField("status", row.status().name());
+        json.writeStringField("paymentId", row.paymentId());
+        writeJsonDateTime("orderDateTime", row.orderDateTime());
+        writeJsonDateTime("cancelDateTime", row.cancelDateTime());
+        writeJsonDateTime("paymentDateTime", row.paymentDateTime());
+        json.writeNumberField("productId", row.productId());
+        json.writeNumberField("quantity", row.quantity());
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private void writeJsonDateTime(String field, LocalDateTime value) throws IOException {
+        if (value == null) {
+            json.writeNullField(field);
+        } else {
+            json.writeStringField(field, value.toString());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            json.flush();
+        }
+        // gzip 이면 트레일러까지 기록
+        writer.close();
+    }
+
+    /**
+     * 서블릿 응답/파일 스트림은 호출한 쪽이 닫도록 close 를 flush 로 바꾼다
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
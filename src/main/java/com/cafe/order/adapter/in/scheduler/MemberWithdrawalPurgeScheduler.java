@@ -0,0 +1,31 @@
+package com.cafe.order.adapter.in.scheduler;
+
+import com.cafe.order.application.port.in.member.MemberPurgeUseCase;
+import com.cafe.order.config.MemberPurgeProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "member.purge", name = "enabled", havingValue = "true")
+public class MemberWithdrawalPurgeScheduler {
+
+    private final MemberPurgeUseCase memberPurgeUseCase;
+    private final MemberPurgeProperties memberPurgeProperties;
+
+    @Scheduled(fixedDelayString = "${member.purge.fixed-delay:1h}",
+            initialDelayString = "${member.purge.fixed-delay:1h}")
+    public void purgeExpiredWithdrawals() {
+        long startNanos = System.nanoTime();
+        int purged = memberPurgeUseCase.purgeExpiredWithdrawals(memberPurgeProperties.getMaxMembersPerRun());
+
+        if (purged > 0) {
+            log.info("철회 기간이 지난 탈퇴 회원 정리 완료: count={}, elapsed={}ms",
+                    purged, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.cafe.order.adapter.in.scheduler;
+
+import com.cafe.order.application.port.in.order.OrderArchiveUseCase;
+import com.cafe.order.config.OrderArchiveProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.archive", name = "enabled", havingValue = "true")
+public class OrderArchiveScheduler {
+
+    private final OrderArchiveUseCase orderArchiveUseCase;
+    private final OrderArchiveProperties orderArchiveProperties;
+
+    @Scheduled(fixedDelayString = "${order.archive.fixed-delay:1h}",
+            initialDelayString = "${order.archive.fixed-delay:1h}")
+    public void archiveOrders() {
+        LocalDateTime orderedBefore = LocalDateTime.now().minus(orderArchiveProperties.getRetention());
+        int archived = orderArchiveUseCase.archiveOrders(orderedBefore, orderArchiveProperties.getMaxOrdersPerRun());
+
+        if (archived > 0) {
+            log.info("오래된 주문 보관 완료: count={}, orderedBefore={}", archived, orderedBefore);
+        }
+    }
+}
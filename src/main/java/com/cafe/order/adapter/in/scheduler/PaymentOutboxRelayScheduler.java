@@ -0,0 +1,20 @@
+package com.cafe.order.adapter.in.scheduler;
+
+import com.cafe.order.application.port.in.payment.PaymentOutboxRelayUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxRelayScheduler {
+
+    private final PaymentOutboxRelayUseCase paymentOutboxRelayUseCase;
+
+    @Scheduled(fixedDelayString = "${payment.outbox.fixed-delay:1s}")
+    public void relay() {
+        paymentOutboxRelayUseCase.relayAllDueOutbox();
+    }
+}
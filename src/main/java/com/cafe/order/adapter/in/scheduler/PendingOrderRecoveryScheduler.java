@@ -0,0 +1,29 @@
+package com.cafe.order.adapter.in.scheduler;
+
+import com.cafe.order.application.port.in.order.OrderCommandUseCase;
+import com.cafe.order.config.OrderRecoveryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingOrderRecoveryScheduler {
+
+    private final OrderCommandUseCase orderCommandUseCase;
+    private final OrderRecoveryProperties orderRecoveryProperties;
+
+    @Scheduled(fixedDelayString = "${order.recovery.fixed-delay:30s}")
+    public void recoverPendingOrders() {
+        LocalDateTime pendingBefore = LocalDateTime.now().minus(orderRecoveryProperties.getPendingTimeout());
+        int recovered = orderCommandUseCase.recoverPendingOrders(pendingBefore, orderRecoveryProperties.getBatchSize());
+
+        if (recovered > 0) {
+            log.warn("미확정 주문 복구 완료: count={}", recovered);
+        }
+    }
+}
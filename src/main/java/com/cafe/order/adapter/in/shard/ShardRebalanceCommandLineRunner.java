@@ -0,0 +1,39 @@
+package com.cafe.order.adapter.in.shard;
+
+import com.cafe.order.application.port.in.order.OrderShardRebalanceUseCase;
+import com.cafe.order.config.DataSourceShardProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커맨드라인 샤드 재배치 (노드 추가 후, 트래픽을 받지 않는 상태에서 실행)
+ * datasource.shard.rebalance.previous-nodes 에 추가 전 노드 이름을 순서대로 지정해 기동하면 재배치 후 종료한다.
+ *
+ * java -jar order.jar --spring.main.web-application-type=none \
+ *   --datasource.shard.rebalance.previous-nodes=shard-1,shard-2,shard-3
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "datasource.shard.rebalance", name = "previous-nodes")
+public class ShardRebalanceCommandLineRunner implements ApplicationRunner {
+
+    private final OrderShardRebalanceUseCase orderShardRebalanceUseCase;
+    private final DataSourceShardProperties dataSourceShardProperties;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long moved = orderShardRebalanceUseCase.rebalance(dataSourceShardProperties.getRebalance().getPreviousNodes());
+        log.info("샤드 재배치 종료: movedOrders={}", moved);
+
+        // 스케줄러 스레드가 남아 있어 main 이 끝나도 종료되지 않으므로 직접 종료
+        System.exit(SpringApplication.exit(applicationContext));
+    }
+}
@@ -0,0 +1,93 @@
+package com.cafe.order.adapter.in.web.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * NDJSON 요청 본문을 한 줄씩 읽는다.
+ * 줄이 maxLineLength 를 넘으면 나머지는 버리고 초과 여부만 남겨, 줄바꿈 없는 거대한 본문도 메모리에 쌓이지 않는다.
+ */
+public class NdjsonLineReader {
+
+    private final Reader reader;
+    private final int maxLineLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+
+    private int position;
+    private int limit;
+    private long lineNumber;
+    private boolean tooLong;
+
+    public NdjsonLineReader(InputStream inputStream, int maxLineLength) {
+        this.reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * 다음 줄로 이동, 본문 끝이면 false
+     */
+    public boolean next() throws IOException {
+        line.setLength(0);
+        tooLong = false;
+
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    if (!read) {
+                        return false;
+                    }
+                    break;
+                }
+            }
+            read = true;
+
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            append(start, position);
+            if (position < limit) {
+                position++;
+                break;
+            }
+        }
+
+        lineNumber++;
+        if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        return true;
+    }
+
+    private void append(int start, int end) {
+        if (tooLong) {
+            return;
+        }
+        if (line.length() + (end - start) > maxLineLength) {
+            tooLong = true;
+            line.setLength(0);
+            return;
+        }
+        line.append(buffer, start, end - start);
+    }
+
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    public String line() {
+        return line.toString();
+    }
+
+    public boolean isTooLong() {
+        return tooLong;
+    }
+}
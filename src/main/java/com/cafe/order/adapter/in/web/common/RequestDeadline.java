@@ -0,0 +1,21 @@
+package com.cafe.order.adapter.in.web.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러의 Deadline 파라미터에 요청 처리 기한을 주입
+ * 클라이언트가 X-Request-Deadline(epoch millis 또는 ISO-8601) / X-Request-Timeout(예: 1500, 1500ms, 2s) 헤더로
+ * 더 짧은 기한을 보내면 그 기한을 사용하고, 없으면 엔드포인트 기본값을 사용한다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequestDeadline {
+
+    /**
+     * 엔드포인트 기본 처리 기한이자 상한 (Spring Boot Duration 형식)
+     */
+    String timeout();
+}
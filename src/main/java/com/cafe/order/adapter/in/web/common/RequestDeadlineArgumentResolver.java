@@ -0,0 +1,73 @@
+package com.cafe.order.adapter.in.web.common;
+
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.Deadline;
+import com.cafe.order.common.ErrorCode;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * @RequestDeadline 이 붙은 Deadline 파라미터를 요청 헤더와 엔드포인트 기본값으로 결정
+ * 절대 시각 헤더는 서버 시계 기준 남은 시간으로 환산한 뒤 단조 시계 기반 Deadline 으로 변환한다.
+ */
+@Component
+public class RequestDeadlineArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String DEADLINE_HEADER = "X-Request-Deadline";
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(RequestDeadline.class)
+                && Deadline.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Deadline resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                    NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        RequestDeadline annotation = parameter.getParameterAnnotation(RequestDeadline.class);
+        Duration timeout = DurationStyle.detectAndParse(annotation.timeout());
+
+        Duration requestedTimeout = requestedTimeout(webRequest);
+        if (requestedTimeout != null && requestedTimeout.compareTo(timeout) < 0) {
+            timeout = requestedTimeout;
+        }
+        return Deadline.after(timeout);
+    }
+
+    private Duration requestedTimeout(NativeWebRequest webRequest) {
+        String deadline = webRequest.getHeader(DEADLINE_HEADER);
+        if (deadline != null && !deadline.isBlank()) {
+            return Duration.between(Instant.now(), parseInstant(deadline.trim()));
+        }
+
+        String timeout = webRequest.getHeader(TIMEOUT_HEADER);
+        if (timeout != null && !timeout.isBlank()) {
+            try {
+                return DurationStyle.detectAndParse(timeout.trim());
+            } catch (IllegalArgumentException e) {
+                throw new BizException(ErrorCode.INVALID_REQUEST, TIMEOUT_HEADER + " 헤더 형식이 올바르지 않습니다.");
+            }
+        }
+        return null;
+    }
+
+    private Instant parseInstant(String value) {
+        try {
+            return value.chars().allMatch(Character::isDigit)
+                    ? Instant.ofEpochMilli(Long.parseLong(value))
+                    : Instant.parse(value);
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new BizException(ErrorCode.INVALID_REQUEST, DEADLINE_HEADER + " 헤더 형식이 올바르지 않습니다.");
+        }
+    }
+}
@@ -1,33 +1,65 @@
 package com.cafe.order.adapter.in.web.order;
 
 import com.cafe.order.adapter.in.web.common.ApiResponse;
+import com.cafe.order.adapter.in.web.common.RequestDeadline;
 import com.cafe.order.adapter.in.web.order.mapper.OrderWebMapper;
+import com.cafe.order.adapter.in.web.order.request.BatchCreateOrderRequest;
 import com.cafe.order.adapter.in.web.order.request.CancelOrderRequest;
 import com.cafe.order.adapter.in.web.order.request.CreateOrderRequest;
+import com.cafe.order.adapter.in.web.order.response.BatchCreateOrderResponse;
 import com.cafe.order.adapter.in.web.order.response.CreateOrderResponse;
 import com.cafe.order.application.port.in.order.OrderCommandUseCase;
 import com.cafe.order.application.port.in.order.command.CancelOrderCommand;
 import com.cafe.order.application.port.in.order.command.CreateOrderCommand;
-import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.common.Deadline;
+import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderCommandUseCase orderCommandUseCase;
     private final OrderWebMapper orderWebMapper;
 
+    /**
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청에 추가 결제 없이 최초 주문 결과를 반환
+     * 처리 기한은 기본 5초이며, X-Request-Deadline / X-Request-Timeout 헤더로 더 짧게 지정할 수 있다
+     */
     @PostMapping
-    public ApiResponse<CreateOrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
-        CreateOrderCommand command = orderWebMapper.toCommand(request);
-        Order order = orderCommandUseCase.createOrder(command);
-        CreateOrderResponse response = orderWebMapper.toResponse(order);
+    public CompletableFuture<ApiResponse<CreateOrderResponse>> createOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Parameter(hidden = true) @RequestDeadline(timeout = "5s") Deadline deadline,
+            @Valid @RequestBody CreateOrderRequest request) {
+        CreateOrderCommand command = orderWebMapper.toCommand(request, idempotencyKey, deadline);
+
+        // 결제 응답 대기 중에는 요청 스레드를 반환하고, 완료 시점에 비동기 디스패치로 응답
+        return orderCommandUseCase.createOrder(command)
+                .thenApply(orderWebMapper::toResponse)
+                .thenApply(ApiResponse::success);
+    }
+
+    /**
+     * 여러 주문을 한 번에 생성하고 주문별 결과를 요청 순서대로 응답한다 (일부 주문이 실패해도 200 OK)
+     * 결제는 주문마다 따로 이루어지며, 처리 기한(기본 10초)은 요청 전체에 적용된다.
+     */
+    @PostMapping("/batch")
+    public CompletableFuture<ApiResponse<BatchCreateOrderResponse>> createOrders(
+            @Parameter(hidden = true) @RequestDeadline(timeout = "10s") Deadline deadline,
+            @Valid @RequestBody BatchCreateOrderRequest request) {
+        List<CreateOrderCommand> commands = orderWebMapper.toBatchCommands(request, deadline);
 
-        return ApiResponse.success(response);
+        return orderCommandUseCase.createOrders(commands)
+                .thenApply(orderWebMapper::toBatchResponse)
+                .thenApply(ApiResponse::success);
     }
 
     @PatchMapping("/cancel")
@@ -0,0 +1,62 @@
+package com.cafe.order.adapter.in.web.order;
+
+import com.cafe.order.adapter.in.export.OrderExportFormat;
+import com.cafe.order.adapter.in.export.OrderExportWriter;
+import com.cafe.order.adapter.in.web.order.mapper.OrderWebMapper;
+import com.cafe.order.application.port.in.order.OrderExportUseCase;
+import com.cafe.order.application.port.in.order.query.OrderExportQuery;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 정산용 주문 내보내기
+ * DB 커서에서 읽는 대로 응답 본문에 쓰므로 기간 내 주문 수와 관계없이 서버 메모리 사용량이 일정하다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/orders")
+public class OrderExportController {
+
+    private static final DateTimeFormatter FILE_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final OrderExportUseCase orderExportUseCase;
+    private final OrderWebMapper orderWebMapper;
+
+    /**
+     * 주문 일시가 [from, to) 인 주문을 주문상품 1개당 1행으로 내려준다 (주문 일시, 주문 ID 순)
+     * 보관 파일로 이동한 주문은 포함하지 않는다.
+     */
+    @GetMapping("/export")
+    public void exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        OrderExportQuery query = orderWebMapper.toExportQuery(from, to);
+        OrderExportFormat exportFormat = OrderExportFormat.from(format);
+
+        String fileName = "orders-" + FILE_NAME_FORMAT.format(from) + "-" + FILE_NAME_FORMAT.format(to)
+                + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+
+        try (OrderExportWriter writer = new OrderExportWriter(response.getOutputStream(), exportFormat, gzip)) {
+            orderExportUseCase.exportOrders(query, writer);
+        }
+    }
+}
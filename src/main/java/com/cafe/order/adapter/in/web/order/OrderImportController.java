@@ -0,0 +1,182 @@
+package com.cafe.order.adapter.in.web.order;
+
+import com.cafe.order.adapter.in.web.common.NdjsonLineReader;
+import com.cafe.order.adapter.in.web.order.mapper.OrderWebMapper;
+import com.cafe.order.adapter.in.web.order.request.ImportOrderRequest;
+import com.cafe.order.adapter.in.web.order.response.ImportOrderResultResponse;
+import com.cafe.order.application.port.in.order.OrderImportUseCase;
+import com.cafe.order.application.port.in.order.command.ImportOrderCommand;
+import com.cafe.order.application.port.in.order.command.ImportOrderResult;
+import com.cafe.order.common.ErrorCode;
+import com.cafe.order.config.OrderImportProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 오프라인 POS 주문 일괄 등록 (NDJSON)
+ * 요청 본문을 한 줄씩 읽어 chunk-size 건씩 등록하고, 청크가 커밋될 때마다 그 결과를 NDJSON 으로 바로 내보낸다.
+ * 메모리에는 한 청크만 두므로 본문 크기와 관계없이 사용량이 일정하다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/orders")
+@EnableConfigurationProperties(OrderImportProperties.class)
+public class OrderImportController {
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private final OrderImportUseCase orderImportUseCase;
+    private final OrderWebMapper orderWebMapper;
+    private final Validator validator;
+    private final OrderImportProperties orderImportProperties;
+    private final ObjectReader requestReader;
+    private final ObjectWriter resultWriter;
+
+    public OrderImportController(OrderImportUseCase orderImportUseCase,
+                                 OrderWebMapper orderWebMapper,
+                                 Validator validator,
+                                 OrderImportProperties orderImportProperties,
+                                 ObjectMapper objectMapper) {
+        this.orderImportUseCase = orderImportUseCase;
+        this.orderWebMapper = orderWebMapper;
+        this.validator = validator;
+        this.orderImportProperties = orderImportProperties;
+        this.requestReader = objectMapper.readerFor(ImportOrderRequest.class);
+        this.resultWriter = objectMapper.writerFor(ImportOrderResultResponse.class);
+    }
+
+    /**
+     * 한 줄에 주문 하나, 응답도 한 줄에 결과 하나(요청 줄 번호 포함)이며 요청 순서대로 내보낸다.
+     * 형식/검증 오류, 없는 회원/상품, 이미 등록된 결제 ID 인 줄만 실패로 응답하고 나머지는 등록한다.
+     * 처리 중 연결이 끊기거나 서버 오류가 나면, 결과를 받은 줄까지는 등록이 확정된 것이다.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importOrders(InputStream requestBody, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream output = response.getOutputStream();
+
+        NdjsonLineReader reader = new NdjsonLineReader(requestBody, orderImportProperties.getMaxLineLength());
+        List<ParsedLine> chunk = new ArrayList<>(orderImportProperties.getChunkSize());
+        long startNanos = System.nanoTime();
+        ImportSummary summary = new ImportSummary();
+
+        while (reader.next()) {
+            ParsedLine parsedLine = parse(reader);
+            if (parsedLine == null) {
+                continue;
+            }
+            chunk.add(parsedLine);
+            if (chunk.size() >= orderImportProperties.getChunkSize()) {
+                importChunk(chunk, output, summary);
+                chunk.clear();
+            }
+        }
+        importChunk(chunk, output, summary);
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.info("주문 일괄 등록 완료: total={}, imported={}, rejected={}, elapsed={}ms",
+                summary.imported + summary.rejected, summary.imported, summary.rejected, elapsedMillis);
+    }
+
+    /**
+     * 빈 줄은 건너뛰고(null), 형식/검증 오류는 등록 없이 실패 결과로 만든다
+     */
+    private ParsedLine parse(NdjsonLineReader reader) {
+        long lineNumber = reader.lineNumber();
+        if (reader.isTooLong()) {
+            return ParsedLine.rejected(lineNumber, ErrorCode.INVALID_REQUEST.getCode(),
+                    "한 줄은 " + orderImportProperties.getMaxLineLength() + "자 이하여야 합니다.");
+        }
+
+        String line = reader.line();
+        if (line.isBlank()) {
+            return null;
+        }
+
+        ImportOrderRequest request;
+        try {
+            request = requestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return ParsedLine.rejected(lineNumber, ErrorCode.INVALID_REQUEST.getCode(), "JSON 형식이 올바르지 않습니다.");
+        }
+
+        Set<ConstraintViolation<ImportOrderRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            // 여러 위반 중 항상 같은 메시지를 내도록 필드 경로 순으로 첫 번째를 사용
+            ConstraintViolation<ImportOrderRequest> violation = violations.stream()
+                    .min(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .orElseThrow();
+            return ParsedLine.rejected(lineNumber, "VALIDATION_ERROR",
+                    violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+
+        return new ParsedLine(lineNumber, orderWebMapper.toImportCommand(request), null);
+    }
+
+    private void importChunk(List<ParsedLine> chunk, OutputStream output, ImportSummary summary) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<ImportOrderCommand> commands = chunk.stream()
+                .filter(parsedLine -> parsedLine.command() != null)
+                .map(ParsedLine::command)
+                .toList();
+        Iterator<ImportOrderResult> results = commands.isEmpty()
+                ? List.<ImportOrderResult>of().iterator()
+                : orderImportUseCase.importOrders(commands).iterator();
+
+        for (ParsedLine parsedLine : chunk) {
+            ImportOrderResultResponse result = parsedLine.command() == null
+                    ? parsedLine.rejected()
+                    : orderWebMapper.toImportResultResponse(parsedLine.lineNumber(), results.next());
+            summary.count(result);
+            output.write(resultWriter.writeValueAsBytes(result));
+            output.write(LINE_SEPARATOR);
+        }
+        // 커밋된 청크의 결과를 바로 클라이언트로 보낸다 (chunked 전송)
+        output.flush();
+    }
+
+    private record ParsedLine(long lineNumber, ImportOrderCommand command, ImportOrderResultResponse rejected) {
+
+        static ParsedLine rejected(long lineNumber, String errorCode, String message) {
+            return new ParsedLine(lineNumber, null, ImportOrderResultResponse.rejected(lineNumber, errorCode, message));
+        }
+    }
+
+    private static class ImportSummary {
+        private long imported;
+        private long rejected;
+
+        void count(ImportOrderResultResponse result) {
+            if (result.success()) {
+                imported++;
+            } else {
+                rejected++;
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.cafe.order.adapter.in.web.order;
+
+import com.cafe.order.adapter.in.web.common.ApiResponse;
+import com.cafe.order.adapter.in.web.order.mapper.OrderWebMapper;
+import com.cafe.order.adapter.in.web.order.response.OrderHistoryResponse;
+import com.cafe.order.application.port.in.order.OrderQueryUseCase;
+import com.cafe.order.application.port.in.order.query.OrderHistoryPage;
+import com.cafe.order.application.port.in.order.query.OrderHistoryQuery;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@Validated
+@RequestMapping("/api/members/{memberId}/orders")
+public class OrderQueryController {
+
+    private final OrderQueryUseCase orderQueryUseCase;
+    private final OrderWebMapper orderWebMapper;
+
+    /**
+     * 회원 주문 내역 (최신순), 다음 페이지는 응답의 nextCursor 를 cursor 로 전달해 조회
+     */
+    @GetMapping
+    public ApiResponse<OrderHistoryResponse> findOrderHistory(
+            @PathVariable @Positive(message = "회원 ID는 양수여야 합니다.") Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size) {
+        OrderHistoryQuery query = orderWebMapper.toHistoryQuery(memberId, cursor, size);
+        OrderHistoryPage page = orderQueryUseCase.findOrderHistory(query);
+        return ApiResponse.success(orderWebMapper.toHistoryResponse(page));
+    }
+}
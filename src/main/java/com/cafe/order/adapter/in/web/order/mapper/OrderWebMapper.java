@@ -1,22 +1,46 @@
 package com.cafe.order.adapter.in.web.order.mapper;
 
+import com.cafe.order.adapter.in.web.order.request.BatchCreateOrderRequest;
 import com.cafe.order.adapter.in.web.order.request.CancelOrderRequest;
 import com.cafe.order.adapter.in.web.order.request.CreateOrderRequest;
+import com.cafe.order.adapter.in.web.order.request.ImportOrderRequest;
+import com.cafe.order.adapter.in.web.order.response.BatchCreateOrderResponse;
+import com.cafe.order.adapter.in.web.order.response.BatchOrderResultResponse;
 import com.cafe.order.adapter.in.web.order.response.CreateOrderResponse;
+import com.cafe.order.adapter.in.web.order.response.ImportOrderResultResponse;
+import com.cafe.order.adapter.in.web.order.response.OrderHistoryResponse;
 import com.cafe.order.adapter.in.web.order.response.OrderLineResponse;
+import com.cafe.order.adapter.in.web.order.response.OrderSummaryResponse;
 import com.cafe.order.application.port.in.order.command.CancelOrderCommand;
 import com.cafe.order.application.port.in.order.command.CreateOrderCommand;
+import com.cafe.order.application.port.in.order.command.CreateOrderResult;
+import com.cafe.order.application.port.in.order.command.ImportOrderCommand;
+import com.cafe.order.application.port.in.order.command.ImportOrderResult;
 import com.cafe.order.application.port.in.order.command.OrderLineCommand;
+import com.cafe.order.application.port.in.order.query.OrderExportQuery;
+import com.cafe.order.application.port.in.order.query.OrderHistoryCursor;
+import com.cafe.order.application.port.in.order.query.OrderHistoryPage;
+import com.cafe.order.application.port.in.order.query.OrderHistoryQuery;
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.Deadline;
+import com.cafe.order.common.ErrorCode;
 import com.cafe.order.domain.order.model.Order;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
 public class OrderWebMapper {
 
-    public CreateOrderCommand toCommand(CreateOrderRequest request) {
+    private static final String CURSOR_DELIMITER = "_";
+
+    public CreateOrderCommand toCommand(CreateOrderRequest request, String idempotencyKey, Deadline deadline) {
         List<OrderLineCommand> orderLineCommands = request.orderLines().stream()
                 .map(orderLineRequest -> new OrderLineCommand(
                         orderLineRequest.productId(),
@@ -26,10 +50,44 @@ public class OrderWebMapper {
 
         return new CreateOrderCommand(
             request.memberId(),
-            orderLineCommands
+            orderLineCommands,
+            idempotencyKey,
+            deadline
         );
     }
 
+    /**
+     * 일괄 생성 주문은 Idempotency-Key 없이 요청 전체의 처리 기한을 공유한다
+     */
+    public List<CreateOrderCommand> toBatchCommands(BatchCreateOrderRequest request, Deadline deadline) {
+        return request.orders().stream()
+                .map(order -> toCommand(order, null, deadline))
+                .toList();
+    }
+
+    public ImportOrderCommand toImportCommand(ImportOrderRequest request) {
+        List<OrderLineCommand> orderLineCommands = request.orderLines().stream()
+                .map(orderLineRequest -> new OrderLineCommand(
+                        orderLineRequest.productId(),
+                        orderLineRequest.quantity()
+                ))
+                .toList();
+
+        return new ImportOrderCommand(
+            request.memberId(),
+            orderLineCommands,
+            request.paymentId(),
+            request.orderDateTime()
+        );
+    }
+
+    public ImportOrderResultResponse toImportResultResponse(long line, ImportOrderResult result) {
+        if (result.isImported()) {
+            return new ImportOrderResultResponse(line, true, result.orderId(), null, null);
+        }
+        return ImportOrderResultResponse.rejected(line, result.errorCode().getCode(), result.message());
+    }
+
     public CancelOrderCommand toCancelCommand(CancelOrderRequest request) {
         return new CancelOrderCommand(request.orderId());
     }
@@ -51,4 +109,75 @@ public class OrderWebMapper {
             order.getOrderDateTime()
         );
     }
+
+    public BatchCreateOrderResponse toBatchResponse(List<CreateOrderResult> results) {
+        List<BatchOrderResultResponse> responses = new ArrayList<>(results.size());
+        int createdCount = 0;
+        for (int i = 0; i < results.size(); i++) {
+            CreateOrderResult result = results.get(i);
+            if (result.isCreated()) {
+                createdCount++;
+                responses.add(new BatchOrderResultResponse(i, true, toResponse(result.order()), null, null));
+            } else {
+                responses.add(new BatchOrderResultResponse(i, false, null,
+                        result.errorCode().getCode(), result.message()));
+            }
+        }
+        return new BatchCreateOrderResponse(createdCount, results.size() - createdCount, responses);
+    }
+
+    public OrderHistoryQuery toHistoryQuery(Long memberId, String cursor, int size) {
+        return new OrderHistoryQuery(memberId, cursor == null ? null : decodeCursor(cursor), size);
+    }
+
+    /**
+     * 응답을 쓰기 시작하면 오류 응답으로 바꿀 수 없으므로 기간은 내보내기 전에 검증한다
+     */
+    public OrderExportQuery toExportQuery(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BizException(ErrorCode.INVALID_REQUEST, "from 은 to 보다 이전이어야 합니다.");
+        }
+        return new OrderExportQuery(from, to);
+    }
+
+    public OrderHistoryResponse toHistoryResponse(OrderHistoryPage page) {
+        List<OrderSummaryResponse> orders = page.orders().stream()
+                .map(order -> new OrderSummaryResponse(
+                        order.orderId(),
+                        order.status(),
+                        order.paymentId(),
+                        order.orderDateTime(),
+                        order.cancelDateTime(),
+                        order.orderLines().stream()
+                                .map(line -> new OrderLineResponse(line.productId(), line.quantity()))
+                                .toList()
+                ))
+                .toList();
+
+        return new OrderHistoryResponse(
+            orders,
+            page.hasNext() ? encodeCursor(page.nextCursor()) : null,
+            page.hasNext()
+        );
+    }
+
+    /**
+     * 커서는 클라이언트가 해석하지 않도록 "주문일시_주문ID" 를 URL-safe Base64 로 감싼다
+     */
+    private static String encodeCursor(OrderHistoryCursor cursor) {
+        String raw = cursor.orderDateTime() + CURSOR_DELIMITER + cursor.orderId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static OrderHistoryCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(CURSOR_DELIMITER);
+            return new OrderHistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Long.parseLong(raw.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BizException(ErrorCode.INVALID_REQUEST, "잘못된 페이지 커서입니다.");
+        }
+    }
 }
@@ -0,0 +1,17 @@
+package com.cafe.order.adapter.in.web.order.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "주문 일괄 생성 요청")
+public record BatchCreateOrderRequest(
+    @Schema(description = "주문 목록 (최대 100건)", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "주문 목록은 필수입니다.")
+    @Size(max = 100, message = "한 번에 생성할 수 있는 주문은 100건 이하입니다.")
+    List<@Valid CreateOrderRequest> orders
+) {
+}
@@ -0,0 +1,37 @@
+package com.cafe.order.adapter.in.web.order.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "오프라인 주문 일괄 등록 요청 (NDJSON 한 줄)")
+public record ImportOrderRequest(
+    @Schema(description = "회원 ID", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "회원 ID는 필수입니다.")
+    @Positive(message = "회원 ID는 양수여야 합니다.")
+    Long memberId,
+
+    @Schema(description = "주문 상품 목록", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "주문 상품 목록은 필수입니다.")
+    List<@Valid OrderLineRequest> orderLines,
+
+    @Schema(description = "POS 결제 ID (같은 결제 ID 의 주문은 한 번만 등록)", example = "pos-0001-20250101-0001",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "결제 ID는 필수입니다.")
+    @Size(max = 100, message = "결제 ID는 100자 이하여야 합니다.")
+    String paymentId,
+
+    @Schema(description = "POS 주문 일시", example = "2025-01-01T09:30:00", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "주문 일시는 필수입니다.")
+    @PastOrPresent(message = "주문 일시는 현재 이전이어야 합니다.")
+    LocalDateTime orderDateTime
+) {
+}
@@ -0,0 +1,13 @@
+package com.cafe.order.adapter.in.web.order.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "주문 일괄 생성 결과 (요청 순서)")
+public record BatchCreateOrderResponse(
+    int createdCount,
+    int failedCount,
+    List<BatchOrderResultResponse> results
+) {
+}
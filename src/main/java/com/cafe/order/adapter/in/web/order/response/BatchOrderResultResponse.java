@@ -0,0 +1,20 @@
+package com.cafe.order.adapter.in.web.order.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 주문 일괄 생성의 주문별 결과, index 는 요청 주문 목록의 위치(0부터)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchOrderResultResponse(
+    int index,
+    boolean success,
+
+    @Schema(description = "생성된 주문, 실패하면 생략")
+    CreateOrderResponse order,
+
+    String errorCode,
+    String message
+) {
+}
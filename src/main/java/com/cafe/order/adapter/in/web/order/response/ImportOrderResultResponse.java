@@ -0,0 +1,19 @@
+package com.cafe.order.adapter.in.web.order.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 주문 일괄 등록 결과 (NDJSON 한 줄), line 은 요청 본문의 줄 번호(1부터)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportOrderResultResponse(
+    long line,
+    boolean success,
+    Long orderId,
+    String errorCode,
+    String message
+) {
+    public static ImportOrderResultResponse rejected(long line, String errorCode, String message) {
+        return new ImportOrderResultResponse(line, false, null, errorCode, message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.cafe.order.adapter.in.web.order.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "회원 주문 내역 (최신순)")
+public record OrderHistoryResponse(
+    List<OrderSummaryResponse> orders,
+
+    @Schema(description = "다음 페이지 커서, 마지막 페이지면 null", example = "MjAyNi0xMC0xOFQwOTowODoxMS4zMTdfMTIz")
+    String nextCursor,
+
+    boolean hasNext
+) {
+}
@@ -0,0 +1,18 @@
+package com.cafe.order.adapter.in.web.order.response;
+
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "주문 내역 항목")
+public record OrderSummaryResponse(
+    Long orderId,
+    OrderStatus status,
+    String paymentId,
+    LocalDateTime orderDateTime,
+    LocalDateTime cancelDateTime,
+    List<OrderLineResponse> orderLines
+) {
+}
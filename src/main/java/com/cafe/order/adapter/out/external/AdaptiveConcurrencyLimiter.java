@@ -0,0 +1,84 @@
+package com.cafe.order.adapter.out.external;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD(Additive Increase, Multiplicative Decrease) 방식의 적응형 동시성 제한기
+ * 응답이 빠르게 성공하면 한도를 조금씩 늘리고, 실패하거나 지연 임계값을 넘으면 한도를 비율만큼 줄인다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    @Getter
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private double estimatedLimit;
+    private volatile int limit;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      long latencyThresholdNanos, double backoffRatio) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("동시성 한도 설정이 올바르지 않습니다: " + name);
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio 는 0과 1 사이여야 합니다: " + name);
+        }
+
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 호출 결과를 반영해 한도를 조정하고 점유를 해제한다
+     */
+    public void release(long latencyNanos, boolean success) {
+        inFlight.decrementAndGet();
+
+        synchronized (this) {
+            if (!success || latencyNanos > latencyThresholdNanos) {
+                estimatedLimit = Math.max(minLimit, estimatedLimit * backoffRatio);
+            } else {
+                estimatedLimit = Math.min(maxLimit, estimatedLimit + 1.0 / estimatedLimit);
+            }
+            limit = (int) estimatedLimit;
+        }
+    }
+
+    /**
+     * 호출이 시작되지 못한 경우 한도 조정 없이 점유만 해제한다
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,60 @@
+package com.cafe.order.adapter.out.external;
+
+import com.cafe.order.config.PaymentLimiterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름별 AdaptiveConcurrencyLimiter 를 생성하고 한도/동시 호출 수 메트릭을 등록한다
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(PaymentLimiterProperties.class)
+public class AdaptiveConcurrencyLimiterRegistry {
+
+    private final PaymentLimiterProperties paymentLimiterProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter limiter(String name) {
+        return limiters.computeIfAbsent(name, this::create);
+    }
+
+    public Counter rejectedCounter(String name) {
+        return Counter.builder("payment.limiter.rejected")
+                .description("동시성 한도 초과로 거절된 결제 API 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    private AdaptiveConcurrencyLimiter create(String name) {
+        PaymentLimiterProperties.Instance settings = paymentLimiterProperties.getInstance(name);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                name,
+                settings.getInitialLimit(),
+                settings.getMinLimit(),
+                settings.getMaxLimit(),
+                settings.getLatencyThreshold().toNanos(),
+                settings.getBackoffRatio()
+        );
+
+        Gauge.builder("payment.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("현재 허용된 결제 API 동시 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("payment.limiter.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("진행 중인 결제 API 호출 수")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        return limiter;
+    }
+}
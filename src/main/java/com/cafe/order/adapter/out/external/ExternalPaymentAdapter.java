@@ -2,13 +2,18 @@ package com.cafe.order.adapter.out.external;
 
 import com.cafe.order.application.port.out.payment.ExternalPaymentPort;
 import com.cafe.order.common.BizException;
+import com.cafe.order.common.Deadline;
 import com.cafe.order.common.ErrorCode;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @Component
@@ -18,22 +23,55 @@ public class ExternalPaymentAdapter implements ExternalPaymentPort {
     private final ExternalPaymentTask externalPaymentTask;
 
     @Override
-    public String processPayment() {
+    public CompletableFuture<String> processPayment(Deadline deadline) {
+        CompletableFuture<String> future;
         try {
-            return externalPaymentTask.processPaymentAsync().get();
+            future = externalPaymentTask.processPaymentAsync(deadline);
         } catch (Exception e) {
-            log.error("외부 결제 API 호출 실패", e);
-            throw new BizException(ErrorCode.PAYMENT_FAILED);
+            future = CompletableFuture.failedFuture(e);
         }
+
+        // 결제 응답을 기다리며 요청 스레드를 점유하지 않도록 future 를 그대로 반환하고, 실패만 BizException 으로 변환
+        return future.exceptionally(e -> {
+            throw toBizException("외부 결제 API 호출 실패", e);
+        });
     }
 
     @Override
     public void cancelPayment(String paymentId) {
         try {
             externalPaymentTask.cancelPaymentAsync(paymentId).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw toBizException("외부 결제 취소 API 호출 실패: paymentId=" + paymentId, e);
         } catch (Exception e) {
-            log.error("외부 결제 취소 API 호출 실패: paymentId={}", paymentId, e);
-            throw new BizException(ErrorCode.PAYMENT_FAILED);
+            throw toBizException("외부 결제 취소 API 호출 실패: paymentId=" + paymentId, e);
+        }
+    }
+
+    /**
+     * 서킷 오픈, 벌크헤드/동시성 한도 초과, Executor 포화는 외부 호출 없이 즉시 거절된 경우이므로 PAYMENT_UNAVAILABLE 로 구분
+     * 장애 중에는 거절이 대량으로 발생하므로 로그 대신 resilience4j / payment.limiter.rejected 메트릭으로 관찰한다
+     */
+    private BizException toBizException(String message, Throwable e) {
+        Throwable cause = (e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null
+                ? e.getCause()
+                : e;
+
+        if (cause instanceof CallNotPermittedException
+                || cause instanceof BulkheadFullException
+                || cause instanceof PaymentConcurrencyLimitExceededException
+                || cause instanceof RejectedExecutionException) {
+            log.debug("{} (즉시 거절): {}", message, cause.getMessage());
+            return new BizException(ErrorCode.PAYMENT_UNAVAILABLE);
+        }
+
+        if (cause instanceof PaymentDeadlineExceededException) {
+            log.debug("{} (처리 기한 초과): {}", message, cause.getMessage());
+            return new BizException(ErrorCode.REQUEST_DEADLINE_EXCEEDED);
         }
+
+        log.error(message, cause);
+        return new BizException(ErrorCode.PAYMENT_FAILED);
     }
 }
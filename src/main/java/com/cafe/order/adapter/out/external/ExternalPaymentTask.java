@@ -1,26 +1,109 @@
 package com.cafe.order.adapter.out.external;
 
+import com.cafe.order.common.Deadline;
+import com.cafe.order.config.PaymentExecutorConfig;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
 import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
+/**
+ * 외부 결제 API 호출
+ * 적용 순서: CircuitBreaker → TimeLimiter → Bulkhead → (헤지) → 적응형 동시성 제한 → 결제 전용 Executor
+ * TimeLimiter 는 고정 상한이고, 요청의 남은 처리 기한이 더 짧으면 그 시점에 호출을 중단한다
+ * Bulkhead 가 반환 future 를 새 future 로 감싸므로 TimeLimiter 의 타임아웃은 실행 중인 호출까지 전달되지 않는다
+ * 그래서 같은 시간의 타임아웃을 동시성 제한 안에서 한 번 더 걸어 호출을 인터럽트하고 Executor 스레드와 한도를 돌려받는다
+ * 기한 초과와 타임아웃으로 future 를 완료하면 이어지는 주문 실패 처리(JDBC)와 응답 전달이 완료한 스레드에서 실행되므로
+ * ForkJoinPool.commonPool() 이 아닌 결제 전용 Executor 에서 완료한다
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ExternalPaymentTask {
 
+    static final String PAYMENT = "payment";
+    static final String PAYMENT_CANCEL = "payment-cancel";
+
     private final PaymentApiAdapter paymentApiAdapter;
+    private final Executor paymentExecutor;
+    private final Executor timeoutCompletionExecutor;
+    private final AdaptiveConcurrencyLimiter paymentLimiter;
+    private final AdaptiveConcurrencyLimiter paymentCancelLimiter;
+    private final Counter paymentRejectedCounter;
+    private final Counter paymentCancelRejectedCounter;
+    private final PaymentHedger paymentHedger;
+    private final Duration paymentTimeout;
+    private final Duration paymentCancelTimeout;
+
+    public ExternalPaymentTask(PaymentApiAdapter paymentApiAdapter,
+                               @Qualifier(PaymentExecutorConfig.PAYMENT_EXECUTOR) Executor paymentExecutor,
+                               AdaptiveConcurrencyLimiterRegistry limiterRegistry,
+                               PaymentHedger paymentHedger,
+                               TimeLimiterRegistry timeLimiterRegistry) {
+        this.paymentApiAdapter = paymentApiAdapter;
+        this.paymentExecutor = paymentExecutor;
+        this.timeoutCompletionExecutor = callerRunsOnRejection(paymentExecutor);
+        this.paymentHedger = paymentHedger;
+        this.paymentTimeout = timeLimiterRegistry.timeLimiter(PAYMENT).getTimeLimiterConfig().getTimeoutDuration();
+        this.paymentCancelTimeout = timeLimiterRegistry.timeLimiter(PAYMENT_CANCEL).getTimeLimiterConfig().getTimeoutDuration();
+        this.paymentLimiter = limiterRegistry.limiter(PAYMENT);
+        this.paymentCancelLimiter = limiterRegistry.limiter(PAYMENT_CANCEL);
+        this.paymentRejectedCounter = limiterRegistry.rejectedCounter(PAYMENT);
+        this.paymentCancelRejectedCounter = limiterRegistry.rejectedCounter(PAYMENT_CANCEL);
+    }
+
+    @CircuitBreaker(name = PAYMENT)
+    @TimeLimiter(name = PAYMENT)
+    @Bulkhead(name = PAYMENT)
+    public CompletableFuture<String> processPaymentAsync(Deadline deadline) {
+        if (deadline.isExpired()) {
+            return CompletableFuture.failedFuture(new PaymentDeadlineExceededException());
+        }
+
+        // 헤지 요청이 이중 결제가 되지 않도록 모든 시도에 같은 멱등성 키를 보내고, 키를 결제 ID 로 사용
+        String paymentId = UUID.randomUUID().toString();
+
+        CompletableFuture<String> future = paymentHedger.isEnabled()
+                ? paymentHedger.execute(() -> makePaymentAttempt(paymentId))
+                : makePaymentAttempt(paymentId);
+        return withinDeadline(future, deadline);
+    }
+
+    /**
+     * 기한이 되면 같은 future 를 실패로 완료해 진행 중인 시도를 취소(인터럽트)한다
+     * 단건 시도는 supplyLimited 의 future 가 곧 이 future 이고, 헤지 중이면 결과 future 완료 시 헤저가 모든 시도를 취소한다
+     */
+    private <T> CompletableFuture<T> withinDeadline(CompletableFuture<T> future, Deadline deadline) {
+        if (!deadline.isBounded() || future.isDone()) {
+            return future;
+        }
 
-    @TimeLimiter(name = "payment")
-    public CompletableFuture<String> processPaymentAsync() {
-        return CompletableFuture.supplyAsync(() -> {
+        CompletableFuture.delayedExecutor(deadline.remainingNanos(), TimeUnit.NANOSECONDS, timeoutCompletionExecutor).execute(() -> {
+            if (!future.isDone()) {
+                future.completeExceptionally(new PaymentDeadlineExceededException());
+            }
+        });
+        return future;
+    }
+
+    private CompletableFuture<String> makePaymentAttempt(String paymentId) {
+        return supplyLimited(paymentLimiter, paymentRejectedCounter, paymentTimeout, () -> {
             try {
-                String result = paymentApiAdapter.makePayment();
-                String paymentId = UUID.randomUUID().toString();
+                String result = paymentApiAdapter.makePayment(paymentId);
                 log.info("외부 결제 API 호출 성공: paymentId={}, result={}", paymentId, result);
                 return paymentId;
             } catch (Exception e) {
@@ -29,16 +112,78 @@ public class ExternalPaymentTask {
         });
     }
 
-    @TimeLimiter(name = "payment-cancel")
+    @CircuitBreaker(name = PAYMENT_CANCEL)
+    @TimeLimiter(name = PAYMENT_CANCEL)
+    @Bulkhead(name = PAYMENT_CANCEL)
     public CompletableFuture<Void> cancelPaymentAsync(String paymentId) {
-        return CompletableFuture.runAsync(() -> {
+        return supplyLimited(paymentCancelLimiter, paymentCancelRejectedCounter, paymentCancelTimeout, () -> {
             try {
-                paymentApiAdapter.cancelPayment();
+                paymentApiAdapter.cancelPayment(paymentId);
                 log.info("외부 결제 취소 API 호출 성공: paymentId={}", paymentId);
+                return null;
             } catch (Exception e) {
                 throw new RuntimeException("외부 결제 취소 API 호출 실패: " + paymentId, e);
             }
         });
     }
-}
 
+    /**
+     * 동시성 한도 안에서만 외부 호출을 시작하고, 완료 시 지연 시간과 성공 여부로 한도를 조정
+     * 반환된 future 를 취소하거나 기한 초과로 완료하면 실행 중인 호출을 인터럽트한다 (헤지 패자 취소, 처리 기한 초과)
+     * timeout 이 지나도 끝나지 않으면 TimeoutException 으로 완료하고 호출을 인터럽트한다
+     * 취소와 기한 초과는 실패로 보지 않고 지연 시간만 한도 조정에 반영하며, 타임아웃은 실패로 반영한다
+     */
+    private <T> CompletableFuture<T> supplyLimited(AdaptiveConcurrencyLimiter limiter, Counter rejectedCounter,
+                                                   Duration timeout, Supplier<T> call) {
+        if (!limiter.tryAcquire()) {
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(
+                    new PaymentConcurrencyLimitExceededException(limiter.getName(), limiter.getLimit()));
+        }
+
+        long startNanos = System.nanoTime();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                future.complete(call.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+            return null;
+        });
+
+        try {
+            paymentExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            limiter.releaseWithoutSample();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture.delayedExecutor(timeout.toNanos(), TimeUnit.NANOSECONDS, timeoutCompletionExecutor).execute(() -> {
+            if (!future.isDone()) {
+                future.completeExceptionally(new TimeoutException(limiter.getName() + " 호출 타임아웃: " + timeout));
+            }
+        });
+        future.whenComplete((result, e) -> {
+            boolean abandoned = e instanceof CancellationException || e instanceof PaymentDeadlineExceededException;
+            if (abandoned || e instanceof TimeoutException) {
+                task.cancel(true);
+            }
+            limiter.release(System.nanoTime() - startNanos, e == null || abandoned);
+        });
+        return future;
+    }
+
+    /**
+     * Executor 가 포화되어 거절하면 타이머 스레드에서 바로 완료해, 기한 초과와 타임아웃 완료가 유실되지 않도록 한다
+     */
+    private static Executor callerRunsOnRejection(Executor executor) {
+        return task -> {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.run();
+            }
+        };
+    }
+}
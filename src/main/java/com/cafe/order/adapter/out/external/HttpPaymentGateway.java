@@ -0,0 +1,53 @@
+package com.cafe.order.adapter.out.external;
+
+import com.cafe.order.config.PaymentGatewayProperties;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * HTTP 결제 게이트웨이 클라이언트 (로컬 스텁 서버 또는 실제 게이트웨이)
+ * send 는 인터럽트되면 InterruptedException 으로 중단되므로 타임아웃/헤지 취소가 그대로 전달된다.
+ */
+public class HttpPaymentGateway implements PaymentGateway {
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    public HttpPaymentGateway(PaymentGatewayProperties properties) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        this.baseUrl = properties.getBaseUrl();
+        this.requestTimeout = properties.getRequestTimeout();
+    }
+
+    @Override
+    public String approve(String idempotencyKey) throws Exception {
+        return post(URI.create(baseUrl + "/payments"), idempotencyKey);
+    }
+
+    @Override
+    public String cancel(String paymentId) throws Exception {
+        return post(URI.create(baseUrl + "/payments/" + paymentId + "/cancel"), null);
+    }
+
+    private String post(URI uri, String idempotencyKey) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .POST(HttpRequest.BodyPublishers.noBody());
+        if (idempotencyKey != null) {
+            request.header("Idempotency-Key", idempotencyKey);
+        }
+
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new Exception("결제 게이트웨이 오류: status=" + response.statusCode() + ", body=" + response.body());
+        }
+        return response.body();
+    }
+}
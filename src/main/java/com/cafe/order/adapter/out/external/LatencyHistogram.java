@@ -0,0 +1,75 @@
+package com.cafe.order.adapter.out.external;
+
+import java.util.Arrays;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+/**
+ * 최근 N건의 응답 시간을 보관하는 링 버퍼
+ * 조회 비용을 줄이기 위해 일정 건수마다 정렬된 스냅샷을 갱신하고, 조회는 스냅샷만 읽는다.
+ */
+public class LatencyHistogram {
+
+    private final long[] samples;
+    private final int refreshInterval;
+
+    private int next;
+    private long count;
+    private volatile long[] sortedSnapshot = new long[0];
+
+    public LatencyHistogram(int windowSize, int refreshInterval) {
+        if (windowSize < 1 || refreshInterval < 1) {
+            throw new IllegalArgumentException("windowSize, refreshInterval 은 1 이상이어야 합니다.");
+        }
+        this.samples = new long[windowSize];
+        this.refreshInterval = refreshInterval;
+    }
+
+    public synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % samples.length;
+        count++;
+
+        if (count % refreshInterval == 0) {
+            long[] snapshot = Arrays.copyOf(samples, (int) Math.min(count, samples.length));
+            Arrays.sort(snapshot);
+            sortedSnapshot = snapshot;
+        }
+    }
+
+    /**
+     * 스냅샷 표본이 minSamples 미만이면 empty
+     */
+    public OptionalLong percentile(double percentile, int minSamples) {
+        long[] snapshot = sortedSnapshot;
+        if (snapshot.length == 0 || snapshot.length < minSamples) {
+            return OptionalLong.empty();
+        }
+
+        int index = (int) Math.ceil(percentile * snapshot.length) - 1;
+        return OptionalLong.of(snapshot[Math.min(Math.max(index, 0), snapshot.length - 1)]);
+    }
+
+    /**
+     * latencyNanos 보다 오래 걸린 표본들의 평균 (이미 latencyNanos 만큼 기다린 요청의 기대 완료 시간)
+     */
+    public OptionalDouble meanAbove(long latencyNanos) {
+        long[] snapshot = sortedSnapshot;
+
+        int low = 0;
+        int high = snapshot.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot[mid] <= latencyNanos) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return Arrays.stream(snapshot, low, snapshot.length).average();
+    }
+
+    public int size() {
+        return sortedSnapshot.length;
+    }
+}
@@ -1,28 +1,25 @@
 package com.cafe.order.adapter.out.external;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Random;
-
-
+/**
+ * 결제 게이트웨이 호출 (payment.gateway.mode 에 따라 시뮬레이터 또는 HTTP 게이트웨이)
+ */
 @Component
+@RequiredArgsConstructor
 public class PaymentApiAdapter {
 
-    public String makePayment() throws Exception {
-        Thread.sleep((long) (Math.random() * 1000));
-        Random random = new Random();
-        if (random.nextInt() % 100 == 1) {
-            throw new Exception("Payment failed!");
-        }
-        return "Success!";
+    private final PaymentGateway paymentGateway;
+
+    /**
+     * 같은 멱등성 키의 결제는 한 번만 승인된다 (헤지/재시도 요청의 이중 결제 방지)
+     */
+    public String makePayment(String idempotencyKey) throws Exception {
+        return paymentGateway.approve(idempotencyKey);
     }
 
-    public String cancelPayment() throws Exception {
-        Thread.sleep((long) (Math.random() * 1000));
-        Random random = new Random();
-        if (random.nextInt() % 100 == 1) {
-            throw new Exception("Payment cancellation failed!");
-        }
-        return "Success!";
+    public String cancelPayment(String paymentId) throws Exception {
+        return paymentGateway.cancel(paymentId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.cafe.order.adapter.out.external;
+
+/**
+ * 적응형 동시성 한도를 초과해 외부 결제 API 호출을 시도하지 않고 거절했음을 나타낸다
+ */
+public class PaymentConcurrencyLimitExceededException extends RuntimeException {
+
+    public PaymentConcurrencyLimitExceededException(String limiterName, int limit) {
+        super("결제 동시 호출 한도 초과: limiter=" + limiterName + ", limit=" + limit);
+    }
+}
@@ -0,0 +1,12 @@
+package com.cafe.order.adapter.out.external;
+
+/**
+ * 요청 처리 기한이 지나 외부 결제 API 호출을 시작하지 않았거나 중단했음을 나타낸다
+ * 결제 시스템 장애가 아니므로 서킷 브레이커 실패율 집계에서 제외한다
+ */
+public class PaymentDeadlineExceededException extends RuntimeException {
+
+    public PaymentDeadlineExceededException() {
+        super("요청 처리 기한 초과로 결제 API 호출 중단");
+    }
+}
@@ -0,0 +1,10 @@
+package com.cafe.order.adapter.out.external;
+
+/**
+ * 외부 결제 게이트웨이
+ * 같은 멱등성 키의 승인 요청은 한 번만 결제되어야 한다.
+ */
+public interface PaymentGateway {
+    String approve(String idempotencyKey) throws Exception;
+    String cancel(String paymentId) throws Exception;
+}
@@ -0,0 +1,205 @@
+package com.cafe.order.adapter.out.external;
+
+import com.cafe.order.config.PaymentHedgingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 외부 결제 API 헤지 요청
+ * 첫 시도가 최근 응답 시간의 지정 백분위까지 끝나지 않으면 같은 멱등성 키로 두 번째 시도를 보내고,
+ * 먼저 성공한 결과를 사용한 뒤 나머지 시도는 취소(인터럽트)한다.
+ * 헤지 비율은 토큰 버킷으로 제한해 장애 시 부하가 두 배로 늘어나지 않도록 한다.
+ */
+@Component
+@EnableConfigurationProperties(PaymentHedgingProperties.class)
+public class PaymentHedger {
+
+    // 부동소수 누적 오차를 피하기 위해 토큰을 1/1000 단위 정수로 관리
+    private static final long TOKEN_SCALE = 1_000;
+    private static final long MAX_HEDGE_TOKENS = 10 * TOKEN_SCALE;
+
+    private final PaymentHedgingProperties properties;
+    private final LatencyHistogram latencyHistogram;
+
+    private final Counter callCounter;
+    private final Counter hedgeCounter;
+    private final Counter hedgeWinCounter;
+    private final Counter budgetExhaustedCounter;
+    private final Timer savedLatencyTimer;
+
+    private final long hedgeTokensPerCall;
+    private long hedgeTokens;
+
+    public PaymentHedger(PaymentHedgingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.hedgeTokensPerCall = Math.round(properties.getMaxHedgeRatio() * TOKEN_SCALE);
+        this.latencyHistogram = new LatencyHistogram(
+                properties.getWindowSize(), Math.max(1, Math.min(properties.getMinSamples(), properties.getWindowSize() / 20)));
+
+        this.callCounter = Counter.builder("payment.hedge.calls")
+                .description("헤지 대상 결제 요청 수")
+                .register(meterRegistry);
+        this.hedgeCounter = Counter.builder("payment.hedge.attempts")
+                .description("발송된 헤지 요청 수")
+                .register(meterRegistry);
+        this.hedgeWinCounter = Counter.builder("payment.hedge.wins")
+                .description("헤지 요청이 먼저 성공한 횟수")
+                .register(meterRegistry);
+        this.budgetExhaustedCounter = Counter.builder("payment.hedge.budget.exhausted")
+                .description("헤지 비율 한도로 헤지하지 못한 횟수")
+                .register(meterRegistry);
+        this.savedLatencyTimer = Timer.builder("payment.hedge.saved")
+                .description("헤지 성공으로 줄어든 응답 시간 (최근 응답 시간 분포 기반 추정)")
+                .register(meterRegistry);
+
+        Gauge.builder("payment.hedge.rate", this, hedger -> hedger.callCounter.count() == 0
+                        ? 0
+                        : hedger.hedgeCounter.count() / hedger.callCounter.count())
+                .description("결제 요청 대비 헤지 요청 비율")
+                .register(meterRegistry);
+        Gauge.builder("payment.hedge.threshold", this, hedger -> hedger.hedgeDelayNanos()
+                        .stream()
+                        .mapToDouble(nanos -> nanos / 1_000_000.0)
+                        .findFirst()
+                        .orElse(Double.NaN))
+                .description("헤지 발송 기준 지연 시간 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> attempt) {
+        callCounter.increment();
+        depositHedgeToken();
+        return new HedgedCall<>(attempt).start(hedgeDelayNanos());
+    }
+
+    private OptionalLong hedgeDelayNanos() {
+        OptionalLong threshold = latencyHistogram.percentile(properties.getPercentile(), properties.getMinSamples());
+        if (threshold.isEmpty()) {
+            return threshold;
+        }
+        return OptionalLong.of(Math.max(threshold.getAsLong(), properties.getMinDelay().toNanos()));
+    }
+
+    private synchronized void depositHedgeToken() {
+        hedgeTokens = Math.min(MAX_HEDGE_TOKENS, hedgeTokens + hedgeTokensPerCall);
+    }
+
+    private synchronized boolean tryAcquireHedgeToken() {
+        if (hedgeTokens < TOKEN_SCALE) {
+            return false;
+        }
+        hedgeTokens -= TOKEN_SCALE;
+        return true;
+    }
+
+    private final class HedgedCall<T> {
+
+        private final Supplier<CompletableFuture<T>> attempt;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean hedgeDecided = new AtomicBoolean();
+        private final AtomicInteger running = new AtomicInteger();
+        private final long startNanos = System.nanoTime();
+
+        private HedgedCall(Supplier<CompletableFuture<T>> attempt) {
+            this.attempt = attempt;
+        }
+
+        private CompletableFuture<T> start(OptionalLong hedgeDelayNanos) {
+            result.whenComplete((value, e) -> attempts.forEach(future -> future.cancel(true)));
+
+            launch(false);
+
+            // 응답 시간 표본이 부족하면 기준을 정할 수 없으므로 헤지하지 않음
+            if (hedgeDelayNanos.isPresent()) {
+                CompletableFuture.delayedExecutor(hedgeDelayNanos.getAsLong(), TimeUnit.NANOSECONDS)
+                        .execute(this::hedge);
+            } else {
+                hedgeDecided.set(true);
+            }
+            return result;
+        }
+
+        private void hedge() {
+            if (result.isDone() || !hedgeDecided.compareAndSet(false, true)) {
+                return;
+            }
+            if (!tryAcquireHedgeToken()) {
+                budgetExhaustedCounter.increment();
+                return;
+            }
+
+            hedgeCounter.increment();
+            launch(true);
+        }
+
+        private void launch(boolean hedge) {
+            running.incrementAndGet();
+            long attemptStartNanos = System.nanoTime();
+
+            CompletableFuture<T> future;
+            try {
+                future = attempt.get();
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+
+            attempts.add(future);
+            if (result.isDone()) {
+                future.cancel(true);
+            }
+            future.whenComplete((value, e) -> onComplete(value, e, hedge, attemptStartNanos));
+        }
+
+        private void onComplete(T value, Throwable e, boolean hedge, long attemptStartNanos) {
+            long nowNanos = System.nanoTime();
+
+            if (e == null) {
+                latencyHistogram.record(nowNanos - attemptStartNanos);
+                if (result.complete(value) && hedge) {
+                    hedgeWinCounter.increment();
+                    recordSavedLatency(nowNanos - startNanos);
+                }
+                return;
+            }
+
+            if (e instanceof CancellationException) {
+                running.decrementAndGet();
+                return;
+            }
+
+            // 헤지는 지연 대응이므로 첫 시도의 실패를 재시도하지 않고, 진행 중인 시도가 없으면 실패로 완료
+            hedgeDecided.set(true);
+            if (running.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * 첫 시도가 elapsed 이상 걸렸다는 조건에서의 기대 완료 시간과 실제 완료 시간의 차이
+         */
+        private void recordSavedLatency(long elapsedNanos) {
+            latencyHistogram.meanAbove(elapsedNanos).ifPresent(expectedNanos ->
+                    savedLatencyTimer.record((long) expectedNanos - elapsedNanos, TimeUnit.NANOSECONDS));
+        }
+    }
+}
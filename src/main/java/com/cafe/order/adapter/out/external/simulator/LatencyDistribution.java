@@ -0,0 +1,82 @@
+package com.cafe.order.adapter.out.external.simulator;
+
+import com.cafe.order.config.PaymentGatewaySimulatorProperties.Bucket;
+import com.cafe.order.config.PaymentGatewaySimulatorProperties.Latency;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 시뮬레이터 응답 지연 분포
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    long sampleNanos(RandomGenerator random);
+
+    static LatencyDistribution of(Latency latency) {
+        return switch (latency.getType()) {
+            case FIXED -> fixed(latency.getFixed().toNanos());
+            case UNIFORM -> uniform(latency.getMin().toNanos(), latency.getMax().toNanos());
+            case LOG_NORMAL -> logNormal(latency.getMedian().toNanos(), latency.getSigma(), latency.getMax().toNanos());
+            case HISTOGRAM -> histogram(latency.getBuckets());
+        };
+    }
+
+    static LatencyDistribution fixed(long nanos) {
+        return random -> nanos;
+    }
+
+    static LatencyDistribution uniform(long minNanos, long maxNanos) {
+        if (maxNanos < minNanos) {
+            throw new IllegalArgumentException("지연 분포의 max 는 min 이상이어야 합니다.");
+        }
+        return random -> minNanos == maxNanos ? minNanos : random.nextLong(minNanos, maxNanos + 1);
+    }
+
+    /**
+     * 중앙값 median, 로그 표준편차 sigma 의 로그 정규 분포 (maxNanos 에서 절단)
+     */
+    static LatencyDistribution logNormal(long medianNanos, double sigma, long maxNanos) {
+        double mu = Math.log(medianNanos);
+        return random -> Math.min(maxNanos, (long) Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    /**
+     * 버킷을 가중치 비율로 고른 뒤 버킷 구간 안에서 균등 분포로 샘플링
+     */
+    static LatencyDistribution histogram(List<Bucket> buckets) {
+        if (buckets.isEmpty()) {
+            throw new IllegalArgumentException("히스토그램 지연 분포에는 버킷이 필요합니다.");
+        }
+
+        long[] lowerNanos = new long[buckets.size()];
+        long[] upperNanos = new long[buckets.size()];
+        double[] cumulativeWeights = new double[buckets.size()];
+
+        long previousUpper = 0;
+        double totalWeight = 0;
+        for (int i = 0; i < buckets.size(); i++) {
+            Bucket bucket = buckets.get(i);
+            long upper = bucket.getUpTo().toNanos();
+            if (upper < previousUpper) {
+                throw new IllegalArgumentException("히스토그램 버킷은 upTo 오름차순이어야 합니다.");
+            }
+            lowerNanos[i] = previousUpper;
+            upperNanos[i] = upper;
+            totalWeight += bucket.getWeight();
+            cumulativeWeights[i] = totalWeight;
+            previousUpper = upper;
+        }
+
+        double weightSum = totalWeight;
+        return random -> {
+            double pick = random.nextDouble() * weightSum;
+            int index = 0;
+            while (index < cumulativeWeights.length - 1 && pick >= cumulativeWeights[index]) {
+                index++;
+            }
+            return uniform(lowerNanos[index], upperNanos[index]).sampleNanos(random);
+        };
+    }
+}
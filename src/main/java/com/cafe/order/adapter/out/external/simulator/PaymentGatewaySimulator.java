@@ -0,0 +1,130 @@
+package com.cafe.order.adapter.out.external.simulator;
+
+import com.cafe.order.adapter.out.external.PaymentGateway;
+import com.cafe.order.config.PaymentGatewaySimulatorProperties;
+import com.cafe.order.config.PaymentGatewaySimulatorProperties.Phase;
+import com.cafe.order.config.PaymentGatewaySimulatorProperties.Profile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * 설정된 프로필에 따라 지연, 실패, 타임아웃 폭주를 재현하는 결제 게이트웨이 시뮬레이터
+ * seed 를 지정하면 같은 호출 순서에 대해 같은 지연/결과를 재현한다.
+ */
+@Slf4j
+public class PaymentGatewaySimulator implements PaymentGateway {
+
+    private final String profileName;
+    private final List<SimulatedPhase> phases;
+    private final long cycleNanos;
+    private final Random seededRandom;
+    private final Sleeper sleeper;
+    private final LongSupplier clock;
+    private final long startNanos;
+
+    private final Cache<String, Boolean> approvedKeys = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .maximumSize(100_000)
+            .build();
+
+    public PaymentGatewaySimulator(PaymentGatewaySimulatorProperties properties) {
+        this(properties, Sleeper.THREAD_SLEEP, System::nanoTime);
+    }
+
+    PaymentGatewaySimulator(PaymentGatewaySimulatorProperties properties, Sleeper sleeper, LongSupplier clock) {
+        Profile profile = properties.getActiveProfile();
+        List<Phase> configuredPhases = profile.getPhases().isEmpty() ? List.of(profile) : profile.getPhases();
+
+        this.profileName = properties.getProfile();
+        this.phases = configuredPhases.stream().map(SimulatedPhase::of).toList();
+        this.cycleNanos = phases.stream().mapToLong(SimulatedPhase::durationNanos).sum();
+        this.seededRandom = properties.getSeed() == null ? null : new Random(properties.getSeed());
+        this.sleeper = sleeper;
+        this.clock = clock;
+        this.startNanos = clock.getAsLong();
+
+        log.info("결제 게이트웨이 시뮬레이터 초기화: profile={}, phases={}, seed={}",
+                profileName, phases.size(), properties.getSeed());
+    }
+
+    @Override
+    public String approve(String idempotencyKey) throws Exception {
+        simulateCall("Payment failed!");
+
+        if (approvedKeys.asMap().putIfAbsent(idempotencyKey, Boolean.TRUE) != null) {
+            return "Already approved";
+        }
+        return "Success!";
+    }
+
+    @Override
+    public String cancel(String paymentId) throws Exception {
+        simulateCall("Payment cancellation failed!");
+        return "Success!";
+    }
+
+    private void simulateCall(String failureMessage) throws Exception {
+        RandomGenerator random = random();
+        SimulatedPhase phase = currentPhase();
+
+        double outcome = random.nextDouble();
+        if (outcome < phase.timeoutRate()) {
+            sleeper.sleep(phase.timeoutStallNanos());
+            throw new TimeoutException("Payment gateway timed out!");
+        }
+
+        sleeper.sleep(phase.latency().sampleNanos(random));
+        if (outcome < phase.timeoutRate() + phase.failureRate()) {
+            throw new Exception(failureMessage);
+        }
+    }
+
+    SimulatedPhase currentPhase() {
+        if (phases.size() == 1) {
+            return phases.get(0);
+        }
+
+        long offset = Math.floorMod(clock.getAsLong() - startNanos, cycleNanos);
+        for (SimulatedPhase phase : phases) {
+            if (offset < phase.durationNanos()) {
+                return phase;
+            }
+            offset -= phase.durationNanos();
+        }
+        return phases.get(phases.size() - 1);
+    }
+
+    private RandomGenerator random() {
+        return seededRandom != null ? seededRandom : ThreadLocalRandom.current();
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        Sleeper THREAD_SLEEP = nanos -> Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    record SimulatedPhase(long durationNanos, LatencyDistribution latency,
+                          double failureRate, double timeoutRate, long timeoutStallNanos) {
+
+        static SimulatedPhase of(Phase phase) {
+            return new SimulatedPhase(
+                    phase.getDuration().toNanos(),
+                    LatencyDistribution.of(phase.getLatency()),
+                    phase.getFailureRate(),
+                    phase.getTimeoutRate(),
+                    phase.getTimeoutStall().toNanos()
+            );
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.cafe.order.adapter.out.external.simulator;
+
+import com.cafe.order.config.PaymentGatewaySimulatorConfig;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+
+/**
+ * 결제 게이트웨이 스텁 서버만 별도 프로세스로 실행 (주문 애플리케이션, DB 없이 시뮬레이터 설정만 로드)
+ *
+ * java -cp order.jar -Dloader.main=com.cafe.order.adapter.out.external.simulator.PaymentGatewayStubApplication \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher --payment.gateway.simulator.profile=brownout
+ */
+public final class PaymentGatewayStubApplication {
+
+    private PaymentGatewayStubApplication() {
+    }
+
+    public static void main(String[] args) {
+        // application.yml 의 stub.enabled=false 보다 우선하도록 커맨드라인 인자로 전달
+        String[] stubArgs = new String[args.length + 1];
+        stubArgs[0] = "--payment.gateway.simulator.stub.enabled=true";
+        System.arraycopy(args, 0, stubArgs, 1, args.length);
+
+        new SpringApplicationBuilder(PaymentGatewaySimulatorConfig.class)
+                .web(WebApplicationType.NONE)
+                .run(stubArgs);
+    }
+}
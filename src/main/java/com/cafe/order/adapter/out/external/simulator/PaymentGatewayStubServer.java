@@ -0,0 +1,112 @@
+package com.cafe.order.adapter.out.external.simulator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 시뮬레이터를 로컬 HTTP 결제 게이트웨이로 노출하는 스텁 서버
+ * POST /payments (Idempotency-Key 헤더), POST /payments/{paymentId}/cancel
+ * 실패는 500, 타임아웃 폭주는 지연 후 504 로 응답한다.
+ */
+@Slf4j
+public class PaymentGatewayStubServer implements SmartLifecycle {
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final PaymentGatewaySimulator simulator;
+    private final int port;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public PaymentGatewayStubServer(PaymentGatewaySimulator simulator, int port) {
+        this.simulator = simulator;
+        this.port = port;
+    }
+
+    @Override
+    public synchronized void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("결제 게이트웨이 스텁 서버를 시작할 수 없습니다: port=" + port, e);
+        }
+
+        // 시뮬레이터가 지연 동안 스레드를 점유하므로 요청마다 스레드를 사용
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/payments", this::handle);
+        server.start();
+
+        log.info("결제 게이트웨이 스텁 서버 시작: port={}", getPort());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    public synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : port;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, "Method Not Allowed");
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            try {
+                if ("/payments".equals(path)) {
+                    String idempotencyKey = exchange.getRequestHeaders().getFirst(IDEMPOTENCY_KEY_HEADER);
+                    if (idempotencyKey == null || idempotencyKey.isBlank()) {
+                        respond(exchange, 400, "Idempotency-Key header is required");
+                        return;
+                    }
+                    respond(exchange, 200, simulator.approve(idempotencyKey));
+                } else if (path.startsWith("/payments/") && path.endsWith("/cancel")) {
+                    String paymentId = path.substring("/payments/".length(), path.length() - "/cancel".length());
+                    respond(exchange, 200, simulator.cancel(paymentId));
+                } else {
+                    respond(exchange, 404, "Not Found");
+                }
+            } catch (TimeoutException e) {
+                respond(exchange, 504, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                respond(exchange, 503, "Interrupted");
+            } catch (Exception e) {
+                respond(exchange, 500, e.getMessage());
+            }
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
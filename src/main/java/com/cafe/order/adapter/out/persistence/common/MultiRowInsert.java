@@ -0,0 +1,106 @@
+package com.cafe.order.adapter.out.persistence.common;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 다중 행 INSERT (INSERT INTO t (...) VALUES (...), (...), ...)
+ * 행을 maxRows 개씩 나누어, maxRows 개짜리 문장은 PreparedStatement 하나에 JDBC 배치로 모아 한 번에 보내고 남은 행은 문장 하나로 보낸다.
+ * 행 수별 SQL 은 한 번만 만들어 재사용한다.
+ */
+public final class MultiRowInsert<T> {
+
+    /**
+     * row 의 컬럼 값을 parameterIndex 부터 차례로 바인딩 (rowIndex 는 전체 목록에서의 위치)
+     */
+    @FunctionalInterface
+    public interface RowBinder<T> {
+        void bind(PreparedStatement statement, int parameterIndex, T row, int rowIndex) throws SQLException;
+    }
+
+    private final String prefix;
+    private final String rowPlaceholders;
+    private final int columns;
+    private final int maxRows;
+    private final String[] sqlByRows;
+
+    public MultiRowInsert(String table, List<String> columnNames, int maxRows) {
+        if (maxRows < 1) {
+            throw new IllegalArgumentException("maxRows 는 1 이상이어야 합니다: " + maxRows);
+        }
+        this.prefix = "INSERT INTO " + table + " (" + String.join(", ", columnNames) + ") VALUES ";
+        this.rowPlaceholders = "(" + String.join(", ", Collections.nCopies(columnNames.size(), "?")) + ")";
+        this.columns = columnNames.size();
+        this.maxRows = maxRows;
+        this.sqlByRows = new String[maxRows + 1];
+    }
+
+    /**
+     * 호출자 트랜잭션의 커넥션으로 실행하고 INSERT 한 행 수를 반환
+     */
+    public int execute(JdbcTemplate jdbcTemplate, List<T> rows, RowBinder<? super T> binder) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        int fullStatements = rows.size() / maxRows;
+        int remainder = rows.size() % maxRows;
+        Integer inserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            int count = 0;
+            if (fullStatements > 0) {
+                try (PreparedStatement statement = connection.prepareStatement(sql(maxRows))) {
+                    for (int chunk = 0; chunk < fullStatements; chunk++) {
+                        bind(statement, rows, chunk * maxRows, maxRows, binder);
+                        if (fullStatements > 1) {
+                            statement.addBatch();
+                        }
+                    }
+                    if (fullStatements > 1) {
+                        for (int updated : statement.executeBatch()) {
+                            count += Math.max(updated, 0);
+                        }
+                    } else {
+                        count += statement.executeUpdate();
+                    }
+                }
+            }
+            if (remainder > 0) {
+                try (PreparedStatement statement = connection.prepareStatement(sql(remainder))) {
+                    bind(statement, rows, fullStatements * maxRows, remainder, binder);
+                    count += statement.executeUpdate();
+                }
+            }
+            return count;
+        });
+        return inserted == null ? 0 : inserted;
+    }
+
+    private void bind(PreparedStatement statement, List<T> rows, int from, int count,
+                      RowBinder<? super T> binder) throws SQLException {
+        for (int i = 0; i < count; i++) {
+            binder.bind(statement, i * columns + 1, rows.get(from + i), from + i);
+        }
+    }
+
+    private String sql(int rows) {
+        String sql = sqlByRows[rows];
+        if (sql == null) {
+            StringBuilder builder = new StringBuilder(prefix.length() + rows * (rowPlaceholders.length() + 2));
+            builder.append(prefix);
+            for (int i = 0; i < rows; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(rowPlaceholders);
+            }
+            sql = builder.toString();
+            // 여러 스레드가 같은 문자열을 만들 수 있지만 결과가 같으므로 동기화하지 않는다
+            sqlByRows[rows] = sql;
+        }
+        return sql;
+    }
+}
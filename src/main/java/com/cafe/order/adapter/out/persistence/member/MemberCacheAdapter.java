@@ -0,0 +1,167 @@
+package com.cafe.order.adapter.out.persistence.member;
+
+import com.cafe.order.application.port.out.member.MemberPort;
+import com.cafe.order.config.MemberCacheProperties;
+import com.cafe.order.domain.member.model.Member;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 회원 조회 캐시 (MemberPort 데코레이터)
+ * 단골 회원의 반복 주문마다 나가던 PK 조회를 크기/TTL 제한이 있는 Caffeine(W-TinyLFU) 캐시로 흡수하고,
+ * 존재하지 않는 회원 ID 도 짧은 TTL 로 캐시해 ID 스캐닝 요청이 DB 까지 내려가지 않게 한다.
+ * 저장(탈퇴/탈퇴 취소 포함) 시에는 즉시 + 커밋 후 한 번 더 무효화한다.
+ * 무효화는 이 인스턴스의 캐시에만 적용되므로, 다른 인스턴스에서 탈퇴한 회원은 TTL 동안 ACTIVE 로 남을 수 있다.
+ * 그래서 주문 생성은 캐시 값과 별개로 findInactiveIds 로 프라이머리에서 상태를 다시 확인하고, 그때 어긋난 항목을 무효화한다.
+ * 캐시는 TTL 동안 유지되므로 복제 지연이 있는 레플리카가 아닌 프라이머리에서 읽은 값만 적재한다.
+ */
+@Primary
+@Component
+@EnableConfigurationProperties(MemberCacheProperties.class)
+@ConditionalOnProperty(prefix = "member.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MemberCacheAdapter implements MemberPort {
+
+    static final String CACHE_NAME = "member";
+
+    private final MemberPersistenceAdapter memberPersistenceAdapter;
+    private final Cache<Long, Optional<Member>> members;
+    private final TransactionTemplate primaryReadTransaction;
+
+    public MemberCacheAdapter(MemberPersistenceAdapter memberPersistenceAdapter,
+                              MemberCacheProperties properties,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
+        this.memberPersistenceAdapter = memberPersistenceAdapter;
+        this.primaryReadTransaction = new TransactionTemplate(transactionManager);
+        this.primaryReadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.members = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(Expiry.<Long, Optional<Member>>creating((memberId, member) ->
+                        member.isPresent() ? properties.getTtl() : properties.getNegativeTtl()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, members, CACHE_NAME);
+    }
+
+    @Override
+    public Member save(Member member) {
+        Member saved = null;
+        try {
+            saved = memberPersistenceAdapter.save(member);
+            return saved;
+        } finally {
+            // 저장이 실패해도(낙관적 락 충돌 등) 재시도가 캐시의 이전 상태 대신 최신 상태를 읽도록 무효화
+            Long memberId = saved != null ? saved.getId() : member.getId();
+            if (memberId != null) {
+                evictNowAndAfterCommit(memberId);
+            }
+        }
+    }
+
+    /**
+     * 호출자가 반환된 회원을 변경(withdraw 등)해도 캐시 값이 오염되지 않도록 복사본을 반환
+     */
+    @Override
+    public Optional<Member> findById(Long memberId) {
+        return members.get(memberId, this::loadFromPrimary)
+                .map(MemberCacheAdapter::copyOf);
+    }
+
+    /**
+     * readOnly 트랜잭션(또는 리포지토리의 readOnly 트랜잭션)은 레플리카로 라우팅되므로, 쓰기 트랜잭션 안이 아니면
+     * 새 쓰기 트랜잭션에서 조회한다. 레플리카에서 읽으면 탈퇴 직전의 ACTIVE 회원이나 가입 직전의 "없는 회원"이
+     * 복제 지연만큼 늦은 상태로 TTL 동안 캐시되기 때문이다.
+     */
+    private Optional<Member> loadFromPrimary(Long memberId) {
+        return onPrimary(() -> memberPersistenceAdapter.findById(memberId));
+    }
+
+    private <T> T onPrimary(Supplier<T> query) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return query.get();
+        }
+        return primaryReadTransaction.execute(status -> query.get());
+    }
+
+    @Override
+    public boolean existsByPhoneNumber(String phoneNumber) {
+        return memberPersistenceAdapter.existsByPhoneNumber(phoneNumber);
+    }
+
+    /**
+     * 다른 인스턴스에서 탈퇴해 이 인스턴스 캐시에 ACTIVE 로 남은 회원은 여기서 발견되므로 함께 무효화한다
+     */
+    @Override
+    public Set<Long> findInactiveIds(Collection<Long> memberIds) {
+        Set<Long> inactiveIds = onPrimary(() -> memberPersistenceAdapter.findInactiveIds(memberIds));
+        members.invalidateAll(inactiveIds);
+        return inactiveIds;
+    }
+
+    @Override
+    public List<Long> findExpiredWithdrawalIds(LocalDateTime withdrawnBefore, int limit) {
+        return memberPersistenceAdapter.findExpiredWithdrawalIds(withdrawnBefore, limit);
+    }
+
+    @Override
+    public int deleteExpiredWithdrawals(List<Long> memberIds, LocalDateTime withdrawnBefore) {
+        int deleted = memberPersistenceAdapter.deleteExpiredWithdrawals(memberIds, withdrawnBefore);
+        memberIds.forEach(this::evictNowAndAfterCommit);
+        return deleted;
+    }
+
+    @Override
+    public long countExpiredWithdrawals(LocalDateTime withdrawnBefore) {
+        return memberPersistenceAdapter.countExpiredWithdrawals(withdrawnBefore);
+    }
+
+    /**
+     * 커밋 전 무효화만으로는 커밋 직전에 다른 요청이 이전 상태를 다시 적재할 수 있으므로 커밋 후에도 무효화한다
+     */
+    private void evictNowAndAfterCommit(Long memberId) {
+        members.invalidate(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    members.invalidate(memberId);
+                }
+            });
+        }
+    }
+
+    private static Member copyOf(Member member) {
+        return Member.builder()
+                .id(member.getId())
+                .name(member.getName())
+                .phoneNumber(member.getPhoneNumber())
+                .gender(member.getGender())
+                .birthDate(member.getBirthDate())
+                .status(member.getStatus())
+                .withdrawalDateTime(member.getWithdrawalDateTime())
+                .joinDateTime(member.getJoinDateTime())
+                .version(member.getVersion())
+                .build();
+    }
+}
@@ -9,12 +9,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "members")
+@Table(name = "members", indexes = {
+        // 철회 기간이 지난 탈퇴 회원 정리 (WITHDRAWN 중 오래된 탈퇴 순으로 범위 탐색, 정렬 없이 청크 단위로 읽음)
+        @Index(name = "idx_members_status_withdrawal_date_time", columnList = "status, withdrawal_date_time, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -22,7 +26,8 @@ import java.time.LocalDateTime;
 public class MemberJpaEntity extends BaseJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "members_seq")
+    @SequenceGenerator(name = "members_seq", sequenceName = "members_seq", allocationSize = 50)
     private Long Id;
     
     @Column(nullable = false, length = 50)
@@ -46,4 +51,10 @@ public class MemberJpaEntity extends BaseJpaEntity {
     
     @Column(nullable = false)
     private LocalDateTime joinDateTime;
+
+    // 낙관적 락: 탈퇴/탈퇴 철회가 동시에 저장되면 먼저 커밋된 쪽만 반영하고 나머지는 다시 조회해 검증부터 재시도
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
@@ -1,9 +1,53 @@
 package com.cafe.order.adapter.out.persistence.member;
 
+import com.cafe.order.domain.member.model.enums.MemberStatus;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
 @Repository
 public interface MemberJpaRepository extends JpaRepository<MemberJpaEntity, Long> {
     boolean existsByPhoneNumber(String phoneNumber);
+
+    /**
+     * 전화번호 필터 적재용, 엔티티를 만들지 않고 전화번호만 커서로 읽는다 (트랜잭션 안에서 닫아야 함)
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select m.phoneNumber from MemberJpaEntity m")
+    Stream<String> streamAllPhoneNumbers();
+
+    /**
+     * (status, withdrawal_date_time, id) 인덱스 범위를 앞에서부터 limit 개만 읽는다
+     * status 가 고정이어도 정렬 조건이 인덱스 첫 컬럼부터 시작해야 대상 전체를 정렬하지 않고 인덱스 순서를 그대로 사용한다.
+     */
+    @Query("select m.Id from MemberJpaEntity m "
+            + "where m.status = :status and m.withdrawalDateTime < :withdrawnBefore "
+            + "order by m.status, m.withdrawalDateTime, m.Id")
+    List<Long> findIdsWithdrawnBefore(@Param("status") MemberStatus status,
+                                      @Param("withdrawnBefore") LocalDateTime withdrawnBefore,
+                                      Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from MemberJpaEntity m "
+            + "where m.Id in :memberIds and m.status = :status and m.withdrawalDateTime < :withdrawnBefore")
+    int deleteWithdrawnBefore(@Param("memberIds") Collection<Long> memberIds,
+                              @Param("status") MemberStatus status,
+                              @Param("withdrawnBefore") LocalDateTime withdrawnBefore);
+
+    @Query("select m.Id from MemberJpaEntity m where m.Id in :memberIds and m.status = :status")
+    List<Long> findIdsByStatus(@Param("memberIds") Collection<Long> memberIds, @Param("status") MemberStatus status);
+
+    long countByStatusAndWithdrawalDateTimeBefore(MemberStatus status, LocalDateTime withdrawnBefore);
 }
\ No newline at end of file
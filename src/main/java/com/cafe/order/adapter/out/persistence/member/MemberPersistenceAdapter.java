@@ -1,11 +1,22 @@
 package com.cafe.order.adapter.out.persistence.member;
 
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
 import com.cafe.order.application.port.out.member.MemberPort;
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.ErrorCode;
 import com.cafe.order.domain.member.model.Member;
+import com.cafe.order.domain.member.model.enums.MemberStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -13,22 +24,81 @@ public class MemberPersistenceAdapter implements MemberPort {
     
     private final MemberJpaRepository memberJpaRepository;
     private final MemberPersistenceMapper memberPersistenceMapper;
-    
+    private final MemberPhoneNumberFilter memberPhoneNumberFilter;
+    private final ShardRouter shardRouter;
+
+    /**
+     * 회원은 샤딩 시에도 기본 샤드에만 있다
+     */
     @Override
     public Member save(Member member) {
-        MemberJpaEntity entity = memberPersistenceMapper.toEntity(member);
-        MemberJpaEntity savedEntity = memberJpaRepository.save(entity);
-        return memberPersistenceMapper.toDomain(savedEntity);
+        return shardRouter.onDefault(() -> {
+            MemberJpaEntity entity = memberPersistenceMapper.toEntity(member);
+            MemberJpaEntity savedEntity = member.getId() == null ? insert(entity) : memberJpaRepository.save(entity);
+            memberPhoneNumberFilter.put(savedEntity.getPhoneNumber());
+            return memberPersistenceMapper.toDomain(savedEntity);
+        });
     }
     
     @Override
     public Optional<Member> findById(Long memberId) {
-        return memberJpaRepository.findById(memberId)
-                .map(memberPersistenceMapper::toDomain);
+        return shardRouter.onDefault(() -> memberJpaRepository.findById(memberId)
+                .map(memberPersistenceMapper::toDomain));
     }
     
     @Override
     public boolean existsByPhoneNumber(String phoneNumber) {
-        return memberJpaRepository.existsByPhoneNumber(phoneNumber);
+        if (!memberPhoneNumberFilter.mightContain(phoneNumber)) {
+            return false;
+        }
+        boolean exists = shardRouter.onDefault(() -> memberJpaRepository.existsByPhoneNumber(phoneNumber));
+        memberPhoneNumberFilter.recordConfirmed(exists);
+        return exists;
+    }
+
+    @Override
+    public Set<Long> findInactiveIds(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> inactiveIds = new HashSet<>(memberIds);
+        shardRouter.onDefault(() -> memberJpaRepository.findIdsByStatus(memberIds, MemberStatus.ACTIVE))
+                .forEach(inactiveIds::remove);
+        return inactiveIds;
+    }
+
+    @Override
+    public List<Long> findExpiredWithdrawalIds(LocalDateTime withdrawnBefore, int limit) {
+        return shardRouter.onDefault(() ->
+                memberJpaRepository.findIdsWithdrawnBefore(MemberStatus.WITHDRAWN, withdrawnBefore, Limit.of(limit)));
+    }
+
+    /**
+     * 삭제된 전화번호는 Bloom 필터에서 뺄 수 없어 재기동 전까지 오탐(DB 확인)으로만 남는다
+     */
+    @Override
+    public int deleteExpiredWithdrawals(List<Long> memberIds, LocalDateTime withdrawnBefore) {
+        if (memberIds.isEmpty()) {
+            return 0;
+        }
+        return shardRouter.onDefault(() ->
+                memberJpaRepository.deleteWithdrawnBefore(memberIds, MemberStatus.WITHDRAWN, withdrawnBefore));
+    }
+
+    @Override
+    public long countExpiredWithdrawals(LocalDateTime withdrawnBefore) {
+        return shardRouter.onDefault(() ->
+                memberJpaRepository.countByStatusAndWithdrawalDateTimeBefore(MemberStatus.WITHDRAWN, withdrawnBefore));
+    }
+
+    /**
+     * 신규 회원은 바로 flush 해 동시 가입으로 인한 전화번호 유니크 제약 위반을 커밋 시점이 아닌 여기서 비즈니스 예외로 변환
+     */
+    private MemberJpaEntity insert(MemberJpaEntity entity) {
+        try {
+            return memberJpaRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw new BizException(ErrorCode.INVALID_REQUEST, "이미 가입된 전화번호입니다.");
+        }
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ public class MemberPersistenceMapper {
                 .status(member.getStatus())
                 .withdrawalDateTime(member.getWithdrawalDateTime())
                 .joinDateTime(member.getJoinDateTime())
+                .version(member.getVersion())
                 .build();
     }
     
@@ -30,6 +31,7 @@ public class MemberPersistenceMapper {
                 .status(entity.getStatus())
                 .withdrawalDateTime(entity.getWithdrawalDateTime())
                 .joinDateTime(entity.getJoinDateTime())
+                .version(entity.getVersion())
                 .build();
     }
 }
\ No newline at end of file
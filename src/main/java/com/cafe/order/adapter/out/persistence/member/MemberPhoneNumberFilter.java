@@ -0,0 +1,121 @@
+package com.cafe.order.adapter.out.persistence.member;
+
+import com.cafe.order.config.MemberPhoneFilterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * 가입된 전화번호 사전 필터
+ * 기동 시 members 테이블의 전화번호를 스트리밍으로 읽어 Bloom 필터를 만들고, 이후 저장되는 회원은 즉시 추가한다.
+ * 필터가 "확실히 없음"이라고 답하면 중복 확인 쿼리를 생략하고, 그 외에는 DB 에 확인한다.
+ * 최종 중복 판단은 members.phone_number 유니크 제약이 담당한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(MemberPhoneFilterProperties.class)
+public class MemberPhoneNumberFilter {
+
+    private static final String METRIC_CHECKS = "member.phone.filter.checks";
+
+    private final MemberJpaRepository memberJpaRepository;
+    private final boolean enabled;
+    private final PhoneNumberBloomFilter bloomFilter;
+    private final Counter skippedCounter;
+    private final Counter confirmedCounter;
+    private final Counter falsePositiveCounter;
+
+    private volatile boolean ready;
+
+    public MemberPhoneNumberFilter(MemberJpaRepository memberJpaRepository,
+                                   MemberPhoneFilterProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.memberJpaRepository = memberJpaRepository;
+        this.enabled = properties.isEnabled();
+        this.bloomFilter = new PhoneNumberBloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+        this.skippedCounter = checkCounter("skipped", meterRegistry);
+        this.confirmedCounter = checkCounter("confirmed", meterRegistry);
+        this.falsePositiveCounter = checkCounter("false_positive", meterRegistry);
+
+        Gauge.builder("member.phone.filter.memory", bloomFilter, PhoneNumberBloomFilter::memoryBytes)
+                .baseUnit("bytes")
+                .description("전화번호 Bloom 필터 비트 배열 크기")
+                .register(meterRegistry);
+        Gauge.builder("member.phone.filter.false.positive.rate", bloomFilter, PhoneNumberBloomFilter::estimatedFalsePositiveRate)
+                .description("채워진 비트 비율 기준 추정 오탐률")
+                .register(meterRegistry);
+    }
+
+    private static Counter checkCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder(METRIC_CHECKS)
+                .tag("result", result)
+                .description("전화번호 중복 확인 (skipped: 쿼리 생략, confirmed: 실제 중복, false_positive: 필터 오탐)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 초기 데이터 적재 이후 members 테이블 전체를 읽어 필터를 채운다
+     * 적재 중 저장되는 회원도 같은 필터에 바로 들어가므로, 적재가 끝나기 전까지만 항상 DB 로 확인한다.
+     * 복제 지연으로 최근 가입자가 빠지지 않도록 readOnly 가 아닌 트랜잭션으로 프라이머리에서 읽는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+        long count = 0;
+        try (Stream<String> phoneNumbers = memberJpaRepository.streamAllPhoneNumbers()) {
+            for (String phoneNumber : (Iterable<String>) phoneNumbers::iterator) {
+                bloomFilter.put(normalize(phoneNumber));
+                count++;
+            }
+        }
+        ready = true;
+        log.info("전화번호 Bloom 필터 적재 완료: members={}, bits={}, hashes={}, memory={}B, estimatedFpp={}",
+                count, bloomFilter.bitSize(), bloomFilter.hashCount(), bloomFilter.memoryBytes(),
+                String.format("%.5f", bloomFilter.estimatedFalsePositiveRate()));
+    }
+
+    /**
+     * false 면 가입된 적 없는 전화번호가 확실하다 (필터 적재 전이거나 비활성화 상태면 항상 true)
+     */
+    public boolean mightContain(String phoneNumber) {
+        if (!ready) {
+            return true;
+        }
+        boolean mightContain = bloomFilter.mightContain(normalize(phoneNumber));
+        if (!mightContain) {
+            skippedCounter.increment();
+        }
+        return mightContain;
+    }
+
+    /**
+     * 필터가 "있을 수 있음"이라고 답한 뒤 DB 확인 결과 기록
+     */
+    public void recordConfirmed(boolean exists) {
+        if (!ready) {
+            return;
+        }
+        (exists ? confirmedCounter : falsePositiveCounter).increment();
+    }
+
+    public void put(String phoneNumber) {
+        if (enabled) {
+            bloomFilter.put(normalize(phoneNumber));
+        }
+    }
+
+    static String normalize(String phoneNumber) {
+        return phoneNumber.replaceAll("\\D", "");
+    }
+}
@@ -0,0 +1,99 @@
+package com.cafe.order.adapter.out.persistence.member;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 전화번호 Bloom 필터
+ * mightContain 이 false 면 한 번도 put 되지 않은 값이 확실하고, true 면 오탐일 수 있다.
+ * 비트 배열은 AtomicLongArray 로 관리해 적재 중에도 동시 put/조회가 가능하다.
+ * 해시는 64비트 해시 하나를 둘로 나눠 k 개를 만드는 double hashing (Kirsch-Mitzenmacher) 방식을 사용한다.
+ */
+final class PhoneNumberBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong bitCount = new AtomicLong();
+
+    PhoneNumberBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions > 0, 0 < falsePositiveRate < 1 이어야 합니다.");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = Math.toIntExact((optimalBits + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(words);
+        this.bitSize = (long) words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) optimalBits / expectedInsertions * Math.log(2)));
+    }
+
+    void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int wordIndex = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long previous = words.getAndUpdate(wordIndex, word -> word | mask);
+            if ((previous & mask) == 0) {
+                bitCount.incrementAndGet();
+            }
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    long memoryBytes() {
+        return bitSize / Byte.SIZE;
+    }
+
+    /**
+     * 현재 채워진 비트 비율 기준 추정 오탐률 (fill ratio ^ k)
+     */
+    double estimatedFalsePositiveRate() {
+        return Math.pow((double) bitCount.get() / bitSize, hashCount);
+    }
+
+    private long index(int combinedHash) {
+        // 음수 해시는 비트를 뒤집어 양수로 (Guava BloomFilterStrategies 와 같은 방식)
+        int positive = combinedHash < 0 ? ~combinedHash : combinedHash;
+        return positive % bitSize;
+    }
+
+    /**
+     * FNV-1a 64비트 해시에 murmur3 fmix64 로 비트를 섞는다 (전화번호는 자릿수가 고정이라 분포 보정이 필요)
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
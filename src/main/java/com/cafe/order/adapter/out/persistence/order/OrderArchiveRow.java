@@ -0,0 +1,19 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 보관 대상 조회 프로젝션 (보관 시점 버전 updated_at 포함)
+ */
+public record OrderArchiveRow(
+    Long orderId,
+    Long memberId,
+    OrderStatus status,
+    String paymentId,
+    LocalDateTime orderDateTime,
+    LocalDateTime cancelDateTime,
+    LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,200 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.adapter.out.persistence.routing.ShardRoutingDataSource;
+import com.cafe.order.application.port.in.order.query.OrderExportRow;
+import com.cafe.order.application.port.out.order.OrderExportPort;
+import com.cafe.order.config.OrderExportProperties;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * 주문 내보내기 어댑터
+ * 엔티티/영속성 컨텍스트를 거치지 않고 전방향 전용(forward-only) JDBC 커서로 fetch-size 행씩 가져와 바로 넘긴다.
+ * (주문 일시, 주문 ID) 인덱스 순서로 읽으므로 DB 가 결과 전체를 정렬/적재하지 않고, 힙 사용량은 건수와 관계없이 일정하다.
+ * 샤딩 시에는 샤드마다 커서를 열고 각 커서의 현재 행을 (주문 일시, 주문 ID) 순으로 병합(k-way merge)해 같은 순서로 내보낸다.
+ */
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(OrderExportProperties.class)
+public class OrderExportPersistenceAdapter implements OrderExportPort {
+
+    static final String EXPORT_QUERY = """
+            SELECT o.id, o.member_id, o.status, o.payment_id, o.order_date_time, o.cancel_date_time,
+                   p.payment_date_time, l.product_id, l.quantity
+            FROM orders o
+            JOIN order_lines l ON l.order_id = o.id
+            LEFT JOIN payments p ON p.payment_id = o.payment_id
+            WHERE o.order_date_time >= ? AND o.order_date_time < ?
+            ORDER BY o.order_date_time, o.id
+            """;
+
+    private static final Comparator<ShardCursor> EXPORT_ORDER = Comparator
+            .comparing((ShardCursor cursor) -> cursor.row.orderDateTime())
+            .thenComparingLong(cursor -> cursor.row.orderId());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderExportProperties orderExportProperties;
+    private final ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource;
+
+    @Override
+    public long exportOrders(LocalDateTime from, LocalDateTime to, Consumer<OrderExportRow> rowConsumer) {
+        ShardRoutingDataSource shards = shardRoutingDataSource.getIfAvailable();
+        if (shards != null) {
+            try {
+                return exportMerged(shards, from, to, rowConsumer);
+            } catch (SQLException e) {
+                throw jdbcTemplate.getExceptionTranslator().translate("주문 내보내기", EXPORT_QUERY, e);
+            }
+        }
+
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            // H2 는 기본적으로 결과 전체를 먼저 만든 뒤 반환하므로, 이 커넥션에서만 행을 읽는 대로 만들도록 전환
+            boolean h2 = "H2".equals(connection.getMetaData().getDatabaseProductName());
+            if (h2) {
+                setLazyQueryExecution(connection, true);
+            }
+            try {
+                return stream(connection, from, to, rowConsumer);
+            } finally {
+                if (h2) {
+                    setLazyQueryExecution(connection, false);
+                }
+            }
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    private long stream(Connection connection, LocalDateTime from, LocalDateTime to,
+                        Consumer<OrderExportRow> rowConsumer) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                EXPORT_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(orderExportProperties.getFetchSize());
+            statement.setTimestamp(1, Timestamp.valueOf(from));
+            statement.setTimestamp(2, Timestamp.valueOf(to));
+
+            long rows = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rowConsumer.accept(toRow(resultSet));
+                    rows++;
+                }
+            }
+            return rows;
+        }
+    }
+
+    /**
+     * 같은 주문의 행은 한 샤드의 커서에서 연속으로 나오므로 병합 후에도 주문 단위로 이어진다
+     */
+    private long exportMerged(ShardRoutingDataSource shards, LocalDateTime from, LocalDateTime to,
+                              Consumer<OrderExportRow> rowConsumer) throws SQLException {
+        List<ShardCursor> cursors = new ArrayList<>(shards.size());
+        try {
+            PriorityQueue<ShardCursor> heads = new PriorityQueue<>(EXPORT_ORDER);
+            for (int shard = 0; shard < shards.size(); shard++) {
+                ShardCursor cursor = new ShardCursor(shards.getConnection(shard));
+                cursors.add(cursor);
+                cursor.open(from, to);
+                if (cursor.next()) {
+                    heads.add(cursor);
+                }
+            }
+
+            long rows = 0;
+            while (!heads.isEmpty()) {
+                ShardCursor cursor = heads.poll();
+                rowConsumer.accept(cursor.row);
+                rows++;
+                if (cursor.next()) {
+                    heads.add(cursor);
+                }
+            }
+            return rows;
+        } finally {
+            for (ShardCursor cursor : cursors) {
+                cursor.close();
+            }
+        }
+    }
+
+    private static OrderExportRow toRow(ResultSet resultSet) throws SQLException {
+        return new OrderExportRow(
+                resultSet.getLong(1),
+                resultSet.getLong(2),
+                OrderStatus.valueOf(resultSet.getString(3)),
+                resultSet.getString(4),
+                resultSet.getObject(5, LocalDateTime.class),
+                resultSet.getObject(6, LocalDateTime.class),
+                resultSet.getObject(7, LocalDateTime.class),
+                resultSet.getLong(8),
+                resultSet.getInt(9));
+    }
+
+    private static void setLazyQueryExecution(Connection connection, boolean enabled) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LAZY_QUERY_EXECUTION " + enabled);
+        }
+    }
+
+    /**
+     * 샤드 하나의 내보내기 커서 (현재 행 보관)
+     */
+    private final class ShardCursor {
+
+        private final Connection connection;
+        private final boolean h2;
+        private PreparedStatement statement;
+        private ResultSet resultSet;
+        private OrderExportRow row;
+
+        private ShardCursor(Connection connection) throws SQLException {
+            this.connection = connection;
+            this.h2 = "H2".equals(connection.getMetaData().getDatabaseProductName());
+        }
+
+        private void open(LocalDateTime from, LocalDateTime to) throws SQLException {
+            if (h2) {
+                setLazyQueryExecution(connection, true);
+            }
+            statement = connection.prepareStatement(EXPORT_QUERY, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(orderExportProperties.getFetchSize());
+            statement.setTimestamp(1, Timestamp.valueOf(from));
+            statement.setTimestamp(2, Timestamp.valueOf(to));
+            resultSet = statement.executeQuery();
+        }
+
+        private boolean next() throws SQLException {
+            row = resultSet.next() ? toRow(resultSet) : null;
+            return row != null;
+        }
+
+        private void close() throws SQLException {
+            try (Connection pooled = connection) {
+                try (PreparedStatement openStatement = statement; ResultSet openResultSet = resultSet) {
+                    // 결과를 닫은 뒤 풀로 돌려보내기 전에 기본 실행 방식으로 되돌린다
+                }
+                if (h2) {
+                    setLazyQueryExecution(pooled, false);
+                }
+            }
+        }
+    }
+}
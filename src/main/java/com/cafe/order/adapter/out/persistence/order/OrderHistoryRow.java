@@ -0,0 +1,17 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내역 조회 프로젝션 (엔티티/연관관계를 로딩하지 않는 JPQL 생성자 표현식 대상)
+ */
+public record OrderHistoryRow(
+    Long orderId,
+    OrderStatus status,
+    String paymentId,
+    LocalDateTime orderDateTime,
+    LocalDateTime cancelDateTime
+) {
+}
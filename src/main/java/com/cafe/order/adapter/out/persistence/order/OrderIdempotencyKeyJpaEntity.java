@@ -0,0 +1,36 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.adapter.out.persistence.common.BaseJpaEntity;
+import com.cafe.order.adapter.out.persistence.routing.ShardedSequence;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+        name = "order_idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_idempotency_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_order_idempotency_order_id", columnList = "order_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class OrderIdempotencyKeyJpaEntity extends BaseJpaEntity {
+
+    @Id
+    @ShardedSequence(name = "order_idempotency_keys_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+}
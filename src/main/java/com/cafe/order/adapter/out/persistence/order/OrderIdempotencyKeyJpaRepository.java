@@ -0,0 +1,18 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OrderIdempotencyKeyJpaRepository extends JpaRepository<OrderIdempotencyKeyJpaEntity, Long> {
+
+    @Query("SELECT k.orderId FROM OrderIdempotencyKeyJpaEntity k WHERE k.idempotencyKey = :idempotencyKey")
+    Optional<Long> findOrderIdByIdempotencyKey(@Param("idempotencyKey") String idempotencyKey);
+
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKeyJpaEntity k WHERE k.orderId = :orderId")
+    int deleteByOrderId(@Param("orderId") Long orderId);
+}
@@ -0,0 +1,39 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
+import com.cafe.order.application.port.out.order.OrderIdempotencyPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class OrderIdempotencyPersistenceAdapter implements OrderIdempotencyPort {
+
+    private final OrderIdempotencyKeyJpaRepository orderIdempotencyKeyJpaRepository;
+    private final ShardRouter shardRouter;
+
+    @Override
+    public void save(String idempotencyKey, Long memberId, Long orderId) {
+        shardRouter.onMember(memberId, () -> orderIdempotencyKeyJpaRepository.save(OrderIdempotencyKeyJpaEntity.builder()
+                .idempotencyKey(idempotencyKey)
+                .memberId(memberId)
+                .orderId(orderId)
+                .build()));
+    }
+
+    @Override
+    public Optional<Long> findOrderIdByKey(Long memberId, String idempotencyKey) {
+        return shardRouter.onMember(memberId, () ->
+                orderIdempotencyKeyJpaRepository.findOrderIdByIdempotencyKey(idempotencyKey));
+    }
+
+    @Override
+    public void deleteByOrderId(Long orderId) {
+        shardRouter.onOrder(orderId, () -> {
+            orderIdempotencyKeyJpaRepository.deleteByOrderId(orderId);
+            return null;
+        });
+    }
+}
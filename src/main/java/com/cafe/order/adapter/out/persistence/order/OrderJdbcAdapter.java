@@ -0,0 +1,231 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.adapter.out.persistence.common.MultiRowInsert;
+import com.cafe.order.adapter.out.persistence.routing.PooledSequenceAllocator;
+import com.cafe.order.adapter.out.persistence.routing.ShardRing;
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
+import com.cafe.order.application.port.out.order.OrderPort;
+import com.cafe.order.config.OrderJdbcProperties;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 주문 쓰기 JDBC 경로 (order.jdbc.enabled)
+ * 엔티티 변환, 영속성 컨텍스트, dirty checking 없이 주문과 주문상품을 테이블마다 다중 행 INSERT 문 하나로 저장하고,
+ * 저장한 엔티티를 다시 도메인으로 변환하지 않고 입력 주문에 ID 와 버전만 채워 반환한다.
+ * ID 는 JPA 와 같은 시퀀스에서 pooled 구간으로 받고(PooledSequenceAllocator), 샤딩 시 주문 ID 에 회원 버킷을 담는다.
+ * 보관(order.archive)을 켜도 OrderArchiveFallbackAdapter 가 이 어댑터를 감싸 사용한다.
+ */
+@Component
+@EnableConfigurationProperties(OrderJdbcProperties.class)
+@ConditionalOnProperty(prefix = "order.jdbc", name = "enabled", havingValue = "true")
+public class OrderJdbcAdapter implements OrderPort {
+
+    private static final String ORDER_COLUMNS =
+            "o.id, o.member_id, o.status, o.payment_id, o.order_date_time, o.cancel_date_time, o.version";
+
+    private static final String FIND_BY_ID_QUERY = "SELECT " + ORDER_COLUMNS + ", l.product_id, l.quantity "
+            + "FROM orders o JOIN order_lines l ON l.order_id = o.id "
+            + "WHERE o.id = ? ORDER BY l.id";
+
+    private static final String FIND_STATUS_QUERY = "SELECT " + ORDER_COLUMNS + " FROM orders o WHERE o.id = ?";
+
+    private static final String FIND_PENDING_QUERY = "SELECT " + ORDER_COLUMNS + " FROM orders o "
+            + "WHERE o.status = ? AND o.order_date_time < ? ORDER BY o.id LIMIT ?";
+
+    private static final String UPDATE_STATUS_QUERY = "UPDATE orders "
+            + "SET status = ?, payment_id = ?, cancel_date_time = ?, updated_at = ?, version = version + 1 "
+            + "WHERE id = ? AND status = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final PooledSequenceAllocator orderIds;
+    private final PooledSequenceAllocator orderLineIds;
+    private final MultiRowInsert<Order> orderInsert;
+    private final MultiRowInsert<OrderLineRow> orderLineInsert;
+
+    public OrderJdbcAdapter(JdbcTemplate jdbcTemplate, ShardRouter shardRouter, OrderJdbcProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.orderIds = PooledSequenceAllocator.forEntity(jdbcTemplate, OrderJpaEntity.class, shardRouter.shardCount());
+        this.orderLineIds = PooledSequenceAllocator.forEntity(jdbcTemplate, OrderLineJpaEntity.class, shardRouter.shardCount());
+        this.orderInsert = new MultiRowInsert<>("orders", List.of("id", "member_id", "status", "payment_id",
+                "order_date_time", "cancel_date_time", "version", "created_at", "updated_at"),
+                properties.getMaxRowsPerStatement());
+        this.orderLineInsert = new MultiRowInsert<>("order_lines", List.of("id", "order_id", "product_id", "quantity"),
+                properties.getMaxRowsPerStatement());
+    }
+
+    @Override
+    public Order save(Order order) {
+        return saveAll(List.of(order)).get(0);
+    }
+
+    /**
+     * 샤딩 시 한 번에 저장하는 주문은 모두 같은 샤드의 회원이어야 한다 (OrderShardPort.groupByMember 로 나누어 호출)
+     */
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        int shard = shardRouter.shardOfMember(orders.get(0).getMemberId());
+        if (orders.stream().anyMatch(order -> shardRouter.shardOfMember(order.getMemberId()) != shard)) {
+            throw new IllegalArgumentException("한 번에 저장하는 주문은 같은 샤드의 회원이어야 합니다.");
+        }
+        return shardRouter.onShard(shard, () -> insert(orders));
+    }
+
+    private List<Order> insert(List<Order> orders) {
+        long[] sequences = orderIds.next(orders.size());
+        List<Order> saved = new ArrayList<>(orders.size());
+        int lineCount = 0;
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            long id = shardRouter.isEnabled()
+                    ? sequences[i] * ShardRing.BUCKETS + ShardRing.bucketOf(order.getMemberId())
+                    : sequences[i];
+            saved.add(withId(order, id));
+            lineCount += order.getOrderLines().size();
+        }
+
+        List<OrderLineRow> lines = new ArrayList<>(lineCount);
+        for (Order order : saved) {
+            for (OrderLine line : order.getOrderLines()) {
+                lines.add(new OrderLineRow(order.getId(), line.getProductId(), line.getQuantity()));
+            }
+        }
+        long[] lineIds = orderLineIds.next(lineCount);
+
+        LocalDateTime now = LocalDateTime.now();
+        orderInsert.execute(jdbcTemplate, saved, (statement, index, order, row) -> {
+            statement.setLong(index, order.getId());
+            statement.setLong(index + 1, order.getMemberId());
+            statement.setString(index + 2, order.getStatus().name());
+            statement.setString(index + 3, order.getPaymentId());
+            statement.setObject(index + 4, order.getOrderDateTime());
+            statement.setObject(index + 5, order.getCancelDateTime(), Types.TIMESTAMP);
+            statement.setLong(index + 6, 0L);
+            statement.setObject(index + 7, now);
+            statement.setObject(index + 8, now);
+        });
+        orderLineInsert.execute(jdbcTemplate, lines, (statement, index, line, row) -> {
+            statement.setLong(index, lineIds[row]);
+            statement.setLong(index + 1, line.orderId());
+            statement.setLong(index + 2, line.productId());
+            statement.setInt(index + 3, line.quantity());
+        });
+        return saved;
+    }
+
+    @Override
+    public Optional<Order> findById(Long orderId) {
+        return shardRouter.onOrder(orderId, () -> jdbcTemplate.query(FIND_BY_ID_QUERY,
+                (ResultSetExtractor<Optional<Order>>) OrderJdbcAdapter::mapOrderWithLines, orderId));
+    }
+
+    @Override
+    public Optional<Order> findStatusById(Long orderId) {
+        return shardRouter.onOrder(orderId, () -> jdbcTemplate.query(FIND_STATUS_QUERY,
+                (resultSet, rowNum) -> mapOrder(resultSet, List.of()), orderId).stream().findFirst());
+    }
+
+    /**
+     * 샤딩 시 현재 샤드만 조회 (복구 스케줄러가 샤드마다 호출)
+     */
+    @Override
+    public List<Order> findPendingOrdersBefore(LocalDateTime orderDateTime, int limit) {
+        Map<Long, Order> orders = new LinkedHashMap<>();
+        jdbcTemplate.query(FIND_PENDING_QUERY, resultSet -> {
+            Order order = mapOrder(resultSet, new ArrayList<>());
+            orders.put(order.getId(), order);
+        }, OrderStatus.PENDING.name(), orderDateTime, limit);
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(orders.size(), "?"));
+        jdbcTemplate.query("SELECT order_id, product_id, quantity FROM order_lines WHERE order_id IN (" + placeholders
+                + ") ORDER BY id", resultSet -> {
+            orders.get(resultSet.getLong(1)).getOrderLines()
+                    .add(OrderLine.of(resultSet.getLong(2), resultSet.getInt(3)));
+        }, orders.keySet().toArray());
+        return List.copyOf(orders.values());
+    }
+
+    /**
+     * JPA 어댑터의 벌크 UPDATE 와 같이 updated_at 과 version 을 직접 갱신
+     */
+    @Override
+    public boolean updateStatus(Order order, OrderStatus expectedStatus) {
+        return shardRouter.onOrder(order.getId(), () -> jdbcTemplate.update(UPDATE_STATUS_QUERY,
+                order.getStatus().name(),
+                order.getPaymentId(),
+                order.getCancelDateTime(),
+                LocalDateTime.now(),
+                order.getId(),
+                expectedStatus.name(),
+                order.getVersion()) == 1);
+    }
+
+    /**
+     * 주문 1행 + 주문상품 N행 (주문상품 순으로 정렬된 결과)
+     */
+    private static Optional<Order> mapOrderWithLines(ResultSet resultSet) throws SQLException {
+        if (!resultSet.next()) {
+            return Optional.empty();
+        }
+        List<OrderLine> lines = new ArrayList<>();
+        Order order = mapOrder(resultSet, lines);
+        do {
+            lines.add(OrderLine.of(resultSet.getLong("product_id"), resultSet.getInt("quantity")));
+        } while (resultSet.next());
+        return Optional.of(order);
+    }
+
+    private static Order mapOrder(ResultSet resultSet, List<OrderLine> lines) throws SQLException {
+        return Order.builder()
+                .id(resultSet.getLong("id"))
+                .memberId(resultSet.getLong("member_id"))
+                .orderLines(lines)
+                .status(OrderStatus.valueOf(resultSet.getString("status")))
+                .paymentId(resultSet.getString("payment_id"))
+                .orderDateTime(resultSet.getObject("order_date_time", LocalDateTime.class))
+                .cancelDateTime(resultSet.getObject("cancel_date_time", LocalDateTime.class))
+                .version(resultSet.getLong("version"))
+                .build();
+    }
+
+    /**
+     * 주문상품 목록은 복사하지 않고 입력 주문의 것을 그대로 사용
+     */
+    private static Order withId(Order order, long id) {
+        return Order.builder()
+                .id(id)
+                .memberId(order.getMemberId())
+                .orderLines(order.getOrderLines())
+                .status(order.getStatus())
+                .paymentId(order.getPaymentId())
+                .orderDateTime(order.getOrderDateTime())
+                .cancelDateTime(order.getCancelDateTime())
+                .version(0L)
+                .build();
+    }
+}
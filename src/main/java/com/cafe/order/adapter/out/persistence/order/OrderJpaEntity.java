@@ -1,6 +1,8 @@
 package com.cafe.order.adapter.out.persistence.order;
 
 import com.cafe.order.adapter.out.persistence.common.BaseJpaEntity;
+import com.cafe.order.adapter.out.persistence.routing.ShardKeyed;
+import com.cafe.order.adapter.out.persistence.routing.ShardedSequence;
 import com.cafe.order.domain.order.model.enums.OrderStatus;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -8,39 +10,58 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 회원 주문 내역 키셋 페이지네이션 (member_id 일치 + 최신순 정렬과 같은 방향으로 인덱스를 앞에서부터 범위 탐색)
+        @Index(name = "idx_orders_member_order_date_time_id", columnList = "member_id, order_date_time DESC, id DESC"),
+        // 기간별 주문 내보내기 (주문 일시 범위를 인덱스 순서대로 읽어 정렬 없이 커서로 스트리밍)
+        @Index(name = "idx_orders_order_date_time_id", columnList = "order_date_time, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
-public class OrderJpaEntity extends BaseJpaEntity {
+public class OrderJpaEntity extends BaseJpaEntity implements ShardKeyed {
 
+    // IDENTITY 는 INSERT 를 즉시 실행해 JDBC 배치가 꺼지므로 시퀀스를 50개 단위로 미리 할당(pooled)해 사용
+    // 샤딩 시 하위 10비트에 회원 버킷을 담아 주문 ID 만으로 샤드를 찾는다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardedSequence(name = "orders_seq", allocationSize = 50, encodeShardKey = true)
     private Long id;
 
     @Column(name = "member_id", nullable = false)
     private Long memberId;
 
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "order_id", nullable = false)
+    @JoinColumn(name = "order_id", nullable = false, updatable = false)
     private final List<OrderLineJpaEntity> orderLines = new ArrayList<>();
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private OrderStatus status;
 
-    @Column(nullable = false, length = 100)
+    @Column(length = 100)
     private String paymentId;
 
     @Column(nullable = false)
     private LocalDateTime orderDateTime;
 
     private LocalDateTime cancelDateTime;
+
+    // 낙관적 락: 갱신마다 1 증가 (벌크 UPDATE 도 직접 증가), 읽은 뒤 다른 요청이 먼저 갱신했으면 갱신하지 않는다
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    @Override
+    public Long shardKey() {
+        return memberId;
+    }
 }
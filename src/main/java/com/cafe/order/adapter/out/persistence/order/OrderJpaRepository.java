@@ -1,10 +1,19 @@
 package com.cafe.order.adapter.out.persistence.order;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +23,96 @@ public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, Long>
             "JOIN FETCH o.orderLines " +
             "WHERE o.id = :orderId")
     Optional<OrderJpaEntity> findByIdWithDetails(@Param("orderId") Long orderId);
+
+    @Query("SELECT new com.cafe.order.adapter.out.persistence.order.OrderStatusRow(" +
+            "o.id, o.memberId, o.status, o.paymentId, o.orderDateTime, o.cancelDateTime, o.version) " +
+            "FROM OrderJpaEntity o " +
+            "WHERE o.id = :orderId")
+    Optional<OrderStatusRow> findStatusRow(@Param("orderId") Long orderId);
+
+    List<OrderJpaEntity> findByStatusAndOrderDateTimeBeforeOrderByIdAsc(OrderStatus status,
+                                                                        LocalDateTime orderDateTime,
+                                                                        Limit limit);
+
+    @Query("SELECT new com.cafe.order.adapter.out.persistence.order.OrderHistoryRow(" +
+            "o.id, o.status, o.paymentId, o.orderDateTime, o.cancelDateTime) " +
+            "FROM OrderJpaEntity o " +
+            "WHERE o.memberId = :memberId " +
+            "ORDER BY o.memberId, o.orderDateTime DESC, o.id DESC")
+    List<OrderHistoryRow> findOrderHistory(@Param("memberId") Long memberId, Limit limit);
+
+    /**
+     * 키셋 조건: (orderDateTime, id) < (:orderDateTime, :orderId)
+     * 앞의 orderDateTime <= 조건이 (member_id, order_date_time, id) 인덱스의 범위 탐색 시작점이 되고,
+     * 같은 주문일시 안에서는 id 로 이어서 읽는다.
+     * ORDER BY 의 memberId 는 결과에 영향이 없지만, 정렬 컬럼이 인덱스 앞부분과 같아야 정렬 없이 인덱스 순서대로 읽고
+     * LIMIT 에서 멈추는 DB(H2 등)가 있어 함께 둔다.
+     */
+    @Query("SELECT new com.cafe.order.adapter.out.persistence.order.OrderHistoryRow(" +
+            "o.id, o.status, o.paymentId, o.orderDateTime, o.cancelDateTime) " +
+            "FROM OrderJpaEntity o " +
+            "WHERE o.memberId = :memberId " +
+            "AND o.orderDateTime <= :orderDateTime " +
+            "AND (o.orderDateTime < :orderDateTime OR o.id < :orderId) " +
+            "ORDER BY o.memberId, o.orderDateTime DESC, o.id DESC")
+    List<OrderHistoryRow> findOrderHistoryAfter(@Param("memberId") Long memberId,
+                                                @Param("orderDateTime") LocalDateTime orderDateTime,
+                                                @Param("orderId") Long orderId,
+                                                Limit limit);
+
+    @Query("SELECT new com.cafe.order.adapter.out.persistence.order.OrderLineRow(l.orderId, l.productId, l.quantity) " +
+            "FROM OrderLineJpaEntity l " +
+            "WHERE l.orderId IN :orderIds " +
+            "ORDER BY l.id")
+    List<OrderLineRow> findOrderLineRows(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 보관 대상 주문 (주문 ID 순 키셋)
+     * 오래된 주문일수록 ID 가 작으므로 PK 순으로 읽으면 보관 대상이 앞쪽에 모여 있다.
+     */
+    @Query("SELECT new com.cafe.order.adapter.out.persistence.order.OrderArchiveRow(" +
+            "o.id, o.memberId, o.status, o.paymentId, o.orderDateTime, o.cancelDateTime, o.updatedAt) " +
+            "FROM OrderJpaEntity o " +
+            "WHERE o.id > :afterId AND o.orderDateTime < :orderedBefore AND o.status <> :excludedStatus " +
+            "ORDER BY o.id")
+    List<OrderArchiveRow> findArchivableRows(@Param("afterId") Long afterId,
+                                             @Param("orderedBefore") LocalDateTime orderedBefore,
+                                             @Param("excludedStatus") OrderStatus excludedStatus,
+                                             Limit limit);
+
+    /**
+     * 주문 ID 구간 (afterId, lastId] 의 주문상품 (order_id 인덱스 범위 탐색)
+     */
+    @Query("SELECT new com.cafe.order.adapter.out.persistence.order.OrderLineRow(l.orderId, l.productId, l.quantity) " +
+            "FROM OrderLineJpaEntity l " +
+            "WHERE l.orderId > :afterId AND l.orderId <= :lastId " +
+            "ORDER BY l.id")
+    List<OrderLineRow> findOrderLineRowsBetween(@Param("afterId") Long afterId, @Param("lastId") Long lastId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.cafe.order.adapter.out.persistence.order.OrderVersionRow(o.id, o.updatedAt) " +
+            "FROM OrderJpaEntity o " +
+            "WHERE o.id IN :orderIds")
+    List<OrderVersionRow> findVersionsForUpdate(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OrderLineJpaEntity l WHERE l.orderId IN :orderIds")
+    int deleteOrderLinesByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM OrderJpaEntity o WHERE o.id IN :orderIds")
+    int deleteOrdersByIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OrderJpaEntity o " +
+            "SET o.status = :status, o.paymentId = :paymentId, o.cancelDateTime = :cancelDateTime, o.updatedAt = :updatedAt, " +
+            "o.version = o.version + 1 " +
+            "WHERE o.id = :orderId AND o.status = :expectedStatus AND o.version = :version")
+    int updateStatus(@Param("orderId") Long orderId,
+                     @Param("version") Long version,
+                     @Param("expectedStatus") OrderStatus expectedStatus,
+                     @Param("status") OrderStatus status,
+                     @Param("paymentId") String paymentId,
+                     @Param("cancelDateTime") LocalDateTime cancelDateTime,
+                     @Param("updatedAt") LocalDateTime updatedAt);
 }
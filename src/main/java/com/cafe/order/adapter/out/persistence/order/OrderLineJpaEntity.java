@@ -1,10 +1,14 @@
 package com.cafe.order.adapter.out.persistence.order;
 
+import com.cafe.order.adapter.out.persistence.routing.ShardedSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "order_lines")
+@Table(name = "order_lines", indexes = {
+        // 주문 내역 페이지의 주문상품을 order_id IN (...) 한 번으로 조회
+        @Index(name = "idx_order_lines_order_id", columnList = "order_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -12,7 +16,7 @@ import lombok.*;
 public class OrderLineJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardedSequence(name = "order_lines_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "order_id", nullable = false, insertable = false, updatable = false)
@@ -0,0 +1,11 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+/**
+ * 주문 내역 페이지의 주문상품 일괄 조회 프로젝션
+ */
+public record OrderLineRow(
+    Long orderId,
+    Long productId,
+    Integer quantity
+) {
+}
@@ -1,10 +1,15 @@
 package com.cafe.order.adapter.out.persistence.order;
 
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
 import com.cafe.order.application.port.out.order.OrderPort;
 import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -13,17 +18,75 @@ public class OrderPersistenceAdapter implements OrderPort {
 
     private final OrderJpaRepository orderJpaRepository;
     private final OrderPersistenceMapper orderPersistenceMapper;
+    private final ShardRouter shardRouter;
 
     @Override
     public Order save(Order order) {
-        OrderJpaEntity entity = orderPersistenceMapper.toEntity(order);
-        OrderJpaEntity savedEntity = orderJpaRepository.save(entity);
-        return orderPersistenceMapper.toDomain(savedEntity);
+        return shardRouter.onMember(order.getMemberId(), () -> {
+            OrderJpaEntity entity = orderPersistenceMapper.toEntity(order);
+            OrderJpaEntity savedEntity = orderJpaRepository.save(entity);
+            return orderPersistenceMapper.toDomain(savedEntity);
+        });
+    }
+
+    /**
+     * 샤딩 시 한 번에 저장하는 주문은 모두 같은 샤드의 회원이어야 한다 (OrderShardPort.groupByMember 로 나누어 호출)
+     */
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        int shard = shardRouter.shardOfMember(orders.get(0).getMemberId());
+        if (orders.stream().anyMatch(order -> shardRouter.shardOfMember(order.getMemberId()) != shard)) {
+            throw new IllegalArgumentException("한 번에 저장하는 주문은 같은 샤드의 회원이어야 합니다.");
+        }
+        return shardRouter.onShard(shard, () -> {
+            List<OrderJpaEntity> entities = orders.stream()
+                    .map(orderPersistenceMapper::toEntity)
+                    .toList();
+            return orderJpaRepository.saveAll(entities).stream()
+                    .map(orderPersistenceMapper::toDomain)
+                    .toList();
+        });
     }
 
     @Override
     public Optional<Order> findById(Long orderId) {
-        return orderJpaRepository.findByIdWithDetails(orderId)
-                .map(orderPersistenceMapper::toDomain);
+        return shardRouter.onOrder(orderId, () -> orderJpaRepository.findByIdWithDetails(orderId)
+                .map(orderPersistenceMapper::toDomain));
+    }
+
+    @Override
+    public Optional<Order> findStatusById(Long orderId) {
+        return shardRouter.onOrder(orderId, () -> orderJpaRepository.findStatusRow(orderId)
+                .map(orderPersistenceMapper::toDomain));
+    }
+
+    /**
+     * 샤딩 시 현재 샤드만 조회 (복구 스케줄러가 샤드마다 호출)
+     */
+    @Override
+    public List<Order> findPendingOrdersBefore(LocalDateTime orderDateTime, int limit) {
+        return orderJpaRepository.findByStatusAndOrderDateTimeBeforeOrderByIdAsc(
+                        OrderStatus.PENDING, orderDateTime, Limit.of(limit))
+                .stream()
+                .map(orderPersistenceMapper::toDomain)
+                .toList();
+    }
+
+    /**
+     * 벌크 UPDATE 는 감사(auditing) 리스너와 @Version 처리를 거치지 않으므로 updated_at 과 version 을 직접 갱신
+     */
+    @Override
+    public boolean updateStatus(Order order, OrderStatus expectedStatus) {
+        return shardRouter.onOrder(order.getId(), () -> orderJpaRepository.updateStatus(
+                order.getId(),
+                order.getVersion(),
+                expectedStatus,
+                order.getStatus(),
+                order.getPaymentId(),
+                order.getCancelDateTime(),
+                LocalDateTime.now()) == 1);
     }
 }
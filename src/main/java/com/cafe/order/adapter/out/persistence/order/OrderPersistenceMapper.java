@@ -20,6 +20,7 @@ public class OrderPersistenceMapper {
                 .paymentId(order.getPaymentId())
                 .orderDateTime(order.getOrderDateTime())
                 .cancelDateTime(order.getCancelDateTime())
+                .version(order.getVersion())
                 .build();
 
         List<OrderLineJpaEntity> orderLineEntities = order.getOrderLines().stream()
@@ -35,6 +36,22 @@ public class OrderPersistenceMapper {
         return orderEntity;
     }
 
+    /**
+     * 주문상품 없이 상태 전이에 필요한 값만 담은 주문 (orderLines 는 빈 목록)
+     */
+    public Order toDomain(OrderStatusRow row) {
+        return Order.builder()
+                .id(row.orderId())
+                .memberId(row.memberId())
+                .orderLines(List.of())
+                .status(row.status())
+                .paymentId(row.paymentId())
+                .orderDateTime(row.orderDateTime())
+                .cancelDateTime(row.cancelDateTime())
+                .version(row.version())
+                .build();
+    }
+
     public Order toDomain(OrderJpaEntity entity) {
         List<OrderLine> orderLines = entity.getOrderLines().stream()
                 .map(lineEntity -> OrderLine.builder()
@@ -51,6 +68,7 @@ public class OrderPersistenceMapper {
                 .paymentId(entity.getPaymentId())
                 .orderDateTime(entity.getOrderDateTime())
                 .cancelDateTime(entity.getCancelDateTime())
+                .version(entity.getVersion())
                 .build();
     }
 }
\ No newline at end of file
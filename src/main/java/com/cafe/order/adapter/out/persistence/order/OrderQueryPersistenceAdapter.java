@@ -0,0 +1,56 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
+import com.cafe.order.application.port.in.order.query.OrderHistoryCursor;
+import com.cafe.order.application.port.in.order.query.OrderSummary;
+import com.cafe.order.application.port.out.order.OrderQueryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 내역 조회 어댑터
+ * 주문은 키셋 조건으로 한 페이지만, 주문상품은 해당 페이지의 주문 ID 로 한 번에 조회해 페이지당 쿼리 2개로 고정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderQueryPersistenceAdapter implements OrderQueryPort {
+
+    private final OrderJpaRepository orderJpaRepository;
+    private final ShardRouter shardRouter;
+
+    @Override
+    public List<OrderSummary> findOrderHistory(Long memberId, OrderHistoryCursor cursor, int limit) {
+        return shardRouter.onMember(memberId, () -> findOrderHistoryOnShard(memberId, cursor, limit));
+    }
+
+    private List<OrderSummary> findOrderHistoryOnShard(Long memberId, OrderHistoryCursor cursor, int limit) {
+        List<OrderHistoryRow> orders = cursor == null
+                ? orderJpaRepository.findOrderHistory(memberId, Limit.of(limit))
+                : orderJpaRepository.findOrderHistoryAfter(memberId, cursor.orderDateTime(), cursor.orderId(), Limit.of(limit));
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<OrderSummary.Line>> orderLines = orderJpaRepository.findOrderLineRows(
+                        orders.stream().map(OrderHistoryRow::orderId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(
+                        OrderLineRow::orderId,
+                        Collectors.mapping(line -> new OrderSummary.Line(line.productId(), line.quantity()), Collectors.toList())));
+
+        return orders.stream()
+                .map(order -> new OrderSummary(
+                        order.orderId(),
+                        order.status(),
+                        order.paymentId(),
+                        order.orderDateTime(),
+                        order.cancelDateTime(),
+                        orderLines.getOrDefault(order.orderId(), List.of())))
+                .toList();
+    }
+}
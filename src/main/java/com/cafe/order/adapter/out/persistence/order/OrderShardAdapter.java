@@ -0,0 +1,53 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.adapter.out.persistence.routing.ShardRebalancer;
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
+import com.cafe.order.application.port.out.order.OrderShardPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+@Component
+@RequiredArgsConstructor
+public class OrderShardAdapter implements OrderShardPort {
+
+    private final ShardRouter shardRouter;
+    private final ObjectProvider<ShardRebalancer> shardRebalancer;
+
+    @Override
+    public <T> List<List<T>> groupByMember(List<T> items, ToLongFunction<T> memberId) {
+        return shardRouter.groupByMember(items, memberId);
+    }
+
+    @Override
+    public <T> T onMemberShard(Long memberId, Supplier<T> action) {
+        return shardRouter.onMember(memberId, action);
+    }
+
+    @Override
+    public void forEachShard(Runnable action) {
+        shardRouter.forEachShard(action);
+    }
+
+    /**
+     * 재배치는 샤딩이 켜져 있을 때만 등록되는 ShardRebalancer 가 수행한다
+     */
+    @Override
+    public long rebalance(List<String> previousNodes) {
+        ShardRebalancer rebalancer = shardRebalancer.getIfAvailable();
+        if (rebalancer == null) {
+            throw new IllegalStateException("샤드 재배치는 datasource.shard.enabled=true 에서만 실행할 수 있습니다.");
+        }
+        try {
+            return rebalancer.rebalance(previousNodes);
+        } catch (SQLException e) {
+            throw new UncategorizedSQLException("샤드 재배치", null, e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 전이용 프로젝션 (주문상품을 로딩하지 않는 JPQL 생성자 표현식 대상)
+ */
+public record OrderStatusRow(
+    Long orderId,
+    Long memberId,
+    OrderStatus status,
+    String paymentId,
+    LocalDateTime orderDateTime,
+    LocalDateTime cancelDateTime,
+    Long version
+) {
+}
@@ -0,0 +1,12 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 ID 와 버전(updated_at) 프로젝션
+ */
+public record OrderVersionRow(
+    Long orderId,
+    LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,12 @@
+package com.cafe.order.adapter.out.persistence.order.archive;
+
+import com.cafe.order.domain.order.model.Order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 주문과 보관 시점의 버전(orders.updated_at)
+ * 같은 주문이 DB 와 보관 파일 양쪽에 남았을 때 같은 버전인지 비교하는 데 사용한다.
+ */
+record ArchivedOrder(Order order, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,140 @@
+package com.cafe.order.adapter.out.persistence.order.archive;
+
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관 레코드 인코딩
+ * [int 길이][long 주문 ID][long 회원 ID][상태][결제 ID?][주문일시][취소일시?][버전?][int 주문상품 수][long 상품 ID, int 수량]...
+ * 길이 접두사와 맨 앞의 주문 ID 만 읽으면 나머지를 해석하지 않고 다음 레코드로 건너뛸 수 있다.
+ */
+final class OrderArchiveCodec {
+
+    static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+
+    private OrderArchiveCodec() {
+    }
+
+    /**
+     * 길이 접두사를 제외한 레코드 본문을 기록
+     */
+    static void write(DataOutputStream out, ArchivedOrder archivedOrder) throws IOException {
+        Order order = archivedOrder.order();
+        out.writeLong(order.getId());
+        out.writeLong(order.getMemberId());
+        writeString(out, order.getStatus().name());
+        writeNullableString(out, order.getPaymentId());
+        writeDateTime(out, order.getOrderDateTime());
+        writeNullableDateTime(out, order.getCancelDateTime());
+        writeNullableDateTime(out, archivedOrder.updatedAt());
+
+        List<OrderLine> orderLines = order.getOrderLines();
+        out.writeInt(orderLines.size());
+        for (OrderLine orderLine : orderLines) {
+            out.writeLong(orderLine.getProductId());
+            out.writeInt(orderLine.getQuantity());
+        }
+    }
+
+    /**
+     * 현재 위치의 레코드 본문을 해석 (위치는 레코드 끝으로 이동)
+     */
+    static ArchivedOrder read(ByteBuffer buffer) {
+        long orderId = buffer.getLong();
+        long memberId = buffer.getLong();
+        OrderStatus status = OrderStatus.valueOf(readString(buffer));
+        String paymentId = readNullableString(buffer);
+        LocalDateTime orderDateTime = readDateTime(buffer);
+        LocalDateTime cancelDateTime = readNullableDateTime(buffer);
+        LocalDateTime updatedAt = readNullableDateTime(buffer);
+
+        int lineCount = buffer.getInt();
+        List<OrderLine> orderLines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            orderLines.add(OrderLine.builder()
+                    .productId(buffer.getLong())
+                    .quantity(buffer.getInt())
+                    .build());
+        }
+
+        Order order = Order.builder()
+                .id(orderId)
+                .memberId(memberId)
+                .orderLines(orderLines)
+                .status(status)
+                .paymentId(paymentId)
+                .orderDateTime(orderDateTime)
+                .cancelDateTime(cancelDateTime)
+                .build();
+        return new ArchivedOrder(order, updatedAt);
+    }
+
+    /**
+     * 레코드 본문 맨 앞의 주문 ID (위치는 이동하지 않음)
+     */
+    static long peekOrderId(ByteBuffer buffer) {
+        return buffer.getLong(buffer.position());
+    }
+
+    /**
+     * 레코드 본문 앞쪽의 회원 ID (위치는 이동하지 않음)
+     */
+    static long peekMemberId(ByteBuffer buffer) {
+        return buffer.getLong(buffer.position() + Long.BYTES);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(out, value);
+        }
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static void writeNullableDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeDateTime(out, value);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readNullableString(ByteBuffer buffer) {
+        return buffer.get() != 0 ? readString(buffer) : null;
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime readNullableDateTime(ByteBuffer buffer) {
+        return buffer.get() != 0 ? readDateTime(buffer) : null;
+    }
+}
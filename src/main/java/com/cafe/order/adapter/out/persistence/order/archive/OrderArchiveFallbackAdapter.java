@@ -0,0 +1,106 @@
+package com.cafe.order.adapter.out.persistence.order.archive;
+
+import com.cafe.order.adapter.out.persistence.order.OrderJdbcAdapter;
+import com.cafe.order.adapter.out.persistence.order.OrderJpaRepository;
+import com.cafe.order.adapter.out.persistence.order.OrderPersistenceAdapter;
+import com.cafe.order.application.port.out.order.OrderPort;
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.ErrorCode;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주문 조회 시 보관 저장소까지 이어서 조회 (OrderPort 데코레이터)
+ * DB 에 없는 주문만 보관 파일에서 찾으므로 최근 주문 조회 경로는 그대로다.
+ * 보관된 주문은 읽기 전용이며, 상태 변경을 시도하면 ORDER_ARCHIVED 로 거절한다.
+ * DB 조회/저장은 OrderPersistenceAdapter (JDBC 쓰기 경로를 켜면 OrderJdbcAdapter) 에 맡긴다.
+ * 주문 저널(order.journal)을 켜면 OrderJournalAdapter 를 대신 사용한다.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "order.journal", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class OrderArchiveFallbackAdapter implements OrderPort {
+
+    private final OrderPort databaseAdapter;
+    private final OrderJpaRepository orderJpaRepository;
+    private final OrderArchiveStore orderArchiveStore;
+    private final Timer archiveLookupTimer;
+
+    public OrderArchiveFallbackAdapter(OrderPersistenceAdapter orderPersistenceAdapter,
+                                       ObjectProvider<OrderJdbcAdapter> orderJdbcAdapter,
+                                       OrderJpaRepository orderJpaRepository,
+                                       OrderArchiveStore orderArchiveStore,
+                                       MeterRegistry meterRegistry) {
+        OrderJdbcAdapter jdbcAdapter = orderJdbcAdapter.getIfAvailable();
+        this.databaseAdapter = jdbcAdapter != null ? jdbcAdapter : orderPersistenceAdapter;
+        this.orderJpaRepository = orderJpaRepository;
+        this.orderArchiveStore = orderArchiveStore;
+        this.archiveLookupTimer = Timer.builder("order.archive.lookup")
+                .description("DB 에 없는 주문의 보관 파일 조회 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Order save(Order order) {
+        return databaseAdapter.save(order);
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        return databaseAdapter.saveAll(orders);
+    }
+
+    @Override
+    public Optional<Order> findById(Long orderId) {
+        Optional<Order> order = databaseAdapter.findById(orderId);
+        if (order.isPresent()) {
+            return order;
+        }
+        return archiveLookupTimer.record(() -> orderArchiveStore.findById(orderId).map(ArchivedOrder::order));
+    }
+
+    /**
+     * 보관된 주문은 상태 전이 시 ORDER_ARCHIVED 로 거절되도록 findById 와 같이 보관 저장소까지 조회
+     */
+    @Override
+    public Optional<Order> findStatusById(Long orderId) {
+        Optional<Order> order = databaseAdapter.findStatusById(orderId);
+        if (order.isPresent()) {
+            return order;
+        }
+        return archiveLookupTimer.record(() -> orderArchiveStore.findById(orderId).map(ArchivedOrder::order));
+    }
+
+    /**
+     * PENDING 주문은 보관하지 않으므로 DB 만 조회
+     */
+    @Override
+    public List<Order> findPendingOrdersBefore(LocalDateTime orderDateTime, int limit) {
+        return databaseAdapter.findPendingOrdersBefore(orderDateTime, limit);
+    }
+
+    /**
+     * 보관 파일에서 조회한 주문은 DB 에 행이 없어 갱신되지 않으므로, 동시 변경과 구분해 보관된 주문임을 알린다.
+     */
+    @Override
+    public boolean updateStatus(Order order, OrderStatus expectedStatus) {
+        if (databaseAdapter.updateStatus(order, expectedStatus)) {
+            return true;
+        }
+        if (!orderJpaRepository.existsById(order.getId()) && orderArchiveStore.findById(order.getId()).isPresent()) {
+            throw new BizException(ErrorCode.ORDER_ARCHIVED);
+        }
+        return false;
+    }
+}
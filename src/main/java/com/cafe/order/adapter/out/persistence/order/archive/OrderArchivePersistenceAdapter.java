@@ -0,0 +1,187 @@
+package com.cafe.order.adapter.out.persistence.order.archive;
+
+import com.cafe.order.adapter.out.persistence.order.OrderArchiveRow;
+import com.cafe.order.adapter.out.persistence.order.OrderJpaRepository;
+import com.cafe.order.adapter.out.persistence.order.OrderLineRow;
+import com.cafe.order.adapter.out.persistence.order.OrderVersionRow;
+import com.cafe.order.application.port.out.order.OrderArchivePort;
+import com.cafe.order.config.OrderArchiveProperties;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 오래된 주문을 보관 파일로 옮기는 어댑터
+ * 1) 보관 대상을 주문 ID 순으로 청크 단위로 읽어 보관 파일(임시)에 이어 쓰고
+ * 2) 보관 파일을 디스크에 기록한 뒤 조회 대상에 등록하고
+ * 3) 그 다음에 청크 단위 트랜잭션으로 DB 에서 삭제한다.
+ * 2) 와 3) 사이에 중단되면 주문이 양쪽에 남는데, 조회는 DB 를 먼저 보므로 결과가 같고,
+ * 다음 실행에서 같은 버전이 이미 보관되어 있으면 다시 쓰지 않고 삭제만 한다.
+ */
+@Slf4j
+@Component
+public class OrderArchivePersistenceAdapter implements OrderArchivePort {
+
+    private final OrderJpaRepository orderJpaRepository;
+    private final OrderArchiveStore orderArchiveStore;
+    private final OrderArchiveProperties orderArchiveProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archivedCounter;
+
+    public OrderArchivePersistenceAdapter(OrderJpaRepository orderJpaRepository,
+                                          OrderArchiveStore orderArchiveStore,
+                                          OrderArchiveProperties orderArchiveProperties,
+                                          TransactionTemplate transactionTemplate,
+                                          MeterRegistry meterRegistry) {
+        this.orderJpaRepository = orderJpaRepository;
+        this.orderArchiveStore = orderArchiveStore;
+        this.orderArchiveProperties = orderArchiveProperties;
+        this.transactionTemplate = transactionTemplate;
+        this.archivedCounter = Counter.builder("order.archive.archived")
+                .description("보관 파일로 옮기고 DB 에서 삭제한 주문 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int archiveOrders(LocalDateTime orderedBefore, int maxOrders) {
+        long hotOrdersBefore = orderJpaRepository.count();
+
+        Map<Long, LocalDateTime> archivedVersions = writeSegment(orderedBefore, maxOrders);
+        int deleted = deleteArchived(archivedVersions);
+        archivedCounter.increment(deleted);
+
+        if (!archivedVersions.isEmpty()) {
+            long hotOrdersAfter = orderJpaRepository.count();
+            log.info("주문 보관 완료: orderedBefore={}, archived={}, hotOrders={} -> {} ({}% 감소), archive={} orders / {} bytes",
+                    orderedBefore, deleted, hotOrdersBefore, hotOrdersAfter,
+                    hotOrdersBefore == 0 ? 0 : (hotOrdersBefore - hotOrdersAfter) * 100 / hotOrdersBefore,
+                    orderArchiveStore.recordCount(), orderArchiveStore.sizeBytes());
+        }
+        return deleted;
+    }
+
+    /**
+     * 보관 파일에 기록(또는 이미 같은 버전이 보관되어 있음을 확인)한 주문의 ID 와 버전
+     */
+    private Map<Long, LocalDateTime> writeSegment(LocalDateTime orderedBefore, int maxOrders) {
+        Map<Long, LocalDateTime> archivedVersions = new LinkedHashMap<>();
+        try (OrderArchiveSegmentWriter writer = orderArchiveStore.newSegmentWriter()) {
+            long afterId = 0;
+            while (archivedVersions.size() < maxOrders) {
+                int limit = Math.min(orderArchiveProperties.getChunkSize(), maxOrders - archivedVersions.size());
+                List<ArchivedOrder> chunk = loadChunk(orderedBefore, afterId, limit);
+
+                for (ArchivedOrder archivedOrder : chunk) {
+                    if (!isAlreadyArchived(archivedOrder)) {
+                        writer.append(archivedOrder);
+                    }
+                    archivedVersions.put(archivedOrder.order().getId(), archivedOrder.updatedAt());
+                }
+
+                if (chunk.size() < limit) {
+                    break;
+                }
+                afterId = chunk.get(chunk.size() - 1).order().getId();
+            }
+
+            if (writer.recordCount() > 0) {
+                Path segmentFile = writer.finish();
+                orderArchiveStore.register(segmentFile);
+                log.info("주문 보관 파일 기록: file={}, orders={}", segmentFile, writer.recordCount());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 보관 파일 기록 실패", e);
+        }
+        return archivedVersions;
+    }
+
+    /**
+     * 엔티티를 로딩하지 않고 주문/주문상품 프로젝션 쿼리 2개로 한 청크를 읽는다.
+     * 보관 직전 상태를 프라이머리에서 읽도록 쓰기 트랜잭션으로 조회 (레플리카 지연으로 이전 상태를 보관하지 않도록)
+     */
+    private List<ArchivedOrder> loadChunk(LocalDateTime orderedBefore, long afterId, int limit) {
+        return transactionTemplate.execute(status -> {
+            List<OrderArchiveRow> orders = orderJpaRepository.findArchivableRows(
+                    afterId, orderedBefore, OrderStatus.PENDING, Limit.of(limit));
+            if (orders.isEmpty()) {
+                return List.of();
+            }
+
+            Map<Long, List<OrderLine>> orderLines = orderJpaRepository.findOrderLineRowsBetween(
+                            afterId, orders.get(orders.size() - 1).orderId())
+                    .stream()
+                    .collect(Collectors.groupingBy(
+                            OrderLineRow::orderId,
+                            Collectors.mapping(line -> OrderLine.builder()
+                                    .productId(line.productId())
+                                    .quantity(line.quantity())
+                                    .build(), Collectors.toList())));
+
+            return orders.stream()
+                    .map(row -> new ArchivedOrder(Order.builder()
+                            .id(row.orderId())
+                            .memberId(row.memberId())
+                            .orderLines(orderLines.getOrDefault(row.orderId(), List.of()))
+                            .status(row.status())
+                            .paymentId(row.paymentId())
+                            .orderDateTime(row.orderDateTime())
+                            .cancelDateTime(row.cancelDateTime())
+                            .build(), row.updatedAt()))
+                    .toList();
+        });
+    }
+
+    private boolean isAlreadyArchived(ArchivedOrder archivedOrder) {
+        return orderArchiveStore.findById(archivedOrder.order().getId())
+                .map(existing -> Objects.equals(existing.updatedAt(), archivedOrder.updatedAt()))
+                .orElse(false);
+    }
+
+    private int deleteArchived(Map<Long, LocalDateTime> archivedVersions) {
+        List<Long> orderIds = new ArrayList<>(archivedVersions.keySet());
+        int chunkSize = orderArchiveProperties.getChunkSize();
+        int deleted = 0;
+        for (int from = 0; from < orderIds.size(); from += chunkSize) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + chunkSize, orderIds.size()));
+            deleted += transactionTemplate.execute(status -> deleteChunk(chunk, archivedVersions));
+        }
+        return deleted;
+    }
+
+    /**
+     * 읽은 뒤 상태가 바뀐 주문(updated_at 이 다름)은 최신 상태가 DB 에만 있으므로 남겨 두고 다음 실행에서 다시 보관한다.
+     * 비교와 삭제 사이에 상태가 바뀌지 않도록 행 잠금을 잡은 뒤 비교한다.
+     */
+    private int deleteChunk(List<Long> orderIds, Map<Long, LocalDateTime> archivedVersions) {
+        List<Long> unchanged = orderJpaRepository.findVersionsForUpdate(orderIds).stream()
+                .filter(row -> Objects.equals(row.updatedAt(), archivedVersions.get(row.orderId())))
+                .map(OrderVersionRow::orderId)
+                .toList();
+        if (unchanged.size() < orderIds.size()) {
+            log.info("보관 이후 변경된 주문은 삭제하지 않음: count={}", orderIds.size() - unchanged.size());
+        }
+        if (unchanged.isEmpty()) {
+            return 0;
+        }
+
+        orderJpaRepository.deleteOrderLinesByOrderIdIn(unchanged);
+        return orderJpaRepository.deleteOrdersByIdIn(unchanged);
+    }
+}
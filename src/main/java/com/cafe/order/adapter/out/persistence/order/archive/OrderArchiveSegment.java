@@ -0,0 +1,216 @@
+package com.cafe.order.adapter.out.persistence.order.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 보관 파일(세그먼트) 하나의 읽기 전용 뷰
+ * 파일 전체를 메모리 매핑하고 인덱스도 매핑된 영역에서 바로 이진 탐색하므로, 보관된 주문 수와 관계없이 힙을 거의 쓰지 않는다.
+ *
+ * <pre>
+ * [헤더]        int MAGIC, int VERSION
+ * [데이터 블록]  blockSize 개 레코드(주문 ID 오름차순)를 Deflate 로 압축한 블록의 나열
+ * [블록 인덱스]  블록마다 long 첫 주문 ID, long 오프셋, int 압축 길이, int 원본 길이 (희소 주문 ID 인덱스)
+ * [회원 인덱스]  (long 회원 ID, int 블록 번호) 를 회원 ID 순으로 정렬 (회원의 주문이 들어 있는 블록 목록)
+ * [트레일러]     인덱스 위치/개수, 레코드 수, 주문 ID 범위, 최신 주문일시, VERSION, MAGIC
+ * </pre>
+ */
+final class OrderArchiveSegment {
+
+    static final int MAGIC = 0x4F415243; // "OARC"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+    static final int BLOCK_ENTRY_SIZE = 2 * Long.BYTES + 2 * Integer.BYTES;
+    static final int MEMBER_ENTRY_SIZE = Long.BYTES + Integer.BYTES;
+    static final int TRAILER_SIZE = 5 * Long.BYTES + 6 * Integer.BYTES;
+
+    private final Path path;
+    private final long sequence;
+    private final MappedByteBuffer buffer;
+    private final int blockIndexOffset;
+    private final int blockCount;
+    private final int memberIndexOffset;
+    private final int memberEntryCount;
+    private final int recordCount;
+    private final long minOrderId;
+    private final long maxOrderId;
+    private final LocalDateTime maxOrderDateTime;
+
+    private OrderArchiveSegment(Path path, long sequence, MappedByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.sequence = sequence;
+        this.buffer = buffer;
+
+        int size = buffer.capacity();
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(size - Integer.BYTES) != MAGIC) {
+            throw new IOException("보관 파일 형식이 아닙니다: " + path);
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION || buffer.getInt(size - 2 * Integer.BYTES) != VERSION) {
+            throw new IOException("지원하지 않는 보관 파일 버전입니다: " + path);
+        }
+
+        ByteBuffer trailer = buffer.slice(size - TRAILER_SIZE, TRAILER_SIZE);
+        this.blockIndexOffset = (int) trailer.getLong();
+        this.blockCount = trailer.getInt();
+        this.memberIndexOffset = (int) trailer.getLong();
+        this.memberEntryCount = trailer.getInt();
+        this.recordCount = trailer.getInt();
+        this.minOrderId = trailer.getLong();
+        this.maxOrderId = trailer.getLong();
+        this.maxOrderDateTime = LocalDateTime.ofEpochSecond(trailer.getLong(), trailer.getInt(), ZoneOffset.UTC);
+    }
+
+    static OrderArchiveSegment open(Path path, long sequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + TRAILER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("보관 파일 형식이 아닙니다: " + path);
+            }
+            // 매핑은 채널을 닫은 뒤에도 유지된다
+            return new OrderArchiveSegment(path, sequence, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * 블록 인덱스에서 주문 ID 가 들어 있을 블록을 찾아 그 블록만 압축 해제
+     */
+    Optional<ArchivedOrder> findById(long orderId) {
+        if (orderId < minOrderId || orderId > maxOrderId) {
+            return Optional.empty();
+        }
+
+        ByteBuffer records = readBlock(floorBlock(orderId));
+        while (records.hasRemaining()) {
+            int length = records.getInt();
+            long currentOrderId = OrderArchiveCodec.peekOrderId(records);
+            if (currentOrderId == orderId) {
+                return Optional.of(OrderArchiveCodec.read(records));
+            }
+            if (currentOrderId > orderId) {
+                break;
+            }
+            records.position(records.position() + length);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 회원 인덱스에서 회원의 주문이 들어 있는 블록만 압축 해제
+     */
+    List<ArchivedOrder> findByMemberId(long memberId) {
+        List<ArchivedOrder> orders = new ArrayList<>();
+        for (int entry = lowerBoundMember(memberId); entry < memberEntryCount && memberIdAt(entry) == memberId; entry++) {
+            ByteBuffer records = readBlock(buffer.getInt(memberIndexOffset + entry * MEMBER_ENTRY_SIZE + Long.BYTES));
+            while (records.hasRemaining()) {
+                int length = records.getInt();
+                if (OrderArchiveCodec.peekMemberId(records) == memberId) {
+                    orders.add(OrderArchiveCodec.read(records));
+                } else {
+                    records.position(records.position() + length);
+                }
+            }
+        }
+        return orders;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    int recordCount() {
+        return recordCount;
+    }
+
+    long sizeBytes() {
+        return buffer.capacity();
+    }
+
+    LocalDateTime maxOrderDateTime() {
+        return maxOrderDateTime;
+    }
+
+    /**
+     * 첫 주문 ID 가 orderId 이하인 마지막 블록
+     */
+    private int floorBlock(long orderId) {
+        int low = 0;
+        int high = blockCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (buffer.getLong(blockIndexOffset + mid * BLOCK_ENTRY_SIZE) <= orderId) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 회원 ID 가 memberId 이상인 첫 회원 인덱스 항목
+     */
+    private int lowerBoundMember(long memberId) {
+        int low = 0;
+        int high = memberEntryCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (memberIdAt(mid) < memberId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private long memberIdAt(int entry) {
+        return buffer.getLong(memberIndexOffset + entry * MEMBER_ENTRY_SIZE);
+    }
+
+    /**
+     * 매핑된 영역을 복사하지 않고 바로 Inflater 입력으로 사용
+     */
+    private ByteBuffer readBlock(int block) {
+        int entry = blockIndexOffset + block * BLOCK_ENTRY_SIZE;
+        int offset = (int) buffer.getLong(entry + Long.BYTES);
+        int compressedLength = buffer.getInt(entry + 2 * Long.BYTES);
+        int rawLength = buffer.getInt(entry + 2 * Long.BYTES + Integer.BYTES);
+
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(buffer.slice(offset, compressedLength));
+            int inflated = 0;
+            while (inflated < rawLength) {
+                int count = inflater.inflate(raw, inflated, rawLength - inflated);
+                if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += count;
+            }
+            if (inflated != rawLength) {
+                throw new IllegalStateException("손상된 보관 파일입니다: " + path + ", block=" + block);
+            }
+            return ByteBuffer.wrap(raw);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 보관 파일입니다: " + path + ", block=" + block, e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.cafe.order.adapter.out.persistence.order.archive;
+
+import com.cafe.order.domain.order.model.Order;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+/**
+ * 보관 파일(세그먼트) 기록기
+ * 주문 ID 오름차순으로 받은 레코드를 블록 단위로 압축해 임시 파일에 이어 쓰고,
+ * finish() 에서 인덱스와 트레일러를 붙여 디스크에 기록(fsync)한 뒤 최종 이름으로 원자적으로 바꾼다.
+ * finish() 전에 닫히면 임시 파일을 지우므로 반쯤 쓰인 파일이 조회 대상이 되지 않는다.
+ */
+final class OrderArchiveSegmentWriter implements Closeable {
+
+    static final String TEMP_SUFFIX = ".tmp";
+
+    private record BlockEntry(long firstOrderId, long offset, int compressedLength, int rawLength) {
+    }
+
+    private record MemberEntry(long memberId, int block) {
+    }
+
+    private final Path targetFile;
+    private final Path tempFile;
+    private final int blockSize;
+    private final FileChannel channel;
+    private final Deflater deflater = new Deflater();
+    private final byte[] compressBuffer = new byte[16 * 1024];
+
+    private final ByteArrayOutputStream recordBuffer = new ByteArrayOutputStream(256);
+    private final DataOutputStream recordOut = new DataOutputStream(recordBuffer);
+    private final ByteArrayOutputStream blockBuffer = new ByteArrayOutputStream(16 * 1024);
+    private final DataOutputStream blockOut = new DataOutputStream(blockBuffer);
+
+    private final List<BlockEntry> blocks = new ArrayList<>();
+    private final List<MemberEntry> memberEntries = new ArrayList<>();
+    private final Set<Long> blockMemberIds = new HashSet<>();
+
+    private long position;
+    private int blockRecordCount;
+    private long blockFirstOrderId;
+    private int recordCount;
+    private long minOrderId;
+    private long maxOrderId;
+    private LocalDateTime maxOrderDateTime;
+    private boolean finished;
+
+    OrderArchiveSegmentWriter(Path targetFile, int blockSize) throws IOException {
+        this.targetFile = targetFile;
+        this.tempFile = targetFile.resolveSibling(targetFile.getFileName() + TEMP_SUFFIX);
+        this.blockSize = blockSize;
+        this.channel = FileChannel.open(tempFile,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+
+        writeFully(ByteBuffer.allocate(OrderArchiveSegment.HEADER_SIZE)
+                .putInt(OrderArchiveSegment.MAGIC)
+                .putInt(OrderArchiveSegment.VERSION)
+                .flip());
+    }
+
+    void append(ArchivedOrder archivedOrder) throws IOException {
+        Order order = archivedOrder.order();
+        long orderId = order.getId();
+        if (recordCount > 0 && orderId <= maxOrderId) {
+            throw new IllegalArgumentException("주문 ID 오름차순으로만 기록할 수 있습니다: orderId=" + orderId + ", last=" + maxOrderId);
+        }
+
+        recordBuffer.reset();
+        OrderArchiveCodec.write(recordOut, archivedOrder);
+        blockOut.writeInt(recordBuffer.size());
+        recordBuffer.writeTo(blockOut);
+
+        if (blockRecordCount == 0) {
+            blockFirstOrderId = orderId;
+        }
+        if (recordCount == 0) {
+            minOrderId = orderId;
+        }
+        maxOrderId = orderId;
+        if (maxOrderDateTime == null || order.getOrderDateTime().isAfter(maxOrderDateTime)) {
+            maxOrderDateTime = order.getOrderDateTime();
+        }
+        blockMemberIds.add(order.getMemberId());
+        recordCount++;
+
+        if (++blockRecordCount == blockSize) {
+            flushBlock();
+        }
+    }
+
+    int recordCount() {
+        return recordCount;
+    }
+
+    Path finish() throws IOException {
+        if (recordCount == 0) {
+            throw new IllegalStateException("기록된 주문이 없습니다.");
+        }
+        flushBlock();
+
+        long blockIndexOffset = position;
+        ByteBuffer blockIndex = ByteBuffer.allocate(blocks.size() * OrderArchiveSegment.BLOCK_ENTRY_SIZE);
+        for (BlockEntry block : blocks) {
+            blockIndex.putLong(block.firstOrderId())
+                    .putLong(block.offset())
+                    .putInt(block.compressedLength())
+                    .putInt(block.rawLength());
+        }
+        writeFully(blockIndex.flip());
+
+        long memberIndexOffset = position;
+        memberEntries.sort(Comparator.comparingLong(MemberEntry::memberId).thenComparingInt(MemberEntry::block));
+        ByteBuffer memberIndex = ByteBuffer.allocate(memberEntries.size() * OrderArchiveSegment.MEMBER_ENTRY_SIZE);
+        for (MemberEntry entry : memberEntries) {
+            memberIndex.putLong(entry.memberId()).putInt(entry.block());
+        }
+        writeFully(memberIndex.flip());
+
+        writeFully(ByteBuffer.allocate(OrderArchiveSegment.TRAILER_SIZE)
+                .putLong(blockIndexOffset)
+                .putInt(blocks.size())
+                .putLong(memberIndexOffset)
+                .putInt(memberEntries.size())
+                .putInt(recordCount)
+                .putLong(minOrderId)
+                .putLong(maxOrderId)
+                .putLong(maxOrderDateTime.toEpochSecond(ZoneOffset.UTC))
+                .putInt(maxOrderDateTime.getNano())
+                .putInt(OrderArchiveSegment.VERSION)
+                .putInt(OrderArchiveSegment.MAGIC)
+                .flip());
+
+        if (position > Integer.MAX_VALUE) {
+            throw new IOException("보관 파일이 메모리 매핑 가능한 크기(2GB)를 넘습니다: " + position + " bytes");
+        }
+
+        channel.force(true);
+        channel.close();
+        Files.move(tempFile, targetFile, StandardCopyOption.ATOMIC_MOVE);
+        finished = true;
+        return targetFile;
+    }
+
+    @Override
+    public void close() throws IOException {
+        deflater.end();
+        if (!finished) {
+            channel.close();
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockRecordCount == 0) {
+            return;
+        }
+
+        byte[] raw = blockBuffer.toByteArray();
+        long offset = position;
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        while (!deflater.finished()) {
+            int count = deflater.deflate(compressBuffer);
+            writeFully(ByteBuffer.wrap(compressBuffer, 0, count));
+        }
+
+        int block = blocks.size();
+        blocks.add(new BlockEntry(blockFirstOrderId, offset, (int) (position - offset), raw.length));
+        for (Long memberId : blockMemberIds) {
+            memberEntries.add(new MemberEntry(memberId, block));
+        }
+
+        blockBuffer.reset();
+        blockMemberIds.clear();
+        blockRecordCount = 0;
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            position += channel.write(source);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.cafe.order.adapter.out.persistence.order.archive;
+
+import com.cafe.order.config.OrderArchiveProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 주문 보관 저장소
+ * 보관 작업 한 번에 세그먼트 파일 하나가 추가되며, 한 번 쓰인 파일은 바뀌지 않는다(append-only).
+ * 같은 주문이 여러 세그먼트에 있으면(보관 이후 상태가 바뀌어 다시 보관된 경우) 최신 세그먼트의 레코드를 사용한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(OrderArchiveProperties.class)
+public class OrderArchiveStore implements Closeable {
+
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("orders-(\\d{10})\\.oarc");
+
+    private final Path directory;
+    private final int blockSize;
+
+    // 최신 세그먼트가 앞에 오도록 유지하는 불변 목록 (추가 시 통째로 교체)
+    private volatile List<OrderArchiveSegment> segments;
+
+    public OrderArchiveStore(OrderArchiveProperties orderArchiveProperties, MeterRegistry meterRegistry) {
+        this.directory = orderArchiveProperties.getDirectory();
+        this.blockSize = orderArchiveProperties.getBlockSize();
+        this.segments = loadSegments();
+
+        Gauge.builder("order.archive.orders", this, store -> store.segments.stream().mapToLong(OrderArchiveSegment::recordCount).sum())
+                .description("보관 파일의 주문 레코드 수")
+                .register(meterRegistry);
+        Gauge.builder("order.archive.size", this, store -> store.segments.stream().mapToLong(OrderArchiveSegment::sizeBytes).sum())
+                .description("보관 파일 전체 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("order.archive.segments", this, store -> store.segments.size())
+                .register(meterRegistry);
+    }
+
+    Optional<ArchivedOrder> findById(long orderId) {
+        for (OrderArchiveSegment segment : segments) {
+            Optional<ArchivedOrder> found = segment.findById(orderId);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    List<ArchivedOrder> findByMemberId(long memberId) {
+        List<OrderArchiveSegment> current = segments;
+        if (current.size() == 1) {
+            return current.get(0).findByMemberId(memberId);
+        }
+
+        Map<Long, ArchivedOrder> orders = new LinkedHashMap<>();
+        for (OrderArchiveSegment segment : current) {
+            for (ArchivedOrder archivedOrder : segment.findByMemberId(memberId)) {
+                orders.putIfAbsent(archivedOrder.order().getId(), archivedOrder);
+            }
+        }
+        return new ArrayList<>(orders.values());
+    }
+
+    /**
+     * 보관된 주문 중 가장 최근 주문일시 (보관된 주문이 없으면 null)
+     */
+    LocalDateTime newestOrderDateTime() {
+        return segments.stream()
+                .map(OrderArchiveSegment::maxOrderDateTime)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+    }
+
+    int recordCount() {
+        return segments.stream().mapToInt(OrderArchiveSegment::recordCount).sum();
+    }
+
+    long sizeBytes() {
+        return segments.stream().mapToLong(OrderArchiveSegment::sizeBytes).sum();
+    }
+
+    OrderArchiveSegmentWriter newSegmentWriter() throws IOException {
+        Files.createDirectories(directory);
+        long sequence = segments.stream().mapToLong(OrderArchiveSegment::sequence).max().orElse(0) + 1;
+        return new OrderArchiveSegmentWriter(directory.resolve(segmentFileName(sequence)), blockSize);
+    }
+
+    /**
+     * finish() 로 완성된 세그먼트를 조회 대상에 추가
+     */
+    synchronized void register(Path segmentFile) throws IOException {
+        OrderArchiveSegment segment = OrderArchiveSegment.open(segmentFile, parseSequence(segmentFile));
+        List<OrderArchiveSegment> updated = new ArrayList<>(segments.size() + 1);
+        updated.add(segment);
+        updated.addAll(segments);
+        segments = List.copyOf(updated);
+    }
+
+    /**
+     * 매핑된 영역은 GC 가 해제하므로 조회 대상에서만 제외
+     */
+    @Override
+    public void close() {
+        segments = List.of();
+    }
+
+    private List<OrderArchiveSegment> loadSegments() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        List<OrderArchiveSegment> loaded = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(OrderArchiveSegmentWriter.TEMP_SUFFIX)) {
+                    // 기록 도중 중단된 세그먼트 (DB 에서 삭제되기 전이므로 버려도 됨)
+                    Files.deleteIfExists(file);
+                    log.warn("완성되지 않은 보관 파일 삭제: {}", file);
+                } else if (SEGMENT_FILE_NAME.matcher(fileName).matches()) {
+                    loaded.add(OrderArchiveSegment.open(file, parseSequence(file)));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 보관 파일을 열 수 없습니다: " + directory, e);
+        }
+
+        loaded.sort(Comparator.comparingLong(OrderArchiveSegment::sequence).reversed());
+        log.info("주문 보관 파일 적재: directory={}, segments={}, orders={}",
+                directory, loaded.size(), loaded.stream().mapToInt(OrderArchiveSegment::recordCount).sum());
+        return List.copyOf(loaded);
+    }
+
+    private static String segmentFileName(long sequence) {
+        return String.format("orders-%010d.oarc", sequence);
+    }
+
+    private static long parseSequence(Path segmentFile) {
+        Matcher matcher = SEGMENT_FILE_NAME.matcher(segmentFile.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("보관 파일 이름 형식이 아닙니다: " + segmentFile);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+}
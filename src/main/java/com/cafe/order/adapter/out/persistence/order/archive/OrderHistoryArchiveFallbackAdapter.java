@@ -0,0 +1,83 @@
+package com.cafe.order.adapter.out.persistence.order.archive;
+
+import com.cafe.order.adapter.out.persistence.order.OrderQueryPersistenceAdapter;
+import com.cafe.order.application.port.in.order.query.OrderHistoryCursor;
+import com.cafe.order.application.port.in.order.query.OrderSummary;
+import com.cafe.order.application.port.out.order.OrderQueryPort;
+import com.cafe.order.domain.order.model.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 주문 내역을 DB 와 보관 저장소에서 이어서 조회 (OrderQueryPort 데코레이터)
+ * 보관된 주문은 모두 보관 시점 기준 retention 보다 오래된 주문이므로, DB 페이지가 가득 찼고
+ * 그 마지막 주문이 보관된 어떤 주문보다 최신이면 보관 파일을 읽지 않는다.
+ * 주문 저널(order.journal)을 켜면 OrderHistoryJournalAdapter 를 대신 사용한다.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "order.journal", name = "enabled", havingValue = "false", matchIfMissing = true)
+@RequiredArgsConstructor
+public class OrderHistoryArchiveFallbackAdapter implements OrderQueryPort {
+
+    private static final Comparator<OrderSummary> NEWEST_FIRST = Comparator
+            .comparing(OrderSummary::orderDateTime)
+            .thenComparing(OrderSummary::orderId)
+            .reversed();
+
+    private final OrderQueryPersistenceAdapter orderQueryPersistenceAdapter;
+    private final OrderArchiveStore orderArchiveStore;
+
+    @Override
+    public List<OrderSummary> findOrderHistory(Long memberId, OrderHistoryCursor cursor, int limit) {
+        List<OrderSummary> orders = orderQueryPersistenceAdapter.findOrderHistory(memberId, cursor, limit);
+
+        LocalDateTime newestArchived = orderArchiveStore.newestOrderDateTime();
+        if (newestArchived == null
+                || (orders.size() >= limit && orders.get(orders.size() - 1).orderDateTime().isAfter(newestArchived))) {
+            return orders;
+        }
+
+        // 보관 후 삭제 전에 중단되어 DB 에도 남은 주문은 DB 쪽을 사용
+        Set<Long> hotOrderIds = orders.stream().map(OrderSummary::orderId).collect(Collectors.toSet());
+        List<OrderSummary> merged = new ArrayList<>(orders);
+        orderArchiveStore.findByMemberId(memberId).stream()
+                .map(ArchivedOrder::order)
+                .filter(order -> !hotOrderIds.contains(order.getId()))
+                .map(OrderHistoryArchiveFallbackAdapter::toSummary)
+                .filter(order -> cursor == null || isBefore(order, cursor))
+                .forEach(merged::add);
+
+        merged.sort(NEWEST_FIRST);
+        return merged.size() > limit ? List.copyOf(merged.subList(0, limit)) : merged;
+    }
+
+    /**
+     * 키셋 조건 (orderDateTime, orderId) < (cursor.orderDateTime, cursor.orderId)
+     */
+    private static boolean isBefore(OrderSummary order, OrderHistoryCursor cursor) {
+        int compared = order.orderDateTime().compareTo(cursor.orderDateTime());
+        return compared < 0 || (compared == 0 && order.orderId() < cursor.orderId());
+    }
+
+    private static OrderSummary toSummary(Order order) {
+        return new OrderSummary(
+                order.getId(),
+                order.getStatus(),
+                order.getPaymentId(),
+                order.getOrderDateTime(),
+                order.getCancelDateTime(),
+                order.getOrderLines().stream()
+                        .map(line -> new OrderSummary.Line(line.getProductId(), line.getQuantity()))
+                        .toList());
+    }
+}
@@ -0,0 +1,60 @@
+package com.cafe.order.adapter.out.persistence.order.journal;
+
+import com.cafe.order.application.port.in.order.query.OrderHistoryCursor;
+import com.cafe.order.application.port.in.order.query.OrderSummary;
+import com.cafe.order.application.port.out.order.OrderQueryPort;
+import com.cafe.order.domain.order.model.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 회원 주문 내역을 주문 저널의 메모리 인덱스에서 조회 (order.journal.enabled=true 일 때 사용)
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.journal", name = "enabled", havingValue = "true")
+public class OrderHistoryJournalAdapter implements OrderQueryPort {
+
+    private static final Comparator<Order> NEWEST_FIRST = Comparator
+            .comparing(Order::getOrderDateTime)
+            .thenComparing(Order::getId)
+            .reversed();
+
+    private final OrderJournalStore orderJournalStore;
+
+    @Override
+    public List<OrderSummary> findOrderHistory(Long memberId, OrderHistoryCursor cursor, int limit) {
+        return orderJournalStore.findByMemberId(memberId).stream()
+                .filter(order -> cursor == null || isBefore(order, cursor))
+                .sorted(NEWEST_FIRST)
+                .limit(limit)
+                .map(OrderHistoryJournalAdapter::toSummary)
+                .toList();
+    }
+
+    /**
+     * 키셋 조건 (orderDateTime, orderId) < (cursor.orderDateTime, cursor.orderId)
+     */
+    private static boolean isBefore(Order order, OrderHistoryCursor cursor) {
+        int compared = order.getOrderDateTime().compareTo(cursor.orderDateTime());
+        return compared < 0 || (compared == 0 && order.getId() < cursor.orderId());
+    }
+
+    private static OrderSummary toSummary(Order order) {
+        return new OrderSummary(
+                order.getId(),
+                order.getStatus(),
+                order.getPaymentId(),
+                order.getOrderDateTime(),
+                order.getCancelDateTime(),
+                order.getOrderLines().stream()
+                        .map(line -> new OrderSummary.Line(line.getProductId(), line.getQuantity()))
+                        .toList());
+    }
+}
@@ -0,0 +1,240 @@
+package com.cafe.order.adapter.out.persistence.order.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ObjLongConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑된 append-only 저널 파일
+ * 세그먼트 파일을 고정 크기로 만들어 전체를 매핑하고 레코드를 이어 쓴다. 가득 차면 다음 세그먼트를 만든다.
+ * 레코드마다 시퀀스(1부터 1씩 증가)를 붙이고 CRC32C 로 검증하므로, 기록 도중 중단되어 잘린 마지막 레코드는 기동 시 버린다.
+ *
+ * <pre>
+ * [레코드] int 본문 길이, int CRC32C(본문), 본문 = long 시퀀스 + 이벤트
+ * </pre>
+ * 본문 길이가 0 이면(매핑 시 0 으로 채워진 영역) 세그먼트의 끝이다.
+ * 쓰기는 커밋 스레드 하나만 하며 이 클래스는 스레드 안전하지 않다.
+ */
+@Slf4j
+final class OrderJournal implements Closeable {
+
+    static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("journal-(\\d{20})\\.log");
+
+    private final Path directory;
+    private final int segmentSize;
+
+    // 오래된 세그먼트가 앞에 오는 목록, 마지막 세그먼트에 이어 쓴다
+    private final List<Segment> segments = new ArrayList<>();
+    private MappedByteBuffer active;
+    // 마지막 force 이후 세그먼트가 바뀌었으면 이전 세그먼트도 함께 force 해야 한다
+    private final List<MappedByteBuffer> unforced = new ArrayList<>();
+    private long nextSequence;
+
+    private record Segment(Path path, long firstSequence) {
+    }
+
+    private OrderJournal(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * 저널을 열고 afterSequence 다음 레코드부터 재생한다. 재생이 끝나면 마지막 레코드 뒤에 이어 쓸 수 있다.
+     *
+     * @param afterSequence 스냅샷에 이미 반영된 마지막 시퀀스 (스냅샷이 없으면 0)
+     * @param consumer      (레코드 이벤트 부분, 시퀀스)
+     */
+    static OrderJournal open(Path directory, int segmentSize, long afterSequence,
+                             ObjLongConsumer<ByteBuffer> consumer) throws IOException {
+        Files.createDirectories(directory);
+        OrderJournal journal = new OrderJournal(directory, segmentSize);
+        journal.segments.addAll(journal.listSegments());
+        journal.nextSequence = afterSequence + 1;
+        journal.replay(afterSequence, consumer);
+        if (journal.active == null) {
+            journal.roll();
+        }
+        return journal;
+    }
+
+    /**
+     * 레코드를 매핑된 영역에 쓰고 시퀀스를 반환 (force 전까지는 내구성이 보장되지 않는다)
+     */
+    long append(byte[] event) throws IOException {
+        int bodyLength = Long.BYTES + event.length;
+        if (RECORD_HEADER_SIZE + bodyLength > segmentSize) {
+            throw new IOException("저널 레코드가 세그먼트보다 큽니다: " + bodyLength + "bytes");
+        }
+        if (active.remaining() < RECORD_HEADER_SIZE + bodyLength) {
+            roll();
+        }
+
+        long sequence = nextSequence++;
+        CRC32C crc = new CRC32C();
+        ByteBuffer sequenceBytes = ByteBuffer.allocate(Long.BYTES).putLong(0, sequence);
+        crc.update(sequenceBytes);
+        crc.update(event);
+
+        active.putInt(bodyLength);
+        active.putInt((int) crc.getValue());
+        active.putLong(sequence);
+        active.put(event);
+        return sequence;
+    }
+
+    /**
+     * 마지막 force 이후 쓴 레코드를 디스크에 반영 (msync)
+     */
+    void force() {
+        for (MappedByteBuffer buffer : unforced) {
+            buffer.force();
+        }
+        unforced.clear();
+        active.force();
+    }
+
+    /**
+     * 마지막으로 쓴(또는 재생한) 레코드의 시퀀스
+     */
+    long lastSequence() {
+        return nextSequence - 1;
+    }
+
+    /**
+     * 모든 레코드가 sequence 이하인 세그먼트를 삭제 (스냅샷에 반영된 세그먼트 정리, 쓰는 중인 세그먼트는 남긴다)
+     */
+    int deleteSegmentsThrough(long sequence) throws IOException {
+        int deleted = 0;
+        while (segments.size() > 1 && segments.get(1).firstSequence() <= sequence + 1) {
+            Files.deleteIfExists(segments.remove(0).path());
+            deleted++;
+        }
+        return deleted;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 매핑된 영역은 GC 가 해제하므로 디스크 반영만 한다
+     */
+    @Override
+    public void close() {
+        if (active != null) {
+            force();
+        }
+    }
+
+    private void replay(long afterSequence, ObjLongConsumer<ByteBuffer> consumer) throws IOException {
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            boolean last = i == segments.size() - 1;
+            long size = Files.size(segment.path());
+            MappedByteBuffer buffer = map(segment.path(), last ? Math.max(size, segmentSize) : size, last);
+
+            while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+                int start = buffer.position();
+                int bodyLength = buffer.getInt();
+                if (bodyLength == 0) {
+                    buffer.position(start);
+                    break;
+                }
+                int checksum = buffer.getInt();
+                if (bodyLength < Long.BYTES || bodyLength > buffer.remaining() || !matches(buffer, bodyLength, checksum)) {
+                    if (!last) {
+                        throw new IOException("저널 세그먼트가 손상되었습니다: " + segment.path() + ", position=" + start);
+                    }
+                    // 기록 도중 중단된 마지막 레코드: 잘린 부분을 지우고 그 자리부터 이어 쓴다
+                    log.warn("저널 끝의 불완전한 레코드 제거: segment={}, position={}", segment.path(), start);
+                    clear(buffer, start);
+                    break;
+                }
+
+                long sequence = buffer.getLong();
+                ByteBuffer event = buffer.slice(buffer.position(), bodyLength - Long.BYTES);
+                buffer.position(buffer.position() + bodyLength - Long.BYTES);
+                if (sequence > afterSequence) {
+                    if (sequence != nextSequence) {
+                        throw new IOException("저널 시퀀스가 연속되지 않습니다: expected=" + nextSequence + ", actual=" + sequence);
+                    }
+                    consumer.accept(event, sequence);
+                }
+                nextSequence = Math.max(nextSequence, sequence + 1);
+            }
+            if (last) {
+                active = buffer;
+            }
+        }
+    }
+
+    private static void clear(MappedByteBuffer buffer, int from) {
+        byte[] zeros = new byte[8192];
+        buffer.position(from);
+        while (buffer.hasRemaining()) {
+            buffer.put(zeros, 0, Math.min(zeros.length, buffer.remaining()));
+        }
+        buffer.force();
+        buffer.position(from);
+    }
+
+    private static boolean matches(ByteBuffer buffer, int bodyLength, int checksum) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(buffer.position(), bodyLength));
+        return (int) crc.getValue() == checksum;
+    }
+
+    /**
+     * 다음 시퀀스로 시작하는 새 세그먼트를 만들어 쓰기 대상으로 바꾼다
+     */
+    private void roll() throws IOException {
+        if (active != null) {
+            unforced.add(active);
+        }
+        Path path = directory.resolve(String.format("journal-%020d.log", nextSequence));
+        active = map(path, segmentSize, true);
+        segments.add(new Segment(path, nextSequence));
+        log.info("저널 세그먼트 생성: {}", path);
+    }
+
+    private static MappedByteBuffer map(Path path, long size, boolean writable) throws IOException {
+        StandardOpenOption[] options = writable
+                ? new StandardOpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ};
+        // 매핑은 채널을 닫은 뒤에도 유지된다
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            return channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private List<Segment> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .map(path -> {
+                        Matcher matcher = SEGMENT_FILE_NAME.matcher(path.getFileName().toString());
+                        return matcher.matches() ? new Segment(path, Long.parseLong(matcher.group(1))) : null;
+                    })
+                    .filter(Objects::nonNull)
+                    .sorted(Comparator.comparingLong(Segment::firstSequence))
+                    .toList();
+        }
+    }
+}
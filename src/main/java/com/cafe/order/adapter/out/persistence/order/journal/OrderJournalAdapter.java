@@ -0,0 +1,66 @@
+package com.cafe.order.adapter.out.persistence.order.journal;
+
+import com.cafe.order.application.port.out.order.OrderPort;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주문 저널 기반 OrderPort (order.journal.enabled=true 일 때 JPA 어댑터 대신 사용)
+ * 주문 엔티티 매핑과 주문상품 컬렉션 갱신 없이 이벤트 한 건을 저널에 기록하고, 조회는 메모리 인덱스에서 한다.
+ * 호출자 트랜잭션 안의 저장/상태 전이는 그 트랜잭션이 커밋된 뒤 기록되고, 롤백되면 기록되지 않는다.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "order.journal", name = "enabled", havingValue = "true")
+public class OrderJournalAdapter implements OrderPort {
+
+    private final OrderJournalStore orderJournalStore;
+
+    @Override
+    public Order save(Order order) {
+        return orderJournalStore.create(List.of(order)).get(0);
+    }
+
+    /**
+     * 여러 주문의 생성 이벤트를 한 번의 그룹 커밋으로 기록
+     */
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        return orderJournalStore.create(orders);
+    }
+
+    @Override
+    public Optional<Order> findById(Long orderId) {
+        return orderJournalStore.findById(orderId);
+    }
+
+    /**
+     * 메모리에서 조회하므로 findById 와 같다
+     */
+    @Override
+    public Optional<Order> findStatusById(Long orderId) {
+        return orderJournalStore.findById(orderId);
+    }
+
+    @Override
+    public List<Order> findPendingOrdersBefore(LocalDateTime orderDateTime, int limit) {
+        return orderJournalStore.findPendingOrdersBefore(orderDateTime, limit);
+    }
+
+    @Override
+    public boolean updateStatus(Order order, OrderStatus expectedStatus) {
+        return orderJournalStore.changeStatus(order, expectedStatus);
+    }
+}
@@ -0,0 +1,159 @@
+package com.cafe.order.adapter.out.persistence.order.journal;
+
+import com.cafe.order.adapter.out.persistence.order.journal.OrderJournalEvent.OrderCreated;
+import com.cafe.order.adapter.out.persistence.order.journal.OrderJournalEvent.OrderStatusChanged;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저널 이벤트와 스냅샷의 주문 인코딩
+ * [byte 이벤트 종류][이벤트]
+ * 주문: [long 주문 ID][long 회원 ID][상태][결제 ID?][주문일시][취소일시?][long 버전][int 주문상품 수][long 상품 ID, int 수량]...
+ * 상태 전이: [long 주문 ID][상태][결제 ID?][취소일시?][long 버전]
+ */
+final class OrderJournalCodec {
+
+    private static final byte ORDER_CREATED = 1;
+    private static final byte ORDER_STATUS_CHANGED = 2;
+
+    private OrderJournalCodec() {
+    }
+
+    static byte[] encode(OrderJournalEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (event instanceof OrderCreated created) {
+                out.writeByte(ORDER_CREATED);
+                writeOrder(out, created.order());
+            } else if (event instanceof OrderStatusChanged changed) {
+                out.writeByte(ORDER_STATUS_CHANGED);
+                out.writeLong(changed.orderId());
+                writeString(out, changed.status().name());
+                writeNullableString(out, changed.paymentId());
+                writeNullableDateTime(out, changed.cancelDateTime());
+                out.writeLong(changed.version());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static OrderJournalEvent decode(ByteBuffer buffer) {
+        byte type = buffer.get();
+        return switch (type) {
+            case ORDER_CREATED -> new OrderCreated(readOrder(buffer));
+            case ORDER_STATUS_CHANGED -> new OrderStatusChanged(
+                    buffer.getLong(),
+                    OrderStatus.valueOf(readString(buffer)),
+                    readNullableString(buffer),
+                    readNullableDateTime(buffer),
+                    buffer.getLong());
+            default -> throw new IllegalStateException("알 수 없는 저널 이벤트 종류입니다: " + type);
+        };
+    }
+
+    static void writeOrder(DataOutputStream out, Order order) throws IOException {
+        out.writeLong(order.getId());
+        out.writeLong(order.getMemberId());
+        writeString(out, order.getStatus().name());
+        writeNullableString(out, order.getPaymentId());
+        writeDateTime(out, order.getOrderDateTime());
+        writeNullableDateTime(out, order.getCancelDateTime());
+        out.writeLong(order.getVersion());
+
+        List<OrderLine> orderLines = order.getOrderLines();
+        out.writeInt(orderLines.size());
+        for (OrderLine orderLine : orderLines) {
+            out.writeLong(orderLine.getProductId());
+            out.writeInt(orderLine.getQuantity());
+        }
+    }
+
+    static Order readOrder(ByteBuffer buffer) {
+        long orderId = buffer.getLong();
+        long memberId = buffer.getLong();
+        OrderStatus status = OrderStatus.valueOf(readString(buffer));
+        String paymentId = readNullableString(buffer);
+        LocalDateTime orderDateTime = readDateTime(buffer);
+        LocalDateTime cancelDateTime = readNullableDateTime(buffer);
+        long version = buffer.getLong();
+
+        int lineCount = buffer.getInt();
+        List<OrderLine> orderLines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            orderLines.add(OrderLine.builder()
+                    .productId(buffer.getLong())
+                    .quantity(buffer.getInt())
+                    .build());
+        }
+
+        return Order.builder()
+                .id(orderId)
+                .memberId(memberId)
+                .orderLines(List.copyOf(orderLines))
+                .status(status)
+                .paymentId(paymentId)
+                .orderDateTime(orderDateTime)
+                .cancelDateTime(cancelDateTime)
+                .version(version)
+                .build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(out, value);
+        }
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static void writeNullableDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeDateTime(out, value);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readNullableString(ByteBuffer buffer) {
+        return buffer.get() != 0 ? readString(buffer) : null;
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime readNullableDateTime(ByteBuffer buffer) {
+        return buffer.get() != 0 ? readDateTime(buffer) : null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.cafe.order.adapter.out.persistence.order.journal;
+
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저널에 기록하는 주문 이벤트
+ * 주문 생성은 주문 전체를, 상태 전이(확정/실패/취소)는 바뀐 필드와 전이 후 버전만 기록한다.
+ */
+sealed interface OrderJournalEvent {
+
+    record OrderCreated(Order order) implements OrderJournalEvent {
+    }
+
+    record OrderStatusChanged(
+            long orderId,
+            OrderStatus status,
+            String paymentId,
+            LocalDateTime cancelDateTime,
+            long version
+    ) implements OrderJournalEvent {
+    }
+}
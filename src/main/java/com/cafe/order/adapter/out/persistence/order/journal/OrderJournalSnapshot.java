@@ -0,0 +1,133 @@
+package com.cafe.order.adapter.out.persistence.order.journal;
+
+import com.cafe.order.domain.order.model.Order;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 주문 저널 스냅샷
+ * 시퀀스 sequence 까지의 이벤트를 반영한 모든 주문을 기록한다. 임시 파일에 쓰고 fsync 한 뒤 이름을 바꾸므로 완성된 스냅샷만 보인다.
+ *
+ * <pre>
+ * int MAGIC, int VERSION, long 시퀀스, long 다음 주문 ID, int 주문 수, 주문..., int CRC32C(앞의 모든 바이트)
+ * </pre>
+ */
+@Slf4j
+record OrderJournalSnapshot(long sequence, long nextOrderId, List<Order> orders) {
+
+    static final int MAGIC = 0x4F4A534E; // "OJSN"
+    static final int VERSION = 1;
+
+    private static final Pattern SNAPSHOT_FILE_NAME = Pattern.compile("snapshot-(\\d{20})\\.snap");
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * 스냅샷을 쓰고 이전 스냅샷을 삭제
+     */
+    static Path write(Path directory, long sequence, long nextOrderId, Collection<Order> orders) throws IOException {
+        Path file = directory.resolve(String.format("snapshot-%020d.snap", sequence));
+        Path temp = directory.resolve(file.getFileName() + TEMP_SUFFIX);
+
+        CRC32C crc = new CRC32C();
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024)) {
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(output, crc));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sequence);
+            out.writeLong(nextOrderId);
+            out.writeInt(orders.size());
+            for (Order order : orders) {
+                OrderJournalCodec.writeOrder(out, order);
+            }
+            out.flush();
+            // CRC 는 체크섬 스트림을 거치지 않고 마지막에 붙인다
+            new DataOutputStream(output).writeInt((int) crc.getValue());
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        for (Path old : list(directory)) {
+            if (!old.equals(file)) {
+                Files.deleteIfExists(old);
+            }
+        }
+        return file;
+    }
+
+    /**
+     * 가장 최근의 온전한 스냅샷 (손상된 스냅샷은 건너뛰고 이전 스냅샷을 사용)
+     */
+    static Optional<OrderJournalSnapshot> loadLatest(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path temp : files.filter(path -> path.getFileName().toString().endsWith(TEMP_SUFFIX)).toList()) {
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        List<Path> snapshots = new ArrayList<>(list(directory));
+        snapshots.sort(Comparator.comparing((Path path) -> path.getFileName().toString()).reversed());
+        for (Path snapshot : snapshots) {
+            try {
+                return Optional.of(read(snapshot));
+            } catch (IOException | RuntimeException e) {
+                log.warn("손상된 저널 스냅샷 건너뜀: {}", snapshot, e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static OrderJournalSnapshot read(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        int bodyLength = buffer.limit() - Integer.BYTES;
+        if (bodyLength < 0) {
+            throw new IOException("스냅샷 형식이 아닙니다: " + file);
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(0, bodyLength));
+        if ((int) crc.getValue() != buffer.getInt(bodyLength)) {
+            throw new IOException("스냅샷 체크섬이 맞지 않습니다: " + file);
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("스냅샷 형식이 아닙니다: " + file);
+        }
+
+        long sequence = buffer.getLong();
+        long nextOrderId = buffer.getLong();
+        int count = buffer.getInt();
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(OrderJournalCodec.readOrder(buffer));
+        }
+        return new OrderJournalSnapshot(sequence, nextOrderId, orders);
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> SNAPSHOT_FILE_NAME.matcher(path.getFileName().toString()).matches()).toList();
+        }
+    }
+}
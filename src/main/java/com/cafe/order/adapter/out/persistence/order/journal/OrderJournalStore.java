@@ -0,0 +1,490 @@
+package com.cafe.order.adapter.out.persistence.order.journal;
+
+import com.cafe.order.adapter.out.persistence.order.journal.OrderJournalEvent.OrderCreated;
+import com.cafe.order.adapter.out.persistence.order.journal.OrderJournalEvent.OrderStatusChanged;
+import com.cafe.order.config.OrderJournalProperties;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이벤트 소싱 주문 저장소
+ * 주문 생성/상태 전이를 이벤트로 저널에 기록하고, 현재 주문 상태는 메모리 인덱스에 둔다.
+ *
+ * 쓰기는 커밋 스레드 하나가 처리한다. 대기 중인 요청을 최대 maxBatchSize 개까지 모아 저널에 쓰고 fsync 를 한 번만 한 뒤(그룹 커밋)
+ * 인덱스에 반영하고 요청 스레드를 깨운다. 상태 전이의 조건(현재 상태, 버전) 확인도 커밋 스레드에서 하므로 같은 주문의 동시 전이는 하나만 반영된다.
+ * snapshotInterval 개 이벤트마다 스냅샷을 쓰고 그 이전 세그먼트를 지우므로, 기동 시에는 스냅샷 이후 이벤트만 재생한다.
+ *
+ * 트랜잭션 안에서 요청한 쓰기는 바로 기록하지 않고 트랜잭션이 커밋된 뒤(afterCommit) 한꺼번에 기록하며, 롤백되면 버린다.
+ * 주문 취소(환불 Outbox)나 일괄 등록(결제 저장)이 롤백/재시도되어도 저널에 취소/생성 이벤트만 남지 않게 하기 위해서다.
+ * 주문 ID 는 요청 시점에 발급하고(롤백되면 비는 번호가 생긴다), 상태 전이는 요청 시점에 조건을 확인한 뒤
+ * 트랜잭션이 끝날 때까지 그 주문을 예약해 다른 전이를 거절하므로(DB 의 행 잠금과 같은 효과) 커밋 후 기록이 조건 때문에 실패하지 않는다.
+ * DB 커밋 후 저널 기록 전에 프로세스가 중단되면 그 트랜잭션의 주문 이벤트는 남지 않으며,
+ * 커밋 후 기록에 실패하면 이후 쓰기를 모두 거절한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(OrderJournalProperties.class)
+@ConditionalOnProperty(prefix = "order.journal", name = "enabled", havingValue = "true")
+public class OrderJournalStore implements Closeable {
+
+    private static final Comparator<Order> BY_ID = Comparator.comparing(Order::getId);
+
+    private final Path directory;
+    private final int maxBatchSize;
+    private final boolean fsync;
+    private final int snapshotInterval;
+
+    // 인덱스는 커밋 스레드(기동 시에는 생성자)만 갱신하며, 값으로 넣은 주문은 바꾸지 않고 조회 시 복사본을 반환한다
+    private final Map<Long, Order> orders = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> orderIdsByMember = new ConcurrentHashMap<>();
+    private final Set<Long> pendingOrderIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextOrderId = new AtomicLong(1);
+    // 트랜잭션 안에서 상태 전이를 요청해 커밋/롤백될 때까지 다른 전이를 막고 있는 주문 (값은 예약한 쪽)
+    private final Map<Long, Object> reservedOrderIds = new ConcurrentHashMap<>();
+    private long eventsSinceSnapshot;
+
+    private final OrderJournal journal;
+    private final BlockingQueue<Request> requests = new LinkedBlockingQueue<>();
+    private final Thread committer;
+    private volatile boolean running = true;
+    // 저널 쓰기에 실패하면 이후 쓰기를 모두 거절한다 (저널과 인덱스가 어긋난 상태로 계속 쓰지 않도록)
+    private volatile Exception failure;
+
+    private final Timer fsyncTimer;
+    private final DistributionSummary commitEvents;
+
+    private sealed interface Request permits Create, ChangeStatus {
+        CompletableFuture<?> result();
+    }
+
+    private record Create(List<Order> orders, List<byte[]> events, CompletableFuture<List<Order>> result)
+            implements Request {
+    }
+
+    private record ChangeStatus(Order order, OrderStatus expectedStatus, CompletableFuture<Boolean> result)
+            implements Request {
+    }
+
+    public OrderJournalStore(OrderJournalProperties properties, Environment environment,
+                             MeterRegistry meterRegistry) throws IOException {
+        // 주문 보관과 샤딩은 DB 의 orders 테이블을 기준으로 동작하므로 저널과 함께 켤 수 없다
+        if (environment.getProperty("order.archive.enabled", Boolean.class, false)
+                || environment.getProperty("datasource.shard.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("order.journal 은 order.archive.enabled, datasource.shard.enabled 와 함께 사용할 수 없습니다.");
+        }
+
+        this.directory = properties.getDirectory();
+        this.maxBatchSize = properties.getMaxBatchSize();
+        this.fsync = properties.isFsync();
+        this.snapshotInterval = properties.getSnapshotInterval();
+
+        long started = System.nanoTime();
+        long afterSequence = 0;
+        Optional<OrderJournalSnapshot> snapshot = OrderJournalSnapshot.loadLatest(directory);
+        if (snapshot.isPresent()) {
+            snapshot.get().orders().forEach(this::index);
+            afterSequence = snapshot.get().sequence();
+            nextOrderId.set(snapshot.get().nextOrderId());
+        }
+        this.journal = OrderJournal.open(directory, (int) properties.getSegmentSize().toBytes(), afterSequence,
+                (event, sequence) -> replay(event));
+        log.info("주문 저널 적재: directory={}, snapshotSequence={}, replayedEvents={}, orders={}, elapsed={}ms",
+                directory, afterSequence, eventsSinceSnapshot, orders.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        this.fsyncTimer = Timer.builder("order.journal.fsync")
+                .description("그룹 커밋 한 번의 저널 fsync 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.commitEvents = DistributionSummary.builder("order.journal.commit.events")
+                .description("그룹 커밋 한 번에 기록한 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("order.journal.orders", orders, Map::size)
+                .description("메모리 인덱스의 주문 수")
+                .register(meterRegistry);
+
+        this.committer = new Thread(this::commitLoop, "order-journal-committer");
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    /**
+     * 주문 ID 를 발급해 생성 이벤트를 기록하고, ID 와 버전이 채워진 주문을 같은 순서로 반환
+     * 트랜잭션 안이면 기록은 커밋 후에 한다. 인코딩할 수 없는 주문(필수 값 누락)은 바로 거절한다.
+     */
+    List<Order> create(List<Order> newOrders) {
+        long firstId = nextOrderId.getAndAdd(newOrders.size());
+        List<Order> created = new ArrayList<>(newOrders.size());
+        List<byte[]> events = new ArrayList<>(newOrders.size());
+        for (Order order : newOrders) {
+            Order newOrder = withIdentity(order, firstId + created.size(), 0L);
+            events.add(OrderJournalCodec.encode(new OrderCreated(newOrder)));
+            created.add(newOrder);
+        }
+
+        Create request = new Create(created, events, new CompletableFuture<>());
+        PendingWrites writes = currentTransactionWrites();
+        if (writes == null) {
+            return submit(request);
+        }
+        writes.requests.add(request);
+        created.forEach(order -> writes.staged.put(order.getId(), order));
+        return created.stream().map(OrderJournalStore::copy).toList();
+    }
+
+    /**
+     * 현재 상태가 expectedStatus 이고 버전이 order.version 과 같을 때만 order 의 상태/결제 ID/취소일시로 전이 이벤트를 기록
+     * 다른 트랜잭션이 전이를 예약한 주문은 커밋/롤백될 때까지 거절한다 (호출자는 버전 충돌과 같이 다시 조회해 재시도한다).
+     */
+    boolean changeStatus(Order order, OrderStatus expectedStatus) {
+        PendingWrites writes = currentTransactionWrites();
+        Object owner = writes != null ? writes : new Object();
+        boolean reservedHere = writes == null || !writes.reserved.contains(order.getId());
+        if (reservedHere && reservedOrderIds.putIfAbsent(order.getId(), owner) != null) {
+            return false;
+        }
+
+        // 예약한 뒤 확인해야, 확인과 기록 사이에 다른 요청이 같은 주문을 바꾸지 못한다
+        Order current = writes != null && writes.staged.containsKey(order.getId())
+                ? writes.staged.get(order.getId())
+                : orders.get(order.getId());
+        boolean accepted = current != null
+                && current.getStatus() == expectedStatus
+                && Objects.equals(current.getVersion(), order.getVersion());
+        if (writes == null) {
+            try {
+                return accepted && this.<Boolean>submit(new ChangeStatus(order, expectedStatus, new CompletableFuture<>()));
+            } finally {
+                reservedOrderIds.remove(order.getId(), owner);
+            }
+        }
+        if (!accepted) {
+            if (reservedHere) {
+                reservedOrderIds.remove(order.getId(), owner);
+            }
+            return false;
+        }
+
+        writes.reserved.add(order.getId());
+        writes.staged.put(order.getId(), withStatus(current, order.getStatus(), order.getPaymentId(),
+                order.getCancelDateTime(), current.getVersion() + 1));
+        writes.requests.add(new ChangeStatus(order, expectedStatus, new CompletableFuture<>()));
+        return true;
+    }
+
+    Optional<Order> findById(long orderId) {
+        return Optional.ofNullable(orders.get(orderId)).map(OrderJournalStore::copy);
+    }
+
+    List<Order> findPendingOrdersBefore(LocalDateTime orderDateTime, int limit) {
+        return pendingOrderIds.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .filter(order -> order.getOrderDateTime().isBefore(orderDateTime))
+                .sorted(BY_ID)
+                .limit(limit)
+                .map(OrderJournalStore::copy)
+                .toList();
+    }
+
+    List<Order> findByMemberId(long memberId) {
+        return orderIdsByMember.getOrDefault(memberId, Set.of()).stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .map(OrderJournalStore::copy)
+                .toList();
+    }
+
+    /**
+     * 남은 요청을 커밋하고 스냅샷을 써서 다음 기동 시 재생할 이벤트를 줄인다
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Request request;
+        while ((request = requests.poll()) != null) {
+            request.result().completeExceptionally(new IllegalStateException("주문 저널이 닫혔습니다."));
+        }
+        if (failure == null && eventsSinceSnapshot > 0) {
+            snapshot();
+        }
+        journal.close();
+    }
+
+    private <T> T submit(Request request) {
+        return this.<T>submitAll(List.of(request)).get(0);
+    }
+
+    /**
+     * 요청을 한꺼번에 큐에 넣어 같은 그룹 커밋으로 묶이게 하고, 모두 기록될 때까지 기다린다
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> submitAll(List<Request> batch) {
+        if (failure != null) {
+            throw new IllegalStateException("주문 저널에 기록할 수 없습니다.", failure);
+        }
+        if (!running) {
+            throw new IllegalStateException("주문 저널이 닫혔습니다.");
+        }
+        requests.addAll(batch);
+        List<T> results = new ArrayList<>(batch.size());
+        try {
+            for (Request request : batch) {
+                results.add((T) request.result().join());
+            }
+            return results;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new UncheckedIOException(new IOException("주문 저널 기록 실패", e.getCause()));
+        }
+    }
+
+    /**
+     * 현재 트랜잭션에 등록된 이 저장소의 대기 쓰기 (트랜잭션 밖이면 null)
+     * REQUIRES_NEW 등으로 바깥 트랜잭션이 보류되면 그 동기화도 함께 보류되므로, 리소스 바인딩 대신 동기화 목록에서 찾는다.
+     */
+    private PendingWrites currentTransactionWrites() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingWrites writes && writes.store() == this) {
+                return writes;
+            }
+        }
+        PendingWrites writes = new PendingWrites();
+        TransactionSynchronizationManager.registerSynchronization(writes);
+        return writes;
+    }
+
+    /**
+     * 트랜잭션 하나의 저널 쓰기: 커밋되면 기록하고, 커밋/롤백과 관계없이 끝나면 예약을 푼다
+     */
+    private final class PendingWrites implements TransactionSynchronization {
+
+        private final List<Request> requests = new ArrayList<>();
+        // 이 트랜잭션에서 만들거나 바꾼 주문 (같은 트랜잭션의 다음 전이는 이 상태를 기준으로 확인)
+        private final Map<Long, Order> staged = new HashMap<>();
+        private final Set<Long> reserved = new HashSet<>();
+
+        private OrderJournalStore store() {
+            return OrderJournalStore.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            if (!requests.isEmpty()) {
+                submitAll(requests);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            reserved.forEach(orderId -> reservedOrderIds.remove(orderId, this));
+        }
+    }
+
+    private void commitLoop() {
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        while (running || !requests.isEmpty()) {
+            try {
+                Request first = requests.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                requests.drainTo(batch, maxBatchSize - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+            if (eventsSinceSnapshot >= snapshotInterval) {
+                snapshot();
+            }
+        }
+    }
+
+    /**
+     * 요청을 차례로 확인해 이벤트를 저널에 쓰고, 한 번 fsync 한 뒤 인덱스에 반영하고 결과를 알린다.
+     * 같은 묶음 안에서 앞선 요청이 바꾼 주문은 아직 인덱스에 없으므로 staged 에서 먼저 찾는다.
+     */
+    private void commit(List<Request> batch) {
+        if (failure != null) {
+            batch.forEach(request -> request.result().completeExceptionally(
+                    new IllegalStateException("주문 저널에 기록할 수 없습니다.", failure)));
+            return;
+        }
+
+        Map<Long, Order> staged = new HashMap<>();
+        List<Runnable> completions = new ArrayList<>(batch.size());
+        int events = 0;
+        try {
+            for (Request request : batch) {
+                if (request instanceof Create create) {
+                    // ID 발급과 인코딩은 요청 스레드에서 끝났다
+                    for (byte[] event : create.events()) {
+                        journal.append(event);
+                    }
+                    events += create.orders().size();
+                    create.orders().forEach(order -> staged.put(order.getId(), order));
+                    completions.add(() -> create.result().complete(
+                            create.orders().stream().map(OrderJournalStore::copy).toList()));
+                } else if (request instanceof ChangeStatus change) {
+                    Order requested = change.order();
+                    Order current = staged.containsKey(requested.getId()) ? staged.get(requested.getId()) : orders.get(requested.getId());
+                    boolean accepted = current != null
+                            && current.getStatus() == change.expectedStatus()
+                            && Objects.equals(current.getVersion(), requested.getVersion());
+                    if (accepted) {
+                        Order changed = withStatus(current, requested.getStatus(), requested.getPaymentId(),
+                                requested.getCancelDateTime(), current.getVersion() + 1);
+                        journal.append(OrderJournalCodec.encode(new OrderStatusChanged(changed.getId(), changed.getStatus(),
+                                changed.getPaymentId(), changed.getCancelDateTime(), changed.getVersion())));
+                        events++;
+                        staged.put(changed.getId(), changed);
+                    }
+                    completions.add(() -> change.result().complete(accepted));
+                }
+            }
+
+            if (events > 0 && fsync) {
+                fsyncTimer.record(journal::force);
+            }
+        } catch (IOException | RuntimeException e) {
+            failure = e;
+            log.error("주문 저널 기록 실패, 이후 주문 쓰기를 거절합니다: directory={}", directory, e);
+            batch.forEach(request -> request.result().completeExceptionally(e));
+            return;
+        }
+
+        staged.values().forEach(this::index);
+        eventsSinceSnapshot += events;
+        commitEvents.record(events);
+        completions.forEach(Runnable::run);
+    }
+
+    private void replay(ByteBuffer buffer) {
+        OrderJournalEvent event = OrderJournalCodec.decode(buffer);
+        if (event instanceof OrderCreated created) {
+            index(created.order());
+            nextOrderId.accumulateAndGet(created.order().getId() + 1, Math::max);
+        } else if (event instanceof OrderStatusChanged changed) {
+            Order current = orders.get(changed.orderId());
+            if (current == null) {
+                throw new IllegalStateException("저널에 생성 이벤트가 없는 주문입니다: orderId=" + changed.orderId());
+            }
+            index(withStatus(current, changed.status(), changed.paymentId(), changed.cancelDateTime(), changed.version()));
+        }
+        eventsSinceSnapshot++;
+    }
+
+    private void index(Order order) {
+        orders.put(order.getId(), order);
+        orderIdsByMember.computeIfAbsent(order.getMemberId(), memberId -> ConcurrentHashMap.newKeySet()).add(order.getId());
+        if (order.isPending()) {
+            pendingOrderIds.add(order.getId());
+        } else {
+            pendingOrderIds.remove(order.getId());
+        }
+    }
+
+    /**
+     * 커밋 스레드에서만 호출 (스냅샷 동안 쓰기는 대기한다)
+     */
+    private void snapshot() {
+        long started = System.nanoTime();
+        long sequence = journal.lastSequence();
+        try {
+            if (!fsync) {
+                // 스냅샷 이전 세그먼트를 지우기 전에 스냅샷에 담긴 이벤트를 디스크에 반영
+                journal.force();
+            }
+            Path file = OrderJournalSnapshot.write(directory, sequence, nextOrderId.get(), List.copyOf(orders.values()));
+            int deletedSegments = journal.deleteSegmentsThrough(sequence);
+            eventsSinceSnapshot = 0;
+            log.info("주문 저널 스냅샷 생성: file={}, orders={}, deletedSegments={}, elapsed={}ms", file, orders.size(),
+                    deletedSegments, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException | RuntimeException e) {
+            // 저널은 그대로 남아 있으므로 다음 주기에 다시 시도
+            log.error("주문 저널 스냅샷 실패: directory={}", directory, e);
+        }
+    }
+
+    private static Order withIdentity(Order order, long id, long version) {
+        return Order.builder()
+                .id(id)
+                .memberId(order.getMemberId())
+                .orderLines(List.copyOf(order.getOrderLines()))
+                .status(order.getStatus())
+                .paymentId(order.getPaymentId())
+                .orderDateTime(order.getOrderDateTime())
+                .cancelDateTime(order.getCancelDateTime())
+                .version(version)
+                .build();
+    }
+
+    private static Order withStatus(Order order, OrderStatus status, String paymentId, LocalDateTime cancelDateTime,
+                                    long version) {
+        return Order.builder()
+                .id(order.getId())
+                .memberId(order.getMemberId())
+                .orderLines(order.getOrderLines())
+                .status(status)
+                .paymentId(paymentId)
+                .orderDateTime(order.getOrderDateTime())
+                .cancelDateTime(cancelDateTime)
+                .version(version)
+                .build();
+    }
+
+    /**
+     * 호출자가 도메인 메서드(confirm, cancel 등)로 바꿔도 인덱스의 주문은 그대로 두도록 복사본을 반환
+     */
+    private static Order copy(Order order) {
+        return withStatus(order, order.getStatus(), order.getPaymentId(), order.getCancelDateTime(), order.getVersion());
+    }
+}
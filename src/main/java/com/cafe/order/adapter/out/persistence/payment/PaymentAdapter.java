@@ -1,11 +1,16 @@
 package com.cafe.order.adapter.out.persistence.payment;
 
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
 import com.cafe.order.application.port.out.payment.PaymentPort;
 import com.cafe.order.domain.payment.model.Payment;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -13,23 +18,62 @@ public class PaymentAdapter implements PaymentPort {
 
     private final PaymentJpaRepository paymentJpaRepository;
     private final PaymentPersistenceMapper paymentPersistenceMapper;
+    private final ShardRouter shardRouter;
 
+    /**
+     * 결제는 주문과 같은 샤드에 저장한다 (주문 ID 로 라우팅)
+     */
     @Override
     public Payment save(Payment payment) {
-        PaymentJpaEntity entity = paymentPersistenceMapper.toEntity(payment);
-        PaymentJpaEntity savedEntity = paymentJpaRepository.save(entity);
-        return paymentPersistenceMapper.toDomain(savedEntity);
+        return shardRouter.onOrder(payment.getOrderId(), () -> {
+            PaymentJpaEntity entity = paymentPersistenceMapper.toEntity(payment);
+            PaymentJpaEntity savedEntity = paymentJpaRepository.save(entity);
+            return paymentPersistenceMapper.toDomain(savedEntity);
+        });
     }
 
+    @Override
+    public List<Payment> saveAll(List<Payment> payments) {
+        if (payments.isEmpty()) {
+            return List.of();
+        }
+        int shard = shardRouter.shardOfOrder(payments.get(0).getOrderId());
+        if (payments.stream().anyMatch(payment -> shardRouter.shardOfOrder(payment.getOrderId()) != shard)) {
+            throw new IllegalArgumentException("한 번에 저장하는 결제는 같은 샤드의 주문이어야 합니다.");
+        }
+        return shardRouter.onShard(shard, () -> {
+            List<PaymentJpaEntity> entities = payments.stream()
+                    .map(paymentPersistenceMapper::toEntity)
+                    .toList();
+            return paymentJpaRepository.saveAll(entities).stream()
+                    .map(paymentPersistenceMapper::toDomain)
+                    .toList();
+        });
+    }
+
+    /**
+     * 결제 ID 에는 샤드 정보가 없어 샤딩 시 트랜잭션 밖에서는 샤드를 차례로 조회한다
+     */
     @Override
     public Optional<Payment> findById(Long paymentId) {
-        return paymentJpaRepository.findById(paymentId)
-                .map(paymentPersistenceMapper::toDomain);
+        return shardRouter.findOnAnyShard(() -> paymentJpaRepository.findById(paymentId)
+                .map(paymentPersistenceMapper::toDomain));
     }
 
     @Override
     public Optional<Payment> findByPaymentId(String paymentId) {
-        return paymentJpaRepository.findByPaymentId(paymentId)
-                .map(paymentPersistenceMapper::toDomain);
+        return shardRouter.findOnAnyShard(() -> paymentJpaRepository.findByPaymentId(paymentId)
+                .map(paymentPersistenceMapper::toDomain));
+    }
+
+    /**
+     * 샤딩 시 현재 샤드만 확인한다 (일괄 등록은 샤드별로 나누어 호출)
+     */
+    @Override
+    public Set<String> findExistingPaymentIds(Collection<String> paymentIds) {
+        if (paymentIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(paymentJpaRepository.findPaymentIdsIn(paymentIds));
     }
 }
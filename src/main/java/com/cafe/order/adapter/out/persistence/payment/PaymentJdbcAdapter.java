@@ -0,0 +1,131 @@
+package com.cafe.order.adapter.out.persistence.payment;
+
+import com.cafe.order.adapter.out.persistence.common.MultiRowInsert;
+import com.cafe.order.adapter.out.persistence.routing.PooledSequenceAllocator;
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
+import com.cafe.order.application.port.out.payment.PaymentPort;
+import com.cafe.order.config.OrderJdbcProperties;
+import com.cafe.order.domain.payment.model.Payment;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 결제 쓰기 JDBC 경로 (order.jdbc.enabled, PaymentAdapter 대신 사용)
+ * 주문 확정과 같은 트랜잭션에서 결제를 다중 행 INSERT 로 저장하고, 입력 결제에 ID 만 채워 반환한다.
+ */
+@Primary
+@Component
+@EnableConfigurationProperties(OrderJdbcProperties.class)
+@ConditionalOnProperty(prefix = "order.jdbc", name = "enabled", havingValue = "true")
+public class PaymentJdbcAdapter implements PaymentPort {
+
+    private static final String PAYMENT_COLUMNS = "id, payment_id, order_id, payment_date_time";
+
+    private static final RowMapper<Payment> PAYMENT_ROW_MAPPER = (resultSet, rowNum) -> Payment.builder()
+            .id(resultSet.getLong("id"))
+            .paymentId(resultSet.getString("payment_id"))
+            .orderId(resultSet.getLong("order_id"))
+            .paymentDateTime(resultSet.getObject("payment_date_time", LocalDateTime.class))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final PooledSequenceAllocator paymentIds;
+    private final MultiRowInsert<Payment> paymentInsert;
+
+    public PaymentJdbcAdapter(JdbcTemplate jdbcTemplate, ShardRouter shardRouter, OrderJdbcProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.paymentIds = PooledSequenceAllocator.forEntity(jdbcTemplate, PaymentJpaEntity.class, shardRouter.shardCount());
+        this.paymentInsert = new MultiRowInsert<>("payments",
+                List.of("id", "payment_id", "order_id", "payment_date_time", "created_at", "updated_at"),
+                properties.getMaxRowsPerStatement());
+    }
+
+    /**
+     * 결제는 주문과 같은 샤드에 저장한다 (주문 ID 로 라우팅)
+     */
+    @Override
+    public Payment save(Payment payment) {
+        return saveAll(List.of(payment)).get(0);
+    }
+
+    @Override
+    public List<Payment> saveAll(List<Payment> payments) {
+        if (payments.isEmpty()) {
+            return List.of();
+        }
+        int shard = shardRouter.shardOfOrder(payments.get(0).getOrderId());
+        if (payments.stream().anyMatch(payment -> shardRouter.shardOfOrder(payment.getOrderId()) != shard)) {
+            throw new IllegalArgumentException("한 번에 저장하는 결제는 같은 샤드의 주문이어야 합니다.");
+        }
+        return shardRouter.onShard(shard, () -> {
+            long[] ids = paymentIds.next(payments.size());
+            List<Payment> saved = new ArrayList<>(payments.size());
+            for (int i = 0; i < payments.size(); i++) {
+                Payment payment = payments.get(i);
+                saved.add(Payment.builder()
+                        .id(ids[i])
+                        .paymentId(payment.getPaymentId())
+                        .orderId(payment.getOrderId())
+                        .paymentDateTime(payment.getPaymentDateTime())
+                        .build());
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            paymentInsert.execute(jdbcTemplate, saved, (statement, index, payment, row) -> {
+                statement.setLong(index, payment.getId());
+                statement.setString(index + 1, payment.getPaymentId());
+                statement.setLong(index + 2, payment.getOrderId());
+                statement.setObject(index + 3, payment.getPaymentDateTime());
+                statement.setObject(index + 4, now);
+                statement.setObject(index + 5, now);
+            });
+            return saved;
+        });
+    }
+
+    /**
+     * 결제 ID 에는 샤드 정보가 없어 샤딩 시 트랜잭션 밖에서는 샤드를 차례로 조회한다
+     */
+    @Override
+    public Optional<Payment> findById(Long paymentId) {
+        return shardRouter.findOnAnyShard(() -> jdbcTemplate.query(
+                "SELECT " + PAYMENT_COLUMNS + " FROM payments WHERE id = ?", PAYMENT_ROW_MAPPER, paymentId)
+                .stream().findFirst());
+    }
+
+    @Override
+    public Optional<Payment> findByPaymentId(String paymentId) {
+        return shardRouter.findOnAnyShard(() -> jdbcTemplate.query(
+                "SELECT " + PAYMENT_COLUMNS + " FROM payments WHERE payment_id = ?", PAYMENT_ROW_MAPPER, paymentId)
+                .stream().findFirst());
+    }
+
+    /**
+     * 샤딩 시 현재 샤드만 확인한다 (일괄 등록은 샤드별로 나누어 호출)
+     */
+    @Override
+    public Set<String> findExistingPaymentIds(Collection<String> paymentIds) {
+        if (paymentIds.isEmpty()) {
+            return Set.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(paymentIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT payment_id FROM payments WHERE payment_id IN (" + placeholders + ")",
+                String.class, paymentIds.toArray()));
+    }
+}
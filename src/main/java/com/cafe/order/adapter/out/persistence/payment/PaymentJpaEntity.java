@@ -1,6 +1,7 @@
 package com.cafe.order.adapter.out.persistence.payment;
 
 import com.cafe.order.adapter.out.persistence.common.BaseJpaEntity;
+import com.cafe.order.adapter.out.persistence.routing.ShardedSequence;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -20,7 +21,7 @@ import java.time.LocalDateTime;
 public class PaymentJpaEntity extends BaseJpaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardedSequence(name = "payments_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -1,10 +1,18 @@
 package com.cafe.order.adapter.out.persistence.payment;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentJpaRepository extends JpaRepository<PaymentJpaEntity, Long> {
 
     Optional<PaymentJpaEntity> findByPaymentId(String paymentId);
+
+    // payment_id 유니크 인덱스만 읽도록 엔티티 대신 값만 조회
+    @Query("SELECT p.paymentId FROM PaymentJpaEntity p WHERE p.paymentId IN :paymentIds")
+    List<String> findPaymentIdsIn(@Param("paymentIds") Collection<String> paymentIds);
 }
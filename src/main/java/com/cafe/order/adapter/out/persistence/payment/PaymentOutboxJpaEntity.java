@@ -0,0 +1,59 @@
+package com.cafe.order.adapter.out.persistence.payment;
+
+import com.cafe.order.adapter.out.persistence.common.BaseJpaEntity;
+import com.cafe.order.adapter.out.persistence.routing.ShardedSequence;
+import com.cafe.order.domain.payment.model.enums.PaymentOutboxStatus;
+import com.cafe.order.domain.payment.model.enums.PaymentOutboxType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "payment_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_payment_outbox_payment_type", columnNames = {"payment_id", "type"}),
+        indexes = @Index(name = "idx_payment_outbox_status_next_attempt", columnList = "status, next_attempt_date_time")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PaymentOutboxJpaEntity extends BaseJpaEntity {
+
+    @Id
+    @ShardedSequence(name = "payment_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "payment_id", nullable = false, length = 100)
+    private String paymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PaymentOutboxType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PaymentOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime requestedDateTime;
+
+    @Column(name = "next_attempt_date_time", nullable = false)
+    private LocalDateTime nextAttemptDateTime;
+
+    private LocalDateTime completedDateTime;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(length = 36)
+    private String leaseOwner;
+}
@@ -0,0 +1,61 @@
+package com.cafe.order.adapter.out.persistence.payment;
+
+import com.cafe.order.domain.payment.model.enums.PaymentOutboxStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentOutboxJpaRepository extends JpaRepository<PaymentOutboxJpaEntity, Long> {
+
+    @Query("SELECT o.id FROM PaymentOutboxJpaEntity o " +
+            "WHERE o.status IN :statuses AND o.nextAttemptDateTime <= :now " +
+            "ORDER BY o.id")
+    List<Long> findDueIds(@Param("statuses") Collection<PaymentOutboxStatus> statuses,
+                          @Param("now") LocalDateTime now,
+                          Limit limit);
+
+    /**
+     * 조건부 UPDATE 로 항목을 선점한다. 다른 릴레이가 먼저 선점했다면 0 을 반환한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PaymentOutboxJpaEntity o " +
+            "SET o.status = :processing, o.nextAttemptDateTime = :leaseUntil, o.leaseOwner = :owner " +
+            "WHERE o.id = :id AND o.status IN :statuses AND o.nextAttemptDateTime <= :now")
+    int claim(@Param("id") Long id,
+              @Param("statuses") Collection<PaymentOutboxStatus> statuses,
+              @Param("processing") PaymentOutboxStatus processing,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 선점한 릴레이가 선점 기한 안에 있을 때만 전달 결과를 기록하고 선점을 해제한다.
+     * 기한이 지났거나 다른 릴레이가 다시 선점했다면 0 을 반환한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PaymentOutboxJpaEntity o " +
+            "SET o.status = :status, o.attempts = :attempts, o.nextAttemptDateTime = :nextAttemptDateTime, " +
+            "o.completedDateTime = :completedDateTime, o.lastError = :lastError, o.leaseOwner = NULL " +
+            "WHERE o.id = :id AND o.status = :processing AND o.leaseOwner = :owner AND o.nextAttemptDateTime > :now")
+    int releaseLease(@Param("id") Long id,
+                     @Param("processing") PaymentOutboxStatus processing,
+                     @Param("owner") String owner,
+                     @Param("now") LocalDateTime now,
+                     @Param("status") PaymentOutboxStatus status,
+                     @Param("attempts") int attempts,
+                     @Param("nextAttemptDateTime") LocalDateTime nextAttemptDateTime,
+                     @Param("completedDateTime") LocalDateTime completedDateTime,
+                     @Param("lastError") String lastError);
+
+    long countByStatusIn(Collection<PaymentOutboxStatus> statuses);
+
+    @Query("SELECT MIN(o.requestedDateTime) FROM PaymentOutboxJpaEntity o WHERE o.status IN :statuses")
+    Optional<LocalDateTime> findOldestRequestedDateTime(@Param("statuses") Collection<PaymentOutboxStatus> statuses);
+}
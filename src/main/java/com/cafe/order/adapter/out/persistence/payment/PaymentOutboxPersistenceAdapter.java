@@ -0,0 +1,80 @@
+package com.cafe.order.adapter.out.persistence.payment;
+
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
+import com.cafe.order.application.port.out.payment.PaymentOutboxPort;
+import com.cafe.order.domain.payment.model.PaymentOutbox;
+import com.cafe.order.domain.payment.model.enums.PaymentOutboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentOutboxPersistenceAdapter implements PaymentOutboxPort {
+
+    // PROCESSING 항목도 선점 기한(lease)이 지나면 릴레이 중단으로 보고 다시 선점 대상에 포함
+    private static final Set<PaymentOutboxStatus> CLAIMABLE_STATUSES =
+            EnumSet.of(PaymentOutboxStatus.PENDING, PaymentOutboxStatus.PROCESSING);
+
+    private final PaymentOutboxJpaRepository paymentOutboxJpaRepository;
+    private final PaymentOutboxPersistenceMapper paymentOutboxPersistenceMapper;
+    private final ShardRouter shardRouter;
+
+    /**
+     * 취소 요청은 주문 취소 트랜잭션과 같은 샤드에 저장되고, 샤딩 시 릴레이 스케줄러가 샤드마다 선점/전달한다
+     */
+    @Override
+    public PaymentOutbox save(PaymentOutbox paymentOutbox) {
+        PaymentOutboxJpaEntity entity = paymentOutboxPersistenceMapper.toEntity(paymentOutbox);
+        PaymentOutboxJpaEntity savedEntity = paymentOutboxJpaRepository.save(entity);
+        return paymentOutboxPersistenceMapper.toDomain(savedEntity);
+    }
+
+    @Override
+    public List<PaymentOutbox> claimDue(String owner, LocalDateTime now, LocalDateTime leaseUntil, int batchSize) {
+        List<Long> claimedIds = paymentOutboxJpaRepository.findDueIds(CLAIMABLE_STATUSES, now, Limit.of(batchSize))
+                .stream()
+                .filter(id -> paymentOutboxJpaRepository.claim(
+                        id, CLAIMABLE_STATUSES, PaymentOutboxStatus.PROCESSING, owner, now, leaseUntil) == 1)
+                .toList();
+
+        return paymentOutboxJpaRepository.findAllById(claimedIds)
+                .stream()
+                .map(paymentOutboxPersistenceMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public boolean saveLeased(PaymentOutbox paymentOutbox, LocalDateTime now) {
+        return paymentOutboxJpaRepository.releaseLease(
+                paymentOutbox.getId(), PaymentOutboxStatus.PROCESSING, paymentOutbox.getLeaseOwner(), now,
+                paymentOutbox.getStatus(), paymentOutbox.getAttempts(), paymentOutbox.getNextAttemptDateTime(),
+                paymentOutbox.getCompletedDateTime(), paymentOutbox.getLastError()) == 1;
+    }
+
+    /**
+     * 적체 메트릭은 샤드 전체 기준
+     */
+    @Override
+    public long countUndelivered() {
+        return shardRouter.fromEachShard(() -> paymentOutboxJpaRepository.countByStatusIn(CLAIMABLE_STATUSES))
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestUndeliveredRequestedDateTime() {
+        return shardRouter.fromEachShard(() -> paymentOutboxJpaRepository.findOldestRequestedDateTime(CLAIMABLE_STATUSES))
+                .stream()
+                .flatMap(Optional::stream)
+                .min(Comparator.naturalOrder());
+    }
+}
@@ -0,0 +1,38 @@
+package com.cafe.order.adapter.out.persistence.payment;
+
+import com.cafe.order.domain.payment.model.PaymentOutbox;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PaymentOutboxPersistenceMapper {
+
+    public PaymentOutboxJpaEntity toEntity(PaymentOutbox paymentOutbox) {
+        return PaymentOutboxJpaEntity.builder()
+                .id(paymentOutbox.getId())
+                .paymentId(paymentOutbox.getPaymentId())
+                .type(paymentOutbox.getType())
+                .status(paymentOutbox.getStatus())
+                .attempts(paymentOutbox.getAttempts())
+                .requestedDateTime(paymentOutbox.getRequestedDateTime())
+                .nextAttemptDateTime(paymentOutbox.getNextAttemptDateTime())
+                .completedDateTime(paymentOutbox.getCompletedDateTime())
+                .lastError(paymentOutbox.getLastError())
+                .leaseOwner(paymentOutbox.getLeaseOwner())
+                .build();
+    }
+
+    public PaymentOutbox toDomain(PaymentOutboxJpaEntity entity) {
+        return PaymentOutbox.builder()
+                .id(entity.getId())
+                .paymentId(entity.getPaymentId())
+                .type(entity.getType())
+                .status(entity.getStatus())
+                .attempts(entity.getAttempts())
+                .requestedDateTime(entity.getRequestedDateTime())
+                .nextAttemptDateTime(entity.getNextAttemptDateTime())
+                .completedDateTime(entity.getCompletedDateTime())
+                .lastError(entity.getLastError())
+                .leaseOwner(entity.getLeaseOwner())
+                .build();
+    }
+}
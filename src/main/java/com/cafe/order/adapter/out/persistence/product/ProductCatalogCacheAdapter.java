@@ -0,0 +1,129 @@
+package com.cafe.order.adapter.out.persistence.product;
+
+import com.cafe.order.application.port.out.product.ProductPort;
+import com.cafe.order.domain.product.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 카탈로그 인메모리 캐시 (ProductPort 데코레이터)
+ * 메뉴는 수가 적고 거의 바뀌지 않으므로 전체 카탈로그를 불변 스냅샷으로 들고 있다가 주기적으로 통째로 교체한다.
+ * 스냅샷에 없는 상품 ID 만 DB 에서 조회하고, 새 상품이 발견되면 스냅샷을 다시 읽는다.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "product.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductCatalogCacheAdapter implements ProductPort {
+
+    static final String CACHE_NAME = "product";
+
+    private final ProductPersistenceAdapter productPersistenceAdapter;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private volatile ProductCatalogSnapshot snapshot;
+
+    public ProductCatalogCacheAdapter(ProductPersistenceAdapter productPersistenceAdapter, MeterRegistry meterRegistry) {
+        this.productPersistenceAdapter = productPersistenceAdapter;
+        this.hitCounter = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .description("상품 카탈로그 캐시 조회 (상품 ID 단위)")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("cache.gets")
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .description("상품 카탈로그 캐시 조회 (상품 ID 단위)")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, adapter -> adapter.snapshot == null ? 0 : adapter.snapshot.size())
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<Product> findByIds(List<Long> productIds) {
+        ProductCatalogSnapshot current = currentSnapshot();
+
+        List<Product> products = new ArrayList<>(productIds.size());
+        List<Long> missingIds = null;
+        for (int i = 0; i < productIds.size(); i++) {
+            Long productId = productIds.get(i);
+            Product product = current.get(productId);
+            if (product != null) {
+                products.add(product);
+            } else {
+                if (missingIds == null) {
+                    missingIds = new ArrayList<>();
+                }
+                missingIds.add(productId);
+            }
+        }
+
+        hitCounter.increment(products.size());
+        if (missingIds != null) {
+            missCounter.increment(missingIds.size());
+            products.addAll(findMissing(missingIds));
+        }
+        return products;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return currentSnapshot().products();
+    }
+
+    /**
+     * 카탈로그 전체를 다시 읽어 스냅샷을 교체 (TTL 갱신, 상품 변경 후 명시적 갱신)
+     */
+    @Scheduled(fixedDelayString = "${product.cache.refresh-interval:5m}",
+            initialDelayString = "${product.cache.refresh-interval:5m}")
+    public synchronized void reload() {
+        ProductCatalogSnapshot reloaded = new ProductCatalogSnapshot(productPersistenceAdapter.findAll());
+        snapshot = reloaded;
+        log.info("상품 카탈로그 캐시 갱신: size={}", reloaded.size());
+    }
+
+    /**
+     * 초기 데이터 적재(CommandLineRunner) 이후 첫 요청 전에 미리 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    private ProductCatalogSnapshot currentSnapshot() {
+        ProductCatalogSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 존재하지 않는 상품 ID 요청마다 전체 갱신이 일어나지 않도록, DB 에서 실제로 찾은 경우에만 갱신
+     */
+    private List<Product> findMissing(List<Long> missingIds) {
+        List<Product> found = productPersistenceAdapter.findByIds(missingIds);
+        if (!found.isEmpty()) {
+            reload();
+        }
+        return found;
+    }
+}
@@ -0,0 +1,64 @@
+package com.cafe.order.adapter.out.persistence.product;
+
+import com.cafe.order.domain.product.model.Product;
+
+import java.util.List;
+
+/**
+ * 상품 카탈로그의 불변 스냅샷
+ * 조회 시 Long 박싱이나 엔트리 객체가 생기지 않도록 long 키 배열 기반 오픈 어드레싱(선형 탐사) 맵으로 보관한다.
+ */
+final class ProductCatalogSnapshot {
+
+    static final ProductCatalogSnapshot EMPTY = new ProductCatalogSnapshot(List.of());
+
+    private final long[] keys;
+    private final Product[] values;
+    private final int mask;
+    private final List<Product> products;
+
+    ProductCatalogSnapshot(List<Product> products) {
+        // 부하율 0.5 이하가 되도록 2의 거듭제곱 크기로 할당
+        int capacity = Integer.highestOneBit(Math.max(1, products.size() * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new Product[capacity];
+        this.mask = capacity - 1;
+        this.products = List.copyOf(products);
+
+        for (Product product : this.products) {
+            int slot = slot(product.getId());
+            while (values[slot] != null && keys[slot] != product.getId()) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = product.getId();
+            values[slot] = product;
+        }
+    }
+
+    /**
+     * 없으면 null
+     */
+    Product get(long productId) {
+        int slot = slot(productId);
+        while (values[slot] != null) {
+            if (keys[slot] == productId) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    List<Product> products() {
+        return products;
+    }
+
+    int size() {
+        return products.size();
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -1,5 +1,6 @@
 package com.cafe.order.adapter.out.persistence.product;
 
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
 import com.cafe.order.application.port.out.product.ProductPort;
 import com.cafe.order.domain.product.model.Product;
 import lombok.RequiredArgsConstructor;
@@ -15,12 +16,24 @@ public class ProductPersistenceAdapter implements ProductPort {
 
     private final ProductJpaRepository productJpaRepository;
     private final ProductPersistenceMapper productPersistenceMapper;
+    private final ShardRouter shardRouter;
 
+    /**
+     * 상품은 샤딩 시에도 기본 샤드에만 있다
+     */
     @Override
     public List<Product> findByIds(List<Long> productIds) {
-        return productJpaRepository.findByIdIn(productIds)
+        return shardRouter.onDefault(() -> productJpaRepository.findByIdIn(productIds)
                 .stream()
                 .map(productPersistenceMapper::toDomain)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return shardRouter.onDefault(() -> productJpaRepository.findAll()
+                .stream()
+                .map(productPersistenceMapper::toDomain)
+                .collect(Collectors.toList()));
     }
 }
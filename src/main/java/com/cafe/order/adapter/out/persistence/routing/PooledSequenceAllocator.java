@@ -0,0 +1,91 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Field;
+
+/**
+ * JPA 를 거치지 않는 INSERT 용 시퀀스 ID 할당
+ * Hibernate pooled 옵티마이저(ShardedSequenceGenerator)와 같은 규칙으로, 시퀀스 값 하나가 (값 - allocationSize, 값] 구간을 뜻한다.
+ * 같은 시퀀스를 Hibernate 와 함께 써도 서로 다른 구간을 받으므로 ID 가 겹치지 않는다.
+ * 샤딩 시 시퀀스는 샤드마다 있으므로 구간도 현재 샤드(ShardContext)마다 따로 둔다. 시퀀스 조회는 현재 트랜잭션의 커넥션으로 한다.
+ */
+public final class PooledSequenceAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sequence;
+    private final int allocationSize;
+    private final Block[] blocks;
+    private volatile String nextValueSql;
+
+    private static final class Block {
+        private long next;
+        private long hi = -1;
+    }
+
+    /**
+     * 엔티티 ID 필드의 @ShardedSequence 와 같은 시퀀스/할당 크기를 사용
+     */
+    public static PooledSequenceAllocator forEntity(JdbcTemplate jdbcTemplate, Class<?> entityClass, int shards) {
+        for (Field field : entityClass.getDeclaredFields()) {
+            ShardedSequence config = field.getAnnotation(ShardedSequence.class);
+            if (config != null) {
+                return new PooledSequenceAllocator(jdbcTemplate, config.name(), config.allocationSize(), shards);
+            }
+        }
+        throw new IllegalArgumentException("@ShardedSequence 가 없는 엔티티입니다: " + entityClass.getName());
+    }
+
+    private PooledSequenceAllocator(JdbcTemplate jdbcTemplate, String sequence, int allocationSize, int shards) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequence = sequence;
+        this.allocationSize = allocationSize;
+        this.blocks = new Block[shards];
+        for (int shard = 0; shard < shards; shard++) {
+            blocks[shard] = new Block();
+        }
+    }
+
+    /**
+     * 현재 샤드 시퀀스에서 count 개의 ID 를 채워 반환 (구간이 바뀌는 곳에서는 연속되지 않을 수 있다)
+     */
+    public long[] next(int count) {
+        long[] ids = new long[count];
+        Block block = blocks[ShardContext.currentShard()];
+        synchronized (block) {
+            for (int i = 0; i < count; i++) {
+                if (block.next > block.hi) {
+                    long value = nextValue();
+                    if (value < allocationSize) {
+                        // 빈 시퀀스의 첫 값(초기값)은 구간의 시작이므로 다음 값까지를 구간으로 쓴다 (Hibernate 와 같은 처리)
+                        block.next = value;
+                        block.hi = nextValue();
+                    } else {
+                        block.hi = value;
+                        block.next = value - allocationSize + 1;
+                    }
+                }
+                ids[i] = block.next++;
+            }
+        }
+        return ids;
+    }
+
+    private long nextValue() {
+        String sql = nextValueSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = "PostgreSQL".equals(product)
+                    ? "SELECT nextval('" + sequence + "')"
+                    : "SELECT NEXT VALUE FOR " + sequence;
+            nextValueSql = sql;
+        }
+        Long value = jdbcTemplate.queryForObject(sql, Long.class);
+        if (value == null) {
+            throw new IllegalStateException("시퀀스 값을 읽지 못했습니다: " + sequence);
+        }
+        return value;
+    }
+}
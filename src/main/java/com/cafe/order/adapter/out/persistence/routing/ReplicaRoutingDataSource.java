@@ -0,0 +1,184 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션 라우팅 데이터소스
+ * LazyConnectionDataSourceProxy 의 readOnlyDataSource 로 등록되어 readOnly 트랜잭션의 커넥션만 받는다.
+ * 정상 레플리카를 라운드 로빈으로 고르고, 모든 레플리카가 비정상(접속 실패, 복제 지연 초과)이면 프라이머리로 보낸다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final String METRIC_READ_CONNECTIONS = "datasource.routing.read.connections";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Counter primaryCounter;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, String lagQuery, Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.primaryCounter = readConnectionCounter("primary", meterRegistry);
+        for (Replica replica : this.replicas) {
+            replica.connections = readConnectionCounter(replica.name, meterRegistry);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", replica.name)
+                    .description("레플리카 라우팅 대상 여부 (1: 정상, 0: 제외)")
+                    .register(meterRegistry);
+        }
+    }
+
+    private static Counter readConnectionCounter(String target, MeterRegistry meterRegistry) {
+        return Counter.builder(METRIC_READ_CONNECTIONS)
+                .tag("target", target)
+                .description("읽기 전용 트랜잭션 커넥션 획득 (대상별)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * 대상 풀이 계정 지정 커넥션을 지원하지 않는 경우(SQLFeatureNotSupportedException)는 레플리카 장애가 아니므로 제외하지 않고 그대로 던진다
+     */
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = opener.open(replica.dataSource);
+                replica.connections.increment();
+                return connection;
+            } catch (SQLFeatureNotSupportedException e) {
+                throw e;
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+        primaryCounter.increment();
+        return opener.open(primary);
+    }
+
+    /**
+     * 레플리카별 커넥션 유효성과 복제 지연을 확인해 라우팅 대상 여부를 갱신
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval:5s}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    markDown(replica, "커넥션 검증 실패");
+                    continue;
+                }
+                Duration lag = lagQuery == null ? Duration.ZERO : queryLag(connection);
+                if (lag.compareTo(maxLag) > 0) {
+                    markDown(replica, "복제 지연 " + lag + " > " + maxLag);
+                    continue;
+                }
+                markUp(replica);
+            } catch (SQLException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    private Duration queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return Duration.ZERO;
+            }
+            double lagSeconds = resultSet.getDouble(1);
+            return resultSet.wasNull() ? Duration.ZERO : Duration.ofMillis((long) (lagSeconds * 1_000));
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("레플리카 라우팅 제외: replica={}, reason={}", replica.name, reason);
+        }
+    }
+
+    private void markUp(Replica replica) {
+        if (!replica.healthy) {
+            replica.healthy = true;
+            log.info("레플리카 라우팅 복귀: replica={}", replica.name);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("레플리카 커넥션 풀 종료 실패: replica={}", replica.name, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 레플리카 커넥션 풀과 라우팅 상태
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private Counter connections;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,83 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 접근할 샤드
+ * 트랜잭션 안에서는 처음 접근한 샤드에 트랜잭션 끝까지 고정되고(물리 커넥션 하나), 트랜잭션 밖에서는 pin 으로 지정한 샤드를 쓴다.
+ * 둘 다 없으면 기본 샤드(첫 번째 노드, 회원/상품 같은 공용 테이블 위치)다.
+ */
+public final class ShardContext {
+
+    public static final int DEFAULT_SHARD = 0;
+
+    private static final Object TRANSACTION_SHARD_KEY = new Object();
+    private static final ThreadLocal<Integer> PINNED_SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static int currentShard() {
+        Integer bound = transactionShard();
+        if (bound != null) {
+            return bound;
+        }
+        Integer pinned = PINNED_SHARD.get();
+        return pinned != null ? pinned : DEFAULT_SHARD;
+    }
+
+    /**
+     * 트랜잭션 밖에서만 사용, 끝나면 이전 샤드로 되돌린다
+     */
+    static <T> T pin(int shard, Supplier<T> action) {
+        Integer previous = PINNED_SHARD.get();
+        PINNED_SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PINNED_SHARD.remove();
+            } else {
+                PINNED_SHARD.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 트랜잭션을 샤드에 고정한다. 이미 다른 샤드에 고정되어 있으면 샤드 간 트랜잭션이므로 거절한다.
+     * 트랜잭션 동기화가 없으면(트랜잭션 밖) 아무것도 하지 않는다.
+     */
+    static void bindToTransaction(int shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Integer bound = (Integer) TransactionSynchronizationManager.getResource(TRANSACTION_SHARD_KEY);
+        if (bound == null) {
+            TransactionSynchronizationManager.bindResource(TRANSACTION_SHARD_KEY, shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_SHARD_KEY);
+                }
+            });
+            return;
+        }
+        if (bound != shard) {
+            throw new IllegalStateException(
+                    "한 트랜잭션에서 여러 샤드에 접근할 수 없습니다: bound=" + bound + ", requested=" + shard);
+        }
+    }
+
+    static boolean isTransactionActive() {
+        return TransactionSynchronizationManager.isSynchronizationActive();
+    }
+
+    private static Integer transactionShard() {
+        return TransactionSynchronizationManager.isSynchronizationActive()
+                ? (Integer) TransactionSynchronizationManager.getResource(TRANSACTION_SHARD_KEY)
+                : null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+/**
+ * 샤드를 정하는 키(회원 ID)를 가진 엔티티
+ */
+public interface ShardKeyed {
+
+    Long shardKey();
+}
@@ -0,0 +1,270 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import com.cafe.order.config.DataSourceShardProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 샤드 추가 후 재배치 (오프라인 작업, 트래픽을 받지 않는 상태에서 실행)
+ * 추가 전 노드 구성의 링과 현재 링을 비교해 소속이 바뀐 버킷의 주문과 주문상품/결제/Idempotency-Key 를 새 샤드로 옮긴다.
+ * 주문 ID 는 버킷을 담고 있어 그대로 옮기고, 나머지 테이블의 ID 는 대상 샤드의 시퀀스로 다시 발급한다.
+ * 청크마다 원본 주문을 잠그고 대상 샤드에 복사(커밋)한 뒤 원본에서 삭제하므로, 중간에 중단되면 다시 실행해 이어서 옮긴다.
+ * 결제 취소 Outbox 는 릴레이가 모든 샤드를 순회하므로 옮기지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "datasource.shard", name = "enabled", havingValue = "true")
+public class ShardRebalancer {
+
+    /**
+     * 엔티티의 @ShardedSequence allocationSize 와 같아야 한다 (pooled: 시퀀스 값 하나가 ID 블록 하나의 상한)
+     */
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+    private static final String ORDERS_SEQUENCE = "orders_seq";
+
+    /**
+     * 주문과 함께 옮기는 테이블 (order_id 로 연결, ID 는 대상 샤드 시퀀스로 재발급)
+     */
+    private static final List<ChildTable> CHILD_TABLES = List.of(
+            new ChildTable("order_lines", "order_lines_seq"),
+            new ChildTable("payments", "payments_seq"),
+            new ChildTable("order_idempotency_keys", "order_idempotency_keys_seq"));
+
+    private final ShardRoutingDataSource shardRoutingDataSource;
+    private final ShardRouter shardRouter;
+    private final DataSourceShardProperties properties;
+
+    public ShardRebalancer(ShardRoutingDataSource shardRoutingDataSource, ShardRouter shardRouter,
+                           DataSourceShardProperties properties) {
+        this.shardRoutingDataSource = shardRoutingDataSource;
+        this.shardRouter = shardRouter;
+        this.properties = properties;
+    }
+
+    /**
+     * @return 옮긴 주문 수
+     */
+    public long rebalance(List<String> previousNodes) throws SQLException {
+        ShardRing current = shardRouter.ring();
+        if (!current.shardNames().containsAll(previousNodes)) {
+            throw new IllegalArgumentException("노드는 추가만 할 수 있습니다: previous=" + previousNodes
+                    + ", current=" + current.shardNames());
+        }
+        ShardRing previous = new ShardRing(previousNodes, properties.getVirtualNodes());
+
+        long[] maxMovedSequence = new long[current.size()];
+        long moved = 0;
+        int movedBuckets = 0;
+        for (int bucket = 0; bucket < ShardRing.BUCKETS; bucket++) {
+            int source = current.shardNames().indexOf(previous.shardName(previous.shardOfBucket(bucket)));
+            int target = current.shardOfBucket(bucket);
+            if (source == target) {
+                continue;
+            }
+            movedBuckets++;
+            long[] result = moveBucket(bucket, source, target);
+            moved += result[0];
+            maxMovedSequence[target] = Math.max(maxMovedSequence[target], result[1]);
+        }
+
+        for (int shard = 0; shard < current.size(); shard++) {
+            if (maxMovedSequence[shard] > 0) {
+                advanceOrderSequence(shard, maxMovedSequence[shard]);
+            }
+        }
+        log.info("샤드 재배치 완료: previous={}, current={}, movedBuckets={}, movedOrders={}",
+                previousNodes, current.shardNames(), movedBuckets, moved);
+        return moved;
+    }
+
+    /**
+     * @return [옮긴 주문 수, 옮긴 주문 ID 의 최대 시퀀스 값]
+     */
+    private long[] moveBucket(int bucket, int source, int target) throws SQLException {
+        long moved = 0;
+        long maxSequence = 0;
+        while (true) {
+            try (Connection sourceConnection = shardRoutingDataSource.getConnection(source);
+                 Connection targetConnection = shardRoutingDataSource.getConnection(target)) {
+                sourceConnection.setAutoCommit(false);
+                targetConnection.setAutoCommit(false);
+                try {
+                    List<Long> orderIds = lockOrderIds(sourceConnection, bucket);
+                    if (orderIds.isEmpty()) {
+                        sourceConnection.commit();
+                        break;
+                    }
+
+                    // 이전 실행이 복사 후 원본 삭제 전에 중단된 경우를 위해 대상의 같은 주문을 먼저 지운다
+                    deleteOrders(targetConnection, orderIds);
+                    copyRows(sourceConnection, targetConnection, "orders", "id", orderIds, null);
+                    for (ChildTable child : CHILD_TABLES) {
+                        copyRows(sourceConnection, targetConnection, child.name(), "order_id", orderIds, child.sequence());
+                    }
+                    targetConnection.commit();
+
+                    deleteOrders(sourceConnection, orderIds);
+                    sourceConnection.commit();
+
+                    moved += orderIds.size();
+                    maxSequence = Math.max(maxSequence, orderIds.get(orderIds.size() - 1) / ShardRing.BUCKETS);
+                } catch (SQLException | RuntimeException e) {
+                    targetConnection.rollback();
+                    sourceConnection.rollback();
+                    throw e;
+                }
+            }
+        }
+        if (moved > 0) {
+            log.info("버킷 재배치: bucket={}, from={}, to={}, orders={}", bucket,
+                    shardRouter.ring().shardName(source), shardRouter.ring().shardName(target), moved);
+        }
+        return new long[]{moved, maxSequence};
+    }
+
+    private List<Long> lockOrderIds(Connection connection, int bucket) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id FROM orders WHERE MOD(id, " + ShardRing.BUCKETS + ") = ? ORDER BY id LIMIT ? FOR UPDATE")) {
+            statement.setInt(1, bucket);
+            statement.setInt(2, properties.getRebalance().getChunkSize());
+            List<Long> ids = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ids.add(resultSet.getLong(1));
+                }
+            }
+            return ids;
+        }
+    }
+
+    private static void deleteOrders(Connection connection, List<Long> orderIds) throws SQLException {
+        for (ChildTable child : CHILD_TABLES) {
+            execute(connection, "DELETE FROM " + child.name() + " WHERE order_id IN (" + placeholders(orderIds.size()) + ")", orderIds);
+        }
+        execute(connection, "DELETE FROM orders WHERE id IN (" + placeholders(orderIds.size()) + ")", orderIds);
+    }
+
+    /**
+     * 컬럼 목록은 원본 결과의 메타데이터를 그대로 사용하고, sequence 가 있으면 id 를 대상 샤드의 시퀀스 블록에서 새로 발급한다
+     */
+    private static void copyRows(Connection source, Connection target, String table, String keyColumn,
+                                 List<Long> orderIds, String sequence) throws SQLException {
+        try (PreparedStatement select = source.prepareStatement(
+                "SELECT * FROM " + table + " WHERE " + keyColumn + " IN (" + placeholders(orderIds.size()) + ")")) {
+            bind(select, orderIds);
+            try (ResultSet rows = select.executeQuery()) {
+                ResultSetMetaData metaData = rows.getMetaData();
+                int columns = metaData.getColumnCount();
+                List<String> columnNames = new ArrayList<>(columns);
+                int idColumn = -1;
+                for (int i = 1; i <= columns; i++) {
+                    columnNames.add(metaData.getColumnName(i));
+                    if (metaData.getColumnName(i).equalsIgnoreCase("id")) {
+                        idColumn = i;
+                    }
+                }
+
+                SequenceBlock ids = sequence == null ? null : new SequenceBlock(target, sequence);
+                try (PreparedStatement insert = target.prepareStatement("INSERT INTO " + table
+                        + " (" + String.join(", ", columnNames) + ") VALUES (" + placeholders(columns) + ")")) {
+                    while (rows.next()) {
+                        for (int i = 1; i <= columns; i++) {
+                            insert.setObject(i, ids != null && i == idColumn ? ids.next() : rows.getObject(i));
+                        }
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+
+    /**
+     * 옮겨 온 주문과 같은 시퀀스 값(같은 버킷이면 같은 ID)을 다시 발급하지 않도록 대상 샤드의 주문 시퀀스를 그 위로 올린다
+     */
+    private void advanceOrderSequence(int shard, long maxMovedSequence) throws SQLException {
+        try (Connection connection = shardRoutingDataSource.getConnection(shard)) {
+            long next = nextValue(connection, ORDERS_SEQUENCE);
+            long restartWith = maxMovedSequence + SEQUENCE_ALLOCATION_SIZE;
+            if (next - SEQUENCE_ALLOCATION_SIZE + 1 <= maxMovedSequence) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("ALTER SEQUENCE " + ORDERS_SEQUENCE + " RESTART WITH " + restartWith);
+                }
+                log.info("주문 시퀀스 조정: shard={}, restartWith={}", shardRouter.ring().shardName(shard), restartWith);
+            }
+        }
+    }
+
+    private static long nextValue(Connection connection, String sequence) throws SQLException {
+        String sql = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())
+                ? "SELECT nextval('" + sequence + "')"
+                : "SELECT NEXT VALUE FOR " + sequence;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static void execute(Connection connection, String sql, List<Long> parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            bind(statement, parameters);
+            statement.executeUpdate();
+        }
+    }
+
+    private static void bind(PreparedStatement statement, List<Long> parameters) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            statement.setLong(i + 1, parameters.get(i));
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private record ChildTable(String name, String sequence) {
+    }
+
+    /**
+     * Hibernate pooled 옵티마이저와 같은 방식으로 시퀀스 값 hi 하나당 (hi - allocationSize, hi] 블록을 사용
+     * 아직 쓰지 않은 시퀀스(첫 값이 allocationSize 보다 작음)는 옵티마이저처럼 첫 값부터 다음 값까지를 쓴다.
+     */
+    private static final class SequenceBlock {
+
+        private final Connection connection;
+        private final String sequence;
+        private long next;
+        private long hi = -1;
+
+        private SequenceBlock(Connection connection, String sequence) {
+            this.connection = connection;
+            this.sequence = sequence;
+        }
+
+        private long next() throws SQLException {
+            if (next > hi) {
+                long value = nextValue(connection, sequence);
+                if (value < SEQUENCE_ALLOCATION_SIZE) {
+                    next = value;
+                    hi = nextValue(connection, sequence);
+                } else {
+                    hi = value;
+                    next = value - SEQUENCE_ALLOCATION_SIZE + 1;
+                }
+            }
+            return next++;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 버킷 → 샤드 일관된 해싱(consistent hashing) 링
+ * 샤드마다 가상 노드를 링에 흩어 두고, 버킷은 링에서 시계 방향으로 처음 만나는 가상 노드의 샤드에 속한다.
+ * 샤드를 추가하면 새 샤드의 가상 노드 바로 앞 구간의 버킷만 옮겨지고 나머지 버킷의 소속은 그대로다.
+ * 링 위치는 샤드 이름으로 정해지므로 샤드 순서를 바꾸거나 이름을 바꾸면 소속이 달라진다.
+ */
+public final class ShardRing {
+
+    /**
+     * 회원 ID 를 나누는 고정 버킷 수, 주문 ID 하위 10비트에 버킷을 담으므로 바꿀 수 없다
+     */
+    public static final int BUCKETS = 1024;
+
+    private final List<String> shardNames;
+    private final int[] owners = new int[BUCKETS];
+
+    public ShardRing(List<String> shardNames, int virtualNodes) {
+        if (shardNames.isEmpty()) {
+            throw new IllegalArgumentException("샤드가 하나 이상 필요합니다.");
+        }
+        if (shardNames.stream().distinct().count() != shardNames.size()) {
+            throw new IllegalArgumentException("샤드 이름이 중복되었습니다: " + shardNames);
+        }
+        this.shardNames = List.copyOf(shardNames);
+
+        TreeMap<Long, Integer> ring = new TreeMap<>();
+        for (int shard = 0; shard < shardNames.size(); shard++) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.putIfAbsent(hash(shardNames.get(shard) + "#" + i), shard);
+            }
+        }
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            Map.Entry<Long, Integer> owner = ring.ceilingEntry(mix(bucket));
+            owners[bucket] = (owner != null ? owner : ring.firstEntry()).getValue();
+        }
+    }
+
+    public static int bucketOf(long key) {
+        return (int) Math.floorMod(key, (long) BUCKETS);
+    }
+
+    public int shardOfBucket(int bucket) {
+        return owners[bucket];
+    }
+
+    public int shardOf(long key) {
+        return owners[bucketOf(key)];
+    }
+
+    public String shardName(int shard) {
+        return shardNames.get(shard);
+    }
+
+    public List<String> shardNames() {
+        return shardNames;
+    }
+
+    public int size() {
+        return shardNames.size();
+    }
+
+    /**
+     * 64비트 FNV-1a 후 fmix64 로 비트를 섞어 비슷한 이름(shard-1#1, shard-1#2)도 링 전체에 고르게 흩어지게 한다
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,142 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import com.cafe.order.config.DataSourceShardProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 샤드 라우팅 진입점
+ * 회원 ID(주문은 ID 하위 비트에 담긴 회원 버킷)로 샤드를 정해, 트랜잭션 안이면 그 샤드에 트랜잭션을 고정하고
+ * 트랜잭션 밖이면 작업 동안 스레드를 그 샤드에 고정한다.
+ * 샤딩이 꺼져 있으면 모든 메서드는 작업을 그대로 실행한다.
+ */
+@Component
+@EnableConfigurationProperties(DataSourceShardProperties.class)
+public class ShardRouter {
+
+    private final boolean enabled;
+    private final ShardRing ring;
+
+    public ShardRouter(DataSourceShardProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.ring = enabled ? new ShardRing(properties.nodeNames(), properties.getVirtualNodes()) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int shardCount() {
+        return enabled ? ring.size() : 1;
+    }
+
+    public int shardOfMember(Long memberId) {
+        return enabled ? ring.shardOf(memberId) : ShardContext.DEFAULT_SHARD;
+    }
+
+    /**
+     * 주문 ID 하위 비트의 버킷은 주문한 회원 ID 의 버킷과 같다 (ShardedSequenceGenerator)
+     */
+    public int shardOfOrder(Long orderId) {
+        return enabled ? ring.shardOf(orderId) : ShardContext.DEFAULT_SHARD;
+    }
+
+    public ShardRing ring() {
+        return ring;
+    }
+
+    public <T> T onMember(Long memberId, Supplier<T> action) {
+        return enabled ? onShard(ring.shardOf(memberId), action) : action.get();
+    }
+
+    public <T> T onOrder(Long orderId, Supplier<T> action) {
+        return enabled ? onShard(ring.shardOf(orderId), action) : action.get();
+    }
+
+    /**
+     * 회원/상품 같은 공용 테이블
+     */
+    public <T> T onDefault(Supplier<T> action) {
+        return enabled ? onShard(ShardContext.DEFAULT_SHARD, action) : action.get();
+    }
+
+    public <T> T onShard(int shard, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+        if (ShardContext.isTransactionActive()) {
+            ShardContext.bindToTransaction(shard);
+            return action.get();
+        }
+        return ShardContext.pin(shard, action);
+    }
+
+    public void runOnShard(int shard, Runnable action) {
+        onShard(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 스케줄러처럼 샤드마다 같은 작업을 하는 경우, 샤드 순서대로 하나씩 실행 (트랜잭션 밖에서 호출)
+     */
+    public void forEachShard(Runnable action) {
+        for (int shard = 0; shard < shardCount(); shard++) {
+            runOnShard(shard, action);
+        }
+    }
+
+    /**
+     * 키가 없는 단건 조회: 트랜잭션 밖이면 샤드를 차례로 조회해 처음 찾은 값을, 트랜잭션 안이면 트랜잭션의 샤드만 조회
+     */
+    public <T> Optional<T> findOnAnyShard(Supplier<Optional<T>> query) {
+        if (!enabled || ShardContext.isTransactionActive()) {
+            return query.get();
+        }
+        for (int shard = 0; shard < shardCount(); shard++) {
+            Optional<T> found = ShardContext.pin(shard, query);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 샤드 전체 집계용: 트랜잭션 밖이면 샤드마다 조회한 결과를, 트랜잭션 안이면 트랜잭션의 샤드 결과만 반환
+     */
+    public <T> List<T> fromEachShard(Supplier<T> query) {
+        if (!enabled || ShardContext.isTransactionActive()) {
+            return List.of(query.get());
+        }
+        List<T> results = new ArrayList<>(shardCount());
+        for (int shard = 0; shard < shardCount(); shard++) {
+            results.add(ShardContext.pin(shard, query));
+        }
+        return results;
+    }
+
+    /**
+     * 여러 회원의 항목을 샤드별로 묶는다 (묶음과 묶음 안의 항목은 입력 순서를 따르고, 샤딩이 꺼져 있으면 하나의 묶음)
+     */
+    public <T> List<List<T>> groupByMember(List<T> items, ToLongFunction<T> memberId) {
+        if (!enabled) {
+            return items.isEmpty() ? List.of() : List.of(items);
+        }
+
+        Map<Integer, List<T>> groups = new LinkedHashMap<>();
+        for (T item : items) {
+            groups.computeIfAbsent(ring.shardOf(memberId.applyAsLong(item)), shard -> new ArrayList<>()).add(item);
+        }
+        return List.copyOf(groups.values());
+    }
+}
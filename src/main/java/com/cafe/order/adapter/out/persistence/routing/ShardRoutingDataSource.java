@@ -0,0 +1,70 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 샤드 라우팅 데이터소스
+ * LazyConnectionDataSourceProxy 뒤에 있어 트랜잭션의 첫 쿼리 시점에 커넥션을 받는다. 그때의 샤드(ShardContext)로 보내고
+ * 트랜잭션을 그 샤드에 고정하므로, 트랜잭션 안에서 다른 샤드로 라우팅하려 하면 ShardContext 가 거절한다.
+ */
+@Slf4j
+public class ShardRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private final List<Shard> shards;
+
+    public ShardRoutingDataSource(List<Shard> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int shard = ShardContext.currentShard();
+        ShardContext.bindToTransaction(shard);
+        return shards.get(shard).dataSource().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        int shard = ShardContext.currentShard();
+        ShardContext.bindToTransaction(shard);
+        return shards.get(shard).dataSource().getConnection(username, password);
+    }
+
+    /**
+     * 여러 샤드를 함께 읽는 작업(내보내기 병합, 재배치)용, 트랜잭션/라우팅과 무관한 샤드 커넥션을 직접 받는다
+     */
+    public Connection getConnection(int shard) throws SQLException {
+        return shards.get(shard).dataSource().getConnection();
+    }
+
+    public DataSource shardDataSource(int shard) {
+        return shards.get(shard).dataSource();
+    }
+
+    public int size() {
+        return shards.size();
+    }
+
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            if (shard.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("샤드 커넥션 풀 종료 실패: shard={}", shard.name(), e);
+                }
+            }
+        }
+    }
+
+    public record Shard(String name, DataSource dataSource) {
+    }
+}
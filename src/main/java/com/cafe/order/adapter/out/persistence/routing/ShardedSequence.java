@@ -0,0 +1,29 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 샤드별 시퀀스로 ID 를 할당 (pooled, allocationSize 단위)
+ * 샤딩이 꺼져 있으면 @SequenceGenerator(allocationSize = 50) 과 같다.
+ */
+@IdGeneratorType(ShardedSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target(FIELD)
+public @interface ShardedSequence {
+
+    String name();
+
+    int allocationSize() default 50;
+
+    /**
+     * 샤딩이 켜져 있으면 ID 하위 10비트에 엔티티의 샤드 키(회원 ID) 버킷을 담아, ID 만으로 샤드를 찾을 수 있게 한다
+     * 엔티티는 ShardKeyed 를 구현해야 한다.
+     */
+    boolean encodeShardKey() default false;
+}
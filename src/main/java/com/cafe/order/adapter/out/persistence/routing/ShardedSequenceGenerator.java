@@ -0,0 +1,68 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.Optimizer;
+import org.hibernate.id.enhanced.OptimizerDescriptor;
+import org.hibernate.id.enhanced.OptimizerFactory;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+/**
+ * 샤드별 시퀀스 ID 생성기
+ * 시퀀스는 샤드마다 따로 있으므로 pooled 옵티마이저도 샤드마다 두어, 현재 샤드(ShardContext)의 시퀀스에서 받은 블록만 그 샤드에 사용한다.
+ * encodeShardKey 면 ID = 시퀀스 값 * 1024 + 회원 버킷이다. 버킷은 한 샤드에만 속하므로 샤드마다 시퀀스가 겹쳐도 ID 는 전역에서 유일하다.
+ */
+public class ShardedSequenceGenerator extends SequenceStyleGenerator {
+
+    /**
+     * 샤드 수 (샤딩이 켜져 있을 때만 설정, 없으면 기존 단일 시퀀스와 같이 동작)
+     */
+    public static final String SHARD_COUNT = "com.cafe.order.shard.count";
+
+    private final ShardedSequence config;
+    private boolean encodeShardKey;
+    private Optimizer[] optimizers;
+
+    public ShardedSequenceGenerator(ShardedSequence config, Member member, CustomIdGeneratorCreationContext context) {
+        this.config = config;
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        parameters.setProperty(SEQUENCE_PARAM, config.name());
+        parameters.setProperty(OptimizableGenerator.INCREMENT_PARAM, String.valueOf(config.allocationSize()));
+        super.configure(type, parameters, serviceRegistry);
+
+        Object shardCount = serviceRegistry.requireService(ConfigurationService.class).getSettings().get(SHARD_COUNT);
+        int shards = shardCount == null ? 1 : Integer.parseInt(shardCount.toString());
+        encodeShardKey = shardCount != null && config.encodeShardKey();
+
+        int incrementSize = determineIncrementSize(parameters);
+        OptimizerDescriptor optimizationStrategy = determineOptimizationStrategy(parameters, incrementSize);
+        optimizers = new Optimizer[shards];
+        optimizers[0] = getOptimizer();
+        for (int shard = 1; shard < shards; shard++) {
+            optimizers[shard] = OptimizerFactory.buildOptimizer(optimizationStrategy, type.getReturnedClass(),
+                    incrementSize, determineInitialValue(parameters));
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object entity) throws HibernateException {
+        long value = ((Number) optimizers[ShardContext.currentShard()]
+                .generate(getDatabaseStructure().buildCallback(session))).longValue();
+        if (!encodeShardKey) {
+            return value;
+        }
+        return value * ShardRing.BUCKETS + ShardRing.bucketOf(((ShardKeyed) entity).shardKey());
+    }
+}
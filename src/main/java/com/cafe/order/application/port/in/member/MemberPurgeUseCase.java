@@ -0,0 +1,9 @@
+package com.cafe.order.application.port.in.member;
+
+public interface MemberPurgeUseCase {
+
+    /**
+     * 철회 기간이 지난 탈퇴 회원을 최대 maxMembers 명 삭제하고, 삭제한 회원 수를 반환한다.
+     */
+    int purgeExpiredWithdrawals(int maxMembers);
+}
@@ -2,8 +2,17 @@ package com.cafe.order.application.port.in.member;
 
 import com.cafe.order.domain.member.model.Member;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface MemberQueryUseCase {
 
     Member findById(Long memberId);
 
+    /**
+     * ACTIVE 가 아니거나 없는 회원 ID 를 캐시가 아닌 프라이머리 기준으로 반환한다.
+     * findById 는 캐시(다른 인스턴스의 탈퇴는 TTL 동안 반영되지 않음)를 거치므로 주문 생성 직전에 상태를 다시 확인하는 데 쓴다.
+     */
+    Set<Long> findInactiveMemberIds(Collection<Long> memberIds);
+
 }
@@ -0,0 +1,11 @@
+package com.cafe.order.application.port.in.order;
+
+import java.time.LocalDateTime;
+
+public interface OrderArchiveUseCase {
+
+    /**
+     * orderedBefore 이전에 주문된 주문(PENDING 제외)을 최대 maxOrders 건 보관 저장소로 옮기고, 핫 테이블에서 삭제한 주문 수를 반환한다.
+     */
+    int archiveOrders(LocalDateTime orderedBefore, int maxOrders);
+}
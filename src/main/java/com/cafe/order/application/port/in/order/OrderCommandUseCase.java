@@ -2,12 +2,24 @@ package com.cafe.order.application.port.in.order;
 
 import com.cafe.order.application.port.in.order.command.CancelOrderCommand;
 import com.cafe.order.application.port.in.order.command.CreateOrderCommand;
+import com.cafe.order.application.port.in.order.command.CreateOrderResult;
 import com.cafe.order.domain.order.model.Order;
 import jakarta.validation.Valid;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface OrderCommandUseCase {
 
-    Order createOrder(@Valid CreateOrderCommand command);
+    CompletableFuture<Order> createOrder(@Valid CreateOrderCommand command);
+
+    CompletableFuture<List<CreateOrderResult>> createOrders(@Valid List<CreateOrderCommand> commands);
 
     void cancelOrder(@Valid CancelOrderCommand command);
+
+    /**
+     * pendingBefore 이전에 생성되어 PENDING 으로 남은 주문을 (샤딩 시 샤드마다) 최대 limit 건 실패 처리하고, 처리한 주문 수를 반환한다.
+     */
+    int recoverPendingOrders(LocalDateTime pendingBefore, int limit);
 }
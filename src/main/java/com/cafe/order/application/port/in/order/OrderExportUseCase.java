@@ -0,0 +1,14 @@
+package com.cafe.order.application.port.in.order;
+
+import com.cafe.order.application.port.in.order.query.OrderExportQuery;
+import com.cafe.order.application.port.in.order.query.OrderExportRow;
+
+import java.util.function.Consumer;
+
+public interface OrderExportUseCase {
+
+    /**
+     * 조회되는 대로 한 행씩 rowConsumer 에 넘기고(전체를 메모리에 모으지 않음) 내보낸 행 수를 반환
+     */
+    long exportOrders(OrderExportQuery query, Consumer<OrderExportRow> rowConsumer);
+}
@@ -0,0 +1,15 @@
+package com.cafe.order.application.port.in.order;
+
+import com.cafe.order.application.port.in.order.command.ImportOrderCommand;
+import com.cafe.order.application.port.in.order.command.ImportOrderResult;
+
+import java.util.List;
+
+public interface OrderImportUseCase {
+
+    /**
+     * 결제까지 끝난 오프라인 주문 묶음(청크)을 한 트랜잭션으로 등록하고(샤딩 시 샤드마다 한 트랜잭션), 주문별 결과를 같은 순서로 반환한다.
+     * 검증에 실패한 주문만 제외하고 나머지는 등록한다.
+     */
+    List<ImportOrderResult> importOrders(List<ImportOrderCommand> commands);
+}
@@ -0,0 +1,8 @@
+package com.cafe.order.application.port.in.order;
+
+import com.cafe.order.application.port.in.order.query.OrderHistoryPage;
+import com.cafe.order.application.port.in.order.query.OrderHistoryQuery;
+
+public interface OrderQueryUseCase {
+    OrderHistoryPage findOrderHistory(OrderHistoryQuery query);
+}
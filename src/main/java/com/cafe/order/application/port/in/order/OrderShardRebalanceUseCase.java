@@ -0,0 +1,11 @@
+package com.cafe.order.application.port.in.order;
+
+import java.util.List;
+
+public interface OrderShardRebalanceUseCase {
+
+    /**
+     * 추가 전 노드 구성(previousNodes)과 현재 구성을 비교해 소속이 바뀐 주문을 새 샤드로 옮기고, 옮긴 주문 수를 반환한다.
+     */
+    long rebalance(List<String> previousNodes);
+}
@@ -1,9 +1,11 @@
 package com.cafe.order.application.port.in.order.command;
 
+import com.cafe.order.common.Deadline;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 import java.util.List;
 
@@ -13,5 +15,24 @@ public record CreateOrderCommand(
     Long memberId,
 
     @NotEmpty(message = "주문 상품 목록은 필수입니다.")
-    List<@Valid OrderLineCommand> orderLines
-) {}
+    List<@Valid OrderLineCommand> orderLines,
+
+    @Size(max = 100, message = "Idempotency-Key는 100자 이하여야 합니다.")
+    String idempotencyKey,
+
+    Deadline deadline
+) {
+    public CreateOrderCommand {
+        if (deadline == null) {
+            deadline = Deadline.none();
+        }
+    }
+
+    public CreateOrderCommand(Long memberId, List<OrderLineCommand> orderLines) {
+        this(memberId, orderLines, null, Deadline.none());
+    }
+
+    public CreateOrderCommand(Long memberId, List<OrderLineCommand> orderLines, String idempotencyKey) {
+        this(memberId, orderLines, idempotencyKey, Deadline.none());
+    }
+}
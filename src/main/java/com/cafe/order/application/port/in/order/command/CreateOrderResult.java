@@ -0,0 +1,30 @@
+package com.cafe.order.application.port.in.order.command;
+
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.ErrorCode;
+import com.cafe.order.domain.order.model.Order;
+
+/**
+ * 주문 일괄 생성의 주문별 결과 (생성되면 확정된 order, 실패하면 errorCode/message)
+ */
+public record CreateOrderResult(
+    Order order,
+    ErrorCode errorCode,
+    String message
+) {
+    public static CreateOrderResult created(Order order) {
+        return new CreateOrderResult(order, null, null);
+    }
+
+    public static CreateOrderResult rejected(ErrorCode errorCode) {
+        return new CreateOrderResult(null, errorCode, errorCode.getMessage());
+    }
+
+    public static CreateOrderResult rejected(BizException e) {
+        return new CreateOrderResult(null, e.getErrorCode(), e.getMessage());
+    }
+
+    public boolean isCreated() {
+        return order != null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.cafe.order.application.port.in.order.command;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ImportOrderCommand(
+    @NotNull(message = "회원 ID는 필수입니다.")
+    @Positive(message = "회원 ID는 양수여야 합니다.")
+    Long memberId,
+
+    @NotEmpty(message = "주문 상품 목록은 필수입니다.")
+    List<@Valid OrderLineCommand> orderLines,
+
+    @NotBlank(message = "결제 ID는 필수입니다.")
+    @Size(max = 100, message = "결제 ID는 100자 이하여야 합니다.")
+    String paymentId,
+
+    @NotNull(message = "주문 일시는 필수입니다.")
+    @PastOrPresent(message = "주문 일시는 현재 이전이어야 합니다.")
+    LocalDateTime orderDateTime
+) {
+}
@@ -0,0 +1,29 @@
+package com.cafe.order.application.port.in.order.command;
+
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.ErrorCode;
+
+/**
+ * 주문 일괄 등록의 주문별 결과 (등록되면 orderId, 제외되면 errorCode/message)
+ */
+public record ImportOrderResult(
+    Long orderId,
+    ErrorCode errorCode,
+    String message
+) {
+    public static ImportOrderResult imported(Long orderId) {
+        return new ImportOrderResult(orderId, null, null);
+    }
+
+    public static ImportOrderResult rejected(ErrorCode errorCode) {
+        return new ImportOrderResult(null, errorCode, errorCode.getMessage());
+    }
+
+    public static ImportOrderResult rejected(BizException e) {
+        return new ImportOrderResult(null, e.getErrorCode(), e.getMessage());
+    }
+
+    public boolean isImported() {
+        return orderId != null;
+    }
+}
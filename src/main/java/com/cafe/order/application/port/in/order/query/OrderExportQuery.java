@@ -0,0 +1,12 @@
+package com.cafe.order.application.port.in.order.query;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 일시가 [from, to) 인 주문 내보내기
+ */
+public record OrderExportQuery(
+    LocalDateTime from,
+    LocalDateTime to
+) {
+}
@@ -0,0 +1,21 @@
+package com.cafe.order.application.port.in.order.query;
+
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 한 행 (주문상품 1개 = 1행, 주문과 결제 정보는 주문상품마다 반복)
+ */
+public record OrderExportRow(
+    long orderId,
+    long memberId,
+    OrderStatus status,
+    String paymentId,
+    LocalDateTime orderDateTime,
+    LocalDateTime cancelDateTime,
+    LocalDateTime paymentDateTime,
+    long productId,
+    int quantity
+) {
+}
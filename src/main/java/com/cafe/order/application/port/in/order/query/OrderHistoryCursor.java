@@ -0,0 +1,13 @@
+package com.cafe.order.application.port.in.order.query;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키셋 페이지네이션 커서: 이전 페이지 마지막 주문의 (주문일시, 주문 ID)
+ * 다음 페이지는 이 위치보다 오래된 주문부터 시작하므로, 페이지 깊이와 관계없이 인덱스에서 바로 찾아 읽는다.
+ */
+public record OrderHistoryCursor(
+    LocalDateTime orderDateTime,
+    Long orderId
+) {
+}
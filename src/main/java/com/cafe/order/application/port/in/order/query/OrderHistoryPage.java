@@ -0,0 +1,16 @@
+package com.cafe.order.application.port.in.order.query;
+
+import java.util.List;
+
+/**
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+public record OrderHistoryPage(
+    List<OrderSummary> orders,
+    OrderHistoryCursor nextCursor
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.cafe.order.application.port.in.order.query;
+
+/**
+ * 회원 주문 내역 조회 (최신순)
+ * cursor 가 null 이면 첫 페이지
+ */
+public record OrderHistoryQuery(
+    Long memberId,
+    OrderHistoryCursor cursor,
+    int size
+) {
+}
@@ -0,0 +1,25 @@
+package com.cafe.order.application.port.in.order.query;
+
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 내역 조회용 읽기 모델 (도메인 Order 를 거치지 않는 DTO 프로젝션)
+ */
+public record OrderSummary(
+    Long orderId,
+    OrderStatus status,
+    String paymentId,
+    LocalDateTime orderDateTime,
+    LocalDateTime cancelDateTime,
+    List<Line> orderLines
+) {
+
+    public record Line(
+        Long productId,
+        Integer quantity
+    ) {
+    }
+}
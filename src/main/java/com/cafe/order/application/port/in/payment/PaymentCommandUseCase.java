@@ -5,9 +5,19 @@ import com.cafe.order.application.port.in.payment.command.ProcessPaymentCommand;
 import com.cafe.order.domain.payment.model.Payment;
 import jakarta.validation.Valid;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public interface PaymentCommandUseCase {
 
-    Payment processPayment(@Valid ProcessPaymentCommand command);
+    /**
+     * 외부 결제 API 를 호출하고 승인된 결제를 반환한다. 영속화는 하지 않는다.
+     */
+    CompletableFuture<Payment> processPayment(@Valid ProcessPaymentCommand command);
+
+    Payment savePayment(Payment payment);
+
+    List<Payment> savePayments(List<Payment> payments);
 
     void cancelPayment(@Valid CancelPaymentCommand command);
 }
@@ -0,0 +1,14 @@
+package com.cafe.order.application.port.in.payment;
+
+public interface PaymentOutboxRelayUseCase {
+
+    /**
+     * 처리 시각이 도래한 결제 Outbox 를 한 배치 선점해 외부 결제 시스템에 전달하고, 처리한 항목 수를 반환한다.
+     */
+    int relayDueOutbox();
+
+    /**
+     * 샤딩 시 샤드마다, 배치가 가득 차지 않을 때까지 relayDueOutbox 를 반복하고, 처리한 항목 수를 반환한다.
+     */
+    int relayAllDueOutbox();
+}
@@ -2,7 +2,15 @@ package com.cafe.order.application.port.in.payment;
 
 import com.cafe.order.domain.payment.model.Payment;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface PaymentQueryUseCase {
 
     Payment findById(Long paymentId);
+
+    /**
+     * 주어진 외부 결제 ID 중 이미 등록된 것만 반환
+     */
+    Set<String> findRegisteredPaymentIds(Collection<String> paymentIds);
 }
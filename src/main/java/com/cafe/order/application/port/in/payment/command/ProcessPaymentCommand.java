@@ -1,13 +1,23 @@
 package com.cafe.order.application.port.in.payment.command;
 
+import com.cafe.order.common.Deadline;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
-import java.math.BigDecimal;
-
 public record ProcessPaymentCommand(
         @NotNull(message = "주문 ID는 필수입니다.")
         @Positive(message = "주문 ID는 양수여야 합니다.")
-        Long orderId
+        Long orderId,
+
+        Deadline deadline
 ) {
+    public ProcessPaymentCommand {
+        if (deadline == null) {
+            deadline = Deadline.none();
+        }
+    }
+
+    public ProcessPaymentCommand(Long orderId) {
+        this(orderId, Deadline.none());
+    }
 }
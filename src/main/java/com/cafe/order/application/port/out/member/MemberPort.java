@@ -2,10 +2,31 @@ package com.cafe.order.application.port.out.member;
 
 import com.cafe.order.domain.member.model.Member;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface MemberPort {
     Member save(Member member);
     Optional<Member> findById(Long memberId);
     boolean existsByPhoneNumber(String phoneNumber);
+
+    /**
+     * 캐시를 거치지 않고 프라이머리에서 확인해, ACTIVE 가 아니거나 없는 회원 ID 를 반환 (주문 생성 직전 재확인용)
+     */
+    Set<Long> findInactiveIds(Collection<Long> memberIds);
+
+    /**
+     * withdrawnBefore 이전에 탈퇴한 회원 ID 를 오래된 탈퇴 순으로 최대 limit 개
+     */
+    List<Long> findExpiredWithdrawalIds(LocalDateTime withdrawnBefore, int limit);
+
+    /**
+     * 조회 이후 상태가 바뀐 회원은 지우지 않도록 탈퇴 조건을 다시 확인하며 삭제하고, 삭제한 회원 수를 반환
+     */
+    int deleteExpiredWithdrawals(List<Long> memberIds, LocalDateTime withdrawnBefore);
+
+    long countExpiredWithdrawals(LocalDateTime withdrawnBefore);
 }
\ No newline at end of file
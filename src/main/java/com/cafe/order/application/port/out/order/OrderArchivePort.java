@@ -0,0 +1,15 @@
+package com.cafe.order.application.port.out.order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 주문을 보관 저장소로 옮기기 위한 Output Port
+ * 보관된 주문의 조회는 OrderPort / OrderQueryPort 가 보관 저장소까지 이어서 처리한다.
+ */
+public interface OrderArchivePort {
+
+    /**
+     * 보관 저장소에 먼저 기록한 뒤 핫 테이블에서 삭제하고, 삭제한 주문 수를 반환한다.
+     */
+    int archiveOrders(LocalDateTime orderedBefore, int maxOrders);
+}
@@ -0,0 +1,14 @@
+package com.cafe.order.application.port.out.order;
+
+import com.cafe.order.application.port.in.order.query.OrderExportRow;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+public interface OrderExportPort {
+
+    /**
+     * 주문 일시가 [from, to) 인 주문을 (주문 일시, 주문 ID) 순으로, 한 주문의 주문상품 행은 연속해서 넘긴다
+     */
+    long exportOrders(LocalDateTime from, LocalDateTime to, Consumer<OrderExportRow> rowConsumer);
+}
@@ -0,0 +1,12 @@
+package com.cafe.order.application.port.out.order;
+
+import java.util.Optional;
+
+public interface OrderIdempotencyPort {
+    void save(String idempotencyKey, Long memberId, Long orderId);
+    /**
+     * 키는 회원의 주문과 함께 저장되므로(샤딩 시 회원의 샤드) 요청한 회원 ID 로 조회 위치를 정한다
+     */
+    Optional<Long> findOrderIdByKey(Long memberId, String idempotencyKey);
+    void deleteByOrderId(Long orderId);
+}
@@ -1,10 +1,31 @@
 package com.cafe.order.application.port.out.order;
 
 import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderPort {
     Order save(Order order);
+
+    /**
+     * 여러 주문을 호출자 트랜잭션 안에서 배치 INSERT 로 저장하고, ID 가 채워진 주문을 같은 순서로 반환한다.
+     */
+    List<Order> saveAll(List<Order> orders);
     Optional<Order> findById(Long orderId);
+
+    /**
+     * 주문상품을 로딩하지 않고 주문 행만 조회한다 (orderLines 는 빈 목록). 상태 전이(updateStatus) 전 조회용.
+     */
+    Optional<Order> findStatusById(Long orderId);
+    List<Order> findPendingOrdersBefore(LocalDateTime orderDateTime, int limit);
+
+    /**
+     * 주문 상태 전이(status, paymentId, cancelDateTime)만 반영하고 주문상품은 다시 쓰지 않는다.
+     * 현재 상태가 expectedStatus 이고 버전이 조회 시점(order.version)과 같을 때만 갱신하므로,
+     * 같은 주문에 동시에 전이를 시도하면 하나만 true 를 받는다. 갱신되면 버전이 올라가므로 다시 전이하려면 다시 조회한다.
+     */
+    boolean updateStatus(Order order, OrderStatus expectedStatus);
 }
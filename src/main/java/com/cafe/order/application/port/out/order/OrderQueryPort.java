@@ -0,0 +1,14 @@
+package com.cafe.order.application.port.out.order;
+
+import com.cafe.order.application.port.in.order.query.OrderHistoryCursor;
+import com.cafe.order.application.port.in.order.query.OrderSummary;
+
+import java.util.List;
+
+public interface OrderQueryPort {
+
+    /**
+     * 회원의 주문을 (주문일시, 주문 ID) 내림차순으로 cursor 다음부터 limit 개 조회 (cursor 가 null 이면 처음부터)
+     */
+    List<OrderSummary> findOrderHistory(Long memberId, OrderHistoryCursor cursor, int limit);
+}
@@ -0,0 +1,32 @@
+package com.cafe.order.application.port.out.order;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 회원의 주문이 저장되는 위치(샤딩 시 회원의 샤드)를 기준으로 항목을 묶는다
+ * 한 묶음의 주문은 한 트랜잭션에서 함께 저장/변경할 수 있으며, 샤딩이 꺼져 있으면 전체가 한 묶음이다
+ */
+public interface OrderShardPort {
+
+    /**
+     * 묶음의 순서와 묶음 안의 항목 순서는 입력 순서를 따른다
+     */
+    <T> List<List<T>> groupByMember(List<T> items, ToLongFunction<T> memberId);
+
+    /**
+     * 회원의 주문이 저장되는 위치에서 작업을 실행한다 (작업 안에서 시작한 트랜잭션도 그 위치를 사용)
+     */
+    <T> T onMemberShard(Long memberId, Supplier<T> action);
+
+    /**
+     * 스케줄러처럼 저장소 전체에 같은 작업을 하는 경우, 샤드 순서대로 하나씩 실행한다 (트랜잭션 밖에서 호출)
+     */
+    void forEachShard(Runnable action);
+
+    /**
+     * 노드 추가 후 소속이 바뀐 주문을 새 샤드로 옮기고, 옮긴 주문 수를 반환한다 (샤딩이 켜져 있을 때만)
+     */
+    long rebalance(List<String> previousNodes);
+}
@@ -1,7 +1,13 @@
 package com.cafe.order.application.port.out.payment;
 
+import com.cafe.order.common.Deadline;
+
+import java.util.concurrent.CompletableFuture;
 
 public interface ExternalPaymentPort {
-    String processPayment();
+    /**
+     * 결제 API 타임아웃은 deadline 의 남은 시간을 넘지 않는다.
+     */
+    CompletableFuture<String> processPayment(Deadline deadline);
     void cancelPayment(String paymentId);
 }
@@ -0,0 +1,31 @@
+package com.cafe.order.application.port.out.payment;
+
+import com.cafe.order.domain.payment.model.PaymentOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 결제 Outbox 영속화를 위한 Output Port
+ */
+public interface PaymentOutboxPort {
+
+    PaymentOutbox save(PaymentOutbox paymentOutbox);
+
+    /**
+     * 처리 시각이 도래한 항목을 최대 batchSize 개 owner 로 선점한다.
+     * 선점된 항목은 leaseUntil 까지 다른 릴레이가 가져가지 않는다.
+     */
+    List<PaymentOutbox> claimDue(String owner, LocalDateTime now, LocalDateTime leaseUntil, int batchSize);
+
+    /**
+     * 선점한 항목의 전달 결과를 조건부 UPDATE 로 기록한다.
+     * 선점 기한이 지났거나 다른 릴레이가 다시 선점했다면 기록하지 않고 false 를 반환한다.
+     */
+    boolean saveLeased(PaymentOutbox paymentOutbox, LocalDateTime now);
+
+    long countUndelivered();
+
+    Optional<LocalDateTime> findOldestUndeliveredRequestedDateTime();
+}
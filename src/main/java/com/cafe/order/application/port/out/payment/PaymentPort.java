@@ -2,7 +2,10 @@ package com.cafe.order.application.port.out.payment;
 
 import com.cafe.order.domain.payment.model.Payment;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 결제 정보 영속화를 위한 Output Port
@@ -11,7 +14,14 @@ public interface PaymentPort {
 
     Payment save(Payment payment);
 
+    List<Payment> saveAll(List<Payment> payments);
+
     Optional<Payment> findById(Long paymentId);
 
     Optional<Payment> findByPaymentId(String paymentId);
+
+    /**
+     * 주어진 외부 결제 ID 중 이미 저장된 것만 반환
+     */
+    Set<String> findExistingPaymentIds(Collection<String> paymentIds);
 }
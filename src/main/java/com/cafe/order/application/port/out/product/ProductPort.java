@@ -6,4 +6,5 @@ import java.util.List;
 
 public interface ProductPort {
     List<Product> findByIds(List<Long> productIds);
+    List<Product> findAll();
 }
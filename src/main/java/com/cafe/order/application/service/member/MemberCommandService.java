@@ -9,6 +9,7 @@ import com.cafe.order.common.BizException;
 import com.cafe.order.common.ErrorCode;
 import com.cafe.order.domain.member.model.Member;
 import com.cafe.order.domain.member.service.MemberDomainService;
+import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,6 +21,8 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class MemberCommandService implements MemberCommandUseCase {
 
+    private static final String OPTIMISTIC_LOCK = "optimistic-lock";
+
     private final MemberPort memberPort;
     private final MemberDomainService memberDomainService;
 
@@ -44,7 +47,11 @@ public class MemberCommandService implements MemberCommandUseCase {
         return memberPort.save(newMember);
     }
 
+    /**
+     * 조회 이후 다른 요청이 먼저 회원을 변경했으면 저장 시 버전 충돌이 나므로, 새 트랜잭션에서 다시 조회/검증한다
+     */
     @Override
+    @Retry(name = OPTIMISTIC_LOCK)
     public void withdraw(MemberWithdrawCommand command) {
         Member member = memberPort.findById(command.memberId())
                 .orElseThrow(() -> new BizException(ErrorCode.MEMBER_NOT_FOUND));
@@ -57,6 +64,7 @@ public class MemberCommandService implements MemberCommandUseCase {
     }
 
     @Override
+    @Retry(name = OPTIMISTIC_LOCK)
     public void cancelWithdrawal(MemberCancelWithdrawalCommand command) {
         Member member = memberPort.findById(command.memberId())
                 .orElseThrow(() -> new BizException(ErrorCode.MEMBER_NOT_FOUND));
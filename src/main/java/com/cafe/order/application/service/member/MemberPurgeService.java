@@ -0,0 +1,97 @@
+package com.cafe.order.application.service.member;
+
+import com.cafe.order.application.port.in.member.MemberPurgeUseCase;
+import com.cafe.order.application.port.out.member.MemberPort;
+import com.cafe.order.config.MemberPurgeProperties;
+import com.cafe.order.domain.member.service.MemberDomainService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 철회 기간이 지난 탈퇴 회원 정리
+ * (status, withdrawal_date_time) 인덱스로 가장 오래된 탈퇴 회원부터 chunk-size 명씩 찾아 청크마다 별도 트랜잭션으로 삭제하고,
+ * 청크 사이에 pause 만큼 쉰다. 삭제가 커밋된 회원은 다시 조회되지 않으므로 별도 진행 위치를 저장하지 않아도
+ * 중단/재기동 후 다음 실행이 남은 회원부터 이어서 처리한다. 주문 내역의 member_id 는 그대로 남는다.
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(MemberPurgeProperties.class)
+public class MemberPurgeService implements MemberPurgeUseCase {
+
+    private final MemberPort memberPort;
+    private final MemberDomainService memberDomainService;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberPurgeProperties properties;
+
+    private final Counter purgedCounter;
+    private final AtomicLong backlog = new AtomicLong();
+
+    public MemberPurgeService(MemberPort memberPort,
+                              MemberDomainService memberDomainService,
+                              TransactionTemplate transactionTemplate,
+                              MemberPurgeProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.memberPort = memberPort;
+        this.memberDomainService = memberDomainService;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+
+        this.purgedCounter = Counter.builder("member.withdrawal.purged")
+                .description("철회 기간이 지나 삭제된 탈퇴 회원 수")
+                .register(meterRegistry);
+        Gauge.builder("member.withdrawal.purge.backlog", backlog, AtomicLong::get)
+                .description("철회 기간이 지났지만 아직 삭제되지 않은 탈퇴 회원 수 (정리 시작 시 집계 후 삭제한 만큼 차감)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int purgeExpiredWithdrawals(int maxMembers) {
+        LocalDateTime withdrawnBefore = memberDomainService.withdrawalExpiredBefore(LocalDateTime.now());
+        backlog.set(memberPort.countExpiredWithdrawals(withdrawnBefore));
+
+        int purged = 0;
+        while (purged < maxMembers) {
+            int limit = Math.min(properties.getChunkSize(), maxMembers - purged);
+            List<Long> memberIds = memberPort.findExpiredWithdrawalIds(withdrawnBefore, limit);
+            if (memberIds.isEmpty()) {
+                break;
+            }
+
+            int deleted = transactionTemplate.execute(status -> memberPort.deleteExpiredWithdrawals(memberIds, withdrawnBefore));
+            purged += deleted;
+            purgedCounter.increment(deleted);
+            backlog.set(Math.max(0, backlog.get() - deleted));
+            log.debug("탈퇴 회원 정리 청크 완료: deleted={}, purged={}, backlog={}", deleted, purged, backlog.get());
+
+            if (memberIds.size() < limit || !pause()) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * 종료 중 인터럽트되면 false
+     */
+    private boolean pause() {
+        if (properties.getPause().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.getPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -9,6 +9,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -21,4 +24,13 @@ public class MemberQueryService implements MemberQueryUseCase {
         return memberPort.findById(memberId)
                 .orElseThrow(() -> new BizException(ErrorCode.MEMBER_NOT_FOUND));
     }
+
+    /**
+     * 레플리카의 복제 지연만큼 늦은 상태를 읽지 않도록 쓰기 트랜잭션(프라이머리)에서 조회
+     */
+    @Override
+    @Transactional
+    public Set<Long> findInactiveMemberIds(Collection<Long> memberIds) {
+        return memberPort.findInactiveIds(memberIds);
+    }
 }
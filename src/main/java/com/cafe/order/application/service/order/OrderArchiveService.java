@@ -0,0 +1,23 @@
+package com.cafe.order.application.service.order;
+
+import com.cafe.order.application.port.in.order.OrderArchiveUseCase;
+import com.cafe.order.application.port.out.order.OrderArchivePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveService implements OrderArchiveUseCase {
+
+    private final OrderArchivePort orderArchivePort;
+
+    /**
+     * 보관 파일 기록과 DB 삭제는 어댑터가 청크 단위 트랜잭션으로 나눠 처리하므로 여기서 트랜잭션을 열지 않는다.
+     */
+    @Override
+    public int archiveOrders(LocalDateTime orderedBefore, int maxOrders) {
+        return orderArchivePort.archiveOrders(orderedBefore, maxOrders);
+    }
+}
@@ -4,38 +4,64 @@ import com.cafe.order.application.port.in.member.MemberQueryUseCase;
 import com.cafe.order.application.port.in.order.OrderCommandUseCase;
 import com.cafe.order.application.port.in.order.command.CancelOrderCommand;
 import com.cafe.order.application.port.in.order.command.CreateOrderCommand;
+import com.cafe.order.application.port.in.order.command.CreateOrderResult;
 import com.cafe.order.application.port.in.order.command.OrderLineCommand;
 import com.cafe.order.application.port.in.payment.PaymentCommandUseCase;
 import com.cafe.order.application.port.in.payment.command.CancelPaymentCommand;
 import com.cafe.order.application.port.in.payment.command.ProcessPaymentCommand;
 import com.cafe.order.domain.payment.model.Payment;
 import com.cafe.order.application.port.in.product.ProductQueryUseCase;
+import com.cafe.order.application.port.out.order.OrderIdempotencyPort;
 import com.cafe.order.application.port.out.order.OrderPort;
+import com.cafe.order.application.port.out.order.OrderShardPort;
 import com.cafe.order.common.BizException;
+import com.cafe.order.common.Deadline;
 import com.cafe.order.common.ErrorCode;
+import com.cafe.order.config.OrderBatchProperties;
 import com.cafe.order.domain.member.model.Member;
 import com.cafe.order.domain.order.model.Order;
 import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
 import com.cafe.order.domain.order.service.OrderDomainService;
 import com.cafe.order.domain.product.model.Product;
+import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Validated
+@EnableConfigurationProperties(OrderBatchProperties.class)
 public class OrderCommandCommandService implements OrderCommandUseCase {
 
+    private static final String OPTIMISTIC_LOCK = "optimistic-lock";
+
     private final OrderPort orderPort;
+    private final OrderIdempotencyPort orderIdempotencyPort;
+    private final OrderShardPort orderShardPort;
 
     private final MemberQueryUseCase memberQueryUseCase;
     private final ProductQueryUseCase productQueryUseCase;
@@ -43,8 +69,82 @@ public class OrderCommandCommandService implements OrderCommandUseCase {
 
     private final OrderDomainService orderDomainService;
 
+    private final TransactionTemplate transactionTemplate;
+    private final OrderIdempotencyCache orderIdempotencyCache;
+    private final OrderBatchProperties orderBatchProperties;
+
+    /**
+     * 주문 생성은 결제 API 호출을 사이에 둔 두 개의 짧은 트랜잭션으로 나누어 처리한다.
+     * 1. 회원/상품 검증 후 PENDING 주문 저장 (Idempotency-Key 가 있으면 함께 저장)
+     *    검증은 저장 트랜잭션 밖에서 해, 샤딩 시 저장 트랜잭션이 회원의 샤드 하나에만 접근하도록 한다.
+     * 2. (트랜잭션 없음) 외부 결제 API 호출
+     * 3. 주문 확정 및 결제 정보 저장
+     *
+     * Idempotency-Key 가 있으면 같은 키의 진행 중/완료된 결과를 공유해 결제를 한 번만 수행한다.
+     * 처리 기한이 이미 지난 요청은 DB 조회나 결제 호출 없이 거절하고, 남은 기한은 결제 API 타임아웃으로 전달한다.
+     */
     @Override
-    public Order createOrder(CreateOrderCommand command) {
+    public CompletableFuture<Order> createOrder(CreateOrderCommand command) {
+        if (command.deadline().isExpired()) {
+            throw new BizException(ErrorCode.REQUEST_DEADLINE_EXCEEDED);
+        }
+
+        if (command.idempotencyKey() == null) {
+            return placeOrder(command);
+        }
+
+        return orderIdempotencyCache.get(command.idempotencyKey(), () -> placeIdempotentOrder(command))
+                .thenApply(order -> {
+                    if (!order.getMemberId().equals(command.memberId())) {
+                        throw new BizException(ErrorCode.ORDER_IDEMPOTENCY_KEY_CONFLICT);
+                    }
+                    return order;
+                });
+    }
+
+    /**
+     * 키는 PENDING 주문과 같은 트랜잭션에 저장되므로, 캐시에 없는 키(재시작, 다른 인스턴스)의 중복은
+     * 유니크 제약 위반으로 감지해 기존 주문을 반환한다. 비중복 요청은 키 조회 쿼리 없이 진행된다.
+     * 방금 커밋된 키를 조회하므로 레플리카(복제 지연)가 아닌 프라이머리에서 읽도록 쓰기 트랜잭션 안에서 조회한다.
+     * 기존 주문이 아직 PENDING(다른 인스턴스에서 결제 중이거나 캐시가 만료된 뒤 도착)이면 성공으로 응답하지 않고 처리 중으로 거절한다.
+     */
+    private CompletableFuture<Order> placeIdempotentOrder(CreateOrderCommand command) {
+        try {
+            return placeOrder(command);
+        } catch (DataIntegrityViolationException e) {
+            Order existingOrder = transactionTemplate.execute(status ->
+                            orderIdempotencyPort.findOrderIdByKey(command.memberId(), command.idempotencyKey())
+                                    .flatMap(orderPort::findById))
+                    .orElseThrow(() -> e);
+
+            if (existingOrder.isPending() && existingOrder.getMemberId().equals(command.memberId())) {
+                log.info("처리 중인 주문의 중복 요청 거절: orderId={}, idempotencyKey={}",
+                        existingOrder.getId(), command.idempotencyKey());
+                // 실패한 future 는 캐시에 남지 않으므로 재시도 시 다시 조회한다
+                return CompletableFuture.failedFuture(new BizException(ErrorCode.ORDER_IN_PROGRESS));
+            }
+
+            log.info("중복 주문 요청으로 기존 주문 반환: orderId={}, idempotencyKey={}",
+                    existingOrder.getId(), command.idempotencyKey());
+            return CompletableFuture.completedFuture(existingOrder);
+        }
+    }
+
+    private CompletableFuture<Order> placeOrder(CreateOrderCommand command) {
+        List<OrderLine> orderLines = validateOrderLines(command);
+        Order pendingOrder = transactionTemplate.execute(status -> createPendingOrder(command, orderLines));
+
+        return paymentCommandUseCase.processPayment(new ProcessPaymentCommand(pendingOrder.getId(), command.deadline()))
+                .whenComplete((payment, e) -> {
+                    if (e != null) {
+                        failPendingOrder(pendingOrder);
+                    }
+                })
+                .thenApply(payment -> transactionTemplate.execute(status -> confirmOrder(pendingOrder, payment))
+                        .orElseThrow(() -> new BizException(ErrorCode.PAYMENT_FAILED)));
+    }
+
+    private List<OrderLine> validateOrderLines(CreateOrderCommand command) {
         Member member = memberQueryUseCase.findById(command.memberId());
 
         List<Long> productIds = command.orderLines().stream()
@@ -54,34 +154,356 @@ public class OrderCommandCommandService implements OrderCommandUseCase {
         List<Product> products = productQueryUseCase.findProductsByIds(productIds);
 
         orderDomainService.validateOrderCreation(member, products);
+        if (!memberQueryUseCase.findInactiveMemberIds(List.of(command.memberId())).isEmpty()) {
+            throw new BizException(ErrorCode.ORDER_MEMBER_NOT_ACTIVE);
+        }
 
-        List<OrderLine> orderLines = command.orderLines().stream()
+        return command.orderLines().stream()
                 .map(orderLineCommand -> OrderLine.of(orderLineCommand.productId(), orderLineCommand.quantity()))
                 .collect(Collectors.toList());
+    }
 
-        Payment payment = paymentCommandUseCase.processPayment(new ProcessPaymentCommand(command.memberId()));
+    private Order createPendingOrder(CreateOrderCommand command, List<OrderLine> orderLines) {
+        Order pendingOrder = orderPort.save(Order.createPending(command.memberId(), orderLines));
+        if (command.idempotencyKey() != null) {
+            orderIdempotencyPort.save(command.idempotencyKey(), command.memberId(), pendingOrder.getId());
+        }
+        return pendingOrder;
+    }
 
-        Order order = Order.create(command.memberId(), orderLines, payment.getPaymentId());
-        Order savedOrder = orderPort.save(order);
+    /**
+     * 결제 응답 전에 복구 스케줄러가 주문을 실패 처리했다면 확정하지 않고 승인된 결제의 취소를 등록한다.
+     * 취소 요청이 롤백되지 않도록 예외 대신 빈 값을 반환하고 트랜잭션 밖에서 실패로 변환한다.
+     */
+    private Optional<Order> confirmOrder(Order pendingOrder, Payment payment) {
+        pendingOrder.confirm(payment.getPaymentId());
+        if (!orderPort.updateStatus(pendingOrder, OrderStatus.PENDING)) {
+            paymentCommandUseCase.cancelPayment(new CancelPaymentCommand(payment.getPaymentId()));
+            log.warn("이미 실패 처리된 주문의 결제 취소 등록: orderId={}, paymentId={}",
+                    pendingOrder.getId(), payment.getPaymentId());
+            return Optional.empty();
+        }
+        paymentCommandUseCase.savePayment(payment);
 
-        log.info("주문 생성 완료: orderId={}, paymentId={}", savedOrder.getId(), payment.getPaymentId());
-        return savedOrder;
+        log.info("주문 생성 완료: orderId={}, paymentId={}", pendingOrder.getId(), payment.getPaymentId());
+        return Optional.of(pendingOrder);
     }
 
+    private void failPendingOrder(Order pendingOrder) {
+        try {
+            // 실패한 주문의 Idempotency-Key 는 해제해 같은 키로 재시도할 수 있게 한다
+            transactionTemplate.execute(status -> {
+                pendingOrder.fail();
+                orderIdempotencyPort.deleteByOrderId(pendingOrder.getId());
+                return orderPort.updateStatus(pendingOrder, OrderStatus.PENDING);
+            });
+            log.warn("결제 실패로 주문 실패 처리: orderId={}", pendingOrder.getId());
+        } catch (Exception e) {
+            // PENDING 으로 남은 주문은 복구 스케줄러가 정리
+            log.error("주문 실패 처리 중 오류: orderId={}", pendingOrder.getId(), e);
+        }
+    }
 
+    /**
+     * 단체/키오스크 주문처럼 서로 독립된 여러 주문을 한 번에 생성한다.
+     * 1. (트랜잭션 없음) 회원/상품 검증 - 같은 회원은 한 번만 조회하고, 상품은 배치 전체를 한 번에 조회
+     * 2. 검증을 통과한 주문을 한 트랜잭션에서 PENDING 으로 일괄 저장
+     * 3. (트랜잭션 없음) 결제 API 를 최대 max-concurrent-payments 건씩 동시에 호출
+     * 4. 결제된 주문의 확정과 결제 저장, 결제 실패 주문의 실패 처리를 한 트랜잭션에서 일괄 처리
+     *
+     * 결과는 입력 순서대로 주문마다 하나씩 반환하며, 한 주문의 검증/결제 실패는 다른 주문에 영향을 주지 않는다.
+     * 일괄 생성 주문은 Idempotency-Key 를 사용하지 않는다.
+     * 샤딩 시 저장(2)과 완료(4) 트랜잭션은 회원의 샤드별 묶음마다 나누고, 결제(3)는 모든 묶음이 같은 동시 호출 한도를 나눠 쓴다.
+     */
     @Override
+    public CompletableFuture<List<CreateOrderResult>> createOrders(List<CreateOrderCommand> commands) {
+        CreateOrderResult[] results = new CreateOrderResult[commands.size()];
+        List<Integer> validPositions = validateOrders(commands, results);
+        if (validPositions.isEmpty()) {
+            return CompletableFuture.completedFuture(Arrays.asList(results));
+        }
+
+        List<List<Integer>> groups = orderShardPort.groupByMember(validPositions,
+                position -> commands.get(position).memberId());
+        List<Order> pendingOrders = new ArrayList<>(validPositions.size());
+        List<Deadline> deadlines = new ArrayList<>(validPositions.size());
+        for (List<Integer> group : groups) {
+            pendingOrders.addAll(transactionTemplate.execute(status -> orderPort.saveAll(group.stream()
+                    .map(commands::get)
+                    .map(command -> Order.createPending(command.memberId(), toOrderLines(command)))
+                    .toList())));
+            group.forEach(position -> deadlines.add(commands.get(position).deadline()));
+        }
+
+        PaymentOutcome[] outcomes = new PaymentOutcome[pendingOrders.size()];
+        return processPayments(pendingOrders, deadlines, outcomes)
+                .thenApply(ignored -> {
+                    int from = 0;
+                    for (List<Integer> group : groups) {
+                        List<Order> groupOrders = pendingOrders.subList(from, from + group.size());
+                        PaymentOutcome[] groupOutcomes = Arrays.copyOfRange(outcomes, from, from + group.size());
+                        List<CreateOrderResult> completed = transactionTemplate.execute(status ->
+                                completeOrders(groupOrders, groupOutcomes));
+                        for (int i = 0; i < group.size(); i++) {
+                            results[group.get(i)] = completed.get(i);
+                        }
+                        from += group.size();
+                    }
+                    log.info("주문 일괄 생성 완료: requested={}, created={}", commands.size(),
+                            Arrays.stream(results).filter(CreateOrderResult::isCreated).count());
+                    return Arrays.asList(results);
+                });
+    }
+
+    /**
+     * 검증에 실패한 주문의 결과를 채우고, 통과한 주문의 위치를 반환한다
+     */
+    private List<Integer> validateOrders(List<CreateOrderCommand> commands, CreateOrderResult[] results) {
+        Map<Long, Product> products = findProducts(commands);
+        Map<Long, Member> members = new HashMap<>();
+        Map<Long, BizException> memberErrors = new HashMap<>();
+
+        List<Integer> positions = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            CreateOrderCommand command = commands.get(i);
+            if (command.deadline().isExpired()) {
+                results[i] = CreateOrderResult.rejected(ErrorCode.REQUEST_DEADLINE_EXCEEDED);
+                continue;
+            }
+            try {
+                Member member = findMember(command.memberId(), members, memberErrors);
+                List<Product> orderProducts = command.orderLines().stream()
+                        .map(OrderLineCommand::productId)
+                        .distinct()
+                        .map(productId -> Optional.ofNullable(products.get(productId))
+                                .orElseThrow(() -> new BizException(ErrorCode.PRODUCT_NOT_FOUND)))
+                        .toList();
+
+                orderDomainService.validateOrderCreation(member, orderProducts);
+                positions.add(i);
+            } catch (BizException e) {
+                results[i] = CreateOrderResult.rejected(e);
+            }
+        }
+        return excludeInactiveMembers(commands, positions, results);
+    }
+
+    /**
+     * 회원 조회는 캐시를 거치므로 다른 인스턴스에서 탈퇴한 회원이 ACTIVE 로 보일 수 있어, 배치의 회원 상태를 한 번에 다시 확인한다
+     */
+    private List<Integer> excludeInactiveMembers(List<CreateOrderCommand> commands, List<Integer> positions,
+                                                 CreateOrderResult[] results) {
+        if (positions.isEmpty()) {
+            return positions;
+        }
+        Set<Long> inactiveMemberIds = memberQueryUseCase.findInactiveMemberIds(positions.stream()
+                .map(position -> commands.get(position).memberId())
+                .collect(Collectors.toSet()));
+        if (inactiveMemberIds.isEmpty()) {
+            return positions;
+        }
+
+        List<Integer> activePositions = new ArrayList<>(positions.size());
+        for (Integer position : positions) {
+            if (inactiveMemberIds.contains(commands.get(position).memberId())) {
+                results[position] = CreateOrderResult.rejected(ErrorCode.ORDER_MEMBER_NOT_ACTIVE);
+            } else {
+                activePositions.add(position);
+            }
+        }
+        return activePositions;
+    }
+
+    /**
+     * 없는 회원도 배치 안에서 다시 조회하지 않도록 실패를 함께 기억한다
+     */
+    private Member findMember(Long memberId, Map<Long, Member> members, Map<Long, BizException> memberErrors) {
+        BizException error = memberErrors.get(memberId);
+        if (error != null) {
+            throw error;
+        }
+        try {
+            return members.computeIfAbsent(memberId, memberQueryUseCase::findById);
+        } catch (BizException e) {
+            memberErrors.put(memberId, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 배치의 모든 상품을 한 번에 조회하고, 없는 상품이 섞여 있으면 그 상품을 쓰는 주문만 실패하도록 상품별로 다시 조회한다
+     */
+    private Map<Long, Product> findProducts(List<CreateOrderCommand> commands) {
+        List<Long> productIds = commands.stream()
+                .flatMap(command -> command.orderLines().stream())
+                .map(OrderLineCommand::productId)
+                .distinct()
+                .toList();
+        try {
+            return productQueryUseCase.findProductsByIds(productIds).stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+        } catch (BizException e) {
+            Map<Long, Product> products = new HashMap<>();
+            for (Long productId : productIds) {
+                try {
+                    products.put(productId, productQueryUseCase.findProductsByIds(List.of(productId)).get(0));
+                } catch (BizException notFound) {
+                    // 이 상품을 주문한 주문만 PRODUCT_NOT_FOUND 로 실패
+                }
+            }
+            return products;
+        }
+    }
+
+    private static List<OrderLine> toOrderLines(CreateOrderCommand command) {
+        return command.orderLines().stream()
+                .map(orderLineCommand -> OrderLine.of(orderLineCommand.productId(), orderLineCommand.quantity()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 결제 API 호출 수를 max-concurrent-payments 로 제한한다.
+     * 레인마다 결제 하나가 끝나면 다음 주문의 결제를 이어서 호출하므로, 느린 결제 하나가 다른 레인을 막지 않는다.
+     */
+    private CompletableFuture<Void> processPayments(List<Order> pendingOrders, List<Deadline> deadlines,
+                                                    PaymentOutcome[] outcomes) {
+        int lanes = Math.min(orderBatchProperties.getMaxConcurrentPayments(), pendingOrders.size());
+        AtomicInteger next = new AtomicInteger();
+        CompletableFuture<?>[] laneFutures = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            laneFutures[lane] = processNextPayment(pendingOrders, deadlines, outcomes, next);
+        }
+        return CompletableFuture.allOf(laneFutures);
+    }
+
+    private CompletableFuture<Void> processNextPayment(List<Order> pendingOrders, List<Deadline> deadlines,
+                                                       PaymentOutcome[] outcomes, AtomicInteger next) {
+        int index = next.getAndIncrement();
+        if (index >= pendingOrders.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Payment> payment;
+        try {
+            payment = paymentCommandUseCase.processPayment(
+                    new ProcessPaymentCommand(pendingOrders.get(index).getId(), deadlines.get(index)));
+        } catch (RuntimeException e) {
+            payment = CompletableFuture.failedFuture(e);
+        }
+        return payment
+                .handle((paid, e) -> {
+                    outcomes[index] = e == null ? PaymentOutcome.paid(paid) : PaymentOutcome.failed(e);
+                    return null;
+                })
+                .thenCompose(ignored -> processNextPayment(pendingOrders, deadlines, outcomes, next));
+    }
+
+    /**
+     * 결제된 주문은 확정하고 결제를 한 번에 저장, 결제에 실패한 주문은 실패 처리한다.
+     * 결제 응답 전에 복구 스케줄러가 실패 처리한 주문은 단건 생성과 같이 확정하지 않고 승인된 결제의 취소를 등록한다.
+     */
+    private List<CreateOrderResult> completeOrders(List<Order> pendingOrders, PaymentOutcome[] outcomes) {
+        List<CreateOrderResult> results = new ArrayList<>(pendingOrders.size());
+        List<Payment> payments = new ArrayList<>();
+        for (int i = 0; i < pendingOrders.size(); i++) {
+            Order pendingOrder = pendingOrders.get(i);
+            PaymentOutcome outcome = outcomes[i];
+            if (outcome.payment() == null) {
+                pendingOrder.fail();
+                orderPort.updateStatus(pendingOrder, OrderStatus.PENDING);
+                log.warn("결제 실패로 주문 실패 처리: orderId={}", pendingOrder.getId());
+                results.add(CreateOrderResult.rejected(outcome.error()));
+                continue;
+            }
+
+            Payment payment = outcome.payment();
+            pendingOrder.confirm(payment.getPaymentId());
+            if (!orderPort.updateStatus(pendingOrder, OrderStatus.PENDING)) {
+                paymentCommandUseCase.cancelPayment(new CancelPaymentCommand(payment.getPaymentId()));
+                log.warn("이미 실패 처리된 주문의 결제 취소 등록: orderId={}, paymentId={}",
+                        pendingOrder.getId(), payment.getPaymentId());
+                results.add(CreateOrderResult.rejected(ErrorCode.PAYMENT_FAILED));
+                continue;
+            }
+            payments.add(payment);
+            results.add(CreateOrderResult.created(pendingOrder));
+        }
+        paymentCommandUseCase.savePayments(payments);
+        return results;
+    }
+
+    /**
+     * 주문 하나의 결제 결과 (결제되면 payment, 실패하면 error)
+     */
+    private record PaymentOutcome(Payment payment, BizException error) {
+
+        static PaymentOutcome paid(Payment payment) {
+            return new PaymentOutcome(payment, null);
+        }
+
+        static PaymentOutcome failed(Throwable e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof BizException bizException) {
+                return new PaymentOutcome(null, bizException);
+            }
+            return new PaymentOutcome(null, new BizException(ErrorCode.PAYMENT_FAILED));
+        }
+    }
+
+    /**
+     * 조회 이후 다른 요청이 먼저 주문을 변경했으면(버전 충돌) 갱신되지 않으므로 중복 취소(이중 환불 요청)를 원자적으로 차단한다.
+     * 충돌 시 트랜잭션을 롤백하고 짧은 백오프 후 새 트랜잭션에서 다시 조회/검증하므로, 먼저 취소된 주문은 이미 취소됨으로 거절된다.
+     * 취소에는 주문상품이 필요 없으므로 주문 행만 조회해, 주문상품 수와 관계없이 조회 1회 + UPDATE 1회로 처리한다.
+     */
+    @Override
+    @Retry(name = OPTIMISTIC_LOCK)
+    @Transactional
     public void cancelOrder(CancelOrderCommand command) {
-        Order order = orderPort.findById(command.orderId())
+        Order order = orderPort.findStatusById(command.orderId())
                 .orElseThrow(() -> new BizException(ErrorCode.ORDER_NOT_FOUND));
 
         orderDomainService.validateOrderCancellation(order);
 
+        order.cancel();
+        if (!orderPort.updateStatus(order, OrderStatus.CONFIRMED)) {
+            throw new OptimisticLockingFailureException("주문이 동시에 변경되었습니다: orderId=" + order.getId());
+        }
+
         CancelPaymentCommand cancelPaymentCommand = new CancelPaymentCommand(order.getPaymentId());
         paymentCommandUseCase.cancelPayment(cancelPaymentCommand);
 
-        order.cancel();
-        orderPort.save(order);
-
         log.info("주문 취소 완료: orderId={}, paymentId={}", order.getId(), order.getPaymentId());
     }
+
+    /**
+     * 주문 확정 전에 서버가 중단되어 PENDING 으로 남은 주문을 실패 처리한다.
+     * 결제 게이트웨이에 조회 API 가 없으므로 결제 여부는 로그로 남겨 수동 정산 대상으로 둔다.
+     * 샤딩 시 샤드마다 별도 트랜잭션으로 처리한다.
+     */
+    @Override
+    public int recoverPendingOrders(LocalDateTime pendingBefore, int limit) {
+        AtomicInteger recovered = new AtomicInteger();
+        orderShardPort.forEachShard(() -> recovered.addAndGet(
+                transactionTemplate.execute(status -> recoverPendingOrdersOnShard(pendingBefore, limit))));
+        return recovered.get();
+    }
+
+    private int recoverPendingOrdersOnShard(LocalDateTime pendingBefore, int limit) {
+        List<Order> pendingOrders = orderPort.findPendingOrdersBefore(pendingBefore, limit);
+
+        int recovered = 0;
+        for (Order pendingOrder : pendingOrders) {
+            // 조회 이후 결제 응답으로 확정/실패된 주문은 건너뜀
+            pendingOrder.fail();
+            if (!orderPort.updateStatus(pendingOrder, OrderStatus.PENDING)) {
+                continue;
+            }
+            orderIdempotencyPort.deleteByOrderId(pendingOrder.getId());
+            recovered++;
+            log.warn("미확정 주문 실패 처리 (결제 정산 확인 필요): orderId={}, orderDateTime={}",
+                    pendingOrder.getId(), pendingOrder.getOrderDateTime());
+        }
+
+        return recovered;
+    }
 }
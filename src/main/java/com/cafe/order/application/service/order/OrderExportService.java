@@ -0,0 +1,35 @@
+package com.cafe.order.application.service.order;
+
+import com.cafe.order.application.port.in.order.OrderExportUseCase;
+import com.cafe.order.application.port.in.order.query.OrderExportQuery;
+import com.cafe.order.application.port.in.order.query.OrderExportRow;
+import com.cafe.order.application.port.out.order.OrderExportPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+/**
+ * 정산용 주문 내보내기
+ * 읽기 전용 트랜잭션이므로 레플리카가 있으면 레플리카에서 읽어 대량 조회가 프라이머리 쓰기에 영향을 주지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderExportService implements OrderExportUseCase {
+
+    private final OrderExportPort orderExportPort;
+
+    @Override
+    public long exportOrders(OrderExportQuery query, Consumer<OrderExportRow> rowConsumer) {
+        long startNanos = System.nanoTime();
+        long rows = orderExportPort.exportOrders(query.from(), query.to(), rowConsumer);
+
+        log.info("주문 내보내기 완료: from={}, to={}, rows={}, elapsed={}ms",
+                query.from(), query.to(), rows, (System.nanoTime() - startNanos) / 1_000_000);
+        return rows;
+    }
+}
@@ -0,0 +1,55 @@
+package com.cafe.order.application.service.order;
+
+import com.cafe.order.config.OrderIdempotencyProperties;
+import com.cafe.order.domain.order.model.Order;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 주문 생성 결과 캐시
+ * 진행 중인 요청의 future 를 그대로 공유해 동시 중복 요청이 같은 결과를 기다리게 하고,
+ * 완료된 결과는 크기/TTL 제한 안에서 보관한다. 실패한 future 는 Caffeine 이 자동으로 제거한다.
+ */
+@Component
+@EnableConfigurationProperties(OrderIdempotencyProperties.class)
+public class OrderIdempotencyCache {
+
+    private final AsyncCache<String, Order> orders;
+    private final Timer lookupTimer;
+
+    public OrderIdempotencyCache(OrderIdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.orders = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaximumSize())
+                .expireAfterWrite(properties.getCacheTtl())
+                .recordStats()
+                .buildAsync();
+        this.lookupTimer = Timer.builder("order.idempotency.lookup")
+                .description("Idempotency-Key 캐시 조회 시간")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, orders, "orderIdempotency");
+    }
+
+    /**
+     * 키에 해당하는 진행 중/완료된 주문 생성 결과를 반환하고, 없으면 createOrder 를 한 번만 실행한다
+     */
+    public CompletableFuture<Order> get(String idempotencyKey, Supplier<CompletableFuture<Order>> createOrder) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<Order> existing = orders.getIfPresent(idempotencyKey);
+        lookupTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        if (existing != null) {
+            return existing;
+        }
+        return orders.get(idempotencyKey, (key, executor) -> createOrder.get());
+    }
+}
@@ -0,0 +1,190 @@
+package com.cafe.order.application.service.order;
+
+import com.cafe.order.application.port.in.member.MemberQueryUseCase;
+import com.cafe.order.application.port.in.order.OrderImportUseCase;
+import com.cafe.order.application.port.in.order.command.ImportOrderCommand;
+import com.cafe.order.application.port.in.order.command.ImportOrderResult;
+import com.cafe.order.application.port.in.order.command.OrderLineCommand;
+import com.cafe.order.application.port.in.payment.PaymentCommandUseCase;
+import com.cafe.order.application.port.in.payment.PaymentQueryUseCase;
+import com.cafe.order.application.port.in.product.ProductQueryUseCase;
+import com.cafe.order.application.port.out.order.OrderPort;
+import com.cafe.order.application.port.out.order.OrderShardPort;
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.ErrorCode;
+import com.cafe.order.domain.member.model.Member;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.service.OrderDomainService;
+import com.cafe.order.domain.payment.model.Payment;
+import com.cafe.order.domain.product.model.Product;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 오프라인 POS 주문 일괄 등록
+ * 1. (트랜잭션 없음) 회원/상품 검증 - 회원 캐시와 상품 카탈로그 스냅샷을 사용하고, 청크 안에서 같은 회원/상품은 한 번만 조회
+ * 2. 결제 ID 중복 확인 후 주문/주문상품/결제를 한 트랜잭션에서 배치 INSERT
+ *
+ * 검증 실패(BizException)가 참여 중인 트랜잭션을 rollback-only 로 만들지 않도록 검증은 저장 트랜잭션 밖에서 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderImportService implements OrderImportUseCase {
+
+    private final OrderPort orderPort;
+    private final OrderShardPort orderShardPort;
+
+    private final MemberQueryUseCase memberQueryUseCase;
+    private final ProductQueryUseCase productQueryUseCase;
+    private final PaymentQueryUseCase paymentQueryUseCase;
+    private final PaymentCommandUseCase paymentCommandUseCase;
+
+    private final OrderDomainService orderDomainService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 샤딩 시 청크를 회원의 샤드별로 나누어 샤드마다 한 트랜잭션으로 등록하고, 결과를 입력 순서대로 합친다
+     */
+    @Override
+    public List<ImportOrderResult> importOrders(List<ImportOrderCommand> commands) {
+        List<List<Integer>> groups = orderShardPort.groupByMember(
+                IntStream.range(0, commands.size()).boxed().toList(),
+                position -> commands.get(position).memberId());
+        if (groups.size() == 1) {
+            return orderShardPort.onMemberShard(commands.get(0).memberId(), () -> importOnShard(commands));
+        }
+
+        ImportOrderResult[] results = new ImportOrderResult[commands.size()];
+        for (List<Integer> group : groups) {
+            List<ImportOrderCommand> groupCommands = group.stream().map(commands::get).toList();
+            List<ImportOrderResult> groupResults = orderShardPort.onMemberShard(groupCommands.get(0).memberId(),
+                    () -> importOnShard(groupCommands));
+            for (int i = 0; i < group.size(); i++) {
+                results[group.get(i)] = groupResults.get(i);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private List<ImportOrderResult> importOnShard(List<ImportOrderCommand> commands) {
+        List<ImportOrderResult> validated = validate(commands);
+
+        try {
+            return transactionTemplate.execute(status -> save(commands, validated));
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인 이후 다른 요청이 같은 결제 ID 를 먼저 저장한 경우: 건별 트랜잭션으로 다시 저장해 충돌한 주문만 제외
+            log.warn("주문 일괄 등록 청크 저장 실패, 건별로 재시도: size={}", commands.size());
+            List<ImportOrderResult> results = new ArrayList<>(commands.size());
+            for (int i = 0; i < commands.size(); i++) {
+                results.add(saveOne(commands.get(i), validated.get(i)));
+            }
+            return results;
+        }
+    }
+
+    private ImportOrderResult saveOne(ImportOrderCommand command, ImportOrderResult validated) {
+        if (validated != null) {
+            return validated;
+        }
+        try {
+            return transactionTemplate.execute(status -> save(List.of(command), Collections.singletonList(null))).get(0);
+        } catch (DataIntegrityViolationException e) {
+            return ImportOrderResult.rejected(ErrorCode.ORDER_PAYMENT_DUPLICATED);
+        }
+    }
+
+    /**
+     * 검증에 실패한 주문의 결과를 채우고, 통과한 주문 자리는 null 로 둔다
+     */
+    private List<ImportOrderResult> validate(List<ImportOrderCommand> commands) {
+        Map<Long, Member> members = new HashMap<>();
+        Map<Long, Product> products = new HashMap<>();
+
+        List<ImportOrderResult> results = new ArrayList<>(commands.size());
+        for (ImportOrderCommand command : commands) {
+            try {
+                Member member = members.computeIfAbsent(command.memberId(), memberQueryUseCase::findById);
+                List<Product> orderProducts = command.orderLines().stream()
+                        .map(OrderLineCommand::productId)
+                        .distinct()
+                        .map(productId -> products.computeIfAbsent(productId,
+                                id -> productQueryUseCase.findProductsByIds(List.of(id)).get(0)))
+                        .toList();
+
+                orderDomainService.validateOrderCreation(member, orderProducts);
+                results.add(null);
+            } catch (BizException e) {
+                results.add(ImportOrderResult.rejected(e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 이미 등록된 결제 ID(재업로드)와 청크 안에서 중복된 결제 ID 는 제외하고 저장한다.
+     * 방금 커밋된 결제를 놓치지 않도록 쓰기 트랜잭션 안에서(프라이머리) 중복을 확인한다.
+     */
+    private List<ImportOrderResult> save(List<ImportOrderCommand> commands, List<ImportOrderResult> validated) {
+        List<String> paymentIds = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            if (validated.get(i) == null) {
+                paymentIds.add(commands.get(i).paymentId());
+            }
+        }
+        Set<String> registeredPaymentIds = paymentQueryUseCase.findRegisteredPaymentIds(paymentIds);
+        Set<String> seenPaymentIds = new HashSet<>();
+
+        List<ImportOrderResult> results = new ArrayList<>(validated);
+        List<Integer> positions = new ArrayList<>();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            if (results.get(i) != null) {
+                continue;
+            }
+            ImportOrderCommand command = commands.get(i);
+            if (registeredPaymentIds.contains(command.paymentId()) || !seenPaymentIds.add(command.paymentId())) {
+                results.set(i, ImportOrderResult.rejected(ErrorCode.ORDER_PAYMENT_DUPLICATED));
+                continue;
+            }
+            positions.add(i);
+            orders.add(toOrder(command));
+        }
+
+        if (orders.isEmpty()) {
+            return results;
+        }
+
+        List<Order> savedOrders = orderPort.saveAll(orders);
+        paymentCommandUseCase.savePayments(savedOrders.stream()
+                .map(order -> Payment.createPayment(order.getPaymentId(), order.getId(), order.getOrderDateTime()))
+                .toList());
+
+        for (int i = 0; i < savedOrders.size(); i++) {
+            results.set(positions.get(i), ImportOrderResult.imported(savedOrders.get(i).getId()));
+        }
+        return results;
+    }
+
+    private static Order toOrder(ImportOrderCommand command) {
+        List<OrderLine> orderLines = command.orderLines().stream()
+                .map(orderLineCommand -> OrderLine.of(orderLineCommand.productId(), orderLineCommand.quantity()))
+                .toList();
+        return Order.createImported(command.memberId(), orderLines, command.paymentId(), command.orderDateTime());
+    }
+}
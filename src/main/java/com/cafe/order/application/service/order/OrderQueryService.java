@@ -0,0 +1,41 @@
+package com.cafe.order.application.service.order;
+
+import com.cafe.order.application.port.in.member.MemberQueryUseCase;
+import com.cafe.order.application.port.in.order.OrderQueryUseCase;
+import com.cafe.order.application.port.in.order.query.OrderHistoryCursor;
+import com.cafe.order.application.port.in.order.query.OrderHistoryPage;
+import com.cafe.order.application.port.in.order.query.OrderHistoryQuery;
+import com.cafe.order.application.port.in.order.query.OrderSummary;
+import com.cafe.order.application.port.out.order.OrderQueryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 회원 확인과 주문 내역 조회는 각자의 읽기 전용 트랜잭션으로 실행한다 (샤딩 시 회원은 기본 샤드, 주문은 회원의 샤드)
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderQueryService implements OrderQueryUseCase {
+
+    private final OrderQueryPort orderQueryPort;
+    private final MemberQueryUseCase memberQueryUseCase;
+
+    /**
+     * 다음 페이지 존재 여부는 COUNT 쿼리 대신 size + 1 개를 조회해 판단
+     */
+    @Override
+    public OrderHistoryPage findOrderHistory(OrderHistoryQuery query) {
+        memberQueryUseCase.findById(query.memberId());
+
+        List<OrderSummary> orders = orderQueryPort.findOrderHistory(query.memberId(), query.cursor(), query.size() + 1);
+        if (orders.size() <= query.size()) {
+            return new OrderHistoryPage(orders, null);
+        }
+
+        List<OrderSummary> page = orders.subList(0, query.size());
+        OrderSummary last = page.get(page.size() - 1);
+        return new OrderHistoryPage(List.copyOf(page), new OrderHistoryCursor(last.orderDateTime(), last.orderId()));
+    }
+}
@@ -0,0 +1,27 @@
+package com.cafe.order.application.service.order;
+
+import com.cafe.order.application.port.in.order.OrderShardRebalanceUseCase;
+import com.cafe.order.application.port.out.order.OrderShardPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 샤드 재배치 (오프라인 작업, 트래픽을 받지 않는 상태에서 실행)
+ * 청크마다 커밋하며 옮기므로 트랜잭션으로 감싸지 않는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderShardRebalanceService implements OrderShardRebalanceUseCase {
+
+    private final OrderShardPort orderShardPort;
+
+    @Override
+    public long rebalance(List<String> previousNodes) {
+        log.info("샤드 재배치 시작: previousNodes={}", previousNodes);
+        return orderShardPort.rebalance(previousNodes);
+    }
+}
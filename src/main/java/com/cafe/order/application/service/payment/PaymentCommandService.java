@@ -4,14 +4,20 @@ import com.cafe.order.application.port.in.payment.PaymentCommandUseCase;
 import com.cafe.order.application.port.in.payment.command.CancelPaymentCommand;
 import com.cafe.order.application.port.in.payment.command.ProcessPaymentCommand;
 import com.cafe.order.application.port.out.payment.ExternalPaymentPort;
+import com.cafe.order.application.port.out.payment.PaymentOutboxPort;
 import com.cafe.order.application.port.out.payment.PaymentPort;
 import com.cafe.order.domain.payment.model.Payment;
+import com.cafe.order.domain.payment.model.PaymentOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -21,26 +27,40 @@ public class PaymentCommandService implements PaymentCommandUseCase {
 
     private final PaymentPort paymentPort;
     private final ExternalPaymentPort externalPaymentPort;
+    private final PaymentOutboxPort paymentOutboxPort;
 
+    // 외부 API 호출만 수행하므로 트랜잭션(DB 커넥션) 없이 실행
     @Override
-    public Payment processPayment(ProcessPaymentCommand command) {
-        String externalPaymentId = externalPaymentPort.processPayment();
-
-        Payment successPayment = Payment.createPayment(
-                externalPaymentId,
-                command.orderId()
-        );
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<Payment> processPayment(ProcessPaymentCommand command) {
+        return externalPaymentPort.processPayment(command.deadline())
+                .thenApply(externalPaymentId -> Payment.createPayment(
+                        externalPaymentId,
+                        command.orderId()
+                ));
+    }
 
-        Payment savedPayment = paymentPort.save(successPayment);
+    @Override
+    public Payment savePayment(Payment payment) {
+        Payment savedPayment = paymentPort.save(payment);
         log.info("결제 처리 완료: paymentId={}, externalPaymentId={}, orderId={}",
-                savedPayment.getId(), externalPaymentId, command.orderId());
+                savedPayment.getId(), savedPayment.getPaymentId(), savedPayment.getOrderId());
 
         return savedPayment;
     }
 
+    @Override
+    public List<Payment> savePayments(List<Payment> payments) {
+        return paymentPort.saveAll(payments);
+    }
+
+    /**
+     * 결제 취소 요청을 호출자 트랜잭션 안에서 Outbox 에 기록한다.
+     * 외부 결제 시스템 호출은 PaymentOutboxRelayService 가 비동기로 수행한다.
+     */
     @Override
     public void cancelPayment(CancelPaymentCommand command) {
-        externalPaymentPort.cancelPayment(command.paymentId());
-        log.info("결제 취소 완료: externalPaymentId={}", command.paymentId());
+        paymentOutboxPort.save(PaymentOutbox.requestCancel(command.paymentId()));
+        log.info("결제 취소 요청 등록: externalPaymentId={}", command.paymentId());
     }
 }
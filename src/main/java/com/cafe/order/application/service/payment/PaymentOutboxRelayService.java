@@ -0,0 +1,188 @@
+package com.cafe.order.application.service.payment;
+
+import com.cafe.order.application.port.in.payment.PaymentOutboxRelayUseCase;
+import com.cafe.order.application.port.out.order.OrderShardPort;
+import com.cafe.order.application.port.out.payment.ExternalPaymentPort;
+import com.cafe.order.application.port.out.payment.PaymentOutboxPort;
+import com.cafe.order.config.PaymentOutboxConfig;
+import com.cafe.order.config.PaymentOutboxProperties;
+import com.cafe.order.domain.payment.model.PaymentOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결제 Outbox 릴레이
+ * 항목을 조건부 UPDATE 로 선점한 뒤 워커 풀에서 외부 결제 시스템에 전달하고, 실패 시 지수 백오프로 재시도한다.
+ * 선점(lease)이 유지되는 동안에는 같은 paymentId 가 동시에 두 번 전달되지 않는다.
+ * 전달 결과도 선점한 릴레이가 기한 안에 있을 때만 기록해, 기한이 지나 다른 릴레이가 다시 선점한 항목을 덮어쓰지 않는다.
+ */
+@Slf4j
+@Service
+public class PaymentOutboxRelayService implements PaymentOutboxRelayUseCase {
+
+    private final PaymentOutboxPort paymentOutboxPort;
+    private final OrderShardPort orderShardPort;
+    private final ExternalPaymentPort externalPaymentPort;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor relayExecutor;
+    private final PaymentOutboxProperties properties;
+
+    private final Counter deliveredCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public PaymentOutboxRelayService(PaymentOutboxPort paymentOutboxPort,
+                                     OrderShardPort orderShardPort,
+                                     ExternalPaymentPort externalPaymentPort,
+                                     TransactionTemplate transactionTemplate,
+                                     @Qualifier(PaymentOutboxConfig.PAYMENT_OUTBOX_RELAY_EXECUTOR) Executor relayExecutor,
+                                     PaymentOutboxProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.paymentOutboxPort = paymentOutboxPort;
+        this.orderShardPort = orderShardPort;
+        this.externalPaymentPort = externalPaymentPort;
+        this.transactionTemplate = transactionTemplate;
+        this.relayExecutor = relayExecutor;
+        this.properties = properties;
+
+        this.deliveredCounter = Counter.builder("payment.outbox.delivered")
+                .description("외부 결제 시스템에 전달 완료된 Outbox 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("payment.outbox.retried")
+                .description("전달 실패로 재시도 예약된 Outbox 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("payment.outbox.failed")
+                .description("최대 재시도 횟수를 초과해 실패 처리된 Outbox 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.outbox.backlog", backlog, AtomicLong::get)
+                .description("전달 대기 중인 Outbox 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 미전달 Outbox 의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 워커 수만큼씩 나눠 선점하고, 한 묶음의 전달과 결과 기록이 끝난 뒤 다음 묶음을 선점한다
+     * 선점한 항목은 곧바로 워커에서 전달이 시작되므로, 실행 대기열에서 기다리는 동안 선점 기한이 지나
+     * 다른 릴레이가 다시 선점한 항목에 취소 요청을 보내는 일이 없다 (선점 기한은 취소 호출 타임아웃보다 길어야 한다)
+     */
+    @Override
+    public int relayDueOutbox() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        String owner = UUID.randomUUID().toString();
+        int waveSize = Math.max(1, Math.min(properties.getWorkerPoolSize(), properties.getBatchSize()));
+
+        int relayed = 0;
+        while (relayed < properties.getBatchSize()) {
+            int limit = Math.min(waveSize, properties.getBatchSize() - relayed);
+            int claimed = relayWave(owner, limit);
+            relayed += claimed;
+            if (claimed < limit) {
+                break;
+            }
+        }
+
+        refreshBacklogMetrics(startedAt);
+        return relayed;
+    }
+
+    /**
+     * 배치가 가득 찼다면 적체가 있는 것이므로 빈 배치가 나올 때까지 이어서 처리 (샤딩 시 샤드마다)
+     */
+    @Override
+    public int relayAllDueOutbox() {
+        AtomicInteger total = new AtomicInteger();
+        orderShardPort.forEachShard(() -> {
+            int relayed;
+            do {
+                relayed = relayDueOutbox();
+                total.addAndGet(relayed);
+            } while (relayed >= properties.getBatchSize());
+        });
+        return total.get();
+    }
+
+    private int relayWave(String owner, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PaymentOutbox> claimed = transactionTemplate.execute(status ->
+                paymentOutboxPort.claimDue(owner, now, now.plus(properties.getLease()), limit));
+
+        List<CompletableFuture<PaymentOutbox>> deliveries = claimed.stream()
+                .map(paymentOutbox -> CompletableFuture.supplyAsync(() -> deliver(paymentOutbox), relayExecutor))
+                .toList();
+        // 전달 결과는 호출 스레드에서 저장해, 선점과 같은 라우팅(샤딩 시 스케줄러가 고른 샤드)으로 기록된다
+        deliveries.forEach(delivery -> saveResult(delivery.join()));
+        return claimed.size();
+    }
+
+    private void saveResult(PaymentOutbox paymentOutbox) {
+        boolean saved = Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                paymentOutboxPort.saveLeased(paymentOutbox, LocalDateTime.now())));
+        if (!saved) {
+            // 기록하지 못한 항목은 선점 기한이 지나면 다시 선점되어 전달된다
+            log.warn("선점 기한이 지나 전달 결과를 기록하지 않음: paymentId={}, status={}",
+                    paymentOutbox.getPaymentId(), paymentOutbox.getStatus());
+        }
+    }
+
+    private PaymentOutbox deliver(PaymentOutbox paymentOutbox) {
+        try {
+            externalPaymentPort.cancelPayment(paymentOutbox.getPaymentId());
+            paymentOutbox.complete();
+            deliveredCounter.increment();
+            log.info("결제 취소 전달 완료: paymentId={}, attempts={}",
+                    paymentOutbox.getPaymentId(), paymentOutbox.getAttempts());
+        } catch (Exception e) {
+            handleDeliveryFailure(paymentOutbox, e);
+        }
+        return paymentOutbox;
+    }
+
+    private void handleDeliveryFailure(PaymentOutbox paymentOutbox, Exception e) {
+        int attempt = paymentOutbox.getAttempts() + 1;
+
+        if (attempt >= properties.getMaxAttempts()) {
+            paymentOutbox.fail(e.getMessage());
+            failedCounter.increment();
+            log.error("결제 취소 전달 최종 실패 (수동 처리 필요): paymentId={}, attempts={}",
+                    paymentOutbox.getPaymentId(), attempt, e);
+            return;
+        }
+
+        Duration backoff = backoff(attempt);
+        paymentOutbox.retryAt(LocalDateTime.now().plus(backoff), e.getMessage());
+        retriedCounter.increment();
+        log.warn("결제 취소 전달 실패, 재시도 예약: paymentId={}, attempts={}, backoff={}",
+                paymentOutbox.getPaymentId(), attempt, backoff);
+    }
+
+    private Duration backoff(int attempt) {
+        Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempt - 1, 30));
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+
+    private void refreshBacklogMetrics(LocalDateTime now) {
+        backlog.set(paymentOutboxPort.countUndelivered());
+        lagSeconds.set(paymentOutboxPort.findOldestUndeliveredRequestedDateTime()
+                .map(requested -> Math.max(0, Duration.between(requested, now).toSeconds()))
+                .orElse(0L));
+    }
+}
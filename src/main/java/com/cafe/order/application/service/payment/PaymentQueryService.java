@@ -9,6 +9,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -21,4 +24,9 @@ public class PaymentQueryService implements PaymentQueryUseCase {
         return paymentPort.findById(paymentId)
                 .orElseThrow(() -> new BizException(ErrorCode.PAYMENT_NOT_FOUND));
     }
+
+    @Override
+    public Set<String> findRegisteredPaymentIds(Collection<String> paymentIds) {
+        return paymentPort.findExistingPaymentIds(paymentIds);
+    }
 }
@@ -0,0 +1,52 @@
+package com.cafe.order.common;
+
+import java.time.Duration;
+
+/**
+ * 요청 처리 기한
+ * 요청 진입 시점에 정해진 기한을 유스케이스와 외부 호출까지 전달해, 클라이언트가 이미 포기한 작업을 계속하지 않도록 한다.
+ * 시스템 시계 변경의 영향을 받지 않도록 System.nanoTime 기준으로 관리한다.
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(0, false);
+
+    private final long deadlineNanos;
+    private final boolean bounded;
+
+    private Deadline(long deadlineNanos, boolean bounded) {
+        this.deadlineNanos = deadlineNanos;
+        this.bounded = bounded;
+    }
+
+    /**
+     * 기한 없음 (스케줄러, 내부 호출 등)
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos(), true);
+    }
+
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    public boolean isExpired() {
+        return bounded && remainingNanos() <= 0;
+    }
+
+    /**
+     * 남은 시간 (기한이 지났으면 0 이하), 기한이 없으면 Long.MAX_VALUE
+     */
+    public long remainingNanos() {
+        return bounded ? deadlineNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return bounded ? "Deadline[remaining=" + Duration.ofNanos(remainingNanos()) + "]" : "Deadline[none]";
+    }
+}
@@ -7,6 +7,8 @@ public enum ErrorCode {
     // 공통 에러
     INTERNAL_SERVER_ERROR("E001", "내부 서버 오류가 발생했습니다."),
     INVALID_REQUEST("E002", "잘못된 요청입니다."),
+    REQUEST_DEADLINE_EXCEEDED("E003", "요청 처리 기한이 지났습니다."),
+    CONCURRENT_MODIFICATION("E004", "다른 요청과 동시에 변경되었습니다. 다시 시도해주세요."),
     
     // 회원 관련 에러
     MEMBER_NOT_FOUND("M001", "회원을 찾을 수 없습니다."),
@@ -20,6 +22,11 @@ public enum ErrorCode {
     ORDER_ALREADY_CANCELLED("O002", "이미 취소된 주문입니다."),
     ORDER_EMPTY_PRODUCTS("O003", "주문할 상품이 없습니다."),
     ORDER_MEMBER_NOT_ACTIVE("O004", "활성화된 회원만 주문할 수 있습니다."),
+    ORDER_NOT_CANCELLABLE("O005", "결제가 확정된 주문만 취소할 수 있습니다."),
+    ORDER_IDEMPOTENCY_KEY_CONFLICT("O006", "다른 회원의 주문 요청에 사용된 Idempotency-Key입니다."),
+    ORDER_ARCHIVED("O007", "보관 기간이 지난 주문은 변경할 수 없습니다."),
+    ORDER_PAYMENT_DUPLICATED("O008", "이미 등록된 결제의 주문입니다."),
+    ORDER_IN_PROGRESS("O009", "같은 Idempotency-Key의 주문이 처리 중입니다. 잠시 후 다시 시도해주세요."),
     
     // 상품 관련 에러
     PRODUCT_NOT_FOUND("P001", "상품을 찾을 수 없습니다."),
@@ -28,7 +35,8 @@ public enum ErrorCode {
     // 결제 관련 에러
     PAYMENT_NOT_FOUND("PAY000", "결제 정보를 찾을 수 없습니다."),
     PAYMENT_FAILED("PAY001", "결제 처리에 실패했습니다."),
-    PAYMENT_CANCELLED("PAY002", "결제가 취소되었습니다.");
+    PAYMENT_CANCELLED("PAY002", "결제가 취소되었습니다."),
+    PAYMENT_UNAVAILABLE("PAY003", "결제 시스템이 일시적으로 혼잡합니다. 잠시 후 다시 시도해주세요.");
 
     private final String code;
     private final String message;
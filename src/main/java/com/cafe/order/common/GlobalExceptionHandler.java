@@ -5,6 +5,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -16,11 +17,17 @@ public class GlobalExceptionHandler {
     
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    /**
+     * 같은 Idempotency-Key 의 주문이 아직 처리 중이면 요청 자체는 올바르므로 409 로 재시도를 안내
+     */
     @ExceptionHandler(BizException.class)
     public ResponseEntity<ApiResponse<Void>> handleBizException(BizException e) {
         log.warn("BizException occurred: code={}, message={}", e.getErrorCode().getCode(), e.getMessage());
         
         ApiResponse<Void> response = ApiResponse.error(e.getErrorCode().getCode(), e.getMessage());
+        if (e.getErrorCode() == ErrorCode.ORDER_IN_PROGRESS) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
         return ResponseEntity.badRequest().body(response);
     }
 
@@ -32,6 +39,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
+    /**
+     * 낙관적 락 재시도를 모두 소진한 경우 (같은 대상에 대한 경합이 계속됨)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.warn("Optimistic locking failure: {}", e.getMessage());
+
+        ErrorCode errorCode = ErrorCode.CONCURRENT_MODIFICATION;
+        ApiResponse<Void> response = ApiResponse.error(errorCode.getCode(), errorCode.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleValidationException(MethodArgumentNotValidException e) {
         log.warn("Validation error occurred: {}", e.getMessage());
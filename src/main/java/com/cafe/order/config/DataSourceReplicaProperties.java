@@ -0,0 +1,41 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션용 레플리카 데이터소스 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class DataSourceReplicaProperties {
+
+    private boolean enabled = false;
+    private List<Node> nodes = new ArrayList<>();
+    private int maximumPoolSize = 10;
+    /**
+     * 레플리카 커넥션 획득 대기 상한, 초과하면 해당 레플리카를 제외하고 다음 레플리카/프라이머리로 넘어간다
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    /**
+     * 복제 지연(초)을 반환하는 쿼리 (예: PostgreSQL "select extract(epoch from now() - pg_last_xact_replay_timestamp())")
+     * 비어 있으면 지연은 확인하지 않고 커넥션 유효성만 확인한다
+     */
+    private String lagQuery;
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username = "sa";
+        private String password = "";
+    }
+}
@@ -0,0 +1,87 @@
+package com.cafe.order.config;
+
+import com.cafe.order.adapter.out.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 데이터소스 분리
+ * 물리 커넥션을 첫 쿼리 시점까지 미루는 LazyConnectionDataSourceProxy 가 트랜잭션의 readOnly 플래그를 보고
+ * readOnly 트랜잭션은 레플리카 라우팅 데이터소스로, 나머지는 프라이머리로 보낸다.
+ * 풀별 사용량은 hikaricp.connections.* (pool 태그) 와 datasource.routing.read.connections 로 확인한다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(DataSourceReplicaProperties.class)
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final String PRIMARY_POOL_NAME = "primary";
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(PRIMARY_POOL_NAME);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceReplicaProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getNodes().size(); i++) {
+            String name = "replica-" + (i + 1);
+            replicas.add(new ReplicaRoutingDataSource.Replica(name,
+                    replicaPool(name, properties.getNodes().get(i), properties, meterRegistry)));
+        }
+        log.info("레플리카 라우팅 활성화: replicas={}, lagQuery={}, maxLag={}",
+                replicas.size(), properties.getLagQuery(), properties.getMaxLag());
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                properties.getLagQuery(), properties.getMaxLag(), meterRegistry);
+        routingDataSource.checkHealth();
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    /**
+     * 레플리카가 내려가 있어도 애플리케이션은 기동되도록 풀 초기화 실패를 허용 (헬스 체크가 라우팅에서 제외)
+     */
+    private HikariDataSource replicaPool(String name, DataSourceReplicaProperties.Node node,
+                                         DataSourceReplicaProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(node.getUrl());
+        dataSource.setUsername(node.getUsername());
+        dataSource.setPassword(node.getPassword());
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
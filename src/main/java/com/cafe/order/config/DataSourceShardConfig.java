@@ -0,0 +1,101 @@
+package com.cafe.order.config;
+
+import com.cafe.order.adapter.out.persistence.routing.ShardRoutingDataSource;
+import com.cafe.order.adapter.out.persistence.routing.ShardedSequenceGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 ID 기준 주문 샤딩
+ * 샤드마다 커넥션 풀을 두고, 물리 커넥션을 첫 쿼리 시점까지 미루는 LazyConnectionDataSourceProxy 뒤에서
+ * ShardRoutingDataSource 가 어댑터가 정한 샤드(ShardRouter)로 트랜잭션을 보낸다.
+ * 회원/상품은 기본 샤드(첫 번째 노드)에만 있고, 주문/주문상품/결제/Outbox/Idempotency-Key 는 회원의 샤드에 있다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(DataSourceShardProperties.class)
+@ConditionalOnProperty(prefix = "datasource.shard", name = "enabled", havingValue = "true")
+public class DataSourceShardConfig {
+
+    public DataSourceShardConfig(DataSourceShardProperties properties, Environment environment) {
+        if (properties.getNodes().isEmpty()) {
+            throw new IllegalStateException("datasource.shard.nodes 가 비어 있습니다.");
+        }
+        // 레플리카 라우팅과 주문 보관은 단일 데이터소스 기준이라 샤딩과 함께 켤 수 없다
+        if (environment.getProperty("datasource.replica.enabled", Boolean.class, false)
+                || environment.getProperty("order.archive.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("샤딩은 datasource.replica.enabled, order.archive.enabled 와 함께 사용할 수 없습니다.");
+        }
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(DataSourceShardProperties properties, MeterRegistry meterRegistry) {
+        List<ShardRoutingDataSource.Shard> shards = new ArrayList<>();
+        for (DataSourceShardProperties.Node node : properties.getNodes()) {
+            shards.add(new ShardRoutingDataSource.Shard(node.getName(), shardPool(node, properties, meterRegistry)));
+        }
+        log.info("샤드 라우팅 활성화: shards={}, virtualNodes={}", properties.nodeNames(), properties.getVirtualNodes());
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    /**
+     * 샤드별 시퀀스 옵티마이저와 주문 ID 버킷 인코딩 활성화 (ShardedSequenceGenerator)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer shardedSequenceCustomizer(DataSourceShardProperties properties) {
+        return hibernateProperties -> hibernateProperties.put(ShardedSequenceGenerator.SHARD_COUNT,
+                String.valueOf(properties.getNodes().size()));
+    }
+
+    /**
+     * Hibernate 가 기본 샤드에 만든 스키마를 초기 데이터 적재(CommandLineRunner) 전에 나머지 샤드로 복사 (H2)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.shard", name = "copy-schema", havingValue = "true")
+    public InitializingBean shardSchemaCopier(EntityManagerFactory entityManagerFactory,
+                                              ShardRoutingDataSource shardRoutingDataSource) {
+        return () -> {
+            List<String> script = new JdbcTemplate(shardRoutingDataSource.shardDataSource(0))
+                    .queryForList("SCRIPT NODATA", String.class);
+            for (int shard = 1; shard < shardRoutingDataSource.size(); shard++) {
+                script.forEach(new JdbcTemplate(shardRoutingDataSource.shardDataSource(shard))::execute);
+            }
+            log.info("샤드 스키마 복사 완료: shards={}, statements={}", shardRoutingDataSource.size() - 1, script.size());
+        };
+    }
+
+    private HikariDataSource shardPool(DataSourceShardProperties.Node node, DataSourceShardProperties properties,
+                                       MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(node.getName());
+        dataSource.setJdbcUrl(node.getUrl());
+        dataSource.setUsername(node.getUsername());
+        dataSource.setPassword(node.getPassword());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
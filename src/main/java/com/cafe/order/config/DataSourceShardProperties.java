@@ -0,0 +1,58 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 ID 기준 주문 샤딩 설정
+ * 첫 번째 노드가 기본 샤드로 회원/상품 같은 공용 테이블을 가진다. 노드는 뒤에 추가만 할 수 있다(이름으로 링 위치가 정해짐).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.shard")
+public class DataSourceShardProperties {
+
+    private boolean enabled = false;
+    private List<Node> nodes = new ArrayList<>();
+    /**
+     * 샤드당 링 위의 가상 노드 수, 많을수록 버킷이 고르게 나뉜다
+     */
+    private int virtualNodes = 160;
+    private int maximumPoolSize = 10;
+    /**
+     * 기본 샤드에 만든 스키마를 나머지 샤드로 복사 (로컬 H2 전용, 운영은 마이그레이션으로 샤드마다 스키마를 만든다)
+     */
+    private boolean copySchema = false;
+    private Rebalance rebalance = new Rebalance();
+
+    public List<String> nodeNames() {
+        return nodes.stream().map(Node::getName).toList();
+    }
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String name;
+        private String url;
+        private String username = "sa";
+        private String password = "";
+    }
+
+    /**
+     * 노드 추가 후 재배치 (오프라인 작업)
+     * previous-nodes 에 추가 전 노드 이름을 순서대로 적어 기동하면, 소속이 바뀐 버킷을 옮긴 뒤 종료한다.
+     */
+    @Getter
+    @Setter
+    public static class Rebalance {
+        private List<String> previousNodes = new ArrayList<>();
+        /**
+         * 한 번에 옮기는 주문 수 (원본 샤드에서 잠그고 대상 샤드에 복사한 뒤 원본에서 삭제)
+         */
+        private int chunkSize = 500;
+    }
+}
@@ -0,0 +1,24 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 회원 조회 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "member.cache")
+public class MemberCacheProperties {
+
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(10);
+    /**
+     * 존재하지 않는 회원 ID 조회 결과 보관 시간 (ID 스캐닝 트래픽 흡수용, 신규 가입과 겹치지 않도록 짧게)
+     */
+    private Duration negativeTtl = Duration.ofSeconds(30);
+}
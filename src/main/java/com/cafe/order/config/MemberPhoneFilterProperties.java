@@ -0,0 +1,21 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 가입 시 전화번호 중복 확인용 Bloom 필터 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "member.phone-filter")
+public class MemberPhoneFilterProperties {
+
+    private boolean enabled = true;
+    /**
+     * 예상 회원 수, 이보다 많이 들어가면 오탐률이 목표보다 높아진다
+     */
+    private long expectedInsertions = 100_000;
+    private double falsePositiveRate = 0.01;
+}
@@ -0,0 +1,37 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 철회 기간이 지난 탈퇴 회원 정리 설정
+ * 주문 트래픽과 경쟁하지 않도록 청크마다 짧은 트랜잭션으로 삭제하고 청크 사이에 쉰다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "member.purge")
+public class MemberPurgeProperties {
+
+    /**
+     * 정리 스케줄러 실행 여부, 회원을 영구 삭제하므로 purge 프로필로만 켠다
+     */
+    private boolean enabled = false;
+
+    /**
+     * 한 트랜잭션에서 삭제하는 회원 수
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 청크 사이 대기 시간 (DB 쓰기/락을 주문 요청에 양보)
+     */
+    private Duration pause = Duration.ofMillis(200);
+
+    /**
+     * 한 번의 정리 작업에서 삭제하는 최대 회원 수, 남은 회원은 다음 주기에 이어서 정리
+     */
+    private int maxMembersPerRun = 100_000;
+}
@@ -0,0 +1,45 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 오래된 주문 보관(아카이브) 설정
+ * 보관 주기마다 retention 보다 오래된 주문을 orders/order_lines 에서 보관 파일로 옮기고, 조회는 보관 파일로 이어서 처리한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.archive")
+public class OrderArchiveProperties {
+
+    /**
+     * 보관 작업 실행 여부 (false 여도 이미 만들어진 보관 파일은 조회에 사용)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 보관 파일 디렉터리 (여러 인스턴스로 운영하면 모든 인스턴스가 같은 디렉터리를 봐야 함)
+     */
+    private Path directory = Path.of("data", "order-archive");
+
+    private Duration retention = Duration.ofDays(365);
+
+    /**
+     * 한 번에 읽어 보관 파일에 쓰고, 한 트랜잭션에서 삭제하는 주문 수
+     */
+    private int chunkSize = 500;
+
+    /**
+     * 한 번의 보관 작업(= 보관 파일 1개)에 담는 최대 주문 수
+     */
+    private int maxOrdersPerRun = 100_000;
+
+    /**
+     * 압축 블록 하나에 담는 주문 수 (희소 인덱스 간격, 조회 시 한 블록만 압축 해제)
+     */
+    private int blockSize = 64;
+}
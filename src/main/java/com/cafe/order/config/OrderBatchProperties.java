@@ -0,0 +1,17 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 주문 일괄 생성(POST /api/orders/batch) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.batch")
+public class OrderBatchProperties {
+
+    // 한 요청에서 동시에 진행하는 결제 API 호출 수 (결제 동시성 한도 payment.limiter 보다 작게 두어 다른 주문 요청의 몫을 남긴다)
+    private int maxConcurrentPayments = 10;
+}
@@ -0,0 +1,34 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * 정산용 주문 내보내기 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.export")
+public class OrderExportProperties {
+
+    // 커서가 DB 에서 한 번에 가져오는 행 수 (전체 결과를 클라이언트 메모리에 올리지 않도록 지정)
+    private int fetchSize = 1_000;
+
+    private final Cli cli = new Cli();
+
+    /**
+     * 커맨드라인 내보내기: output 을 지정하면 기동 후 파일로 내보내고 종료 (.gz 로 끝나면 gzip 압축)
+     */
+    @Getter
+    @Setter
+    public static class Cli {
+        private Path output;
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private String format = "csv";
+    }
+}
@@ -0,0 +1,19 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 주문 생성 Idempotency-Key 응답 캐시 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.idempotency")
+public class OrderIdempotencyProperties {
+
+    private long cacheMaximumSize = 10_000;
+    private Duration cacheTtl = Duration.ofHours(1);
+}
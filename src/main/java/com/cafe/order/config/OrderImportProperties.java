@@ -0,0 +1,19 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 오프라인 주문 일괄 등록(NDJSON) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.import")
+public class OrderImportProperties {
+
+    // 한 트랜잭션으로 저장하고 결과를 내보내는 주문 수 (요청 본문 크기와 관계없이 메모리에는 이만큼만 둔다)
+    private int chunkSize = 500;
+    // 한 줄(주문 1건) 최대 길이, 초과하면 그 줄만 거절
+    private int maxLineLength = 16 * 1024;
+}
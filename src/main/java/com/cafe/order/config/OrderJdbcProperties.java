@@ -0,0 +1,24 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 주문/결제 쓰기 JDBC 경로 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.jdbc")
+public class OrderJdbcProperties {
+
+    /**
+     * 켜면 주문/주문상품/결제를 JPA 대신 JdbcTemplate 다중 행 INSERT 로 저장 (OrderJdbcAdapter, PaymentJdbcAdapter)
+     */
+    private boolean enabled = false;
+
+    /**
+     * INSERT 문 하나에 담는 최대 행 수, 이보다 많으면 같은 크기의 문장을 JDBC 배치로 묶어 보낸다
+     */
+    private int maxRowsPerStatement = 100;
+}
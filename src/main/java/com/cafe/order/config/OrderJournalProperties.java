@@ -0,0 +1,45 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * 주문 저널 설정
+ * 켜면 주문 저장/상태 변경을 JPA 대신 append-only 저널 파일에 이벤트로 기록하고, 현재 주문 상태는 메모리 인덱스에서 조회한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.journal")
+public class OrderJournalProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * 저널 세그먼트와 스냅샷 디렉터리 (인스턴스마다 따로 두어야 함, 여러 인스턴스가 같은 저널에 쓸 수 없다)
+     */
+    private Path directory = Path.of("data", "order-journal");
+
+    /**
+     * 세그먼트 파일 하나의 크기 (파일 전체를 메모리 매핑하고, 가득 차면 다음 세그먼트로 넘어간다)
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * 한 번의 fsync 로 함께 커밋하는 최대 요청 수 (그룹 커밋)
+     */
+    private int maxBatchSize = 512;
+
+    /**
+     * 커밋마다 fsync 여부 (false 면 OS 페이지 캐시까지만 기록해 프로세스 장애에는 안전하지만 OS 장애 시 최근 이벤트가 유실될 수 있다)
+     */
+    private boolean fsync = true;
+
+    /**
+     * 이 수만큼 이벤트가 쌓이면 스냅샷을 쓰고 스냅샷 이전 세그먼트를 삭제한다 (기동 시 스냅샷 이후 이벤트만 재생)
+     */
+    private int snapshotInterval = 100_000;
+}
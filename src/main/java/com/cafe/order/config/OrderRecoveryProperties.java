@@ -0,0 +1,19 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * PENDING 주문 복구 스케줄러 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.recovery")
+public class OrderRecoveryProperties {
+
+    private Duration pendingTimeout = Duration.ofMinutes(1);
+    private int batchSize = 100;
+}
@@ -0,0 +1,85 @@
+package com.cafe.order.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 결제 API 호출 전용 Executor
+ * 블로킹 결제 호출이 ForkJoinPool.commonPool() 을 점유하지 않도록 별도 풀에서 실행
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(PaymentExecutorProperties.class)
+public class PaymentExecutorConfig {
+
+    public static final String PAYMENT_EXECUTOR = "paymentExecutor";
+
+    private static final String METRIC_PREFIX = "payment";
+
+    @Bean(name = PAYMENT_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService paymentExecutor(PaymentExecutorProperties properties, MeterRegistry meterRegistry) {
+        ExecutorService executor = switch (properties.getMode()) {
+            case PLATFORM -> createPlatformExecutor(properties, meterRegistry);
+            case VIRTUAL -> createVirtualThreadExecutor();
+        };
+
+        log.info("결제 Executor 초기화: mode={}", properties.getMode());
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, METRIC_PREFIX);
+    }
+
+    static ThreadPoolExecutor createPlatformExecutor(PaymentExecutorProperties properties, MeterRegistry meterRegistry) {
+        Counter rejectedCounter = Counter.builder("payment.executor.rejected")
+                .description("결제 Executor 가 거절한 작업 수")
+                .register(meterRegistry);
+
+        RejectedExecutionHandler policy = switch (properties.getRejectionPolicy()) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+        };
+
+        RejectedExecutionHandler countingPolicy = (task, executor) -> {
+            rejectedCounter.increment();
+            log.warn("결제 Executor 포화로 작업 거절: active={}, queued={}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            policy.rejectedExecution(task, executor);
+        };
+
+        return new ThreadPoolExecutor(
+                properties.getCorePoolSize(),
+                properties.getMaxPoolSize(),
+                properties.getKeepAlive().toMillis(),
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("payment-"),
+                countingPolicy
+        );
+    }
+
+    /**
+     * 가상 스레드는 Java 21 이상에서만 제공되므로 런타임에 조회하고, 지원하지 않으면 기동 시점에 실패시킨다
+     */
+    private ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "payment.executor.mode=virtual 은 Java 21 이상에서만 사용할 수 있습니다. 현재 버전: "
+                            + Runtime.version(), e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 외부 결제 API 호출 전용 Executor 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment.executor")
+public class PaymentExecutorProperties {
+
+    private Mode mode = Mode.PLATFORM;
+    private int corePoolSize = 16;
+    private int maxPoolSize = 64;
+    private int queueCapacity = 200;
+    private Duration keepAlive = Duration.ofSeconds(60);
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+
+    public enum Mode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    public enum RejectionPolicy {
+        ABORT,
+        CALLER_RUNS
+    }
+}
@@ -0,0 +1,27 @@
+package com.cafe.order.config;
+
+import com.cafe.order.adapter.out.external.HttpPaymentGateway;
+import com.cafe.order.adapter.out.external.PaymentGateway;
+import com.cafe.order.adapter.out.external.simulator.PaymentGatewaySimulator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(PaymentGatewayProperties.class)
+public class PaymentGatewayConfig {
+
+    @Bean
+    @Primary
+    public PaymentGateway paymentGateway(PaymentGatewayProperties properties, PaymentGatewaySimulator paymentGatewaySimulator) {
+        log.info("결제 게이트웨이 초기화: mode={}, baseUrl={}", properties.getMode(), properties.getBaseUrl());
+
+        return switch (properties.getMode()) {
+            case SIMULATOR -> paymentGatewaySimulator;
+            case HTTP -> new HttpPaymentGateway(properties);
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 결제 게이트웨이 연결 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment.gateway")
+public class PaymentGatewayProperties {
+
+    private Mode mode = Mode.SIMULATOR;
+    private String baseUrl = "http://localhost:18080";
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    public enum Mode {
+        SIMULATOR,
+        HTTP
+    }
+}
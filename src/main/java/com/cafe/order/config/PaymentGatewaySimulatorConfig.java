@@ -0,0 +1,29 @@
+package com.cafe.order.config;
+
+import com.cafe.order.adapter.out.external.simulator.PaymentGatewaySimulator;
+import com.cafe.order.adapter.out.external.simulator.PaymentGatewayStubServer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 결제 게이트웨이 시뮬레이터와 로컬 HTTP 스텁 서버 구성
+ * 스텁 서버만 별도 프로세스로 띄울 때는 PaymentGatewayStubApplication 이 이 설정만 로드한다.
+ */
+@Configuration
+@EnableConfigurationProperties(PaymentGatewaySimulatorProperties.class)
+public class PaymentGatewaySimulatorConfig {
+
+    @Bean
+    public PaymentGatewaySimulator paymentGatewaySimulator(PaymentGatewaySimulatorProperties properties) {
+        return new PaymentGatewaySimulator(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "payment.gateway.simulator.stub", name = "enabled", havingValue = "true")
+    public PaymentGatewayStubServer paymentGatewayStubServer(PaymentGatewaySimulator paymentGatewaySimulator,
+                                                             PaymentGatewaySimulatorProperties properties) {
+        return new PaymentGatewayStubServer(paymentGatewaySimulator, properties.getStub().getPort());
+    }
+}
@@ -0,0 +1,85 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결제 게이트웨이 시뮬레이터 설정
+ * 프로필마다 지연 분포, 실패율, 타임아웃 폭주 비율을 지정하고, phases 로 시간에 따라 바뀌는 시나리오를 구성한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment.gateway.simulator")
+public class PaymentGatewaySimulatorProperties {
+
+    private String profile = "default";
+    private Long seed;
+    private Stub stub = new Stub();
+    private Map<String, Profile> profiles = new HashMap<>();
+
+    public Profile getActiveProfile() {
+        return profiles.getOrDefault(profile, new Profile());
+    }
+
+    @Getter
+    @Setter
+    public static class Stub {
+        private boolean enabled = false;
+        private int port = 18080;
+    }
+
+    /**
+     * phases 가 비어 있으면 프로필 자체를 단일 구간으로 사용하고, 있으면 구간을 순서대로 반복한다
+     */
+    @Getter
+    @Setter
+    public static class Profile extends Phase {
+        private List<Phase> phases = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Phase {
+        private Duration duration = Duration.ofMinutes(1);
+        private Latency latency = new Latency();
+        private double failureRate = 0.01;
+        private double timeoutRate = 0;
+        private Duration timeoutStall = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Latency {
+        private LatencyType type = LatencyType.UNIFORM;
+        private Duration fixed = Duration.ZERO;
+        private Duration min = Duration.ZERO;
+        private Duration max = Duration.ofSeconds(1);
+        private Duration median = Duration.ofMillis(200);
+        private double sigma = 0.5;
+        private List<Bucket> buckets = new ArrayList<>();
+    }
+
+    /**
+     * 이전 버킷 상한 ~ upTo 구간에 weight 비율로 분포하는 기록 기반 히스토그램 버킷
+     */
+    @Getter
+    @Setter
+    public static class Bucket {
+        private Duration upTo;
+        private double weight;
+    }
+
+    public enum LatencyType {
+        FIXED,
+        UNIFORM,
+        LOG_NORMAL,
+        HISTOGRAM
+    }
+}
@@ -0,0 +1,23 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 외부 결제 API 헤지 요청 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment.hedging")
+public class PaymentHedgingProperties {
+
+    private boolean enabled = false;
+    private double percentile = 0.9;
+    private Duration minDelay = Duration.ofMillis(50);
+    private double maxHedgeRatio = 0.1;
+    private int windowSize = 1000;
+    private int minSamples = 50;
+}
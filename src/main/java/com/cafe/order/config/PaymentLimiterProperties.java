@@ -0,0 +1,34 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 결제 API 적응형 동시성 제한 설정 (인스턴스별)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment.limiter")
+public class PaymentLimiterProperties {
+
+    private Map<String, Instance> instances = new HashMap<>();
+
+    public Instance getInstance(String name) {
+        return instances.getOrDefault(name, new Instance());
+    }
+
+    @Getter
+    @Setter
+    public static class Instance {
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 50;
+        private Duration latencyThreshold = Duration.ofMillis(1500);
+        private double backoffRatio = 0.9;
+    }
+}
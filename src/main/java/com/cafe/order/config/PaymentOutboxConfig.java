@@ -0,0 +1,31 @@
+package com.cafe.order.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 결제 Outbox 릴레이 워커 풀
+ * 워커 수가 외부 결제 시스템으로 나가는 동시 취소 요청 수의 상한이 된다
+ */
+@Configuration
+@EnableConfigurationProperties(PaymentOutboxProperties.class)
+public class PaymentOutboxConfig {
+
+    public static final String PAYMENT_OUTBOX_RELAY_EXECUTOR = "paymentOutboxRelayExecutor";
+
+    @Bean(name = PAYMENT_OUTBOX_RELAY_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService paymentOutboxRelayExecutor(PaymentOutboxProperties properties, MeterRegistry meterRegistry) {
+        ExecutorService executor = Executors.newFixedThreadPool(
+                properties.getWorkerPoolSize(),
+                new CustomizableThreadFactory("payment-outbox-"));
+
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "paymentOutboxRelay");
+    }
+}
@@ -0,0 +1,23 @@
+package com.cafe.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 결제 Outbox 릴레이 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment.outbox")
+public class PaymentOutboxProperties {
+
+    private int batchSize = 50;
+    private int workerPoolSize = 4;
+    private Duration lease = Duration.ofSeconds(30);
+    private int maxAttempts = 10;
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private Duration maxBackoff = Duration.ofMinutes(5);
+}
@@ -21,6 +21,8 @@ public class Member {
     private MemberStatus status;
     private LocalDateTime withdrawalDateTime;
     private LocalDateTime joinDateTime;
+    // 저장소에서 읽은 시점의 버전 (신규 회원은 null), 그 사이 다른 요청이 저장했으면 저장이 거절된다
+    private Long version;
 
     public static Member createNewMember(String name, String phoneNumber, Gender gender, LocalDate birthDate) {
         return Member.builder()
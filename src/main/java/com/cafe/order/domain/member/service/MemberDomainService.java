@@ -13,6 +13,8 @@ import java.time.Period;
 @Component
 public class MemberDomainService {
 
+    private static final int WITHDRAWAL_CANCELLATION_DAYS = 30;
+
     public void validateMemberRequirements(String name, String phoneNumber, Gender gender, LocalDate birthDate) {
         validatePhoneNumberFormat(phoneNumber);
         validateNameFormat(name);
@@ -39,9 +41,16 @@ public class MemberDomainService {
         }
     }
 
+    /**
+     * 이 시각 이전에 탈퇴한 회원은 철회 기간이 지나 더 이상 철회할 수 없다
+     */
+    public LocalDateTime withdrawalExpiredBefore(LocalDateTime now) {
+        return now.minusDays(WITHDRAWAL_CANCELLATION_DAYS);
+    }
+
     private boolean isWithinCancellationPeriod(LocalDateTime withdrawalDateTime) {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime limitDateTime = withdrawalDateTime.plusDays(30);
+        LocalDateTime limitDateTime = withdrawalDateTime.plusDays(WITHDRAWAL_CANCELLATION_DAYS);
         return now.isBefore(limitDateTime) || now.isEqual(limitDateTime);
     }
 
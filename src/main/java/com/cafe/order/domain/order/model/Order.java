@@ -18,6 +18,8 @@ public class Order {
     private String paymentId;
     private LocalDateTime orderDateTime;
     private LocalDateTime cancelDateTime;
+    // 저장소에서 읽은 시점의 버전 (신규 주문은 null), 갱신은 이 버전이 그대로일 때만 반영된다
+    private Long version;
 
     public static Order create(
             Long memberId,
@@ -33,6 +35,49 @@ public class Order {
                 .build();
     }
 
+    /**
+     * 결제 전 주문 생성
+     * 결제 API 호출 동안 DB 커넥션을 점유하지 않도록 PENDING 상태로 먼저 저장한 뒤 결제 결과로 확정/실패 처리
+     */
+    public static Order createPending(
+            Long memberId,
+            List<OrderLine> orderLines
+    ) {
+        return Order.builder()
+                .memberId(memberId)
+                .orderLines(orderLines)
+                .status(OrderStatus.PENDING)
+                .orderDateTime(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 오프라인 POS 에서 결제까지 끝난 주문 등록 (결제 API 를 거치지 않고 POS 결제 번호와 주문 시각을 그대로 사용)
+     */
+    public static Order createImported(
+            Long memberId,
+            List<OrderLine> orderLines,
+            String paymentId,
+            LocalDateTime orderDateTime
+    ) {
+        return Order.builder()
+                .memberId(memberId)
+                .orderLines(orderLines)
+                .status(OrderStatus.CONFIRMED)
+                .paymentId(paymentId)
+                .orderDateTime(orderDateTime)
+                .build();
+    }
+
+    public void confirm(String paymentId) {
+        this.status = OrderStatus.CONFIRMED;
+        this.paymentId = paymentId;
+    }
+
+    public void fail() {
+        this.status = OrderStatus.FAILED;
+    }
+
     public void cancel() {
         this.status = OrderStatus.CANCELLED;
         this.cancelDateTime = LocalDateTime.now();
@@ -42,4 +87,12 @@ public class Order {
         return this.status == OrderStatus.CANCELLED;
     }
 
+    public boolean isConfirmed() {
+        return this.status == OrderStatus.CONFIRMED;
+    }
+
+    public boolean isPending() {
+        return this.status == OrderStatus.PENDING;
+    }
+
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.cafe.order.domain.order.model.enums;
 
 public enum OrderStatus {
+    PENDING,
     CONFIRMED,
-    CANCELLED
-}
\ No newline at end of file
+    CANCELLED,
+    FAILED
+}
@@ -27,6 +27,10 @@ public class OrderDomainService {
         if (order.isCancelled()) {
             throw new BizException(ErrorCode.ORDER_ALREADY_CANCELLED);
         }
+
+        if (!order.isConfirmed()) {
+            throw new BizException(ErrorCode.ORDER_NOT_CANCELLABLE);
+        }
     }
 
 
@@ -15,10 +15,14 @@ public class Payment {
     private LocalDateTime paymentDateTime;
 
     public static Payment createPayment(String paymentId, Long orderId) {
+        return createPayment(paymentId, orderId, LocalDateTime.now());
+    }
+
+    public static Payment createPayment(String paymentId, Long orderId, LocalDateTime paymentDateTime) {
         return Payment.builder()
                 .paymentId(paymentId)
                 .orderId(orderId)
-                .paymentDateTime(LocalDateTime.now())
+                .paymentDateTime(paymentDateTime)
                 .build();
     }
 
@@ -0,0 +1,72 @@
+package com.cafe.order.domain.payment.model;
+
+import com.cafe.order.domain.payment.model.enums.PaymentOutboxStatus;
+import com.cafe.order.domain.payment.model.enums.PaymentOutboxType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 결제 시스템에 전달할 요청을 주문 상태 변경과 같은 트랜잭션에 기록하는 Outbox
+ */
+@Getter
+@Builder
+public class PaymentOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private Long id;
+    private String paymentId;
+    private PaymentOutboxType type;
+    private PaymentOutboxStatus status;
+    private int attempts;
+    private LocalDateTime requestedDateTime;
+    private LocalDateTime nextAttemptDateTime;
+    private LocalDateTime completedDateTime;
+    private String lastError;
+
+    /**
+     * 항목을 선점한 릴레이 (선점 중이 아니면 null)
+     */
+    private String leaseOwner;
+
+    public static PaymentOutbox requestCancel(String paymentId) {
+        LocalDateTime now = LocalDateTime.now();
+        return PaymentOutbox.builder()
+                .paymentId(paymentId)
+                .type(PaymentOutboxType.CANCEL)
+                .status(PaymentOutboxStatus.PENDING)
+                .attempts(0)
+                .requestedDateTime(now)
+                .nextAttemptDateTime(now)
+                .build();
+    }
+
+    public void complete() {
+        this.attempts++;
+        this.status = PaymentOutboxStatus.COMPLETED;
+        this.completedDateTime = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptDateTime, String error) {
+        this.attempts++;
+        this.status = PaymentOutboxStatus.PENDING;
+        this.nextAttemptDateTime = nextAttemptDateTime;
+        this.lastError = truncate(error);
+    }
+
+    public void fail(String error) {
+        this.attempts++;
+        this.status = PaymentOutboxStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,8 @@
+package com.cafe.order.domain.payment.model.enums;
+
+public enum PaymentOutboxStatus {
+    PENDING,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,5 @@
+package com.cafe.order.domain.payment.model.enums;
+
+public enum PaymentOutboxType {
+    CANCEL
+}
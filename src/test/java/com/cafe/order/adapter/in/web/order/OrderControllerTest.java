@@ -1,15 +1,20 @@
 package com.cafe.order.adapter.in.web.order;
 
 import com.cafe.order.adapter.in.web.order.mapper.OrderWebMapper;
+import com.cafe.order.adapter.in.web.order.request.BatchCreateOrderRequest;
 import com.cafe.order.adapter.in.web.order.request.CancelOrderRequest;
 import com.cafe.order.adapter.in.web.order.request.CreateOrderRequest;
 import com.cafe.order.adapter.in.web.order.request.OrderLineRequest;
+import com.cafe.order.adapter.in.web.order.response.BatchCreateOrderResponse;
+import com.cafe.order.adapter.in.web.order.response.BatchOrderResultResponse;
 import com.cafe.order.adapter.in.web.order.response.CreateOrderResponse;
 import com.cafe.order.application.port.in.order.OrderCommandUseCase;
 import com.cafe.order.application.port.in.order.command.CancelOrderCommand;
 import com.cafe.order.application.port.in.order.command.CreateOrderCommand;
+import com.cafe.order.application.port.in.order.command.CreateOrderResult;
 import com.cafe.order.application.port.in.order.command.OrderLineCommand;
 import com.cafe.order.common.BizException;
+import com.cafe.order.common.Deadline;
 import com.cafe.order.common.ErrorCode;
 import com.cafe.order.domain.order.model.Order;
 import com.cafe.order.domain.order.model.OrderLine;
@@ -17,22 +22,31 @@ import com.cafe.order.domain.order.model.enums.OrderStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(OrderController.class)
@@ -94,20 +108,126 @@ class OrderControllerTest {
                 createdOrder.getOrderDateTime()
         );
 
-        given(orderWebMapper.toCommand(any(CreateOrderRequest.class))).willReturn(command);
-        given(orderCommandUseCase.createOrder(any(CreateOrderCommand.class))).willReturn(createdOrder);
+        given(orderWebMapper.toCommand(any(CreateOrderRequest.class), any(), any())).willReturn(command);
+        given(orderCommandUseCase.createOrder(any(CreateOrderCommand.class)))
+                .willReturn(CompletableFuture.completedFuture(createdOrder));
         given(orderWebMapper.toResponse(any(Order.class))).willReturn(response);
 
         // When & Then
-        mockMvc.perform(post("/api/orders")
+        MvcResult asyncResult = mockMvc.perform(post("/api/orders")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.orderId").value(1L))
                 .andExpect(jsonPath("$.data.memberId").value(memberId));
     }
 
+    @Test
+    @DisplayName("주문 생성 - Idempotency-Key 헤더를 주문 생성 커맨드로 전달")
+    void createOrder_WithIdempotencyKey() throws Exception {
+        // Given
+        Long memberId = 1L;
+        String idempotencyKey = "9f1c2a4e-key";
+        CreateOrderRequest request = new CreateOrderRequest(memberId, List.of(new OrderLineRequest(1L, 1)));
+        CreateOrderCommand command = new CreateOrderCommand(memberId, List.of(new OrderLineCommand(1L, 1)), idempotencyKey);
+
+        Order createdOrder = Order.builder()
+                .id(1L)
+                .memberId(memberId)
+                .orderLines(List.of())
+                .status(OrderStatus.CONFIRMED)
+                .paymentId("payment-123")
+                .orderDateTime(LocalDateTime.now())
+                .build();
+
+        given(orderWebMapper.toCommand(any(CreateOrderRequest.class), eq(idempotencyKey), any())).willReturn(command);
+        given(orderCommandUseCase.createOrder(command)).willReturn(CompletableFuture.completedFuture(createdOrder));
+
+        // When
+        MvcResult asyncResult = mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk());
+        then(orderCommandUseCase).should().createOrder(command);
+    }
+
+    @Test
+    @DisplayName("주문 생성 - X-Request-Timeout 헤더가 엔드포인트 기본값보다 짧으면 그 기한을 전달")
+    void createOrder_WithRequestTimeout() throws Exception {
+        // Given
+        Long memberId = 1L;
+        CreateOrderRequest request = new CreateOrderRequest(memberId, List.of(new OrderLineRequest(1L, 1)));
+        ArgumentCaptor<Deadline> deadlineCaptor = ArgumentCaptor.forClass(Deadline.class);
+
+        given(orderWebMapper.toCommand(any(CreateOrderRequest.class), any(), deadlineCaptor.capture()))
+                .willReturn(new CreateOrderCommand(memberId, List.of(new OrderLineCommand(1L, 1))));
+        given(orderCommandUseCase.createOrder(any(CreateOrderCommand.class)))
+                .willReturn(CompletableFuture.failedFuture(new BizException(ErrorCode.PAYMENT_FAILED)));
+
+        // When
+        mockMvc.perform(post("/api/orders")
+                        .header("X-Request-Timeout", "1500ms")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted());
+
+        // Then
+        Deadline deadline = deadlineCaptor.getValue();
+        assertThat(deadline.isBounded()).isTrue();
+        assertThat(deadline.remainingNanos()).isBetween(0L, Duration.ofMillis(1500).toNanos());
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 헤더가 없으면 엔드포인트 기본 처리 기한을 전달")
+    void createOrder_DefaultDeadline() throws Exception {
+        // Given
+        Long memberId = 1L;
+        CreateOrderRequest request = new CreateOrderRequest(memberId, List.of(new OrderLineRequest(1L, 1)));
+        ArgumentCaptor<Deadline> deadlineCaptor = ArgumentCaptor.forClass(Deadline.class);
+
+        given(orderWebMapper.toCommand(any(CreateOrderRequest.class), any(), deadlineCaptor.capture()))
+                .willReturn(new CreateOrderCommand(memberId, List.of(new OrderLineCommand(1L, 1))));
+        given(orderCommandUseCase.createOrder(any(CreateOrderCommand.class)))
+                .willReturn(CompletableFuture.failedFuture(new BizException(ErrorCode.PAYMENT_FAILED)));
+
+        // When
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted());
+
+        // Then
+        assertThat(deadlineCaptor.getValue().remainingNanos())
+                .isBetween(Duration.ofSeconds(4).toNanos(), Duration.ofSeconds(5).toNanos());
+    }
+
+    @Test
+    @DisplayName("주문 생성 - X-Request-Deadline 헤더 형식이 잘못되면 400 에러")
+    void createOrder_Fail_InvalidDeadlineHeader() throws Exception {
+        // Given
+        CreateOrderRequest request = new CreateOrderRequest(1L, List.of(new OrderLineRequest(1L, 1)));
+
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .header("X-Request-Deadline", "tomorrow")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("E002"));
+        then(orderCommandUseCase).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("주문 생성 - 비즈니스 예외 발생 시 400 에러")
     void createOrder_Fail_BizException() throws Exception {
@@ -118,7 +238,7 @@ class OrderControllerTest {
         );
         CreateOrderRequest request = new CreateOrderRequest(memberId, orderLineRequests);
 
-        given(orderWebMapper.toCommand(any(CreateOrderRequest.class)))
+        given(orderWebMapper.toCommand(any(CreateOrderRequest.class), any(), any()))
                 .willReturn(new CreateOrderCommand(memberId, List.of()));
         given(orderCommandUseCase.createOrder(any(CreateOrderCommand.class)))
                 .willThrow(new BizException(ErrorCode.MEMBER_NOT_FOUND));
@@ -132,6 +252,125 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.errorCode").value("M001"));
     }
 
+    @Test
+    @DisplayName("주문 생성 - 결제 실패로 비동기 결과가 예외 완료되면 400 에러")
+    void createOrder_Fail_PaymentFailedAsync() throws Exception {
+        // Given
+        Long memberId = 1L;
+        CreateOrderRequest request = new CreateOrderRequest(memberId, List.of(new OrderLineRequest(1L, 1)));
+
+        given(orderWebMapper.toCommand(any(CreateOrderRequest.class), any(), any()))
+                .willReturn(new CreateOrderCommand(memberId, List.of(new OrderLineCommand(1L, 1))));
+        given(orderCommandUseCase.createOrder(any(CreateOrderCommand.class)))
+                .willReturn(CompletableFuture.failedFuture(new BizException(ErrorCode.PAYMENT_FAILED)));
+
+        // When & Then
+        MvcResult asyncResult = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value("PAY001"));
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 같은 Idempotency-Key 의 주문이 처리 중이면 409 에러")
+    void createOrder_Fail_InProgress() throws Exception {
+        // Given
+        Long memberId = 1L;
+        CreateOrderRequest request = new CreateOrderRequest(memberId, List.of(new OrderLineRequest(1L, 1)));
+
+        given(orderWebMapper.toCommand(any(CreateOrderRequest.class), any(), any()))
+                .willReturn(new CreateOrderCommand(memberId, List.of(new OrderLineCommand(1L, 1)), "key-1"));
+        given(orderCommandUseCase.createOrder(any(CreateOrderCommand.class)))
+                .willReturn(CompletableFuture.failedFuture(new BizException(ErrorCode.ORDER_IN_PROGRESS)));
+
+        // When & Then
+        MvcResult asyncResult = mockMvc.perform(post("/api/orders")
+                        .header(OrderController.IDEMPOTENCY_KEY_HEADER, "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.errorCode").value("O009"));
+    }
+
+    // ========== 주문 일괄 생성 API 테스트 ==========
+
+    @Test
+    @DisplayName("주문 일괄 생성 - 일부 주문이 실패해도 200 OK 와 주문별 결과 응답")
+    void createOrders_PartialFailure() throws Exception {
+        // Given
+        BatchCreateOrderRequest request = new BatchCreateOrderRequest(List.of(
+                new CreateOrderRequest(1L, List.of(new OrderLineRequest(1L, 1))),
+                new CreateOrderRequest(2L, List.of(new OrderLineRequest(2L, 1)))
+        ));
+        List<CreateOrderCommand> commands = List.of(
+                new CreateOrderCommand(1L, List.of(new OrderLineCommand(1L, 1))),
+                new CreateOrderCommand(2L, List.of(new OrderLineCommand(2L, 1)))
+        );
+        Order createdOrder = Order.builder()
+                .id(10L)
+                .memberId(1L)
+                .orderLines(List.of())
+                .status(OrderStatus.CONFIRMED)
+                .paymentId("payment-123")
+                .orderDateTime(LocalDateTime.now())
+                .build();
+        List<CreateOrderResult> results = List.of(
+                CreateOrderResult.created(createdOrder),
+                CreateOrderResult.rejected(ErrorCode.PAYMENT_FAILED)
+        );
+        BatchCreateOrderResponse response = new BatchCreateOrderResponse(1, 1, List.of(
+                new BatchOrderResultResponse(0, true, new CreateOrderResponse(10L, 1L, List.of(),
+                        OrderStatus.CONFIRMED, "payment-123", createdOrder.getOrderDateTime()), null, null),
+                new BatchOrderResultResponse(1, false, null,
+                        ErrorCode.PAYMENT_FAILED.getCode(), ErrorCode.PAYMENT_FAILED.getMessage())
+        ));
+
+        given(orderWebMapper.toBatchCommands(any(BatchCreateOrderRequest.class), any())).willReturn(commands);
+        given(orderCommandUseCase.createOrders(commands)).willReturn(CompletableFuture.completedFuture(results));
+        given(orderWebMapper.toBatchResponse(results)).willReturn(response);
+
+        // When & Then
+        MvcResult asyncResult = mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.createdCount").value(1))
+                .andExpect(jsonPath("$.data.failedCount").value(1))
+                .andExpect(jsonPath("$.data.results[0].order.orderId").value(10L))
+                .andExpect(jsonPath("$.data.results[1].success").value(false))
+                .andExpect(jsonPath("$.data.results[1].errorCode").value(ErrorCode.PAYMENT_FAILED.getCode()));
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 - 주문 목록이 비어 있으면 400 에러")
+    void createOrders_EmptyOrders() throws Exception {
+        // Given
+        BatchCreateOrderRequest request = new BatchCreateOrderRequest(List.of());
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        then(orderCommandUseCase).shouldHaveNoInteractions();
+    }
+
     // ========== 주문 취소 API 테스트 ==========
 
     @Test
@@ -0,0 +1,149 @@
+package com.cafe.order.adapter.in.web.order;
+
+import com.cafe.order.adapter.in.web.order.mapper.OrderWebMapper;
+import com.cafe.order.application.port.in.order.OrderExportUseCase;
+import com.cafe.order.application.port.in.order.query.OrderExportQuery;
+import com.cafe.order.application.port.in.order.query.OrderExportRow;
+import com.cafe.order.common.ErrorCode;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OrderExportController.class)
+@Import(OrderWebMapper.class)
+@DisplayName("OrderExportController API 테스트")
+class OrderExportControllerTest {
+
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2025, 1, 1, 9, 30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private OrderExportUseCase orderExportUseCase;
+
+    /**
+     * 결제 ID 에 CSV 구분자/따옴표가 있는 주문과, 결제 정보가 없는 주문
+     */
+    private void givenExportRows() {
+        given(orderExportUseCase.exportOrders(any(), any())).willAnswer(invocation -> {
+            Consumer<OrderExportRow> rowConsumer = invocation.getArgument(1);
+            rowConsumer.accept(new OrderExportRow(1L, 10L, OrderStatus.CONFIRMED, "pos,\"1\"",
+                    ORDER_DATE_TIME, null, ORDER_DATE_TIME.plusSeconds(1), 3L, 2));
+            rowConsumer.accept(new OrderExportRow(2L, 11L, OrderStatus.PENDING, null,
+                    ORDER_DATE_TIME.plusMinutes(1), null, null, 4L, 1));
+            return 2L;
+        });
+    }
+
+    @Test
+    @DisplayName("내보내기 - CSV 는 헤더와 RFC 4180 규칙(구분자/따옴표 포함 값은 큰따옴표로 감쌈)으로 주문상품마다 한 행")
+    void exportOrders_Csv() throws Exception {
+        // Given
+        givenExportRows();
+
+        // When
+        String body = mockMvc.perform(get("/api/orders/export")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2025-01-02T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"orders-20250101000000-20250102000000.csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(body).isEqualTo(
+                "order_id,member_id,status,payment_id,order_date_time,cancel_date_time,payment_date_time,product_id,quantity\r\n"
+                        + "1,10,CONFIRMED,\"pos,\"\"1\"\"\",2025-01-01T09:30,,2025-01-01T09:30:01,3,2\r\n"
+                        + "2,11,PENDING,,2025-01-01T09:31,,,4,1\r\n");
+        then(orderExportUseCase).should().exportOrders(
+                eq(new OrderExportQuery(
+                        LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 2, 0, 0))),
+                any());
+    }
+
+    @Test
+    @DisplayName("내보내기 - gzip 이면 압축 파일로 내려주고, 풀면 한 줄에 주문상품 하나인 NDJSON")
+    void exportOrders_GzipNdjson() throws Exception {
+        // Given
+        givenExportRows();
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/orders/export")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2025-01-02T00:00:00")
+                        .param("format", "ndjson")
+                        .param("gzip", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/gzip;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"orders-20250101000000-20250102000000.ndjson.gz\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        String[] lines = gunzip(body).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("paymentId").asText()).isEqualTo("pos,\"1\"");
+        assertThat(first.get("orderDateTime").asText()).isEqualTo("2025-01-01T09:30");
+        assertThat(first.get("quantity").asInt()).isEqualTo(2);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("paymentId").isNull()).isTrue();
+        assertThat(second.get("status").asText()).isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("내보내기 - from 이 to 이후거나 지원하지 않는 형식이면 내보내기 없이 400")
+    void exportOrders_InvalidRequest() throws Exception {
+        mockMvc.perform(get("/api/orders/export")
+                        .param("from", "2025-01-02T00:00:00")
+                        .param("to", "2025-01-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.INVALID_REQUEST.getCode()));
+
+        mockMvc.perform(get("/api/orders/export")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2025-01-02T00:00:00")
+                        .param("format", "xlsx"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.INVALID_REQUEST.getCode()));
+
+        then(orderExportUseCase).should(never()).exportOrders(any(), any());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.cafe.order.adapter.in.web.order;
+
+import com.cafe.order.adapter.in.web.order.mapper.OrderWebMapper;
+import com.cafe.order.application.port.in.order.OrderImportUseCase;
+import com.cafe.order.application.port.in.order.command.ImportOrderCommand;
+import com.cafe.order.application.port.in.order.command.ImportOrderResult;
+import com.cafe.order.common.ErrorCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = OrderImportController.class, properties = {
+        "order.import.chunk-size=2",
+        "order.import.max-line-length=300"
+})
+@Import(OrderWebMapper.class)
+@DisplayName("OrderImportController API 테스트")
+class OrderImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private OrderImportUseCase orderImportUseCase;
+
+    private static String orderLine(long memberId, String paymentId) {
+        return "{\"memberId\":" + memberId + ",\"orderLines\":[{\"productId\":1,\"quantity\":2}],"
+                + "\"paymentId\":\"" + paymentId + "\",\"orderDateTime\":\"2025-01-01T09:30:00\"}";
+    }
+
+    /**
+     * 회원 ID 가 99 인 주문은 없는 회원으로 거절하고, 나머지는 100 + 회원 ID 를 주문 ID 로 등록
+     */
+    private void givenImportResults() {
+        given(orderImportUseCase.importOrders(anyList())).willAnswer(invocation ->
+                invocation.<List<ImportOrderCommand>>getArgument(0).stream()
+                        .map(command -> command.memberId() == 99L
+                                ? ImportOrderResult.rejected(ErrorCode.MEMBER_NOT_FOUND)
+                                : ImportOrderResult.imported(100L + command.memberId()))
+                        .toList());
+    }
+
+    private List<JsonNode> importOrders(String body) throws Exception {
+        String response = mockMvc.perform(post("/api/orders/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("일괄 등록 - 형식/검증 오류 줄은 등록 없이 실패 처리하고, 결과를 요청 줄 순서대로 줄 번호와 함께 응답")
+    void importOrders_ResultsInRequestOrder() throws Exception {
+        // Given
+        givenImportResults();
+        String body = String.join("\n",
+                orderLine(1L, "pos-1"),
+                "{not json",
+                "",
+                orderLine(99L, "pos-2"),
+                "{\"memberId\":2,\"orderLines\":[],\"paymentId\":\"pos-3\",\"orderDateTime\":\"2025-01-01T09:30:00\"}",
+                orderLine(3L, "pos-4") + "\r",
+                "{\"memberId\":4,\"orderLines\":[{\"productId\":1,\"quantity\":1}],\"paymentId\":\"pos-5\","
+                        + "\"orderDateTime\":\"" + LocalDateTime.now().plusDays(1) + "\"}",
+                "{\"memberId\":5,\"orderLines\":[{\"productId\":1,\"quantity\":1}],\"paymentId\":\"" + "x".repeat(400) + "\"}",
+                orderLine(6L, "pos-6"));
+
+        // When
+        List<JsonNode> results = importOrders(body);
+
+        // Then
+        assertThat(results).extracting(result -> result.get("line").asLong())
+                .containsExactly(1L, 2L, 4L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(results.get(0).get("success").asBoolean()).isTrue();
+        assertThat(results.get(0).get("orderId").asLong()).isEqualTo(101L);
+        assertThat(results.get(1).get("errorCode").asText()).isEqualTo(ErrorCode.INVALID_REQUEST.getCode());
+        assertThat(results.get(2).get("errorCode").asText()).isEqualTo(ErrorCode.MEMBER_NOT_FOUND.getCode());
+        assertThat(results.get(3).get("errorCode").asText()).isEqualTo("VALIDATION_ERROR");
+        assertThat(results.get(3).get("message").asText()).startsWith("orderLines");
+        assertThat(results.get(4).get("orderId").asLong()).isEqualTo(103L);
+        assertThat(results.get(5).get("message").asText()).startsWith("orderDateTime");
+        assertThat(results.get(6).get("errorCode").asText()).isEqualTo(ErrorCode.INVALID_REQUEST.getCode());
+        assertThat(results.get(7).get("orderId").asLong()).isEqualTo(106L);
+        assertThat(results.get(7).has("errorCode")).isFalse();
+
+        // 검증을 통과한 주문만 등록 요청
+        ArgumentCaptor<List<ImportOrderCommand>> captor = ArgumentCaptor.captor();
+        then(orderImportUseCase).should(times(4)).importOrders(captor.capture());
+        assertThat(captor.getAllValues().stream().flatMap(List::stream).map(ImportOrderCommand::paymentId))
+                .containsExactly("pos-1", "pos-2", "pos-4", "pos-6");
+    }
+
+    @Test
+    @DisplayName("일괄 등록 - chunk-size 건씩 나누어 등록하므로 한 번에 전달되는 주문 수는 본문 크기와 관계없이 일정")
+    void importOrders_ImportsInChunks() throws Exception {
+        // Given
+        givenImportResults();
+        AtomicLong paymentSequence = new AtomicLong();
+        String body = IntStream.rangeClosed(1, 7)
+                .mapToObj(memberId -> orderLine(memberId, "pos-" + paymentSequence.incrementAndGet()))
+                .collect(Collectors.joining("\n", "", "\n"));
+
+        // When
+        List<JsonNode> results = importOrders(body);
+
+        // Then
+        assertThat(results).extracting(result -> result.get("orderId").asLong())
+                .containsExactly(101L, 102L, 103L, 104L, 105L, 106L, 107L);
+        ArgumentCaptor<List<ImportOrderCommand>> captor = ArgumentCaptor.captor();
+        then(orderImportUseCase).should(times(4)).importOrders(captor.capture());
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("일괄 등록 - 모든 줄이 형식 오류면 등록을 호출하지 않음")
+    void importOrders_AllRejected() throws Exception {
+        // When
+        List<JsonNode> results = importOrders(Arrays.stream(new String[]{"[]", "{", "1"})
+                .collect(Collectors.joining("\n")));
+
+        // Then
+        assertThat(results).extracting(result -> result.get("success").asBoolean()).containsOnly(false);
+        then(orderImportUseCase).should(never()).importOrders(anyList());
+    }
+}
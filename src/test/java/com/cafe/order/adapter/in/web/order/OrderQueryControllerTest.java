@@ -0,0 +1,94 @@
+package com.cafe.order.adapter.in.web.order;
+
+import com.cafe.order.adapter.in.web.order.mapper.OrderWebMapper;
+import com.cafe.order.application.port.in.order.OrderQueryUseCase;
+import com.cafe.order.application.port.in.order.query.OrderHistoryCursor;
+import com.cafe.order.application.port.in.order.query.OrderHistoryPage;
+import com.cafe.order.application.port.in.order.query.OrderHistoryQuery;
+import com.cafe.order.application.port.in.order.query.OrderSummary;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OrderQueryController.class)
+@Import(OrderWebMapper.class)
+@DisplayName("OrderQueryController API 테스트")
+class OrderQueryControllerTest {
+
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2026, 1, 1, 9, 0, 0, 123_000_000);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private OrderQueryUseCase orderQueryUseCase;
+
+    @Test
+    @DisplayName("주문 내역 조회 - 응답의 nextCursor 로 다음 페이지를 조회하면 같은 커서 위치가 전달됨")
+    void findOrderHistory_CursorRoundTrip() throws Exception {
+        // Given
+        OrderHistoryCursor nextCursor = new OrderHistoryCursor(ORDER_DATE_TIME, 10L);
+        OrderSummary order = new OrderSummary(10L, OrderStatus.CONFIRMED, "payment-10", ORDER_DATE_TIME, null,
+                List.of(new OrderSummary.Line(1L, 2)));
+        given(orderQueryUseCase.findOrderHistory(any(OrderHistoryQuery.class)))
+                .willReturn(new OrderHistoryPage(List.of(order), nextCursor));
+
+        // When
+        String body = mockMvc.perform(get("/api/members/1/orders").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.orders[0].orderId").value(10))
+                .andExpect(jsonPath("$.data.orders[0].orderLines[0].quantity").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = JsonPath.read(body, "$.data.nextCursor");
+
+        mockMvc.perform(get("/api/members/1/orders").param("cursor", cursor).param("size", "1"))
+                .andExpect(status().isOk());
+
+        // Then
+        ArgumentCaptor<OrderHistoryQuery> captor = ArgumentCaptor.forClass(OrderHistoryQuery.class);
+        then(orderQueryUseCase).should(times(2)).findOrderHistory(captor.capture());
+        assertThat(captor.getAllValues().get(0)).isEqualTo(new OrderHistoryQuery(1L, null, 1));
+        assertThat(captor.getAllValues().get(1)).isEqualTo(new OrderHistoryQuery(1L, nextCursor, 1));
+    }
+
+    @Test
+    @DisplayName("주문 내역 조회 - 잘못된 커서는 400 Bad Request")
+    void findOrderHistory_InvalidCursor() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/members/1/orders").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("E002"));
+        then(orderQueryUseCase).should(never()).findOrderHistory(any());
+    }
+
+    @Test
+    @DisplayName("주문 내역 조회 - 페이지 크기가 100을 넘으면 400 Bad Request")
+    void findOrderHistory_SizeTooLarge() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/members/1/orders").param("size", "101"))
+                .andExpect(status().isBadRequest());
+        then(orderQueryUseCase).should(never()).findOrderHistory(any());
+    }
+}
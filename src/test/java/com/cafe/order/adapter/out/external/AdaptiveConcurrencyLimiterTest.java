@@ -0,0 +1,72 @@
+package com.cafe.order.adapter.out.external;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimiter 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    @DisplayName("한도만큼 점유하면 추가 요청을 거절")
+    void tryAcquire_RejectsOverLimit() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 10, THRESHOLD_NANOS, 0.5);
+
+        // When & Then
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("지연 임계값을 넘거나 실패하면 한도를 비율만큼 줄이고 최소 한도 아래로 내려가지 않음")
+    void release_DecreasesOnSlowOrFailure() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 2, 10, THRESHOLD_NANOS, 0.5);
+
+        // When
+        limiter.tryAcquire();
+        limiter.release(SLOW, true);
+        int afterSlow = limiter.getLimit();
+
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+        int afterFailure = limiter.getLimit();
+
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW, true);
+        }
+
+        // Then
+        assertThat(afterSlow).isEqualTo(4);
+        assertThat(afterFailure).isEqualTo(2);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("빠른 성공이 이어지면 한도를 조금씩 늘리고 최대 한도를 넘지 않음")
+    void release_IncreasesOnFastSuccess() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 4, THRESHOLD_NANOS, 0.5);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, true);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,218 @@
+package com.cafe.order.adapter.out.external;
+
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.Deadline;
+import com.cafe.order.common.ErrorCode;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+/**
+ * 외부 결제 시스템 지연 시 서킷 브레이커가 열린 이후 요청이 타임아웃까지 기다리지 않고 즉시 거절되는지 검증
+ */
+@SpringBootTest(properties = {
+        "resilience4j.timelimiter.instances.payment.timeout-duration=300ms",
+        "resilience4j.timelimiter.instances.payment-cancel.timeout-duration=300ms",
+        "resilience4j.circuitbreaker.instances.payment.sliding-window-size=5",
+        "resilience4j.circuitbreaker.instances.payment.minimum-number-of-calls=5",
+        "resilience4j.circuitbreaker.instances.payment.wait-duration-in-open-state=1m",
+        "order.recovery.fixed-delay=1h",
+        "payment.outbox.fixed-delay=1h"
+})
+@DisplayName("ExternalPaymentAdapter 장애 격리 테스트")
+class ExternalPaymentAdapterTest {
+
+    private static final int WARMUP_CALLS = 2_000;
+    private static final int REJECTED_CALLS = 1_000;
+
+    @Autowired
+    private ExternalPaymentAdapter externalPaymentAdapter;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @MockitoBean
+    private PaymentApiAdapter paymentApiAdapter;
+
+    @Test
+    @DisplayName("결제 API 지연으로 서킷이 열리면 이후 결제 요청은 10ms 이내에 PAYMENT_UNAVAILABLE 로 실패")
+    void processPayment_FailsFastWhenCircuitOpen() throws Exception {
+        // Given: 타임아웃보다 느린 결제 API
+        willAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return "Success!";
+        }).given(paymentApiAdapter).makePayment(any());
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(ExternalPaymentTask.PAYMENT);
+        circuitBreaker.reset();
+
+        // When: 타임아웃으로 실패율 임계값을 넘겨 서킷을 연다
+        List<Long> timedOutNanos = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> externalPaymentAdapter.processPayment(Deadline.none()).join())
+                    .isInstanceOf(CompletionException.class)
+                    .cause()
+                    .isInstanceOf(BizException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.PAYMENT_FAILED);
+            timedOutNanos.add(System.nanoTime() - start);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // Then: 서킷이 열린 뒤 거절된 요청의 p99 지연은 10ms 미만 (JIT 워밍업 구간은 측정에서 제외)
+        List<Long> rejectedNanos = new ArrayList<>();
+        for (int i = 0; i < WARMUP_CALLS + REJECTED_CALLS; i++) {
+            long start = System.nanoTime();
+            Throwable failure = externalPaymentAdapter.processPayment(Deadline.none()).handle((result, e) -> e).join();
+            long elapsed = System.nanoTime() - start;
+
+            assertThat(failure).cause()
+                    .isInstanceOf(BizException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.PAYMENT_UNAVAILABLE);
+            if (i >= WARMUP_CALLS) {
+                rejectedNanos.add(elapsed);
+            }
+        }
+
+        assertThat(percentile(timedOutNanos, 0.5)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(300));
+        assertThat(percentile(rejectedNanos, 0.99)).isLessThan(TimeUnit.MILLISECONDS.toNanos(10));
+
+        circuitBreaker.reset();
+    }
+
+    @Test
+    @DisplayName("요청 처리 기한이 타임아웃보다 짧으면 기한에 결제 호출을 중단하고, 서킷 브레이커 실패로 집계하지 않음")
+    void processPayment_StopsAtDeadline() throws Exception {
+        // Given: 타임아웃(300ms)보다 느린 결제 API 와 100ms 남은 처리 기한
+        willAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return "Success!";
+        }).given(paymentApiAdapter).makePayment(any());
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(ExternalPaymentTask.PAYMENT);
+        circuitBreaker.reset();
+
+        // When
+        long start = System.nanoTime();
+        AtomicReference<String> completingThread = new AtomicReference<>();
+        Throwable failure = externalPaymentAdapter.processPayment(Deadline.after(Duration.ofMillis(100)))
+                .whenComplete((result, e) -> completingThread.set(Thread.currentThread().getName()))
+                .handle((result, e) -> e)
+                .join();
+        long elapsed = System.nanoTime() - start;
+
+        // Then
+        assertThat(failure).cause()
+                .isInstanceOf(BizException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.REQUEST_DEADLINE_EXCEEDED);
+        assertThat(elapsed).isLessThan(TimeUnit.MILLISECONDS.toNanos(300));
+        assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+        // 이어지는 주문 실패 처리가 ForkJoinPool.commonPool() 을 점유하지 않도록 결제 전용 Executor 에서 완료된다
+        assertThat(completingThread.get()).startsWith("payment-");
+
+        circuitBreaker.reset();
+    }
+
+    @Test
+    @DisplayName("타임아웃이 지나면 실행 중인 결제 호출을 인터럽트해 Executor 스레드를 돌려받음")
+    void processPayment_InterruptsCallOnTimeout() throws Exception {
+        // Given: 타임아웃(300ms)보다 느린 결제 API
+        CountDownLatch interrupted = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return "Success!";
+        }).given(paymentApiAdapter).makePayment(any());
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(ExternalPaymentTask.PAYMENT);
+        circuitBreaker.reset();
+
+        // When
+        Throwable failure = externalPaymentAdapter.processPayment(Deadline.none())
+                .handle((result, e) -> e)
+                .join();
+
+        // Then: 게이트웨이 응답(5초)을 기다리지 않고 타임아웃 직후 호출이 인터럽트된다
+        assertThat(failure).cause()
+                .isInstanceOf(BizException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.PAYMENT_FAILED);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        circuitBreaker.reset();
+    }
+
+    @Test
+    @DisplayName("결제 취소도 타임아웃이 지나면 실행 중인 취소 호출을 인터럽트함")
+    void cancelPayment_InterruptsCallOnTimeout() throws Exception {
+        // Given: 타임아웃(300ms)보다 느린 결제 취소 API
+        CountDownLatch interrupted = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return null;
+        }).given(paymentApiAdapter).cancelPayment(any());
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(ExternalPaymentTask.PAYMENT_CANCEL);
+        circuitBreaker.reset();
+
+        // When & Then
+        assertThatThrownBy(() -> externalPaymentAdapter.cancelPayment("payment-1"))
+                .isInstanceOf(BizException.class);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        circuitBreaker.reset();
+    }
+
+    @Test
+    @DisplayName("이미 지난 처리 기한이면 결제 API 를 호출하지 않음")
+    void processPayment_ExpiredDeadline_DoesNotCallGateway() throws Exception {
+        // When
+        Throwable failure = externalPaymentAdapter.processPayment(Deadline.after(Duration.ofMillis(-1)))
+                .handle((result, e) -> e)
+                .join();
+
+        // Then
+        assertThat(failure).cause()
+                .isInstanceOf(BizException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.REQUEST_DEADLINE_EXCEEDED);
+        then(paymentApiAdapter).should(never()).makePayment(any());
+    }
+
+    private long percentile(List<Long> values, double percentile) {
+        List<Long> sorted = values.stream().sorted().toList();
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0));
+    }
+}
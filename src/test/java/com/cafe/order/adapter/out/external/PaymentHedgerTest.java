@@ -0,0 +1,135 @@
+package com.cafe.order.adapter.out.external;
+
+import com.cafe.order.config.PaymentHedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PaymentHedger 테스트")
+class PaymentHedgerTest {
+
+    private static final int MIN_SAMPLES = 10;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentHedgingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new PaymentHedgingProperties();
+        properties.setEnabled(true);
+        properties.setMinDelay(Duration.ofMillis(20));
+        properties.setMinSamples(MIN_SAMPLES);
+        properties.setWindowSize(100);
+    }
+
+    private PaymentHedger warmedUpHedger() {
+        PaymentHedger hedger = new PaymentHedger(properties, meterRegistry);
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            hedger.execute(() -> CompletableFuture.completedFuture("ok")).join();
+        }
+        return hedger;
+    }
+
+    private <T> Supplier<CompletableFuture<T>> attempts(List<CompletableFuture<T>> futures) {
+        Iterator<CompletableFuture<T>> iterator = futures.iterator();
+        return iterator::next;
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Test
+    @DisplayName("첫 시도가 기준 시간 안에 끝나지 않으면 헤지 요청 결과를 사용하고 첫 시도를 취소")
+    void execute_HedgeWins_CancelsPrimary() {
+        // Given
+        properties.setMaxHedgeRatio(1.0);
+        PaymentHedger hedger = warmedUpHedger();
+        CompletableFuture<String> primary = new CompletableFuture<>();
+        CompletableFuture<String> hedge = CompletableFuture.completedFuture("hedged");
+
+        // When
+        String result = hedger.execute(attempts(List.of(primary, hedge))).orTimeout(1, TimeUnit.SECONDS).join();
+
+        // Then
+        assertThat(result).isEqualTo("hedged");
+        assertThat(primary.isCancelled()).isTrue();
+        assertThat(count("payment.hedge.attempts")).isEqualTo(1.0);
+        assertThat(count("payment.hedge.wins")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("응답 시간 표본이 부족하면 헤지하지 않음")
+    void execute_NotEnoughSamples_NoHedge() throws InterruptedException {
+        // Given
+        properties.setMaxHedgeRatio(1.0);
+        PaymentHedger hedger = new PaymentHedger(properties, meterRegistry);
+        CompletableFuture<String> primary = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<String> result = hedger.execute(attempts(List.of(primary)));
+        Thread.sleep(100);
+        primary.complete("primary");
+
+        // Then
+        assertThat(result.join()).isEqualTo("primary");
+        assertThat(count("payment.hedge.attempts")).isZero();
+    }
+
+    @Test
+    @DisplayName("헤지 비율 한도를 넘으면 헤지하지 않고 첫 시도를 기다림")
+    void execute_BudgetExhausted_WaitsForPrimary() throws InterruptedException {
+        // Given: 요청 10건당 헤지 1건
+        properties.setMaxHedgeRatio(0.1);
+        PaymentHedger hedger = warmedUpHedger();
+
+        CompletableFuture<String> firstSlow = new CompletableFuture<>();
+        String firstResult = hedger.execute(attempts(List.of(firstSlow, CompletableFuture.completedFuture("hedged"))))
+                .orTimeout(1, TimeUnit.SECONDS)
+                .join();
+
+        // When
+        CompletableFuture<String> secondSlow = new CompletableFuture<>();
+        CompletableFuture<String> secondResult = hedger.execute(attempts(List.of(secondSlow)));
+        Thread.sleep(100);
+        secondSlow.complete("primary");
+
+        // Then
+        assertThat(firstResult).isEqualTo("hedged");
+        assertThat(secondResult.join()).isEqualTo("primary");
+        assertThat(count("payment.hedge.attempts")).isEqualTo(1.0);
+        assertThat(count("payment.hedge.budget.exhausted")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("헤지 전에 첫 시도가 실패하면 헤지하지 않고 실패로 완료")
+    void execute_PrimaryFailsBeforeHedge_Fails() throws InterruptedException {
+        // Given
+        properties.setMaxHedgeRatio(1.0);
+        PaymentHedger hedger = warmedUpHedger();
+
+        // When
+        CompletableFuture<String> result = hedger.execute(
+                attempts(List.of(CompletableFuture.<String>failedFuture(new IllegalStateException("결제 실패")))));
+        Thread.sleep(100);
+
+        // Then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(count("payment.hedge.attempts")).isZero();
+    }
+}
@@ -0,0 +1,165 @@
+package com.cafe.order.adapter.out.external.simulator;
+
+import com.cafe.order.config.PaymentGatewaySimulatorProperties;
+import com.cafe.order.config.PaymentGatewaySimulatorProperties.Bucket;
+import com.cafe.order.config.PaymentGatewaySimulatorProperties.LatencyType;
+import com.cafe.order.config.PaymentGatewaySimulatorProperties.Phase;
+import com.cafe.order.config.PaymentGatewaySimulatorProperties.Profile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PaymentGatewaySimulator 테스트")
+class PaymentGatewaySimulatorTest {
+
+    private static PaymentGatewaySimulatorProperties properties(Profile profile, Long seed) {
+        PaymentGatewaySimulatorProperties properties = new PaymentGatewaySimulatorProperties();
+        properties.setProfile("test");
+        properties.setSeed(seed);
+        properties.getProfiles().put("test", profile);
+        return properties;
+    }
+
+    private static Profile uniformProfile(double failureRate) {
+        Profile profile = new Profile();
+        profile.getLatency().setType(LatencyType.UNIFORM);
+        profile.getLatency().setMin(Duration.ZERO);
+        profile.getLatency().setMax(Duration.ofSeconds(1));
+        profile.setFailureRate(failureRate);
+        return profile;
+    }
+
+    private static List<Long> approveAndRecordSleeps(PaymentGatewaySimulator simulator, List<Long> sleeps, int calls) {
+        for (int i = 0; i < calls; i++) {
+            try {
+                simulator.approve("key-" + i);
+            } catch (Exception ignored) {
+                // 실패도 지연 기록에는 포함
+            }
+        }
+        return sleeps;
+    }
+
+    @Test
+    @DisplayName("같은 seed 면 같은 호출 순서에 대해 같은 지연을 재현")
+    void approve_SameSeed_SameLatencySequence() {
+        // Given
+        List<Long> firstSleeps = new ArrayList<>();
+        List<Long> secondSleeps = new ArrayList<>();
+        PaymentGatewaySimulator first = new PaymentGatewaySimulator(properties(uniformProfile(0.01), 42L), firstSleeps::add, () -> 0L);
+        PaymentGatewaySimulator second = new PaymentGatewaySimulator(properties(uniformProfile(0.01), 42L), secondSleeps::add, () -> 0L);
+
+        // When
+        approveAndRecordSleeps(first, firstSleeps, 100);
+        approveAndRecordSleeps(second, secondSleeps, 100);
+
+        // Then
+        assertThat(firstSleeps).hasSize(100).isEqualTo(secondSleeps);
+        assertThat(firstSleeps).allMatch(nanos -> nanos >= 0 && nanos <= Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    @DisplayName("실패율 1이면 지연 후 결제 실패")
+    void approve_FailureRate_Fails() {
+        // Given
+        List<Long> sleeps = new ArrayList<>();
+        PaymentGatewaySimulator simulator = new PaymentGatewaySimulator(properties(uniformProfile(1.0), 1L), sleeps::add, () -> 0L);
+
+        // When & Then
+        assertThatThrownBy(() -> simulator.approve("key-1"))
+                .hasMessage("Payment failed!");
+        assertThat(sleeps).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("타임아웃 폭주 구간에서는 timeout-stall 만큼 지연 후 타임아웃")
+    void approve_TimeoutStorm_StallsAndTimesOut() {
+        // Given
+        Profile profile = uniformProfile(0);
+        profile.setTimeoutRate(1.0);
+        profile.setTimeoutStall(Duration.ofSeconds(30));
+
+        List<Long> sleeps = new ArrayList<>();
+        PaymentGatewaySimulator simulator = new PaymentGatewaySimulator(properties(profile, 1L), sleeps::add, () -> 0L);
+
+        // When & Then
+        assertThatThrownBy(() -> simulator.approve("key-1"))
+                .isInstanceOf(TimeoutException.class);
+        assertThat(sleeps).containsExactly(Duration.ofSeconds(30).toNanos());
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키는 한 번만 승인")
+    void approve_SameKey_ApprovedOnce() throws Exception {
+        // Given
+        PaymentGatewaySimulator simulator = new PaymentGatewaySimulator(properties(uniformProfile(0), 1L), nanos -> { }, () -> 0L);
+
+        // When & Then
+        assertThat(simulator.approve("key-1")).isEqualTo("Success!");
+        assertThat(simulator.approve("key-1")).isEqualTo("Already approved");
+    }
+
+    @Test
+    @DisplayName("히스토그램 분포는 버킷 구간 안에서 가중치 비율대로 샘플링")
+    void histogram_SamplesWithinBucketsByWeight() {
+        // Given
+        Bucket fast = new Bucket();
+        fast.setUpTo(Duration.ofMillis(50));
+        fast.setWeight(90);
+        Bucket slow = new Bucket();
+        slow.setUpTo(Duration.ofSeconds(2));
+        slow.setWeight(10);
+
+        LatencyDistribution distribution = LatencyDistribution.histogram(List.of(fast, slow));
+        Random random = new Random(7);
+
+        // When
+        long fastCount = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long nanos = distribution.sampleNanos(random);
+            assertThat(nanos).isBetween(0L, Duration.ofSeconds(2).toNanos());
+            if (nanos <= Duration.ofMillis(50).toNanos()) {
+                fastCount++;
+            }
+        }
+
+        // Then
+        assertThat(fastCount).isBetween(8_700L, 9_300L);
+    }
+
+    @Test
+    @DisplayName("phases 는 시간 흐름에 따라 순서대로 반복")
+    void currentPhase_CyclesByElapsedTime() {
+        // Given
+        Phase normal = new Phase();
+        normal.setDuration(Duration.ofSeconds(60));
+        normal.setFailureRate(0.01);
+        Phase brownout = new Phase();
+        brownout.setDuration(Duration.ofSeconds(20));
+        brownout.setFailureRate(0.5);
+
+        Profile profile = new Profile();
+        profile.setPhases(List.of(normal, brownout));
+
+        AtomicLong now = new AtomicLong();
+        PaymentGatewaySimulator simulator = new PaymentGatewaySimulator(properties(profile, 1L), nanos -> { }, now::get);
+
+        // When & Then
+        assertThat(simulator.currentPhase().failureRate()).isEqualTo(0.01);
+
+        now.set(Duration.ofSeconds(70).toNanos());
+        assertThat(simulator.currentPhase().failureRate()).isEqualTo(0.5);
+
+        now.set(Duration.ofSeconds(85).toNanos());
+        assertThat(simulator.currentPhase().failureRate()).isEqualTo(0.01);
+    }
+}
@@ -0,0 +1,70 @@
+package com.cafe.order.adapter.out.external.simulator;
+
+import com.cafe.order.adapter.out.external.HttpPaymentGateway;
+import com.cafe.order.config.PaymentGatewayProperties;
+import com.cafe.order.config.PaymentGatewaySimulatorProperties;
+import com.cafe.order.config.PaymentGatewaySimulatorProperties.LatencyType;
+import com.cafe.order.config.PaymentGatewaySimulatorProperties.Profile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PaymentGatewayStubServer 테스트")
+class PaymentGatewayStubServerTest {
+
+    private PaymentGatewayStubServer stubServer;
+
+    @AfterEach
+    void tearDown() {
+        if (stubServer != null) {
+            stubServer.stop();
+        }
+    }
+
+    private HttpPaymentGateway startStub(double failureRate) {
+        Profile profile = new Profile();
+        profile.getLatency().setType(LatencyType.FIXED);
+        profile.getLatency().setFixed(Duration.ofMillis(1));
+        profile.setFailureRate(failureRate);
+
+        PaymentGatewaySimulatorProperties simulatorProperties = new PaymentGatewaySimulatorProperties();
+        simulatorProperties.setProfile("test");
+        simulatorProperties.getProfiles().put("test", profile);
+
+        stubServer = new PaymentGatewayStubServer(new PaymentGatewaySimulator(simulatorProperties), 0);
+        stubServer.start();
+
+        PaymentGatewayProperties gatewayProperties = new PaymentGatewayProperties();
+        gatewayProperties.setMode(PaymentGatewayProperties.Mode.HTTP);
+        gatewayProperties.setBaseUrl("http://localhost:" + stubServer.getPort());
+        return new HttpPaymentGateway(gatewayProperties);
+    }
+
+    @Test
+    @DisplayName("HTTP 게이트웨이로 스텁 서버에 결제/취소 요청")
+    void approveAndCancel_OverHttp() throws Exception {
+        // Given
+        HttpPaymentGateway gateway = startStub(0);
+
+        // When & Then
+        assertThat(gateway.approve("key-1")).isEqualTo("Success!");
+        assertThat(gateway.approve("key-1")).isEqualTo("Already approved");
+        assertThat(gateway.cancel("key-1")).isEqualTo("Success!");
+    }
+
+    @Test
+    @DisplayName("시뮬레이터 실패는 HTTP 오류 응답으로 전달")
+    void approve_Failure_ReturnsServerError() {
+        // Given
+        HttpPaymentGateway gateway = startStub(1.0);
+
+        // When & Then
+        assertThatThrownBy(() -> gateway.approve("key-1"))
+                .hasMessageContaining("status=500");
+    }
+}
@@ -0,0 +1,112 @@
+package com.cafe.order.adapter.out.persistence.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MultiRowInsert 다중 행 INSERT 테스트")
+class MultiRowInsertTest {
+
+    private static final String TWO_ROWS = "INSERT INTO t (a, b) VALUES (?, ?), (?, ?)";
+    private static final String ONE_ROW = "INSERT INTO t (a, b) VALUES (?, ?)";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement fullStatement;
+
+    @Mock
+    private PreparedStatement remainderStatement;
+
+    private JdbcTemplate jdbcTemplate;
+    private final MultiRowInsert<Long> insert = new MultiRowInsert<>("t", List.of("a", "b"), 2);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    private static List<Long> rows(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(Long::valueOf).toList();
+    }
+
+    private static void bind(PreparedStatement statement, int index, Long row, int rowIndex) throws SQLException {
+        statement.setLong(index, row);
+        statement.setInt(index + 1, rowIndex);
+    }
+
+    @Test
+    @DisplayName("최대 행 수 단위 문장은 PreparedStatement 하나에 배치로 모으고 남은 행은 문장 하나로 보낸다")
+    void execute_BatchesFullStatementsAndSendsRemainder() throws SQLException {
+        // Given: 5행 = 2행 문장 2개(배치) + 1행 문장 1개
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.prepareStatement(TWO_ROWS)).willReturn(fullStatement);
+        given(connection.prepareStatement(ONE_ROW)).willReturn(remainderStatement);
+        given(fullStatement.executeBatch()).willReturn(new int[]{2, 2});
+        given(remainderStatement.executeUpdate()).willReturn(1);
+
+        // When
+        int inserted = insert.execute(jdbcTemplate, rows(5), MultiRowInsertTest::bind);
+
+        // Then
+        assertThat(inserted).isEqualTo(5);
+        then(fullStatement).should(times(2)).addBatch();
+        then(fullStatement).should().executeBatch();
+        then(fullStatement).should().setLong(3, 4L);
+        then(fullStatement).should().setInt(4, 3);
+        then(remainderStatement).should().setLong(1, 5L);
+        then(remainderStatement).should().setInt(2, 4);
+        then(remainderStatement).should(never()).addBatch();
+    }
+
+    @Test
+    @DisplayName("문장 하나로 충분하면 배치 없이 한 번 실행한다")
+    void execute_SingleStatementWithoutBatch() throws SQLException {
+        // Given
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.prepareStatement(TWO_ROWS)).willReturn(fullStatement);
+        given(fullStatement.executeUpdate()).willReturn(2);
+
+        // When
+        int inserted = insert.execute(jdbcTemplate, rows(2), MultiRowInsertTest::bind);
+
+        // Then
+        assertThat(inserted).isEqualTo(2);
+        then(fullStatement).should().executeUpdate();
+        then(fullStatement).should(never()).addBatch();
+        then(fullStatement).should(never()).executeBatch();
+    }
+
+    @Test
+    @DisplayName("행이 없으면 커넥션을 얻지 않는다")
+    void execute_EmptyRowsNoRoundTrip() throws SQLException {
+        // When
+        int inserted = insert.execute(jdbcTemplate, List.of(), MultiRowInsertTest::bind);
+
+        // Then
+        assertThat(inserted).isZero();
+        then(dataSource).should(never()).getConnection();
+    }
+}
@@ -0,0 +1,261 @@
+package com.cafe.order.adapter.out.persistence.member;
+
+import com.cafe.order.config.MemberCacheProperties;
+import com.cafe.order.domain.member.model.Member;
+import com.cafe.order.domain.member.model.enums.Gender;
+import com.cafe.order.domain.member.model.enums.MemberStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberCacheAdapter 테스트")
+class MemberCacheAdapterTest {
+
+    @Mock
+    private MemberPersistenceAdapter memberPersistenceAdapter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberCacheAdapter memberCacheAdapter;
+
+    private static Member activeMember(long id) {
+        return Member.builder()
+                .id(id)
+                .name("홍길동")
+                .phoneNumber("010-1234-5678")
+                .gender(Gender.MALE)
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .status(MemberStatus.ACTIVE)
+                .joinDateTime(LocalDateTime.now())
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberCacheAdapter = new MemberCacheAdapter(memberPersistenceAdapter, new MemberCacheProperties(),
+                transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "member").tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("같은 회원을 반복 조회하면 DB 는 한 번만 조회")
+    void findById_CachesMember() {
+        // Given
+        given(memberPersistenceAdapter.findById(1L)).willReturn(Optional.of(activeMember(1L)));
+
+        // When
+        memberCacheAdapter.findById(1L);
+        Optional<Member> result = memberCacheAdapter.findById(1L);
+
+        // Then
+        assertThat(result).get().extracting(Member::getId).isEqualTo(1L);
+        then(memberPersistenceAdapter).should(times(1)).findById(1L);
+        assertThat(cacheGets("hit")).isEqualTo(1);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원 ID 도 캐시해 반복 조회가 DB 로 내려가지 않음")
+    void findById_UnknownMember_NegativeCached() {
+        // Given
+        given(memberPersistenceAdapter.findById(999L)).willReturn(Optional.empty());
+
+        // When
+        memberCacheAdapter.findById(999L);
+        Optional<Member> result = memberCacheAdapter.findById(999L);
+
+        // Then
+        assertThat(result).isEmpty();
+        then(memberPersistenceAdapter).should(times(1)).findById(999L);
+    }
+
+    @Test
+    @DisplayName("조회한 회원을 변경해도 캐시된 값은 바뀌지 않음")
+    void findById_ReturnsCopy() {
+        // Given
+        given(memberPersistenceAdapter.findById(1L)).willReturn(Optional.of(activeMember(1L)));
+
+        // When
+        memberCacheAdapter.findById(1L).orElseThrow().withdraw();
+
+        // Then
+        assertThat(memberCacheAdapter.findById(1L)).get().extracting(Member::isActive).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("탈퇴 저장 시 캐시를 무효화해 다음 조회는 탈퇴 상태를 반환")
+    void save_Withdraw_InvalidatesCache() {
+        // Given
+        Member withdrawn = activeMember(1L);
+        withdrawn.withdraw();
+        given(memberPersistenceAdapter.findById(1L))
+                .willReturn(Optional.of(activeMember(1L)))
+                .willReturn(Optional.of(withdrawn));
+        given(memberPersistenceAdapter.save(any(Member.class))).willReturn(withdrawn);
+        memberCacheAdapter.findById(1L);
+
+        // When
+        memberCacheAdapter.save(withdrawn);
+
+        // Then
+        assertThat(memberCacheAdapter.findById(1L)).get().extracting(Member::isWithdrawn).isEqualTo(true);
+        then(memberPersistenceAdapter).should(times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("저장이 낙관적 락 충돌로 실패해도 캐시를 무효화해 재시도는 최신 상태를 조회")
+    void save_Failure_StillInvalidatesCache() {
+        // Given: 다른 요청이 먼저 탈퇴 처리해 저장이 충돌
+        Member withdrawn = activeMember(1L);
+        withdrawn.withdraw();
+        given(memberPersistenceAdapter.findById(1L))
+                .willReturn(Optional.of(activeMember(1L)))
+                .willReturn(Optional.of(withdrawn));
+        given(memberPersistenceAdapter.save(any(Member.class)))
+                .willThrow(new ObjectOptimisticLockingFailureException(Member.class, 1L));
+        Member stale = memberCacheAdapter.findById(1L).orElseThrow();
+
+        // When
+        assertThatThrownBy(() -> memberCacheAdapter.save(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        // Then
+        assertThat(memberCacheAdapter.findById(1L)).get().extracting(Member::isWithdrawn).isEqualTo(true);
+        then(memberPersistenceAdapter).should(times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("커밋 전에 다른 요청이 이전 상태를 적재해도 커밋 후 다시 무효화")
+    void save_InTransaction_InvalidatesAgainAfterCommit() {
+        // Given
+        Member withdrawn = activeMember(1L);
+        withdrawn.withdraw();
+        given(memberPersistenceAdapter.findById(1L))
+                .willReturn(Optional.of(activeMember(1L)))
+                .willReturn(Optional.of(withdrawn));
+        given(memberPersistenceAdapter.save(any(Member.class))).willReturn(withdrawn);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When: 저장 후 커밋 전에 커밋되지 않은(이전) 상태가 다시 캐시됨
+        memberCacheAdapter.save(withdrawn);
+        assertThat(memberCacheAdapter.findById(1L)).get().extracting(Member::isActive).isEqualTo(true);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        assertThat(memberCacheAdapter.findById(1L)).get().extracting(Member::isWithdrawn).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("가입으로 저장된 ID 의 부정 캐시도 제거")
+    void save_NewMember_InvalidatesNegativeEntry() {
+        // Given
+        Member saved = activeMember(5L);
+        given(memberPersistenceAdapter.findById(5L))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(saved));
+        given(memberPersistenceAdapter.save(any(Member.class))).willReturn(saved);
+        memberCacheAdapter.findById(5L);
+
+        // When
+        memberCacheAdapter.save(saved);
+
+        // Then
+        assertThat(memberCacheAdapter.findById(5L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션에서 캐시를 채울 때는 레플리카가 아닌 프라이머리(새 쓰기 트랜잭션)에서 조회")
+    void findById_InReadOnlyTransaction_LoadsFromPrimary() {
+        // Given
+        given(memberPersistenceAdapter.findById(1L)).willReturn(Optional.of(activeMember(1L)));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        memberCacheAdapter.findById(1L);
+
+        // Then
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        then(transactionManager).should().getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isFalse();
+        assertThat(definition.getValue().getPropagationBehavior())
+                .isEqualTo(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안에서는 이미 프라이머리이므로 그 트랜잭션에서 조회")
+    void findById_InReadWriteTransaction_JoinsTransaction() {
+        // Given
+        given(memberPersistenceAdapter.findById(1L)).willReturn(Optional.of(activeMember(1L)));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        memberCacheAdapter.findById(1L);
+
+        // Then
+        then(transactionManager).should(never()).getTransaction(any());
+        then(memberPersistenceAdapter).should().findById(1L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 탈퇴해 캐시에 ACTIVE 로 남은 회원은 상태 재확인 시 무효화되어 다음 조회가 탈퇴 상태를 반환")
+    void findInactiveIds_InvalidatesStaleEntries() {
+        // Given: 이 인스턴스 캐시에는 ACTIVE, DB 에서는 이미 탈퇴
+        Member withdrawn = activeMember(1L);
+        withdrawn.withdraw();
+        given(memberPersistenceAdapter.findById(1L))
+                .willReturn(Optional.of(activeMember(1L)))
+                .willReturn(Optional.of(withdrawn));
+        given(memberPersistenceAdapter.findInactiveIds(List.of(1L))).willReturn(Set.of(1L));
+        memberCacheAdapter.findById(1L);
+
+        // When
+        Set<Long> inactiveIds = memberCacheAdapter.findInactiveIds(List.of(1L));
+
+        // Then
+        assertThat(inactiveIds).containsExactly(1L);
+        assertThat(memberCacheAdapter.findById(1L)).get().extracting(Member::isWithdrawn).isEqualTo(true);
+    }
+}
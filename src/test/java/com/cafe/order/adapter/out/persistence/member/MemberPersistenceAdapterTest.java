@@ -0,0 +1,106 @@
+package com.cafe.order.adapter.out.persistence.member;
+
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
+import com.cafe.order.config.JpaConfig;
+import com.cafe.order.domain.member.model.enums.MemberStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({JpaConfig.class, MemberPersistenceAdapter.class, MemberPersistenceMapper.class, ShardRouter.class})
+@DisplayName("MemberPersistenceAdapter 탈퇴 회원 정리 테스트")
+class MemberPersistenceAdapterTest {
+
+    private static final LocalDateTime WITHDRAWN_BEFORE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private MemberPersistenceAdapter memberPersistenceAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private MemberPhoneNumberFilter memberPhoneNumberFilter;
+
+    private void insertMember(long memberId, MemberStatus status, LocalDateTime withdrawalDateTime) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO members (id, name, phone_number, gender, birth_date, status, withdrawal_date_time, "
+                        + "join_date_time, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                memberId, "회원" + memberId, "0101000" + String.format("%04d", memberId), "MALE", LocalDate.of(1990, 1, 1),
+                status.name(), withdrawalDateTime == null ? null : Timestamp.valueOf(withdrawalDateTime), now, now, now);
+    }
+
+    /**
+     * 만료된 탈퇴 4명(탈퇴 일시가 ID 순서와 다름), 기간 내 탈퇴 1명, 활성 회원 1명
+     */
+    private void insertMembers() {
+        insertMember(1L, MemberStatus.WITHDRAWN, WITHDRAWN_BEFORE.minusDays(1));
+        insertMember(2L, MemberStatus.WITHDRAWN, WITHDRAWN_BEFORE.minusDays(3));
+        insertMember(3L, MemberStatus.WITHDRAWN, WITHDRAWN_BEFORE.minusDays(2));
+        insertMember(4L, MemberStatus.WITHDRAWN, WITHDRAWN_BEFORE.minusSeconds(1));
+        insertMember(5L, MemberStatus.WITHDRAWN, WITHDRAWN_BEFORE.plusDays(1));
+        insertMember(6L, MemberStatus.ACTIVE, null);
+    }
+
+    private List<Long> remainingMemberIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM members ORDER BY id", Long.class);
+    }
+
+    @Test
+    @DisplayName("만료된 탈퇴 회원을 오래된 탈퇴 순으로 limit 명씩 조회하고, 조회 조건을 다시 확인하며 삭제")
+    void deleteExpiredWithdrawals_DeletesOldestFirst() {
+        // Given
+        insertMembers();
+
+        // When
+        List<Long> firstChunk = memberPersistenceAdapter.findExpiredWithdrawalIds(WITHDRAWN_BEFORE, 3);
+        // 기간 내 탈퇴/활성 회원 ID 가 섞여 들어와도 삭제하지 않음
+        int deleted = memberPersistenceAdapter.deleteExpiredWithdrawals(List.of(2L, 3L, 1L, 5L, 6L), WITHDRAWN_BEFORE);
+        List<Long> secondChunk = memberPersistenceAdapter.findExpiredWithdrawalIds(WITHDRAWN_BEFORE, 3);
+
+        // Then
+        assertThat(firstChunk).containsExactly(2L, 3L, 1L);
+        assertThat(deleted).isEqualTo(3);
+        assertThat(secondChunk).containsExactly(4L);
+        assertThat(memberPersistenceAdapter.countExpiredWithdrawals(WITHDRAWN_BEFORE)).isEqualTo(1);
+        assertThat(remainingMemberIds()).containsExactly(4L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("만료된 탈퇴 회원 조회는 (status, withdrawal_date_time, id) 인덱스 순서로 읽어 정렬하지 않음")
+    void findExpiredWithdrawalIds_UsesIndex() {
+        // When
+        String plan = jdbcTemplate.queryForObject("EXPLAIN SELECT id FROM members "
+                        + "WHERE status = ? AND withdrawal_date_time < ? ORDER BY status, withdrawal_date_time, id FETCH FIRST 500 ROWS ONLY",
+                String.class, MemberStatus.WITHDRAWN.name(), Timestamp.valueOf(WITHDRAWN_BEFORE));
+
+        // Then
+        assertThat(plan).containsIgnoringCase("idx_members_status_withdrawal_date_time").contains("index sorted");
+    }
+
+    @Test
+    @DisplayName("상태 재확인은 ACTIVE 가 아니거나 없는 회원 ID 만 반환")
+    void findInactiveIds_ReturnsWithdrawnAndMissingMembers() {
+        // Given
+        insertMembers();
+
+        // When
+        Set<Long> inactiveIds = memberPersistenceAdapter.findInactiveIds(List.of(1L, 5L, 6L, 99L));
+
+        // Then
+        assertThat(inactiveIds).containsExactlyInAnyOrder(1L, 5L, 99L);
+    }
+}
@@ -0,0 +1,111 @@
+package com.cafe.order.adapter.out.persistence.member;
+
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
+import com.cafe.order.config.DataSourceShardProperties;
+import com.cafe.order.config.MemberPhoneFilterProperties;
+import com.cafe.order.domain.member.model.Member;
+import com.cafe.order.domain.member.model.enums.Gender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberPhoneNumberFilter 테스트")
+class MemberPhoneNumberFilterTest {
+
+    @Mock
+    private MemberJpaRepository memberJpaRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberPhoneNumberFilter memberPhoneNumberFilter;
+    private MemberPersistenceAdapter memberPersistenceAdapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberPhoneNumberFilter = new MemberPhoneNumberFilter(memberJpaRepository, new MemberPhoneFilterProperties(), meterRegistry);
+        memberPersistenceAdapter = new MemberPersistenceAdapter(memberJpaRepository, new MemberPersistenceMapper(), memberPhoneNumberFilter,
+                new ShardRouter(new DataSourceShardProperties()));
+    }
+
+    private double checks(String result) {
+        return meterRegistry.get("member.phone.filter.checks").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("필터 적재 전에는 항상 DB 로 중복 확인")
+    void existsByPhoneNumber_BeforeBuild_QueriesDatabase() {
+        // Given
+        given(memberJpaRepository.existsByPhoneNumber("01012345678")).willReturn(false);
+
+        // When
+        boolean exists = memberPersistenceAdapter.existsByPhoneNumber("01012345678");
+
+        // Then
+        assertThat(exists).isFalse();
+        then(memberJpaRepository).should().existsByPhoneNumber("01012345678");
+    }
+
+    @Test
+    @DisplayName("가입된 적 없는 전화번호는 DB 조회 없이 중복 아님")
+    void existsByPhoneNumber_DefiniteMiss_SkipsQuery() {
+        // Given
+        given(memberJpaRepository.streamAllPhoneNumbers()).willReturn(Stream.of("01011112222", "01033334444"));
+        memberPhoneNumberFilter.build();
+
+        // When
+        boolean exists = memberPersistenceAdapter.existsByPhoneNumber("01099998888");
+
+        // Then
+        assertThat(exists).isFalse();
+        assertThat(checks("skipped")).isEqualTo(1);
+        then(memberJpaRepository).should(never()).existsByPhoneNumber(anyString());
+    }
+
+    @Test
+    @DisplayName("필터에 있는 전화번호는 DB 로 최종 확인")
+    void existsByPhoneNumber_MightContain_ConfirmsWithDatabase() {
+        // Given
+        given(memberJpaRepository.streamAllPhoneNumbers()).willReturn(Stream.of("01011112222"));
+        given(memberJpaRepository.existsByPhoneNumber("01011112222")).willReturn(true);
+        memberPhoneNumberFilter.build();
+
+        // When
+        boolean exists = memberPersistenceAdapter.existsByPhoneNumber("01011112222");
+
+        // Then
+        assertThat(exists).isTrue();
+        assertThat(checks("confirmed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재 이후 가입한 회원의 전화번호도 필터에 추가")
+    void save_NewMember_AddsToFilter() {
+        // Given
+        given(memberJpaRepository.streamAllPhoneNumbers()).willReturn(Stream.empty());
+        memberPhoneNumberFilter.build();
+        given(memberJpaRepository.saveAndFlush(any(MemberJpaEntity.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(memberJpaRepository.existsByPhoneNumber("01055556666")).willReturn(true);
+
+        // When
+        memberPersistenceAdapter.save(Member.createNewMember("홍길동", "01055556666", Gender.MALE, LocalDate.of(1990, 1, 1)));
+
+        // Then
+        assertThat(memberPersistenceAdapter.existsByPhoneNumber("01055556666")).isTrue();
+        then(memberJpaRepository).should().existsByPhoneNumber("01055556666");
+    }
+}
@@ -0,0 +1,57 @@
+package com.cafe.order.adapter.out.persistence.member;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PhoneNumberBloomFilter 테스트")
+class PhoneNumberBloomFilterTest {
+
+    private static String phoneNumber(int i) {
+        return String.format("010%08d", i);
+    }
+
+    @Test
+    @DisplayName("추가한 전화번호는 항상 있을 수 있음으로 판단 (false negative 없음)")
+    void mightContain_NoFalseNegatives() {
+        // Given
+        PhoneNumberBloomFilter filter = new PhoneNumberBloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put(phoneNumber(i)));
+
+        // When & Then
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain(phoneNumber(i)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("예상 건수만큼 채웠을 때 오탐률이 목표치 근처로 유지")
+    void mightContain_FalsePositiveRateNearTarget() {
+        // Given
+        PhoneNumberBloomFilter filter = new PhoneNumberBloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.put(phoneNumber(i)));
+
+        // When: 추가하지 않은 번호 10만 개 조회
+        long falsePositives = IntStream.range(10_000, 110_000)
+                .filter(i -> filter.mightContain(phoneNumber(i)))
+                .count();
+
+        // Then
+        double observed = falsePositives / 100_000.0;
+        assertThat(observed).isLessThan(0.02);
+        assertThat(filter.estimatedFalsePositiveRate()).isBetween(0.005, 0.02);
+        assertThat(filter.memoryBytes()).isLessThan(16 * 1024);
+    }
+
+    @Test
+    @DisplayName("비어 있는 필터는 모든 번호에 대해 확실히 없음")
+    void mightContain_EmptyFilter() {
+        // Given
+        PhoneNumberBloomFilter filter = new PhoneNumberBloomFilter(1_000, 0.01);
+
+        // When & Then
+        assertThat(filter.mightContain(phoneNumber(1))).isFalse();
+        assertThat(filter.estimatedFalsePositiveRate()).isZero();
+    }
+}
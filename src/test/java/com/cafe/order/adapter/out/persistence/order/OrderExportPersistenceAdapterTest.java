@@ -0,0 +1,108 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.application.port.in.order.query.OrderExportRow;
+import com.cafe.order.config.JpaConfig;
+import com.cafe.order.config.OrderExportProperties;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "order.export.fetch-size=2")
+@Import({JpaConfig.class, OrderExportPersistenceAdapter.class})
+@DisplayName("OrderExportPersistenceAdapter 테스트")
+class OrderExportPersistenceAdapterTest {
+
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Autowired
+    private OrderExportPersistenceAdapter orderExportPersistenceAdapter;
+
+    @Autowired
+    private OrderExportProperties orderExportProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주문 ID 순서와 주문 일시 순서가 다르도록 생성, 결제가 없는 주문(PENDING)과 주문상품 2개인 주문 포함
+     */
+    private void insertOrders() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insertOrder(1L, OrderStatus.CONFIRMED, BASE_DATE_TIME.plusMinutes(10), now, new long[]{1L});
+        insertOrder(2L, OrderStatus.CANCELLED, BASE_DATE_TIME.plusMinutes(5), now, new long[]{2L, 3L});
+        insertOrder(3L, OrderStatus.PENDING, BASE_DATE_TIME.plusMinutes(5), now, new long[]{1L});
+        insertOrder(4L, OrderStatus.CONFIRMED, BASE_DATE_TIME.minusMinutes(1), now, new long[]{1L});
+        insertOrder(5L, OrderStatus.CONFIRMED, BASE_DATE_TIME.plusHours(1), now, new long[]{1L});
+    }
+
+    private void insertOrder(long orderId, OrderStatus status, LocalDateTime orderDateTime, Timestamp now, long[] productIds) {
+        boolean paid = status != OrderStatus.PENDING;
+        Timestamp cancelDateTime = status == OrderStatus.CANCELLED ? Timestamp.valueOf(orderDateTime.plusMinutes(1)) : null;
+        jdbcTemplate.update("INSERT INTO orders (id, member_id, status, payment_id, order_date_time, cancel_date_time, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                orderId, 100L + orderId, status.name(), paid ? "pay-" + orderId : null, Timestamp.valueOf(orderDateTime),
+                cancelDateTime, now, now);
+        if (paid) {
+            jdbcTemplate.update("INSERT INTO payments (id, payment_id, order_id, payment_date_time, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?)",
+                    orderId, "pay-" + orderId, orderId, Timestamp.valueOf(orderDateTime.plusSeconds(1)), now, now);
+        }
+        for (int i = 0; i < productIds.length; i++) {
+            jdbcTemplate.update("INSERT INTO order_lines (id, order_id, product_id, quantity) VALUES (?, ?, ?, ?)",
+                    orderId * 10 + i, orderId, productIds[i], i + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("내보내기 - [from, to) 주문을 주문 일시, 주문 ID 순으로 주문상품마다 한 행씩, 결제가 없는 주문도 포함")
+    void exportOrders_StreamsRowsInOrderDateTimeOrder() {
+        // Given
+        insertOrders();
+        List<OrderExportRow> rows = new ArrayList<>();
+
+        // When
+        long count = orderExportPersistenceAdapter.exportOrders(BASE_DATE_TIME, BASE_DATE_TIME.plusHours(1), rows::add);
+
+        // Then
+        assertThat(count).isEqualTo(4);
+        assertThat(rows).extracting(OrderExportRow::orderId, OrderExportRow::productId, OrderExportRow::quantity)
+                .containsExactly(
+                        tuple(2L, 2L, 1),
+                        tuple(2L, 3L, 2),
+                        tuple(3L, 1L, 1),
+                        tuple(1L, 1L, 1));
+        assertThat(rows.get(0).status()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(rows.get(0).cancelDateTime()).isEqualTo(BASE_DATE_TIME.plusMinutes(6));
+        assertThat(rows.get(0).paymentDateTime()).isEqualTo(BASE_DATE_TIME.plusMinutes(5).plusSeconds(1));
+        assertThat(rows.get(2).paymentId()).isNull();
+        assertThat(rows.get(2).paymentDateTime()).isNull();
+        assertThat(rows.get(3).memberId()).isEqualTo(101L);
+    }
+
+    @Test
+    @DisplayName("내보내기 - 주문 일시 인덱스 순서로 읽어 결과 전체를 정렬하지 않음")
+    void exportOrders_ReadsInIndexOrderWithoutSort() {
+        // Given
+        insertOrders();
+
+        // When
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + OrderExportPersistenceAdapter.EXPORT_QUERY, String.class,
+                Timestamp.valueOf(BASE_DATE_TIME), Timestamp.valueOf(BASE_DATE_TIME.plusHours(1)));
+
+        // Then
+        assertThat(orderExportProperties.getFetchSize()).isEqualTo(2);
+        assertThat(plan).containsIgnoringCase("idx_orders_order_date_time_id").contains("index sorted");
+    }
+}
@@ -0,0 +1,277 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.adapter.out.persistence.payment.PaymentJdbcAdapter;
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
+import com.cafe.order.application.port.out.order.OrderPort;
+import com.cafe.order.config.JpaConfig;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import com.cafe.order.domain.payment.model.Payment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * JDBC 쓰기 경로의 저장/조회/상태 전이가 JPA 어댑터와 같게 동작하는지 검증하고,
+ * 주문 저장 1건당 할당 바이트와 지연을 JPA 어댑터와 비교해 로그로 남긴다.
+ */
+// 비교 측정에서 JPA 쪽만 SQL 을 표준 출력에 쓰지 않도록 showSql 을 끈다
+@DataJpaTest(showSql = false, properties = {
+        "order.jdbc.enabled=true",
+        "order.jdbc.max-rows-per-statement=16"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, OrderJdbcAdapter.class, OrderPersistenceAdapter.class, OrderPersistenceMapper.class,
+        PaymentJdbcAdapter.class, ShardRouter.class})
+@DisplayName("OrderJdbcAdapter JDBC 쓰기 경로 테스트")
+class OrderJdbcAdapterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderJdbcAdapterTest.class);
+
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0, 0, 123_456_000);
+
+    @Autowired
+    private OrderJdbcAdapter orderJdbcAdapter;
+
+    @Autowired
+    private OrderPersistenceAdapter orderPersistenceAdapter;
+
+    @Autowired
+    private PaymentJdbcAdapter paymentJdbcAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Order save(OrderPort port, Order order) {
+        return new TransactionTemplate(transactionManager).execute(status -> port.save(order));
+    }
+
+    private static Order pendingOrder(long memberId, int lineCount) {
+        List<OrderLine> orderLines = IntStream.rangeClosed(1, lineCount)
+                .mapToObj(productId -> OrderLine.of((long) productId, productId))
+                .toList();
+        return Order.builder()
+                .memberId(memberId)
+                .orderLines(orderLines)
+                .status(OrderStatus.PENDING)
+                .orderDateTime(ORDER_DATE_TIME)
+                .build();
+    }
+
+    @Test
+    @DisplayName("저장한 주문은 ID 와 버전 0 을 받고 주문상품은 입력 목록을 그대로 쓰며, 다시 조회하면 같은 주문이다")
+    void save_ReturnsInputWithIdentity() {
+        // Given
+        Order order = pendingOrder(1L, 3);
+
+        // When
+        Order saved = save(orderJdbcAdapter, order);
+
+        // Then
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getVersion()).isZero();
+        assertThat(saved.getOrderLines()).isSameAs(order.getOrderLines());
+        assertThat(orderJdbcAdapter.findById(saved.getId())).hasValueSatisfying(found -> {
+            assertThat(found.getMemberId()).isEqualTo(1L);
+            assertThat(found.getStatus()).isEqualTo(OrderStatus.PENDING);
+            assertThat(found.getOrderDateTime()).isEqualTo(ORDER_DATE_TIME);
+            assertThat(found.getCancelDateTime()).isNull();
+            assertThat(found.getVersion()).isZero();
+            assertThat(found.getOrderLines()).extracting(OrderLine::getProductId, OrderLine::getQuantity)
+                    .containsExactly(tuple(1L, 1), tuple(2L, 2), tuple(3L, 3));
+        });
+        // JPA 어댑터로도 같은 주문을 읽을 수 있다 (created_at/updated_at/version 채움)
+        assertThat(orderPersistenceAdapter.findById(saved.getId())).hasValueSatisfying(found ->
+                assertThat(found.getOrderLines()).hasSize(3));
+    }
+
+    @Test
+    @DisplayName("여러 주문은 입력 순서대로 ID 를 받고, 문장당 최대 행 수를 넘는 주문/주문상품도 모두 저장된다")
+    void saveAll_SplitsIntoMultiRowStatements() {
+        // Given: 주문 40건(16 + 16 + 8), 주문상품 80건(16 x 5)
+        List<Order> orders = IntStream.rangeClosed(1, 40)
+                .mapToObj(i -> Order.createImported(7_000L + i, List.of(OrderLine.of(1L, 1), OrderLine.of(2L, i)),
+                        "jdbc-pos-" + i, ORDER_DATE_TIME.minusMinutes(i)))
+                .toList();
+
+        // When
+        List<Order> saved = new TransactionTemplate(transactionManager).execute(status -> orderJdbcAdapter.saveAll(orders));
+
+        // Then
+        assertThat(saved).extracting(Order::getPaymentId)
+                .containsExactlyElementsOf(orders.stream().map(Order::getPaymentId).toList());
+        assertThat(saved).extracting(Order::getId).doesNotContainNull().doesNotHaveDuplicates();
+        Long[] ids = saved.stream().map(Order::getId).toArray(Long[]::new);
+        String placeholders = String.join(", ", Collections.nCopies(ids.length, "?"));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from order_lines where order_id in (" + placeholders + ")",
+                Long.class, (Object[]) ids)).isEqualTo(80);
+        assertThat(orderJdbcAdapter.findById(saved.get(39).getId())).hasValueSatisfying(order -> {
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+            assertThat(order.getOrderDateTime()).isEqualTo(ORDER_DATE_TIME.minusMinutes(40));
+            assertThat(order.getOrderLines()).extracting(OrderLine::getQuantity).containsExactly(1, 40);
+        });
+    }
+
+    @Test
+    @DisplayName("PENDING 주문 조회는 ID 순으로 limit 개를 주문상품과 함께 반환")
+    void findPendingOrdersBefore_ReturnsOrdersWithLines() {
+        // Given
+        LocalDateTime oldDateTime = LocalDateTime.of(2000, 1, 1, 0, 0);
+        List<Order> saved = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Order order = pendingOrder(8_000L + i, 2);
+            saved.add(save(orderJdbcAdapter, Order.builder()
+                    .memberId(order.getMemberId())
+                    .orderLines(order.getOrderLines())
+                    .status(OrderStatus.PENDING)
+                    .orderDateTime(oldDateTime.plusSeconds(i))
+                    .build()));
+        }
+
+        // When
+        List<Order> pending = orderJdbcAdapter.findPendingOrdersBefore(oldDateTime.plusMinutes(1), 2);
+
+        // Then
+        assertThat(pending).extracting(Order::getId).containsExactly(saved.get(0).getId(), saved.get(1).getId());
+        assertThat(pending).allSatisfy(order -> assertThat(order.getOrderLines()).hasSize(2));
+    }
+
+    @Test
+    @DisplayName("상태 전이마다 버전이 1 증가하고, 조회 이후 버전이 바뀌었거나 기대 상태가 아니면 갱신하지 않음")
+    void updateStatus_RequiresExpectedStatusAndVersion() {
+        // Given
+        Order saved = save(orderJdbcAdapter, pendingOrder(2L, 1));
+        Order stale = orderJdbcAdapter.findById(saved.getId()).orElseThrow();
+        Order fresh = orderJdbcAdapter.findById(saved.getId()).orElseThrow();
+
+        // When
+        fresh.confirm("payment-jdbc-1");
+        boolean confirmed = orderJdbcAdapter.updateStatus(fresh, OrderStatus.PENDING);
+        stale.fail();
+        boolean staleUpdated = orderJdbcAdapter.updateStatus(stale, OrderStatus.PENDING);
+        // 취소는 주문상품 없이 주문 행만 조회한 버전으로 전이한다
+        Order reloaded = orderJdbcAdapter.findStatusById(saved.getId()).orElseThrow();
+        reloaded.cancel();
+        boolean cancelledFromWrongStatus = orderJdbcAdapter.updateStatus(reloaded, OrderStatus.PENDING);
+        boolean cancelled = orderJdbcAdapter.updateStatus(reloaded, OrderStatus.CONFIRMED);
+
+        // Then
+        assertThat(confirmed).isTrue();
+        assertThat(staleUpdated).isFalse();
+        assertThat(cancelledFromWrongStatus).isFalse();
+        assertThat(cancelled).isTrue();
+        assertThat(reloaded.getOrderLines()).isEmpty();
+        assertThat(orderJdbcAdapter.findById(saved.getId())).hasValueSatisfying(order -> {
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+            assertThat(order.getPaymentId()).isEqualTo("payment-jdbc-1");
+            assertThat(order.getCancelDateTime()).isNotNull();
+            assertThat(order.getVersion()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    @DisplayName("결제는 주문 확정과 같은 트랜잭션에서 저장되고 결제 ID 로 조회된다")
+    void paymentSave_InSameTransactionAsConfirm() {
+        // Given
+        Order order = save(orderJdbcAdapter, pendingOrder(5L, 1));
+        LocalDateTime paidAt = LocalDateTime.of(2025, 1, 1, 9, 0, 1);
+
+        // When
+        Payment payment = new TransactionTemplate(transactionManager).execute(status -> {
+            order.confirm("payment-jdbc-2");
+            orderJdbcAdapter.updateStatus(order, OrderStatus.PENDING);
+            return paymentJdbcAdapter.save(Payment.createPayment("payment-jdbc-2", order.getId(), paidAt));
+        });
+
+        // Then
+        assertThat(payment.getId()).isNotNull();
+        assertThat(paymentJdbcAdapter.findByPaymentId("payment-jdbc-2")).hasValueSatisfying(found -> {
+            assertThat(found.getId()).isEqualTo(payment.getId());
+            assertThat(found.getOrderId()).isEqualTo(order.getId());
+            assertThat(found.getPaymentDateTime()).isEqualTo(paidAt);
+        });
+        assertThat(paymentJdbcAdapter.findById(payment.getId())).isPresent();
+        assertThat(paymentJdbcAdapter.findExistingPaymentIds(List.of("payment-jdbc-2", "payment-jdbc-missing")))
+                .containsExactly("payment-jdbc-2");
+    }
+
+    @Test
+    @DisplayName("JPA 어댑터와 번갈아 저장해도 같은 시퀀스에서 서로 다른 ID 구간을 받아 겹치지 않는다")
+    void save_IdsDoNotCollideWithJpa() {
+        // Given / When: pooled 구간(50)을 여러 번 넘도록 번갈아 저장
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            OrderPort port = i % 2 == 0 ? orderJdbcAdapter : orderPersistenceAdapter;
+            ids.add(save(port, pendingOrder(3L, 1)).getId());
+        }
+
+        // Then
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(ids).allSatisfy(id -> assertThat(orderJdbcAdapter.findById(id)).isPresent());
+    }
+
+    @Test
+    @DisplayName("성능 비교 - 주문(주문상품 3개) 저장 1건당 할당 바이트와 지연, JPA 어댑터 / JDBC 어댑터")
+    void save_AllocationAndLatencyJpaVersusJdbc() {
+        // Given: JIT 워밍업
+        measure(orderPersistenceAdapter, 1_000);
+        measure(orderJdbcAdapter, 1_000);
+
+        // When
+        double[] jpa = measure(orderPersistenceAdapter, 3_000);
+        double[] jdbc = measure(orderJdbcAdapter, 3_000);
+
+        // Then
+        log.info("주문 저장 1건 (트랜잭션 포함, 3,000건): JPA={} bytes/order p50={}ms p99={}ms, JDBC={} bytes/order p50={}ms p99={}ms",
+                String.format("%.0f", jpa[0]), String.format("%.3f", jpa[1]), String.format("%.3f", jpa[2]),
+                String.format("%.0f", jdbc[0]), String.format("%.3f", jdbc[1]), String.format("%.3f", jdbc[2]));
+        assertThat(jdbc[0]).isPositive();
+        assertThat(jpa[0]).isPositive();
+    }
+
+    /**
+     * 현재 스레드에서 주문을 하나씩 저장하며 {할당 바이트/건, p50 ms, p99 ms} 를 측정
+     */
+    private double[] measure(OrderPort port, int orders) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] latencies = new long[orders];
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < orders; i++) {
+            Order order = pendingOrder(4L + i % 100, 3);
+            long started = System.nanoTime();
+            save(port, order);
+            latencies[i] = System.nanoTime() - started;
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        Arrays.sort(latencies);
+        return new double[]{
+                (double) allocated / orders,
+                latencies[(int) Math.ceil(0.5 * orders) - 1] / 1e6,
+                latencies[(int) Math.ceil(0.99 * orders) - 1] / 1e6
+        };
+    }
+}
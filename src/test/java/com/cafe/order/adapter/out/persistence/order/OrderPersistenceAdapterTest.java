@@ -0,0 +1,196 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
+import com.cafe.order.config.JpaConfig;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 저장 시 주문상품 수와 관계없이 DB 왕복(PreparedStatement 실행) 횟수가 일정한지 Hibernate 통계로 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, OrderPersistenceAdapter.class, OrderPersistenceMapper.class, ShardRouter.class})
+@DisplayName("OrderPersistenceAdapter 배치 INSERT 테스트")
+class OrderPersistenceAdapterTest {
+
+    @Autowired
+    private OrderPersistenceAdapter orderPersistenceAdapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // pooled 옵티마이저는 처음 두 번의 시퀀스 조회로 할당 구간을 확보하므로 측정에서 제외
+        saveAndFlush(1);
+        saveAndFlush(1);
+    }
+
+    private Order saveAndFlush(int lineCount) {
+        List<OrderLine> orderLines = IntStream.rangeClosed(1, lineCount)
+                .mapToObj(productId -> OrderLine.of((long) productId, 1))
+                .toList();
+
+        Order savedOrder = orderPersistenceAdapter.save(Order.createPending(1L, orderLines));
+        entityManager.flush();
+        entityManager.clear();
+        return savedOrder;
+    }
+
+    @Test
+    @DisplayName("주문상품 1개와 30개 주문의 저장 왕복 횟수가 같음 (테이블별 배치 INSERT)")
+    void save_StatementCountIndependentOfOrderLineCount() {
+        // When
+        statistics.clear();
+        saveAndFlush(1);
+        long singleLineStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        Order savedOrder = saveAndFlush(30);
+        long manyLinesStatements = statistics.getPrepareStatementCount();
+
+        // Then: orders INSERT 1회 + order_lines 배치 INSERT 1회 (주문상품별 order_id UPDATE 없음)
+        // 다른 테스트와 시퀀스를 공유하므로 pooled 블록 경계를 넘으면 테이블별 시퀀스 조회가 최대 1회씩 추가될 수 있음
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(31);
+        assertThat(singleLineStatements).isBetween(2L, 4L);
+        assertThat(manyLinesStatements).isBetween(2L, 4L);
+        assertThat(orderPersistenceAdapter.findById(savedOrder.getId()))
+                .hasValueSatisfying(order -> assertThat(order.getOrderLines()).hasSize(30));
+    }
+
+    @Test
+    @DisplayName("여러 주문 저장은 주문 수와 관계없이 배치 단위로 INSERT 하고, 입력 순서대로 ID 가 채워진 주문을 반환")
+    void saveAll_BatchInsertsInInputOrder() {
+        // Given
+        LocalDateTime orderDateTime = LocalDateTime.of(2025, 1, 1, 9, 0);
+        List<Order> orders = IntStream.rangeClosed(1, 200)
+                .mapToObj(i -> Order.createImported((long) i, List.of(OrderLine.of(1L, 1), OrderLine.of(2L, i)),
+                        "pos-" + i, orderDateTime.plusMinutes(i)))
+                .toList();
+
+        // When
+        statistics.clear();
+        List<Order> savedOrders = orderPersistenceAdapter.saveAll(orders);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then: 주문 200건 + 주문상품 400건을 batch_size(50) 단위로 INSERT (orders 4회 + order_lines 8회 + 시퀀스 조회)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(600);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(30);
+        assertThat(savedOrders).extracting(Order::getPaymentId)
+                .containsExactlyElementsOf(orders.stream().map(Order::getPaymentId).toList());
+        assertThat(savedOrders).extracting(Order::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(orderPersistenceAdapter.findById(savedOrders.get(199).getId()))
+                .hasValueSatisfying(order -> {
+                    assertThat(order.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+                    assertThat(order.getOrderDateTime()).isEqualTo(orderDateTime.plusMinutes(200));
+                    assertThat(order.getOrderLines()).extracting(OrderLine::getQuantity).containsExactlyInAnyOrder(1, 200);
+                });
+    }
+
+    @Test
+    @DisplayName("상태 전이는 주문상품을 다시 쓰지 않는 조건부 UPDATE 1회로 처리하고, 기대 상태가 아니면 갱신하지 않음")
+    void updateStatus_ConditionalSingleUpdate() {
+        // Given
+        Order pendingOrder = saveAndFlush(30);
+        pendingOrder.confirm("payment-123");
+        assertThat(orderPersistenceAdapter.updateStatus(pendingOrder, OrderStatus.PENDING)).isTrue();
+        Order order = orderPersistenceAdapter.findById(pendingOrder.getId()).orElseThrow();
+        order.cancel();
+
+        // When
+        statistics.clear();
+        boolean firstCancel = orderPersistenceAdapter.updateStatus(order, OrderStatus.CONFIRMED);
+        boolean secondCancel = orderPersistenceAdapter.updateStatus(order, OrderStatus.CONFIRMED);
+
+        // Then
+        assertThat(firstCancel).isTrue();
+        assertThat(secondCancel).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(orderPersistenceAdapter.findById(order.getId()))
+                .hasValueSatisfying(cancelledOrder -> {
+                    assertThat(cancelledOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+                    assertThat(cancelledOrder.getPaymentId()).isEqualTo("payment-123");
+                    assertThat(cancelledOrder.getCancelDateTime()).isNotNull();
+                    assertThat(cancelledOrder.getOrderLines()).hasSize(30);
+                });
+    }
+
+    @Test
+    @DisplayName("상태 전이마다 버전이 1 증가하고, 조회 이후 다른 변경으로 버전이 바뀌었으면 상태가 같아도 갱신하지 않음")
+    void updateStatus_StaleVersionNotUpdated() {
+        // Given
+        Order savedOrder = saveAndFlush(1);
+        Order staleOrder = orderPersistenceAdapter.findById(savedOrder.getId()).orElseThrow();
+        assertThat(staleOrder.getVersion()).isZero();
+        // 상태는 그대로 두고 다른 변경만 반영된 경우
+        entityManager.createQuery("UPDATE OrderJpaEntity o SET o.version = o.version + 1 WHERE o.id = :orderId")
+                .setParameter("orderId", savedOrder.getId())
+                .executeUpdate();
+
+        // When
+        staleOrder.fail();
+        boolean staleUpdated = orderPersistenceAdapter.updateStatus(staleOrder, OrderStatus.PENDING);
+        Order freshOrder = orderPersistenceAdapter.findById(savedOrder.getId()).orElseThrow();
+        freshOrder.fail();
+        boolean freshUpdated = orderPersistenceAdapter.updateStatus(freshOrder, OrderStatus.PENDING);
+
+        // Then
+        assertThat(staleUpdated).isFalse();
+        assertThat(freshUpdated).isTrue();
+        assertThat(orderPersistenceAdapter.findById(savedOrder.getId()))
+                .hasValueSatisfying(order -> {
+                    assertThat(order.getStatus()).isEqualTo(OrderStatus.FAILED);
+                    assertThat(order.getVersion()).isEqualTo(2L);
+                });
+    }
+
+    @Test
+    @DisplayName("상태 조회는 주문상품 수와 관계없이 주문 행만 1회 조회하고, 조회한 버전으로 상태 전이할 수 있음")
+    void findStatusById_LoadsOrderRowOnly() {
+        // Given
+        Order savedOrder = saveAndFlush(30);
+        savedOrder.confirm("payment-123");
+        assertThat(orderPersistenceAdapter.updateStatus(savedOrder, OrderStatus.PENDING)).isTrue();
+
+        // When
+        statistics.clear();
+        Order order = orderPersistenceAdapter.findStatusById(savedOrder.getId()).orElseThrow();
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(order.getOrderLines()).isEmpty();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(order.getPaymentId()).isEqualTo("payment-123");
+        assertThat(order.getVersion()).isEqualTo(1L);
+
+        order.cancel();
+        assertThat(orderPersistenceAdapter.updateStatus(order, OrderStatus.CONFIRMED)).isTrue();
+        assertThat(orderPersistenceAdapter.findById(order.getId()))
+                .hasValueSatisfying(cancelledOrder -> {
+                    assertThat(cancelledOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+                    assertThat(cancelledOrder.getOrderLines()).hasSize(30);
+                });
+    }
+}
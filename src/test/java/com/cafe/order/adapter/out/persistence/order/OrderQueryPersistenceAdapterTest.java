@@ -0,0 +1,202 @@
+package com.cafe.order.adapter.out.persistence.order;
+
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
+import com.cafe.order.application.port.in.order.query.OrderHistoryCursor;
+import com.cafe.order.application.port.in.order.query.OrderSummary;
+import com.cafe.order.config.JpaConfig;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키셋 페이지네이션 정합성과, 페이지 깊이와 관계없이 읽는 행 수/지연이 일정한지 생성 데이터로 검증
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.cafe.order.adapter.out.persistence.order.OrderQueryPersistenceAdapterTest$OrderHistorySqlCapture"
+})
+@Import({JpaConfig.class, OrderQueryPersistenceAdapter.class, ShardRouter.class})
+@DisplayName("OrderQueryPersistenceAdapter 키셋 페이지네이션 테스트")
+class OrderQueryPersistenceAdapterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderQueryPersistenceAdapterTest.class);
+
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final long MEMBER_ID = 7L;
+    private static final long OTHER_MEMBER_ID = 8L;
+
+    @Autowired
+    private OrderQueryPersistenceAdapter orderQueryPersistenceAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Hibernate 가 실제로 실행한 키셋 쿼리를 EXPLAIN ANALYZE 하기 위해 SQL 을 보관
+     */
+    public static class OrderHistorySqlCapture implements StatementInspector {
+
+        static volatile String keysetSql;
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.contains("order_date_time<=")) {
+                keysetSql = sql;
+            }
+            return sql;
+        }
+    }
+
+    /**
+     * 주문 ID 1..count 를 주문일시 오름차순으로 생성 (두 건씩 같은 주문일시, 주문당 주문상품 2개)
+     */
+    private void insertOrders(long memberId, long firstOrderId, int count) {
+        List<Object[]> orders = new ArrayList<>(count);
+        List<Object[]> orderLines = new ArrayList<>(count * 2);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < count; i++) {
+            long orderId = firstOrderId + i;
+            Timestamp orderDateTime = Timestamp.valueOf(BASE_DATE_TIME.plusSeconds(i / 2));
+            orders.add(new Object[]{orderId, memberId, OrderStatus.CONFIRMED.name(), "payment-" + orderId, orderDateTime, now, now});
+            orderLines.add(new Object[]{orderId * 2, orderId, 1L, 1});
+            orderLines.add(new Object[]{orderId * 2 + 1, orderId, 2L, 3});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO orders (id, member_id, status, payment_id, order_date_time, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", orders);
+        jdbcTemplate.batchUpdate("INSERT INTO order_lines (id, order_id, product_id, quantity) VALUES (?, ?, ?, ?)", orderLines);
+    }
+
+    private List<Long> orderIds(List<OrderSummary> orders) {
+        return orders.stream().map(OrderSummary::orderId).toList();
+    }
+
+    private OrderHistoryCursor cursorOf(OrderSummary order) {
+        return new OrderHistoryCursor(order.orderDateTime(), order.orderId());
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 같은 주문일시의 주문도 빠짐없이 최신순으로 한 번씩 조회")
+    void findOrderHistory_WalksAllOrdersOnce() {
+        // Given
+        insertOrders(MEMBER_ID, 1_000_001L, 25);
+        insertOrders(OTHER_MEMBER_ID, 2_000_001L, 5);
+
+        // When
+        List<Long> visited = new ArrayList<>();
+        OrderHistoryCursor cursor = null;
+        List<OrderSummary> page;
+        do {
+            page = orderQueryPersistenceAdapter.findOrderHistory(MEMBER_ID, cursor, 4);
+            visited.addAll(orderIds(page));
+            cursor = page.isEmpty() ? null : cursorOf(page.get(page.size() - 1));
+        } while (!page.isEmpty());
+
+        // Then
+        List<Long> expected = IntStream.iterate(25, i -> i >= 1, i -> i - 1).mapToObj(i -> 1_000_000L + i).toList();
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("주문상품은 페이지당 한 번의 IN 쿼리로 조회 (페이지당 쿼리 2개)")
+    void findOrderHistory_LoadsOrderLinesInOneQueryPerPage() {
+        // Given
+        insertOrders(MEMBER_ID, 1_000_001L, 30);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<OrderSummary> page = orderQueryPersistenceAdapter.findOrderHistory(MEMBER_ID, null, 20);
+
+        // Then
+        assertThat(page).hasSize(20);
+        assertThat(page).allSatisfy(order -> assertThat(order.orderLines())
+                .containsExactly(new OrderSummary.Line(1L, 1), new OrderSummary.Line(2L, 3)));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("주문 10만 건 회원의 2페이지와 10,000페이지가 같은 수의 행만 읽고 비슷한 시간에 조회")
+    void findOrderHistory_DeepPageCostsSameAsFirstPage() {
+        // Given: 페이지 크기 10 기준 10,000 페이지
+        int orderCount = 100_000;
+        int pageSize = 10;
+        insertOrders(MEMBER_ID, 1L, orderCount);
+        insertOrders(OTHER_MEMBER_ID, 1L + orderCount, 10_000);
+
+        List<OrderSummary> firstPage = orderQueryPersistenceAdapter.findOrderHistory(MEMBER_ID, null, pageSize);
+        // 10,000 페이지의 커서 = 9,999 페이지 마지막 주문 (최신순 99,990 번째)
+        OrderHistoryCursor secondPageCursor = cursorOf(firstPage.get(pageSize - 1));
+        OrderHistoryCursor lastPageCursor = new OrderHistoryCursor(BASE_DATE_TIME.plusSeconds(5), 11L);
+
+        // When
+        long secondPageNanos = medianNanos(() -> orderQueryPersistenceAdapter.findOrderHistory(MEMBER_ID, secondPageCursor, pageSize));
+        long scannedOnSecondPage = scannedOrderRows(secondPageCursor, pageSize);
+        long lastPageNanos = medianNanos(() -> orderQueryPersistenceAdapter.findOrderHistory(MEMBER_ID, lastPageCursor, pageSize));
+        long scannedOnLastPage = scannedOrderRows(lastPageCursor, pageSize);
+        log.info("주문 내역 조회 지연(중앙값): 2페이지={}us, 10,000페이지={}us, 읽은 행: 2페이지={}, 10,000페이지={}",
+                secondPageNanos / 1_000, lastPageNanos / 1_000, scannedOnSecondPage, scannedOnLastPage);
+
+        // Then
+        assertThat(orderIds(orderQueryPersistenceAdapter.findOrderHistory(MEMBER_ID, lastPageCursor, pageSize)))
+                .containsExactly(10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L, 1L);
+        // 커서와 같은 주문일시의 행(최대 2개)을 건너뛰는 것 외에는 페이지 크기만큼만 읽음
+        assertThat(scannedOnSecondPage).isLessThanOrEqualTo(pageSize + 2);
+        assertThat(scannedOnLastPage).isLessThanOrEqualTo(pageSize + 2);
+        assertThat(lastPageNanos).isLessThan(secondPageNanos * 5 + 2_000_000);
+    }
+
+    private long medianNanos(Supplier<?> query) {
+        for (int i = 0; i < 20; i++) {
+            query.get();
+        }
+        long[] samples = new long[51];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    /**
+     * 키셋 쿼리를 EXPLAIN ANALYZE 해 orders 인덱스에서 읽은 행 수(scanCount) 반환
+     */
+    private long scannedOrderRows(OrderHistoryCursor cursor, int limit) {
+        orderQueryPersistenceAdapter.findOrderHistory(MEMBER_ID, cursor, limit);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN ANALYZE " + OrderHistorySqlCapture.keysetSql, String.class,
+                MEMBER_ID, Timestamp.valueOf(cursor.orderDateTime()), Timestamp.valueOf(cursor.orderDateTime()), cursor.orderId(), limit);
+        log.info("키셋 쿼리 실행 계획: {}", plan);
+        assertThat(plan).containsIgnoringCase("idx_orders_member_order_date_time_id");
+
+        Matcher matcher = Pattern.compile("scanCount: (\\d+)").matcher(plan);
+        assertThat(matcher.find()).isTrue();
+        return Long.parseLong(matcher.group(1));
+    }
+}
@@ -0,0 +1,273 @@
+package com.cafe.order.adapter.out.persistence.order.archive;
+
+import com.cafe.order.adapter.out.persistence.order.OrderJpaRepository;
+import com.cafe.order.adapter.out.persistence.order.OrderPersistenceAdapter;
+import com.cafe.order.adapter.out.persistence.order.OrderPersistenceMapper;
+import com.cafe.order.adapter.out.persistence.order.OrderQueryPersistenceAdapter;
+import com.cafe.order.adapter.out.persistence.routing.ShardRouter;
+import com.cafe.order.application.port.in.order.query.OrderHistoryCursor;
+import com.cafe.order.application.port.in.order.query.OrderSummary;
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.ErrorCode;
+import com.cafe.order.config.JpaConfig;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 오래된 주문을 보관 파일로 옮긴 뒤 핫 테이블 크기가 줄고, 주문 조회/주문 내역이 보관 파일까지 이어서 동작하는지 검증
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, OrderPersistenceAdapter.class, OrderPersistenceMapper.class, OrderQueryPersistenceAdapter.class,
+        OrderArchiveStore.class, OrderArchivePersistenceAdapter.class,
+        OrderArchiveFallbackAdapter.class, OrderHistoryArchiveFallbackAdapter.class, SimpleMeterRegistry.class, ShardRouter.class})
+@DisplayName("OrderArchivePersistenceAdapter 주문 보관 테스트")
+class OrderArchivePersistenceAdapterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchivePersistenceAdapterTest.class);
+
+    private static final LocalDateTime OLD_DATE_TIME = LocalDateTime.of(2023, 1, 1, 9, 0);
+    private static final LocalDateTime RECENT_DATE_TIME = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final LocalDateTime ORDERED_BEFORE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final Timestamp UPDATED_AT = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("order.archive.directory", () -> archiveDirectory.toString());
+        registry.add("order.archive.chunk-size", () -> 500);
+    }
+
+    @Autowired
+    private OrderArchivePersistenceAdapter orderArchivePersistenceAdapter;
+
+    @Autowired
+    private OrderArchiveFallbackAdapter orderArchiveFallbackAdapter;
+
+    @Autowired
+    private OrderHistoryArchiveFallbackAdapter orderHistoryArchiveFallbackAdapter;
+
+    @Autowired
+    private OrderArchiveStore orderArchiveStore;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * 운영과 같이 청크마다 트랜잭션이 커밋되도록 테스트 트랜잭션 없이 실행하고, 테스트마다 DB 와 보관 파일을 비운다
+     */
+    @AfterEach
+    void clear() throws IOException {
+        jdbcTemplate.update("DELETE FROM order_lines");
+        jdbcTemplate.update("DELETE FROM orders");
+        orderArchiveStore.close();
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * 주문 ID firstOrderId.. 를 1분 간격 주문일시 오름차순으로 생성 (회원은 memberCount 명이 번갈아 주문, 주문당 주문상품 2개)
+     */
+    private void insertOrders(long firstOrderId, int count, int memberCount, OrderStatus status,
+                              LocalDateTime firstOrderDateTime, Timestamp updatedAt) {
+        List<Object[]> orders = new ArrayList<>(count);
+        List<Object[]> orderLines = new ArrayList<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            long orderId = firstOrderId + i;
+            Timestamp orderDateTime = Timestamp.valueOf(firstOrderDateTime.plusMinutes(i));
+            String paymentId = status == OrderStatus.PENDING ? null : "payment-" + orderId;
+            orders.add(new Object[]{orderId, orderId % memberCount + 1, status.name(), paymentId, orderDateTime, updatedAt, updatedAt});
+            orderLines.add(new Object[]{orderId * 2, orderId, 1L, 1});
+            orderLines.add(new Object[]{orderId * 2 + 1, orderId, 2L, 3});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO orders (id, member_id, status, payment_id, order_date_time, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", orders);
+        jdbcTemplate.batchUpdate("INSERT INTO order_lines (id, order_id, product_id, quantity) VALUES (?, ?, ?, ?)", orderLines);
+    }
+
+    private long medianNanos(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private long p99Nanos(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) (sorted.length * 0.99)];
+    }
+
+    @Test
+    @DisplayName("기준일 이전 주문(PENDING 제외)만 보관 파일로 옮기고, 보관된 주문도 findById 로 그대로 조회")
+    void archiveOrders_MovesOldOrdersAndFallsBackOnLookup() {
+        // Given
+        insertOrders(1, 20_000, 500, OrderStatus.CONFIRMED, OLD_DATE_TIME, UPDATED_AT);
+        insertOrders(20_001, 10, 500, OrderStatus.PENDING, OLD_DATE_TIME, UPDATED_AT);
+        insertOrders(30_001, 10_000, 500, OrderStatus.CONFIRMED, RECENT_DATE_TIME, UPDATED_AT);
+        long hotOrdersBefore = orderJpaRepository.count();
+
+        // When
+        int archived = orderArchivePersistenceAdapter.archiveOrders(ORDERED_BEFORE, 100_000);
+
+        // Then
+        long hotOrdersAfter = orderJpaRepository.count();
+        assertThat(archived).isEqualTo(20_000);
+        assertThat(hotOrdersAfter).isEqualTo(10_010);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_lines", Long.class)).isEqualTo(20_020L);
+
+        Order archivedOrder = orderArchiveFallbackAdapter.findById(12_345L).orElseThrow();
+        assertThat(archivedOrder.getMemberId()).isEqualTo(12_345L % 500 + 1);
+        assertThat(archivedOrder.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(archivedOrder.getPaymentId()).isEqualTo("payment-12345");
+        assertThat(archivedOrder.getOrderDateTime()).isEqualTo(OLD_DATE_TIME.plusMinutes(12_344));
+        assertThat(archivedOrder.getOrderLines()).extracting("productId", "quantity")
+                .containsExactly(tuple(1L, 1), tuple(2L, 3));
+        assertThat(orderArchiveFallbackAdapter.findById(20_001L).orElseThrow().getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(orderArchiveFallbackAdapter.findById(25_000L)).isEmpty();
+
+        // 조회 지연: DB 에 있는 주문 / DB 에 없어 보관 파일까지 조회하는 주문 / 그중 보관 파일 조회만
+        Random random = new Random(17);
+        long[] hotLookups = new long[500];
+        long[] fallbackLookups = new long[500];
+        long[] archiveLookups = new long[500];
+        for (int i = 0; i < hotLookups.length; i++) {
+            long hotOrderId = 30_001 + random.nextInt(10_000);
+            long start = System.nanoTime();
+            assertThat(orderArchiveFallbackAdapter.findById(hotOrderId)).isPresent();
+            hotLookups[i] = System.nanoTime() - start;
+
+            long archivedOrderId = 1 + random.nextInt(20_000);
+            start = System.nanoTime();
+            assertThat(orderArchiveFallbackAdapter.findById(archivedOrderId)).isPresent();
+            fallbackLookups[i] = System.nanoTime() - start;
+
+            archivedOrderId = 1 + random.nextInt(20_000);
+            start = System.nanoTime();
+            assertThat(orderArchiveStore.findById(archivedOrderId)).isPresent();
+            archiveLookups[i] = System.nanoTime() - start;
+        }
+
+        long archiveBytes = orderArchiveStore.sizeBytes();
+        log.info("핫 테이블 주문 수 {} -> {} ({}% 감소), 보관 파일 {} bytes ({} bytes/주문)",
+                hotOrdersBefore, hotOrdersAfter, (hotOrdersBefore - hotOrdersAfter) * 100 / hotOrdersBefore,
+                archiveBytes, archiveBytes / archived);
+        log.info("findById 지연 median/p99: DB {}/{}µs, 보관 파일까지 {}/{}µs (보관 파일 조회만 {}/{}µs)",
+                medianNanos(hotLookups) / 1_000, p99Nanos(hotLookups) / 1_000,
+                medianNanos(fallbackLookups) / 1_000, p99Nanos(fallbackLookups) / 1_000,
+                medianNanos(archiveLookups) / 1_000, p99Nanos(archiveLookups) / 1_000);
+
+        // 보관 파일 조회는 희소 인덱스 이진 탐색 + 블록 하나 압축 해제이므로 DB 조회보다 작아야 함
+        assertThat(medianNanos(archiveLookups)).isLessThan(medianNanos(hotLookups));
+    }
+
+    @Test
+    @DisplayName("보관 후 삭제 전에 중단되어 양쪽에 남은 주문은 다시 쓰지 않고 삭제만, 상태가 바뀐 주문은 새 버전으로 다시 보관")
+    void archiveOrders_ResumesAfterInterruptedDelete() {
+        // Given
+        insertOrders(1, 1_000, 10, OrderStatus.CONFIRMED, OLD_DATE_TIME, UPDATED_AT);
+        orderArchivePersistenceAdapter.archiveOrders(ORDERED_BEFORE, 100_000);
+        long archiveBytes = orderArchiveStore.sizeBytes();
+
+        // 보관 파일에 기록된 뒤 DB 삭제 전에 중단된 상태 + 그중 한 건은 그 사이 취소됨
+        insertOrders(1, 999, 10, OrderStatus.CONFIRMED, OLD_DATE_TIME, UPDATED_AT);
+        insertOrders(1_000, 1, 10, OrderStatus.CANCELLED, OLD_DATE_TIME.plusMinutes(999),
+                Timestamp.valueOf(LocalDateTime.of(2024, 2, 1, 0, 0)));
+
+        // When
+        int archived = orderArchivePersistenceAdapter.archiveOrders(ORDERED_BEFORE, 100_000);
+
+        // Then
+        assertThat(archived).isEqualTo(1_000);
+        assertThat(orderJpaRepository.count()).isZero();
+        assertThat(orderArchiveStore.recordCount()).isEqualTo(1_001);
+        assertThat(orderArchiveStore.sizeBytes() - archiveBytes).isLessThan(archiveBytes / 10);
+        assertThat(orderArchiveFallbackAdapter.findById(1_000L).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("주문 내역은 DB 의 최근 주문 다음에 보관된 주문을 최신순으로 이어서 조회")
+    void findOrderHistory_ContinuesIntoArchive() {
+        // Given
+        insertOrders(1, 50, 1, OrderStatus.CONFIRMED, OLD_DATE_TIME, UPDATED_AT);
+        orderArchivePersistenceAdapter.archiveOrders(ORDERED_BEFORE, 100_000);
+        insertOrders(1_001, 7, 1, OrderStatus.CONFIRMED, RECENT_DATE_TIME, UPDATED_AT);
+
+        // When
+        List<Long> visited = new ArrayList<>();
+        OrderHistoryCursor cursor = null;
+        List<OrderSummary> page;
+        do {
+            page = orderHistoryArchiveFallbackAdapter.findOrderHistory(1L, cursor, 4);
+            visited.addAll(page.stream().map(OrderSummary::orderId).toList());
+            OrderSummary last = page.isEmpty() ? null : page.get(page.size() - 1);
+            cursor = last == null ? null : new OrderHistoryCursor(last.orderDateTime(), last.orderId());
+        } while (!page.isEmpty());
+
+        // Then
+        List<Long> expected = Stream.concat(
+                        LongStream.iterate(1_007, id -> id >= 1_001, id -> id - 1).boxed(),
+                        LongStream.iterate(50, id -> id >= 1, id -> id - 1).boxed())
+                .toList();
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("보관된 주문의 상태 변경은 ORDER_ARCHIVED 로 거절")
+    void updateStatus_ArchivedOrder_ThrowsOrderArchived() {
+        // Given
+        insertOrders(1, 10, 1, OrderStatus.CONFIRMED, OLD_DATE_TIME, UPDATED_AT);
+        orderArchivePersistenceAdapter.archiveOrders(ORDERED_BEFORE, 100_000);
+        Order order = orderArchiveFallbackAdapter.findById(5L).orElseThrow();
+        order.cancel();
+
+        // When & Then
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                status -> orderArchiveFallbackAdapter.updateStatus(order, OrderStatus.CONFIRMED)))
+                .isInstanceOf(BizException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ORDER_ARCHIVED);
+    }
+}
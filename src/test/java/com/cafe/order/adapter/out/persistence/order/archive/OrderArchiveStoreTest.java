@@ -0,0 +1,171 @@
+package com.cafe.order.adapter.out.persistence.order.archive;
+
+import com.cafe.order.config.OrderArchiveProperties;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderArchiveStore 보관 파일 테스트")
+class OrderArchiveStoreTest {
+
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2024, 1, 1, 9, 0, 0, 123_456_000);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private OrderArchiveStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = newStore();
+    }
+
+    private OrderArchiveStore newStore() {
+        OrderArchiveProperties properties = new OrderArchiveProperties();
+        properties.setDirectory(directory);
+        properties.setBlockSize(16);
+        return new OrderArchiveStore(properties, new SimpleMeterRegistry());
+    }
+
+    /**
+     * 주문 ID 는 짝수만 사용 (홀수 ID 는 블록 중간의 없는 주문), 회원은 7명이 번갈아 주문
+     */
+    private ArchivedOrder archivedOrder(long orderId, OrderStatus status) {
+        Order order = Order.builder()
+                .id(orderId)
+                .memberId(orderId % 7 + 1)
+                .orderLines(List.of(OrderLine.of(1L, 1), OrderLine.of(orderId, (int) (orderId % 5) + 1)))
+                .status(status)
+                .paymentId(status == OrderStatus.FAILED ? null : "payment-" + orderId)
+                .orderDateTime(BASE_DATE_TIME.plusMinutes(orderId))
+                .cancelDateTime(status == OrderStatus.CANCELLED ? BASE_DATE_TIME.plusDays(1) : null)
+                .build();
+        return new ArchivedOrder(order, UPDATED_AT);
+    }
+
+    private void writeSegment(List<ArchivedOrder> orders) throws IOException {
+        try (OrderArchiveSegmentWriter writer = store.newSegmentWriter()) {
+            for (ArchivedOrder order : orders) {
+                writer.append(order);
+            }
+            store.register(writer.finish());
+        }
+    }
+
+    private List<ArchivedOrder> evenOrders(long from, long to, OrderStatus status) {
+        return LongStream.rangeClosed(from, to)
+                .filter(orderId -> orderId % 2 == 0)
+                .mapToObj(orderId -> archivedOrder(orderId, status))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("희소 인덱스로 찾은 블록에서 주문을 그대로 복원하고, 없는 주문 ID 는 빈 결과")
+    void findById_RestoresArchivedOrder() throws IOException {
+        // Given
+        writeSegment(LongStream.rangeClosed(2, 2_000)
+                .filter(orderId -> orderId % 2 == 0)
+                .mapToObj(orderId -> archivedOrder(orderId, orderId % 3 == 0 ? OrderStatus.CANCELLED : OrderStatus.FAILED))
+                .toList());
+
+        // When & Then
+        for (long orderId = 2; orderId <= 2_000; orderId += 2) {
+            ArchivedOrder expected = archivedOrder(orderId, orderId % 3 == 0 ? OrderStatus.CANCELLED : OrderStatus.FAILED);
+            ArchivedOrder found = store.findById(orderId).orElseThrow();
+            assertThat(found.updatedAt()).isEqualTo(UPDATED_AT);
+            assertThat(found.order()).usingRecursiveComparison().isEqualTo(expected.order());
+        }
+        assertThat(store.findById(1L)).isEmpty();
+        assertThat(store.findById(1_001L)).isEmpty();
+        assertThat(store.findById(2_002L)).isEmpty();
+        assertThat(store.recordCount()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("회원 인덱스로 회원의 주문만 모두 조회")
+    void findByMemberId_ReturnsOnlyMemberOrders() throws IOException {
+        // Given
+        writeSegment(evenOrders(2, 2_000, OrderStatus.CONFIRMED));
+
+        // When
+        List<ArchivedOrder> orders = store.findByMemberId(3L);
+
+        // Then
+        List<Long> expected = LongStream.rangeClosed(2, 2_000)
+                .filter(orderId -> orderId % 2 == 0 && orderId % 7 + 1 == 3)
+                .boxed()
+                .toList();
+        assertThat(orders).extracting(archived -> archived.order().getId()).containsExactlyElementsOf(expected);
+        assertThat(store.findByMemberId(100L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 주문이 여러 보관 파일에 있으면 최신 보관 파일의 레코드를 사용")
+    void findById_NewestSegmentWins() throws IOException {
+        // Given
+        writeSegment(evenOrders(2, 100, OrderStatus.CONFIRMED));
+        writeSegment(List.of(archivedOrder(50L, OrderStatus.CANCELLED)));
+
+        // When & Then
+        assertThat(store.findById(50L).orElseThrow().order().getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(store.findById(52L).orElseThrow().order().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(store.findByMemberId(50L % 7 + 1))
+                .filteredOn(archived -> archived.order().getId() == 50L)
+                .singleElement()
+                .satisfies(archived -> assertThat(archived.order().getStatus()).isEqualTo(OrderStatus.CANCELLED));
+    }
+
+    @Test
+    @DisplayName("다시 열면 완성된 보관 파일만 적재하고 기록 도중 중단된 임시 파일은 삭제")
+    void reopen_LoadsSegmentsAndDiscardsTempFiles() throws IOException {
+        // Given
+        writeSegment(evenOrders(2, 100, OrderStatus.CONFIRMED));
+        OrderArchiveSegmentWriter abandoned = store.newSegmentWriter();
+        abandoned.append(archivedOrder(200L, OrderStatus.CONFIRMED));
+
+        // When
+        OrderArchiveStore reopened = newStore();
+
+        // Then
+        assertThat(reopened.recordCount()).isEqualTo(50);
+        assertThat(reopened.findById(100L)).isPresent();
+        assertThat(reopened.newestOrderDateTime()).isEqualTo(BASE_DATE_TIME.plusMinutes(100));
+        try (var files = Files.list(directory)) {
+            assertThat(files.map(file -> file.getFileName().toString()).toList())
+                    .containsExactly("orders-0000000001.oarc");
+        }
+        abandoned.close();
+    }
+
+    @Test
+    @DisplayName("주문 ID 오름차순이 아니면 기록 거절, 완료 전에 닫으면 임시 파일 삭제")
+    void writer_RejectsOutOfOrderAndCleansUp() throws IOException {
+        // Given
+        OrderArchiveSegmentWriter writer = store.newSegmentWriter();
+        writer.append(archivedOrder(10L, OrderStatus.CONFIRMED));
+
+        // When & Then
+        assertThatThrownBy(() -> writer.append(archivedOrder(10L, OrderStatus.CONFIRMED)))
+                .isInstanceOf(IllegalArgumentException.class);
+        writer.close();
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+}
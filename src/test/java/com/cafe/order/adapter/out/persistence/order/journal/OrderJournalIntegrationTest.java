@@ -0,0 +1,175 @@
+package com.cafe.order.adapter.out.persistence.order.journal;
+
+import com.cafe.order.adapter.out.persistence.order.OrderPersistenceAdapter;
+import com.cafe.order.application.port.in.order.query.OrderHistoryCursor;
+import com.cafe.order.application.port.in.order.query.OrderSummary;
+import com.cafe.order.application.port.out.order.OrderPort;
+import com.cafe.order.application.port.out.order.OrderQueryPort;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 저널을 켜고 OrderPort/OrderQueryPort 가 저널로 바뀌는지 확인하고,
+ * 같은 부하에서 JPA 어댑터와 저널 어댑터의 주문 저장 처리량/지연을 로그로 남긴다.
+ * 테스트 DB 는 H2 인메모리라 JPA 쪽에는 fsync 가 없고, 저널은 매 배치를 force 하므로 비교는 저널에 불리한 조건이다.
+ */
+@SpringBootTest(properties = {
+        "order.journal.enabled=true",
+        "order.journal.directory=build/test-journal/${random.uuid}",
+        "spring.datasource.url=jdbc:h2:mem:journaltest;DB_CLOSE_DELAY=-1",
+        "payment.outbox.fixed-delay=1h"
+})
+@DisplayName("주문 저널 통합 테스트")
+class OrderJournalIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderJournalIntegrationTest.class);
+
+    private static final int WRITERS = 8;
+    private static final int ORDERS_PER_WRITER = 250;
+
+    @Autowired
+    private OrderPort orderPort;
+
+    @Autowired
+    private OrderQueryPort orderQueryPort;
+
+    @Autowired
+    private OrderPersistenceAdapter orderPersistenceAdapter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private static Order pendingOrder(long memberId, LocalDateTime orderDateTime) {
+        return Order.builder()
+                .memberId(memberId)
+                .orderLines(List.of(OrderLine.of(1L, 2)))
+                .status(OrderStatus.PENDING)
+                .orderDateTime(orderDateTime)
+                .build();
+    }
+
+    @Test
+    @DisplayName("저널을 켜면 주문 저장/상태 전이/주문 내역 조회가 저널 어댑터로 처리된다")
+    void journalAdapters_ReplacePersistenceAdapters() {
+        // Given
+        long memberId = 900_001L;
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 12, 0);
+        List<Order> saved = orderPort.saveAll(List.of(
+                pendingOrder(memberId, base), pendingOrder(memberId, base.plusMinutes(1)), pendingOrder(memberId, base.plusMinutes(2))));
+        Order cancelled = saved.get(2);
+        cancelled.cancel();
+
+        // When
+        boolean updated = orderPort.updateStatus(cancelled, OrderStatus.PENDING);
+        List<OrderSummary> firstPage = orderQueryPort.findOrderHistory(memberId, null, 2);
+        OrderSummary last = firstPage.get(firstPage.size() - 1);
+        List<OrderSummary> secondPage = orderQueryPort.findOrderHistory(memberId,
+                new OrderHistoryCursor(last.orderDateTime(), last.orderId()), 2);
+
+        // Then
+        assertThat(orderPort).isInstanceOf(OrderJournalAdapter.class);
+        assertThat(orderQueryPort).isInstanceOf(OrderHistoryJournalAdapter.class);
+        assertThat(updated).isTrue();
+        assertThat(orderPort.findById(cancelled.getId())).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(firstPage).extracting(OrderSummary::orderId)
+                .containsExactly(saved.get(2).getId(), saved.get(1).getId());
+        assertThat(secondPage).extracting(OrderSummary::orderId).containsExactly(saved.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("처리량 비교 - 쓰기 스레드 8개가 주문을 저장하는 JPA 어댑터 / 저널 어댑터")
+    void save_ThroughputJpaVersusJournal() throws Exception {
+        // Given: JIT/커넥션 풀 워밍업
+        measure(orderPersistenceAdapter);
+        measure(orderPort);
+        Timer fsync = meterRegistry.get("order.journal.fsync").timer();
+        DistributionSummary commitEvents = meterRegistry.get("order.journal.commit.events").summary();
+        long fsyncCountBefore = fsync.count();
+        double eventsBefore = commitEvents.totalAmount();
+
+        // When
+        Result jpa = measure(orderPersistenceAdapter);
+        Result journal = measure(orderPort);
+
+        // Then
+        long commits = fsync.count() - fsyncCountBefore;
+        double meanBatch = (commitEvents.totalAmount() - eventsBefore) / Math.max(1, commits);
+        String fsyncPercentiles = Arrays.stream(fsync.takeSnapshot().percentileValues())
+                .map(value -> String.format("p%.0f=%.2fms", value.percentile() * 100, value.value(TimeUnit.MILLISECONDS)))
+                .collect(Collectors.joining(", "));
+        log.info("주문 저장 ({}스레드 x {}주문): JPA={} orders/s (p50={}ms, p99={}ms), 저널={} orders/s (p50={}ms, p99={}ms)",
+                WRITERS, ORDERS_PER_WRITER,
+                String.format("%.0f", jpa.throughput()), String.format("%.2f", jpa.p50()), String.format("%.2f", jpa.p99()),
+                String.format("%.0f", journal.throughput()), String.format("%.2f", journal.p50()), String.format("%.2f", journal.p99()));
+        log.info("저널 force: 횟수={}, {}, 평균 배치={} 이벤트", commits, fsyncPercentiles, String.format("%.1f", meanBatch));
+        assertThat(jpa.throughput()).isPositive();
+        assertThat(journal.throughput()).isPositive();
+        assertThat(commits).isPositive();
+    }
+
+    private record Result(double throughput, double p50, double p99) {
+    }
+
+    /**
+     * 쓰기 스레드마다 다른 회원으로 PENDING 주문을 하나씩 저장하고 호출별 지연(ms)을 모은다
+     */
+    private Result measure(OrderPort port) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            long start = System.nanoTime();
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                long memberId = 910_000L + writer;
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[ORDERS_PER_WRITER];
+                    for (int i = 0; i < ORDERS_PER_WRITER; i++) {
+                        long started = System.nanoTime();
+                        port.save(pendingOrder(memberId, LocalDateTime.now()));
+                        latencies[i] = System.nanoTime() - started;
+                    }
+                    return latencies;
+                }));
+            }
+            long[] latencies = new long[WRITERS * ORDERS_PER_WRITER];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] writerLatencies = future.get();
+                System.arraycopy(writerLatencies, 0, latencies, offset, writerLatencies.length);
+                offset += writerLatencies.length;
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            Arrays.sort(latencies);
+            return new Result(latencies.length / seconds, percentile(latencies, 0.5), percentile(latencies, 0.99));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
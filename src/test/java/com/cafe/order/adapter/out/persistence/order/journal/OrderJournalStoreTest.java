@@ -0,0 +1,345 @@
+package com.cafe.order.adapter.out.persistence.order.journal;
+
+import com.cafe.order.config.OrderJournalProperties;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("OrderJournalStore 저널/스냅샷 테스트")
+class OrderJournalStoreTest {
+
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    private final List<OrderJournalStore> stores = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        stores.forEach(OrderJournalStore::close);
+    }
+
+    private OrderJournalStore openStore(int snapshotInterval, DataSize segmentSize) throws IOException {
+        OrderJournalProperties properties = new OrderJournalProperties();
+        properties.setDirectory(directory);
+        properties.setSnapshotInterval(snapshotInterval);
+        properties.setSegmentSize(segmentSize);
+        OrderJournalStore store = new OrderJournalStore(properties, new MockEnvironment(), new SimpleMeterRegistry());
+        stores.add(store);
+        return store;
+    }
+
+    private OrderJournalStore openStore() throws IOException {
+        return openStore(100_000, DataSize.ofMegabytes(1));
+    }
+
+    /**
+     * 트랜잭션 매니저가 커밋/롤백 후 호출하는 순서대로 동기화를 실행하고 트랜잭션을 끝낸다
+     */
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    /**
+     * 프로세스 장애를 흉내내 스냅샷과 종료 처리 없이 저장소를 버린다 (매핑된 영역에 쓴 내용은 OS 페이지 캐시에 남는다)
+     */
+    private void crash(OrderJournalStore store) {
+        stores.remove(store);
+    }
+
+    private static Order pendingOrder(long memberId, int minutes) {
+        return Order.builder()
+                .memberId(memberId)
+                .orderLines(List.of(OrderLine.of(1L, 2), OrderLine.of(3L, 1)))
+                .status(OrderStatus.PENDING)
+                .orderDateTime(BASE_DATE_TIME.plusMinutes(minutes))
+                .build();
+    }
+
+    @Test
+    @DisplayName("생성한 주문은 ID 와 버전 0 을 받고, 재시작하면 저널을 재생해 같은 상태로 복원된다")
+    void create_ReplaysAfterRestart() throws IOException {
+        // Given
+        OrderJournalStore store = openStore();
+        List<Order> created = store.create(List.of(pendingOrder(1L, 0), pendingOrder(2L, 1)));
+        Order confirmed = created.get(0);
+        confirmed.confirm("payment-1");
+        assertThat(store.changeStatus(confirmed, OrderStatus.PENDING)).isTrue();
+        crash(store);
+
+        // When
+        OrderJournalStore restarted = openStore();
+
+        // Then
+        assertThat(created).extracting(Order::getId).containsExactly(1L, 2L);
+        assertThat(restarted.findById(1L)).get().satisfies(order -> {
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+            assertThat(order.getPaymentId()).isEqualTo("payment-1");
+            assertThat(order.getVersion()).isEqualTo(1L);
+            assertThat(order.getOrderDateTime()).isEqualTo(BASE_DATE_TIME);
+            assertThat(order.getOrderLines()).extracting(OrderLine::getProductId, OrderLine::getQuantity)
+                    .containsExactly(tuple(1L, 2), tuple(3L, 1));
+        });
+        assertThat(restarted.findPendingOrdersBefore(BASE_DATE_TIME.plusDays(1), 10))
+                .extracting(Order::getId).containsExactly(2L);
+        assertThat(restarted.create(List.of(pendingOrder(1L, 2))).get(0).getId()).isEqualTo(3L);
+        assertThat(restarted.findByMemberId(1L)).extracting(Order::getId).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("상태 전이는 현재 상태와 버전이 같을 때만 반영되고, 조회한 주문을 바꿔도 인덱스는 그대로다")
+    void changeStatus_RequiresExpectedStatusAndVersion() throws IOException {
+        // Given
+        OrderJournalStore store = openStore();
+        Order order = store.create(List.of(pendingOrder(1L, 0))).get(0);
+        Order stale = store.findById(order.getId()).orElseThrow();
+
+        // When
+        order.fail();
+        boolean failed = store.changeStatus(order, OrderStatus.PENDING);
+        stale.confirm("payment-1");
+        boolean confirmedWithStaleVersion = store.changeStatus(stale, OrderStatus.PENDING);
+
+        // Then
+        assertThat(failed).isTrue();
+        assertThat(confirmedWithStaleVersion).isFalse();
+        assertThat(store.findById(order.getId())).get().satisfies(current -> {
+            assertThat(current.getStatus()).isEqualTo(OrderStatus.FAILED);
+            assertThat(current.getVersion()).isEqualTo(1L);
+        });
+        assertThat(store.findPendingOrdersBefore(BASE_DATE_TIME.plusDays(1), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 생성/전이는 커밋 후에 기록되고, 롤백되면 기록되지 않는다")
+    void transactionalWrites_AppliedOnlyAfterCommit() throws IOException {
+        // Given
+        OrderJournalStore store = openStore();
+        Order confirmed = store.create(List.of(pendingOrder(1L, 0))).get(0);
+        confirmed.confirm("payment-1");
+        store.changeStatus(confirmed, OrderStatus.PENDING);
+
+        // When: 취소 후 롤백 (환불 Outbox 저장 실패 등)
+        TransactionSynchronizationManager.initSynchronization();
+        Order cancelled = store.findById(confirmed.getId()).orElseThrow();
+        cancelled.cancel();
+        assertThat(store.changeStatus(cancelled, OrderStatus.CONFIRMED)).isTrue();
+        Order rolledBackOrder = store.create(List.of(pendingOrder(2L, 1))).get(0);
+        assertThat(store.findById(confirmed.getId())).get().extracting(Order::getStatus).isEqualTo(OrderStatus.CONFIRMED);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then: 롤백된 쓰기는 남지 않고, 같은 주문을 다시 취소할 수 있다
+        assertThat(store.findById(confirmed.getId())).get().extracting(Order::getStatus).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(store.findById(rolledBackOrder.getId())).isEmpty();
+
+        TransactionSynchronizationManager.initSynchronization();
+        Order retried = store.findById(confirmed.getId()).orElseThrow();
+        retried.cancel();
+        assertThat(store.changeStatus(retried, OrderStatus.CONFIRMED)).isTrue();
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(store.findById(confirmed.getId())).get().satisfies(order -> {
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+            assertThat(order.getVersion()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 전이를 예약한 주문은 그 트랜잭션이 끝날 때까지 다른 전이를 거절한다")
+    void transactionalChangeStatus_ReservesOrderUntilCompletion() throws Exception {
+        // Given
+        OrderJournalStore store = openStore();
+        Order order = store.create(List.of(pendingOrder(1L, 0))).get(0);
+        TransactionSynchronizationManager.initSynchronization();
+        Order failed = store.findById(order.getId()).orElseThrow();
+        failed.fail();
+        assertThat(store.changeStatus(failed, OrderStatus.PENDING)).isTrue();
+
+        // When: 커밋 전에 다른 스레드가 같은 버전으로 확정 시도
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Order confirmed = store.findById(order.getId()).orElseThrow();
+            confirmed.confirm("payment-1");
+            boolean confirmedBeforeCommit = executor.submit(() -> store.changeStatus(confirmed, OrderStatus.PENDING)).get();
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+            // Then
+            assertThat(confirmedBeforeCommit).isFalse();
+            assertThat(store.findById(order.getId())).get().extracting(Order::getStatus).isEqualTo(OrderStatus.FAILED);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 주문을 여러 스레드가 동시에 취소해도 하나만 반영된다")
+    void changeStatus_ConcurrentTransitionsAppliedOnce() throws Exception {
+        // Given
+        OrderJournalStore store = openStore();
+        Order order = store.create(List.of(pendingOrder(1L, 0))).get(0);
+        order.confirm("payment-1");
+        store.changeStatus(order, OrderStatus.PENDING);
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                Order loaded = store.findById(order.getId()).orElseThrow();
+                start.await();
+                if (!loaded.isConfirmed()) {
+                    return false;
+                }
+                loaded.cancel();
+                return store.changeStatus(loaded, OrderStatus.CONFIRMED);
+            }));
+        }
+
+        // When
+        start.countDown();
+        int applied = 0;
+        for (Future<Boolean> result : results) {
+            applied += result.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(applied).isEqualTo(1);
+        assertThat(store.findById(order.getId())).get()
+                .extracting(Order::getStatus, Order::getVersion)
+                .containsExactly(OrderStatus.CANCELLED, 2L);
+    }
+
+    @Test
+    @DisplayName("기록 도중 잘린 마지막 레코드는 버리고 그 자리부터 이어 쓴다")
+    void open_DropsTornLastRecord() throws IOException {
+        // Given
+        OrderJournalStore store = openStore();
+        store.create(List.of(pendingOrder(1L, 0), pendingOrder(2L, 1)));
+        crash(store);
+
+        Path segment = segments().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long end = endOfRecords(channel);
+            // 길이와 체크섬까지만 쓰고 본문을 쓰기 전에 중단된 레코드
+            channel.write(ByteBuffer.allocate(OrderJournal.RECORD_HEADER_SIZE + 4).putInt(60).putInt(12345).putInt(7).flip(), end);
+        }
+
+        // When
+        OrderJournalStore restarted = openStore();
+        Order created = restarted.create(List.of(pendingOrder(3L, 2))).get(0);
+        crash(restarted);
+        OrderJournalStore reopened = openStore();
+
+        // Then
+        assertThat(created.getId()).isEqualTo(3L);
+        assertThat(reopened.findById(1L)).isPresent();
+        assertThat(reopened.findById(2L)).isPresent();
+        assertThat(reopened.findById(3L)).get().extracting(Order::getMemberId).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후에는 스냅샷에 반영된 세그먼트를 지우고, 재시작 시 스냅샷과 이후 이벤트로 복원한다")
+    void snapshot_DeletesCoveredSegments() throws IOException {
+        // Given: 세그먼트 4KB (주문 30여 개), 이벤트 50개마다 스냅샷
+        OrderJournalStore store = openStore(50, DataSize.ofKilobytes(4));
+        for (int i = 0; i < 120; i++) {
+            store.create(List.of(pendingOrder(i % 5 + 1, i)));
+        }
+        crash(store);
+
+        // When
+        OrderJournalStore restarted = openStore(50, DataSize.ofKilobytes(4));
+
+        // Then
+        assertThat(snapshots()).hasSize(1);
+        assertThat(segments().size()).isLessThanOrEqualTo(2);
+        assertThat(IntStream.rangeClosed(1, 120).mapToObj(id -> restarted.findById((long) id)))
+                .allSatisfy(order -> assertThat(order).isPresent());
+        assertThat(restarted.findByMemberId(1L)).hasSize(24);
+        assertThat(restarted.create(List.of(pendingOrder(1L, 0))).get(0).getId()).isEqualTo(121L);
+    }
+
+    @Test
+    @DisplayName("주문 보관 또는 샤딩과 함께 켜면 기동 실패")
+    void constructor_RejectsArchiveOrShard() {
+        OrderJournalProperties properties = new OrderJournalProperties();
+        properties.setDirectory(directory);
+
+        assertThatThrownBy(() -> new OrderJournalStore(properties,
+                new MockEnvironment().withProperty("order.archive.enabled", "true"), new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new OrderJournalStore(properties,
+                new MockEnvironment().withProperty("datasource.shard.enabled", "true"), new SimpleMeterRegistry()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private List<Path> segments() throws IOException {
+        return list("journal-");
+    }
+
+    private List<Path> snapshots() throws IOException {
+        return list("snapshot-");
+    }
+
+    private List<Path> list(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+
+    /**
+     * 길이 접두사를 따라가 마지막 레코드 다음 위치를 찾는다
+     */
+    private static long endOfRecords(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        long position = 0;
+        while (true) {
+            header.clear();
+            channel.read(header, position);
+            int bodyLength = header.flip().getInt();
+            if (bodyLength == 0) {
+                return position;
+            }
+            position += OrderJournal.RECORD_HEADER_SIZE + bodyLength;
+        }
+    }
+}
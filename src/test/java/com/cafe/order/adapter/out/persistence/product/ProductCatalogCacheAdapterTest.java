@@ -0,0 +1,139 @@
+package com.cafe.order.adapter.out.persistence.product;
+
+import com.cafe.order.domain.product.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCatalogCacheAdapter 테스트")
+class ProductCatalogCacheAdapterTest {
+
+    @Mock
+    private ProductPersistenceAdapter productPersistenceAdapter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductCatalogCacheAdapter productCatalogCacheAdapter;
+
+    private static Product product(long id) {
+        return Product.builder().id(id).name("상품" + id).price(BigDecimal.valueOf(4500)).build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productCatalogCacheAdapter = new ProductCatalogCacheAdapter(productPersistenceAdapter, meterRegistry);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "product").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("카탈로그를 한 번 적재한 뒤에는 DB 조회 없이 스냅샷에서 조회")
+    void findByIds_ServedFromSnapshot() {
+        // Given
+        given(productPersistenceAdapter.findAll()).willReturn(List.of(product(1), product(2), product(3)));
+
+        // When
+        productCatalogCacheAdapter.findByIds(List.of(1L, 2L));
+        List<Product> result = productCatalogCacheAdapter.findByIds(List.of(3L, 1L));
+
+        // Then
+        assertThat(result).extracting(Product::getId).containsExactly(3L, 1L);
+        assertThat(cacheGets("hit")).isEqualTo(4);
+        assertThat(cacheGets("miss")).isZero();
+        then(productPersistenceAdapter).should(times(1)).findAll();
+        then(productPersistenceAdapter).should(never()).findByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 상품은 DB 에서 조회하고, 새 상품이 있으면 스냅샷을 다시 적재")
+    void findByIds_MissingProduct_LoadsAndReloads() {
+        // Given
+        given(productPersistenceAdapter.findAll())
+                .willReturn(List.of(product(1)))
+                .willReturn(List.of(product(1), product(2)));
+        given(productPersistenceAdapter.findByIds(List.of(2L))).willReturn(List.of(product(2)));
+
+        // When
+        List<Product> first = productCatalogCacheAdapter.findByIds(List.of(1L, 2L));
+        List<Product> second = productCatalogCacheAdapter.findByIds(List.of(2L));
+
+        // Then
+        assertThat(first).extracting(Product::getId).containsExactly(1L, 2L);
+        assertThat(second).extracting(Product::getId).containsExactly(2L);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+        then(productPersistenceAdapter).should(times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품 ID 는 스냅샷을 다시 적재하지 않음")
+    void findByIds_UnknownProduct_DoesNotReload() {
+        // Given
+        given(productPersistenceAdapter.findAll()).willReturn(List.of(product(1)));
+        given(productPersistenceAdapter.findByIds(List.of(999L))).willReturn(List.of());
+
+        // When
+        List<Product> result = productCatalogCacheAdapter.findByIds(List.of(1L, 999L));
+
+        // Then
+        assertThat(result).extracting(Product::getId).containsExactly(1L);
+        then(productPersistenceAdapter).should(times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("reload 는 카탈로그 변경을 반영한 새 스냅샷으로 교체")
+    void reload_ReplacesSnapshot() {
+        // Given
+        Product renamed = Product.builder().id(1L).name("아이스 아메리카노").price(BigDecimal.valueOf(5000)).build();
+        given(productPersistenceAdapter.findAll())
+                .willReturn(List.of(product(1)))
+                .willReturn(List.of(renamed));
+        productCatalogCacheAdapter.findByIds(List.of(1L));
+
+        // When
+        productCatalogCacheAdapter.reload();
+
+        // Then
+        assertThat(productCatalogCacheAdapter.findByIds(List.of(1L))).containsExactly(renamed);
+        assertThat(meterRegistry.get("cache.size").tag("cache", "product").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("해시 충돌이 있는 큰 카탈로그에서도 모든 상품 ID 를 조회")
+    void findByIds_LargeCatalog() {
+        // Given
+        List<Product> catalog = LongStream.rangeClosed(1, 1_000)
+                .map(id -> id * 1_024)
+                .mapToObj(ProductCatalogCacheAdapterTest::product)
+                .toList();
+        given(productPersistenceAdapter.findAll()).willReturn(catalog);
+
+        List<Long> productIds = new ArrayList<>();
+        catalog.forEach(product -> productIds.add(product.getId()));
+
+        // When
+        List<Product> result = productCatalogCacheAdapter.findByIds(productIds);
+
+        // Then
+        assertThat(result).containsExactlyElementsOf(catalog);
+        then(productPersistenceAdapter).should(never()).findByIds(anyList());
+    }
+}
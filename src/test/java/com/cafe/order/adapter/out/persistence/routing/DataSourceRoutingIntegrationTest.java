@@ -0,0 +1,79 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서로 다른 두 H2 인메모리 DB 를 프라이머리/레플리카로 띄워 JPA 트랜잭션의 readOnly 여부에 따른 라우팅 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingprimary;DB_CLOSE_DELAY=-1",
+        "datasource.replica.enabled=true",
+        "datasource.replica.nodes[0].url=" + DataSourceRoutingIntegrationTest.REPLICA_URL
+})
+@DisplayName("읽기/쓰기 데이터소스 라우팅 통합 테스트")
+class DataSourceRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routingreplica;DB_CLOSE_DELAY=-1";
+
+    /**
+     * 복제를 흉내내 Hibernate 가 프라이머리에 만든 스키마를 초기 데이터 적재(CommandLineRunner) 전에 레플리카로 복사
+     */
+    @TestConfiguration
+    static class ReplicaSchemaConfig {
+
+        @Bean
+        InitializingBean replicaSchema(EntityManagerFactory entityManagerFactory, HikariDataSource primaryDataSource) {
+            return () -> {
+                JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+                new JdbcTemplate(primaryDataSource).queryForList("script nodata", String.class)
+                        .forEach(replica::execute);
+            };
+        }
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                (String) entityManager.createNativeQuery("select database()").getSingleResult());
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 레플리카, 쓰기 트랜잭션은 프라이머리로 라우팅")
+    void routesByTransactionReadOnlyFlag() {
+        // Given
+        double before = meterRegistry.get("datasource.routing.read.connections").tag("target", "replica-1").counter().count();
+
+        // When & Then
+        assertThat(currentDatabase(true)).isEqualToIgnoringCase("routingreplica");
+        assertThat(currentDatabase(false)).isEqualToIgnoringCase("routingprimary");
+        assertThat(currentDatabase(true)).isEqualToIgnoringCase("routingreplica");
+        assertThat(meterRegistry.get("datasource.routing.read.connections").tag("target", "replica-1").counter().count())
+                .isEqualTo(before + 2);
+    }
+}
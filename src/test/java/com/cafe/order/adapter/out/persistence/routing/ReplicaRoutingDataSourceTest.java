@@ -0,0 +1,133 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReplicaRoutingDataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "select lag_seconds from replica_status";
+
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource primary;
+
+    /**
+     * 별도의 H2 인메모리 DB 를 프라이머리/레플리카로 사용하고, 복제 지연은 replica_status 테이블 값으로 흉내낸다
+     */
+    private static DataSource h2(String name, double lagSeconds) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists replica_status (lag_seconds double)");
+        jdbcTemplate.update("delete from replica_status");
+        jdbcTemplate.update("insert into replica_status values (?)", lagSeconds);
+        return dataSource;
+    }
+
+    private static String databaseOf(Connection connection) throws SQLException {
+        try (connection; var resultSet = connection.createStatement().executeQuery("select database()")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private double readConnections(String target) {
+        return meterRegistry.get("datasource.routing.read.connections").tag("target", target).counter().count();
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        primary = h2("primarydb", 0);
+    }
+
+    @Test
+    @DisplayName("정상 레플리카 사이에서 라운드 로빈으로 분산")
+    void getConnection_RoundRobin() throws SQLException {
+        // Given
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(
+                new ReplicaRoutingDataSource.Replica("replica-1", h2("replicadb1", 0)),
+                new ReplicaRoutingDataSource.Replica("replica-2", h2("replicadb2", 0))
+        ), LAG_QUERY, Duration.ofSeconds(5), meterRegistry);
+
+        // When & Then
+        assertThat(databaseOf(dataSource.getConnection())).isEqualToIgnoringCase("replicadb1");
+        assertThat(databaseOf(dataSource.getConnection())).isEqualToIgnoringCase("replicadb2");
+        assertThat(databaseOf(dataSource.getConnection())).isEqualToIgnoringCase("replicadb1");
+        assertThat(readConnections("replica-1")).isEqualTo(2);
+        assertThat(readConnections("replica-2")).isEqualTo(1);
+        assertThat(readConnections("primary")).isZero();
+    }
+
+    @Test
+    @DisplayName("계정을 지정한 커넥션도 같은 방식으로 레플리카에 라우팅")
+    void getConnectionWithCredentials_RoutesToReplica() throws SQLException {
+        // Given
+        ReplicaRoutingDataSource.Replica replica = new ReplicaRoutingDataSource.Replica("replica-1", h2("replicadb1", 0));
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(replica),
+                LAG_QUERY, Duration.ofSeconds(5), meterRegistry);
+
+        // When
+        String database = databaseOf(dataSource.getConnection("sa", ""));
+
+        // Then
+        assertThat(database).isEqualToIgnoringCase("replicadb1");
+        assertThat(replica.isHealthy()).isTrue();
+        assertThat(readConnections("replica-1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("접속할 수 없는 레플리카는 제외하고, 모든 레플리카가 비정상이면 프라이머리로 보냄")
+    void getConnection_UnavailableReplica_FallsBackToPrimary() throws SQLException {
+        // Given
+        ReplicaRoutingDataSource.Replica unavailable = new ReplicaRoutingDataSource.Replica("replica-1",
+                new DriverManagerDataSource("jdbc:h2:mem:missingdb;IFEXISTS=TRUE", "sa", ""));
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(unavailable),
+                null, Duration.ofSeconds(5), meterRegistry);
+
+        // When
+        String database = databaseOf(dataSource.getConnection());
+
+        // Then
+        assertThat(database).isEqualToIgnoringCase("primarydb");
+        assertThat(unavailable.isHealthy()).isFalse();
+        assertThat(readConnections("primary")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 상한을 넘은 레플리카는 헬스 체크에서 제외되고, 지연이 해소되면 복귀")
+    void checkHealth_LaggingReplica_ExcludedUntilCaughtUp() throws SQLException {
+        // Given
+        DataSource lagging = h2("laggingdb", 30);
+        ReplicaRoutingDataSource.Replica replica = new ReplicaRoutingDataSource.Replica("replica-1", lagging);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, List.of(replica),
+                LAG_QUERY, Duration.ofSeconds(5), meterRegistry);
+
+        // When
+        dataSource.checkHealth();
+
+        // Then
+        assertThat(replica.isHealthy()).isFalse();
+        assertThat(databaseOf(dataSource.getConnection())).isEqualToIgnoringCase("primarydb");
+        assertThat(meterRegistry.get("datasource.replica.healthy").tag("replica", "replica-1").gauge().value()).isZero();
+
+        // When: 복제 지연 해소
+        new JdbcTemplate(lagging).update("update replica_status set lag_seconds = 0.5");
+        dataSource.checkHealth();
+
+        // Then
+        assertThat(replica.isHealthy()).isTrue();
+        assertThat(databaseOf(dataSource.getConnection())).isEqualToIgnoringCase("laggingdb");
+    }
+}
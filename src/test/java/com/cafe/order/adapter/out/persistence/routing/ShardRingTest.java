@@ -0,0 +1,78 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ShardRing 테스트")
+class ShardRingTest {
+
+    private static final List<String> THREE_SHARDS = List.of("shard-1", "shard-2", "shard-3");
+    private static final List<String> FOUR_SHARDS = List.of("shard-1", "shard-2", "shard-3", "shard-4");
+
+    @Test
+    @DisplayName("같은 노드 구성이면 버킷 소속이 항상 같고, 음수 키도 버킷 범위 안에 든다")
+    void deterministic() {
+        // Given
+        ShardRing ring = new ShardRing(FOUR_SHARDS, 160);
+        ShardRing same = new ShardRing(FOUR_SHARDS, 160);
+
+        // When & Then
+        for (int bucket = 0; bucket < ShardRing.BUCKETS; bucket++) {
+            assertThat(ring.shardOfBucket(bucket)).isEqualTo(same.shardOfBucket(bucket));
+        }
+        assertThat(ShardRing.bucketOf(-1L)).isEqualTo(ShardRing.BUCKETS - 1);
+        assertThat(ring.shardOf(5L)).isEqualTo(ring.shardOf(5L + ShardRing.BUCKETS));
+    }
+
+    @Test
+    @DisplayName("버킷이 샤드마다 고르게 나뉜다")
+    void distributesEvenly() {
+        // Given
+        ShardRing ring = new ShardRing(FOUR_SHARDS, 160);
+
+        // When
+        int[] buckets = new int[ring.size()];
+        for (int bucket = 0; bucket < ShardRing.BUCKETS; bucket++) {
+            buckets[ring.shardOfBucket(bucket)]++;
+        }
+
+        // Then: 평균 256 개에서 ±30% 이내
+        for (int count : buckets) {
+            assertThat(count).isBetween(180, 333);
+        }
+    }
+
+    @Test
+    @DisplayName("노드를 추가하면 새 노드로 가는 버킷만 소속이 바뀐다")
+    void addingNodeMovesOnlyBucketsToNewNode() {
+        // Given
+        ShardRing before = new ShardRing(THREE_SHARDS, 160);
+        ShardRing after = new ShardRing(FOUR_SHARDS, 160);
+
+        // When
+        int moved = 0;
+        for (int bucket = 0; bucket < ShardRing.BUCKETS; bucket++) {
+            if (before.shardOfBucket(bucket) != after.shardOfBucket(bucket)) {
+                assertThat(after.shardName(after.shardOfBucket(bucket))).isEqualTo("shard-4");
+                moved++;
+            }
+        }
+
+        // Then: 대략 1/4 만 이동
+        assertThat(moved).isBetween(180, 333);
+    }
+
+    @Test
+    @DisplayName("샤드 이름이 없거나 중복되면 예외")
+    void rejectsInvalidNames() {
+        assertThatThrownBy(() -> new ShardRing(List.of(), 160))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ShardRing(List.of("shard-1", "shard-1"), 160))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
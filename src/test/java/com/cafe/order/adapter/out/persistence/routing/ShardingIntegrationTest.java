@@ -0,0 +1,354 @@
+package com.cafe.order.adapter.out.persistence.routing;
+
+import com.cafe.order.adapter.out.persistence.order.OrderJpaRepository;
+import com.cafe.order.adapter.out.persistence.order.OrderPersistenceMapper;
+import com.cafe.order.adapter.out.persistence.payment.PaymentJpaRepository;
+import com.cafe.order.adapter.out.persistence.payment.PaymentPersistenceMapper;
+import com.cafe.order.application.port.in.order.OrderCommandUseCase;
+import com.cafe.order.application.port.in.order.command.CancelOrderCommand;
+import com.cafe.order.application.port.in.order.command.CreateOrderCommand;
+import com.cafe.order.application.port.in.order.command.CreateOrderResult;
+import com.cafe.order.application.port.in.order.command.OrderLineCommand;
+import com.cafe.order.application.port.in.order.query.OrderExportRow;
+import com.cafe.order.application.port.out.member.MemberPort;
+import com.cafe.order.application.port.out.order.OrderExportPort;
+import com.cafe.order.application.port.out.order.OrderPort;
+import com.cafe.order.application.port.out.payment.ExternalPaymentPort;
+import com.cafe.order.domain.member.model.Member;
+import com.cafe.order.domain.member.model.enums.Gender;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import com.cafe.order.domain.payment.model.Payment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 서로 다른 H2 인메모리 DB 4개를 샤드로 띄워 회원 ID 기준 주문 라우팅, 샤드 간 트랜잭션 차단, 내보내기 병합, 재배치를 확인하고
+ * 쓰기 스레드가 접근하는 샤드 수에 따른 주문 저장 처리량을 로그로 남긴다.
+ */
+@SpringBootTest(properties = {
+        "datasource.shard.enabled=true",
+        "datasource.shard.copy-schema=true",
+        "datasource.shard.rebalance.chunk-size=2",
+        "datasource.shard.nodes[0].name=shard-1",
+        "datasource.shard.nodes[0].url=jdbc:h2:mem:shardtest1;DB_CLOSE_DELAY=-1",
+        "datasource.shard.nodes[1].name=shard-2",
+        "datasource.shard.nodes[1].url=jdbc:h2:mem:shardtest2;DB_CLOSE_DELAY=-1",
+        "datasource.shard.nodes[2].name=shard-3",
+        "datasource.shard.nodes[2].url=jdbc:h2:mem:shardtest3;DB_CLOSE_DELAY=-1",
+        "datasource.shard.nodes[3].name=shard-4",
+        "datasource.shard.nodes[3].url=jdbc:h2:mem:shardtest4;DB_CLOSE_DELAY=-1",
+        "payment.outbox.fixed-delay=1h"
+})
+@DisplayName("주문 샤딩 통합 테스트")
+class ShardingIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardingIntegrationTest.class);
+
+    private static final List<String> PREVIOUS_NODES = List.of("shard-1", "shard-2", "shard-3");
+    private static final int WRITERS = 4;
+    private static final int ORDERS_PER_WRITER = 300;
+
+    @Autowired
+    private OrderPort orderPort;
+
+    @Autowired
+    private OrderExportPort orderExportPort;
+
+    @Autowired
+    private OrderCommandUseCase orderCommandUseCase;
+
+    @Autowired
+    private MemberPort memberPort;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardRoutingDataSource shardRoutingDataSource;
+
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private OrderPersistenceMapper orderPersistenceMapper;
+
+    @Autowired
+    private PaymentJpaRepository paymentJpaRepository;
+
+    @Autowired
+    private PaymentPersistenceMapper paymentPersistenceMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private ExternalPaymentPort externalPaymentPort;
+
+    private JdbcTemplate shard(int shard) {
+        return new JdbcTemplate(shardRoutingDataSource.shardDataSource(shard));
+    }
+
+    private long countOrders(int shard, Long orderId) {
+        return shard(shard).queryForObject("select count(*) from orders where id = ?", Long.class, orderId);
+    }
+
+    /**
+     * 회원 ID 1부터 차례로 찾아 지정한 샤드의 회원 ID 를 반환 (테스트마다 겹치지 않도록 시작 값을 다르게 준다)
+     */
+    private long memberOnShard(int shard, long from) {
+        long memberId = from;
+        while (shardRouter.shardOfMember(memberId) != shard) {
+            memberId++;
+        }
+        return memberId;
+    }
+
+    private Member saveMember() {
+        String phoneNumber = "010" + String.format("%08d", Math.floorMod(UUID.randomUUID().getMostSignificantBits(), 100_000_000L));
+        return memberPort.save(Member.createNewMember("샤드", phoneNumber, Gender.FEMALE, LocalDate.of(1990, 1, 1)));
+    }
+
+    private Order saveConfirmedOrder(long memberId) {
+        return orderPort.save(Order.create(memberId, List.of(OrderLine.of(1L, 1)), UUID.randomUUID().toString()));
+    }
+
+    @Test
+    @DisplayName("주문은 회원의 샤드에만 저장되고, 주문 ID 하위 비트의 버킷으로 다시 찾는다")
+    void save_RoutesToMemberShard() {
+        for (long memberId = 1; memberId <= 40; memberId++) {
+            // When
+            Order saved = saveConfirmedOrder(memberId);
+
+            // Then
+            int shard = shardRouter.shardOfMember(memberId);
+            assertThat(ShardRing.bucketOf(saved.getId())).isEqualTo(ShardRing.bucketOf(memberId));
+            assertThat(shardRouter.shardOfOrder(saved.getId())).isEqualTo(shard);
+            for (int other = 0; other < shardRouter.shardCount(); other++) {
+                assertThat(countOrders(other, saved.getId())).isEqualTo(other == shard ? 1 : 0);
+            }
+            assertThat(orderPort.findById(saved.getId())).get()
+                    .extracting(Order::getMemberId).isEqualTo(memberId);
+        }
+    }
+
+    @Test
+    @DisplayName("주문 취소는 주문의 샤드에서 상태를 바꾸고 결제 취소 Outbox 도 같은 샤드에 남긴다")
+    void cancelOrder_RoutesToOrderShard() {
+        // Given
+        long memberId = memberOnShard(2, 100);
+        Order order = saveConfirmedOrder(memberId);
+
+        // When
+        orderCommandUseCase.cancelOrder(new CancelOrderCommand(order.getId()));
+
+        // Then
+        assertThat(orderPort.findById(order.getId())).get()
+                .extracting(Order::getStatus).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(shard(2).queryForObject("select count(*) from payment_outbox where payment_id = ?",
+                Long.class, order.getPaymentId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 샤드 회원의 일괄 주문은 회원의 샤드별로 나누어 저장하고 확정한다")
+    void createOrders_SplitsByMemberShard() {
+        // Given: 서로 다른 샤드의 회원 두 명
+        Member first = saveMember();
+        Member second = saveMember();
+        while (shardRouter.shardOfMember(second.getId()) == shardRouter.shardOfMember(first.getId())) {
+            second = saveMember();
+        }
+        List<CreateOrderCommand> commands = Stream.of(first, second, first, second)
+                .map(member -> new CreateOrderCommand(member.getId(), List.of(new OrderLineCommand(1L, 1))))
+                .toList();
+        given(externalPaymentPort.processPayment(any()))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(UUID.randomUUID().toString()));
+
+        // When
+        List<CreateOrderResult> results = orderCommandUseCase.createOrders(commands).join();
+
+        // Then
+        assertThat(results).allMatch(CreateOrderResult::isCreated);
+        for (int i = 0; i < results.size(); i++) {
+            Order order = results.get(i).order();
+            int shard = shardRouter.shardOfMember(commands.get(i).memberId());
+            assertThat(order.getMemberId()).isEqualTo(commands.get(i).memberId());
+            assertThat(countOrders(shard, order.getId())).isEqualTo(1);
+            assertThat(orderPort.findById(order.getId())).get()
+                    .extracting(Order::getStatus).isEqualTo(OrderStatus.CONFIRMED);
+        }
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서 두 샤드의 주문에 접근하면 예외")
+    void transaction_RejectsCrossShardAccess() {
+        // Given
+        Order first = saveConfirmedOrder(memberOnShard(0, 200));
+        Order second = saveConfirmedOrder(memberOnShard(1, 200));
+
+        // When & Then
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            orderPort.findById(first.getId());
+            orderPort.findById(second.getId());
+        })).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("내보내기는 모든 샤드의 주문을 (주문 일시, 주문 ID) 순으로 병합한다")
+    void export_MergesShardsInOrder() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            long memberId = memberOnShard(i % shardRouter.shardCount(), 300 + i * 7L);
+            orderIds.add(orderPort.save(Order.createImported(memberId, List.of(OrderLine.of(1L, 1)),
+                    "shard-export-" + i, from.plusMinutes((i * 5L) % 13))).getId());
+        }
+
+        // When
+        List<OrderExportRow> rows = new ArrayList<>();
+        long exported = orderExportPort.exportOrders(from, from.plusDays(1), rows::add);
+
+        // Then
+        assertThat(exported).isEqualTo(24);
+        assertThat(rows).extracting(OrderExportRow::orderId).containsExactlyInAnyOrderElementsOf(orderIds);
+        assertThat(rows).isSortedAccordingTo(Comparator.comparing(OrderExportRow::orderDateTime)
+                .thenComparingLong(OrderExportRow::orderId));
+    }
+
+    @Test
+    @DisplayName("노드 추가 후 재배치하면 새 노드로 가는 버킷의 주문/주문상품/결제가 이전 샤드에서 새 샤드로 옮겨진다")
+    void rebalance_MovesBucketsToNewNode() throws SQLException {
+        // Given: 노드 3개 구성이었을 때 저장된 주문 (다른 테스트의 회원과 버킷이 겹치지 않는 큰 회원 ID)
+        ShardRing previous = new ShardRing(PREVIOUS_NODES, 160);
+        List<Long> memberIds = new ArrayList<>();
+        for (long memberId = 600; memberIds.size() < 3; memberId++) {
+            if (shardRouter.shardOfMember(memberId) == 3) {
+                memberIds.add(memberId);
+            }
+        }
+
+        List<Long> orderIds = new ArrayList<>();
+        List<Integer> sourceShards = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            int source = previous.shardOf(memberId);
+            for (int i = 0; i < 3; i++) {
+                Order order = Order.create(memberId, List.of(OrderLine.of(1L, 1), OrderLine.of(2L, 2)),
+                        "rebalance-" + memberId + "-" + i);
+                Long orderId = ShardContext.pin(source, () -> transactionTemplate.execute(status -> {
+                    Long id = orderJpaRepository.save(orderPersistenceMapper.toEntity(order)).getId();
+                    paymentJpaRepository.save(paymentPersistenceMapper.toEntity(
+                            Payment.createPayment(order.getPaymentId(), id)));
+                    return id;
+                }));
+                orderIds.add(orderId);
+                sourceShards.add(source);
+            }
+        }
+
+        // When
+        long moved = shardRebalancer.rebalance(PREVIOUS_NODES);
+
+        // Then
+        assertThat(moved).isEqualTo(orderIds.size());
+        for (int i = 0; i < orderIds.size(); i++) {
+            Long orderId = orderIds.get(i);
+            assertThat(countOrders(sourceShards.get(i), orderId)).isZero();
+            assertThat(countOrders(3, orderId)).isEqualTo(1);
+            assertThat(shard(3).queryForObject("select count(*) from order_lines where order_id = ?", Long.class, orderId))
+                    .isEqualTo(2);
+            assertThat(shard(3).queryForObject("select count(*) from payments where order_id = ?", Long.class, orderId))
+                    .isEqualTo(1);
+            assertThat(orderPort.findById(orderId)).get()
+                    .satisfies(order -> assertThat(order.getOrderLines()).hasSize(2));
+        }
+        // 옮겨 온 주문 ID 의 시퀀스 값보다 새 샤드의 주문 시퀀스가 앞서 있어야 한다
+        long maxSequence = orderIds.stream().mapToLong(id -> id / ShardRing.BUCKETS).max().orElseThrow();
+        Long next = shard(3).queryForObject("select next value for orders_seq", Long.class);
+        assertThat(next - 49).isGreaterThan(maxSequence);
+
+        // 다시 실행해도 옮길 주문이 없다
+        assertThat(shardRebalancer.rebalance(PREVIOUS_NODES)).isZero();
+    }
+
+    @Test
+    @DisplayName("노드를 제거하는 구성으로는 재배치할 수 없다")
+    void rebalance_RejectsRemovedNode() {
+        assertThatThrownBy(() -> shardRebalancer.rebalance(List.of("shard-1", "shard-5")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("처리량 비교 - 쓰기 스레드 4개가 주문을 저장하는 샤드 수 1/2/4")
+    void save_ThroughputByShardCount() throws Exception {
+        // Given: 커넥션 풀/JIT 워밍업
+        measureThroughput(4);
+
+        // When
+        double oneShard = measureThroughput(1);
+        double twoShards = measureThroughput(2);
+        double fourShards = measureThroughput(4);
+
+        // Then
+        log.info("주문 저장 처리량 ({}스레드 x {}주문): 1샤드={} orders/s, 2샤드={} orders/s, 4샤드={} orders/s",
+                WRITERS, ORDERS_PER_WRITER, String.format("%.0f", oneShard), String.format("%.0f", twoShards),
+                String.format("%.0f", fourShards));
+        assertThat(oneShard).isPositive();
+        assertThat(twoShards).isPositive();
+        assertThat(fourShards).isPositive();
+    }
+
+    /**
+     * 쓰기 스레드 i 는 샤드 (i % shards) 의 회원으로 주문을 저장한다
+     */
+    private double measureThroughput(int shards) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                long memberId = memberOnShard(writer % shards, 400);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < ORDERS_PER_WRITER; i++) {
+                        saveConfirmedOrder(memberId);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return WRITERS * ORDERS_PER_WRITER / ((System.nanoTime() - start) / 1e9);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
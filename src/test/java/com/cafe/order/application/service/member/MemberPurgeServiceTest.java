@@ -0,0 +1,123 @@
+package com.cafe.order.application.service.member;
+
+import com.cafe.order.application.port.out.member.MemberPort;
+import com.cafe.order.config.MemberPurgeProperties;
+import com.cafe.order.domain.member.service.MemberDomainService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MemberPurgeService 테스트")
+class MemberPurgeServiceTest {
+
+    @Mock
+    private MemberPort memberPort;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberPurgeService memberPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        MemberPurgeProperties properties = new MemberPurgeProperties();
+        properties.setChunkSize(2);
+        properties.setPause(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        memberPurgeService = new MemberPurgeService(
+                memberPort, new MemberDomainService(), transactionTemplate, properties, meterRegistry);
+    }
+
+    private void givenTransactions() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원 정리 - 철회 기간이 지난 회원을 청크마다 별도 트랜잭션으로 삭제하고, 더 없으면 종료")
+    void purgeExpiredWithdrawals_DeletesInChunks() {
+        // Given
+        givenTransactions();
+        given(memberPort.countExpiredWithdrawals(any())).willReturn(5L);
+        given(memberPort.findExpiredWithdrawalIds(any(), eq(2)))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(3L, 4L))
+                .willReturn(List.of(5L));
+        given(memberPort.deleteExpiredWithdrawals(anyList(), any()))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // When
+        int purged = memberPurgeService.purgeExpiredWithdrawals(100);
+
+        // Then
+        assertThat(purged).isEqualTo(5);
+        then(transactionTemplate).should(times(3)).execute(any());
+        // 마지막 청크가 chunk-size 보다 작으면 더 조회하지 않음
+        then(memberPort).should(times(3)).findExpiredWithdrawalIds(any(), anyInt());
+        assertThat(meterRegistry.get("member.withdrawal.purged").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("member.withdrawal.purge.backlog").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원 정리 - 철회 기간 만료 시각(30일 전) 이전 탈퇴만 대상, 한 번에 최대 maxMembers 명까지만 삭제")
+    void purgeExpiredWithdrawals_StopsAtMaxMembers() {
+        // Given
+        givenTransactions();
+        given(memberPort.countExpiredWithdrawals(any())).willReturn(10L);
+        given(memberPort.findExpiredWithdrawalIds(any(), anyInt()))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(3L));
+        given(memberPort.deleteExpiredWithdrawals(anyList(), any()))
+                .willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // When
+        int purged = memberPurgeService.purgeExpiredWithdrawals(3);
+
+        // Then
+        assertThat(purged).isEqualTo(3);
+        then(memberPort).should().findExpiredWithdrawalIds(any(), eq(2));
+        then(memberPort).should().findExpiredWithdrawalIds(any(), eq(1));
+        then(memberPort).should(times(2)).deleteExpiredWithdrawals(anyList(),
+                argThat(withdrawnBefore ->
+                        withdrawnBefore.isBefore(LocalDateTime.now().minusDays(30).plusMinutes(1))
+                                && withdrawnBefore.isAfter(LocalDateTime.now().minusDays(30).minusMinutes(1))));
+        assertThat(meterRegistry.get("member.withdrawal.purge.backlog").gauge().value()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원 정리 - 대상이 없으면 트랜잭션을 열지 않음")
+    void purgeExpiredWithdrawals_NothingToPurge() {
+        // Given
+        given(memberPort.findExpiredWithdrawalIds(any(), anyInt())).willReturn(List.of());
+
+        // When
+        int purged = memberPurgeService.purgeExpiredWithdrawals(100);
+
+        // Then
+        assertThat(purged).isZero();
+        then(transactionTemplate).should(never()).execute(any());
+    }
+}
@@ -0,0 +1,132 @@
+package com.cafe.order.application.service.order;
+
+import com.cafe.order.application.port.in.order.OrderCommandUseCase;
+import com.cafe.order.application.port.in.order.command.CreateOrderCommand;
+import com.cafe.order.application.port.in.order.command.CreateOrderResult;
+import com.cafe.order.application.port.in.order.command.OrderLineCommand;
+import com.cafe.order.application.port.out.member.MemberPort;
+import com.cafe.order.application.port.out.order.OrderPort;
+import com.cafe.order.application.port.out.payment.PaymentPort;
+import com.cafe.order.domain.member.model.Member;
+import com.cafe.order.domain.member.model.enums.Gender;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 게이트웨이 시뮬레이터(fixed: 100ms, 실패 없음)로 같은 주문 목록을 단건 주문 N번과 일괄 생성 한 번으로 처리해
+ * 걸린 시간을 비교해 로그로 남긴다. 단건 주문은 한 클라이언트가 응답을 받고 다음 주문을 보내는 경우다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:orderbatch;DB_CLOSE_DELAY=-1",
+        "payment.gateway.simulator.profile=fixed",
+        "payment.outbox.fixed-delay=1h",
+        "order.batch.max-concurrent-payments=10"
+})
+@DisplayName("주문 일괄 생성 통합 테스트")
+class OrderBatchIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderBatchIntegrationTest.class);
+
+    private static final int ORDERS = 50;
+    private static final int MEMBERS = 10;
+
+    @Autowired
+    private OrderCommandUseCase orderCommandUseCase;
+
+    @Autowired
+    private OrderPort orderPort;
+
+    @Autowired
+    private PaymentPort paymentPort;
+
+    @Autowired
+    private MemberPort memberPort;
+
+    private List<CreateOrderCommand> orderCommands(int count) {
+        List<Long> memberIds = IntStream.range(0, MEMBERS)
+                .mapToObj(i -> saveMember().getId())
+                .toList();
+        return IntStream.range(0, count)
+                .mapToObj(i -> new CreateOrderCommand(memberIds.get(i % MEMBERS), List.of(
+                        new OrderLineCommand(1L + i % 4, 1),
+                        new OrderLineCommand(5L + i % 4, 2))))
+                .toList();
+    }
+
+    private Member saveMember() {
+        String phoneNumber = "010" + String.format("%08d", Math.floorMod(UUID.randomUUID().getMostSignificantBits(), 100_000_000L));
+        return memberPort.save(Member.createNewMember("일괄", phoneNumber, Gender.FEMALE, LocalDate.of(1990, 1, 1)));
+    }
+
+    private long sequentialMillis(List<CreateOrderCommand> commands) {
+        long startNanos = System.nanoTime();
+        for (CreateOrderCommand command : commands) {
+            orderCommandUseCase.createOrder(command).join();
+        }
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private long batchMillis(List<CreateOrderCommand> commands) {
+        long startNanos = System.nanoTime();
+        List<CreateOrderResult> results = orderCommandUseCase.createOrders(commands).join();
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        assertThat(results).allMatch(CreateOrderResult::isCreated);
+        return elapsedMillis;
+    }
+
+    @Test
+    @DisplayName("일괄 생성한 주문은 모두 확정되고 결제가 저장된다")
+    void createOrders_ConfirmsAllOrdersWithPayments() {
+        // Given
+        List<CreateOrderCommand> commands = orderCommands(12);
+
+        // When
+        List<CreateOrderResult> results = orderCommandUseCase.createOrders(commands).join();
+
+        // Then
+        assertThat(results).hasSize(commands.size()).allMatch(CreateOrderResult::isCreated);
+        for (int i = 0; i < results.size(); i++) {
+            Order order = orderPort.findById(results.get(i).order().getId()).orElseThrow();
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+            assertThat(order.getMemberId()).isEqualTo(commands.get(i).memberId());
+            assertThat(order.getOrderLines()).hasSize(2);
+            assertThat(paymentPort.findByPaymentId(order.getPaymentId())).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("주문 50건: 단건 주문 50번 대비 일괄 생성 한 번의 처리 시간")
+    void createOrders_FasterThanSequentialCreateOrder() {
+        // Given: 워밍업 후 같은 구성의 주문 목록으로 비교
+        sequentialMillis(orderCommands(MEMBERS));
+        batchMillis(orderCommands(MEMBERS));
+        List<CreateOrderCommand> sequentialCommands = orderCommands(ORDERS);
+        List<CreateOrderCommand> batchCommands = orderCommands(ORDERS);
+
+        // When
+        long sequential = sequentialMillis(sequentialCommands);
+        long batch = batchMillis(batchCommands);
+
+        // Then
+        double speedup = (double) sequential / batch;
+        log.info("주문 {}건 (회원 {}명, 게이트웨이 100ms, 동시 결제 10): 단건 순차 {} ms ({} orders/s), 일괄 {} ms ({} orders/s), {}배",
+                ORDERS, MEMBERS,
+                sequential, String.format("%.1f", ORDERS * 1000.0 / sequential),
+                batch, String.format("%.1f", ORDERS * 1000.0 / batch),
+                String.format("%.1f", speedup));
+        assertThat(speedup).isGreaterThan(2.0);
+    }
+}
@@ -0,0 +1,243 @@
+package com.cafe.order.application.service.order;
+
+import com.cafe.order.application.port.in.member.MemberCommandUseCase;
+import com.cafe.order.application.port.in.member.command.MemberWithdrawCommand;
+import com.cafe.order.application.port.in.order.OrderCommandUseCase;
+import com.cafe.order.application.port.in.order.command.CancelOrderCommand;
+import com.cafe.order.application.port.in.payment.PaymentCommandUseCase;
+import com.cafe.order.application.port.in.payment.PaymentOutboxRelayUseCase;
+import com.cafe.order.application.port.in.payment.command.CancelPaymentCommand;
+import com.cafe.order.application.port.out.member.MemberPort;
+import com.cafe.order.application.port.out.order.OrderPort;
+import com.cafe.order.application.port.out.payment.ExternalPaymentPort;
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.ErrorCode;
+import com.cafe.order.domain.member.model.Member;
+import com.cafe.order.domain.member.model.enums.Gender;
+import com.cafe.order.domain.member.model.enums.MemberStatus;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.OrderLine;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import com.cafe.order.domain.payment.model.enums.PaymentOutboxStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+/**
+ * 같은 주문/회원에 64개 스레드가 동시에 상태 전이를 요청해도 하나만 반영되는지 실제 트랜잭션과 H2 로 검증하고,
+ * 낙관적 락(버전 + 재시도)과 비관적 락(SELECT ... FOR UPDATE) 방식의 처리량을 비교해 로그로 남긴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:cancelconcurrency;DB_CLOSE_DELAY=-1",
+        "payment.outbox.fixed-delay=1h"
+})
+@DisplayName("주문 취소/회원 탈퇴 동시성 테스트")
+class OrderCancelConcurrencyTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderCancelConcurrencyTest.class);
+
+    private static final int THREADS = 64;
+    private static final int THROUGHPUT_ROUNDS = 20;
+
+    @Autowired
+    private OrderCommandUseCase orderCommandUseCase;
+
+    @Autowired
+    private MemberCommandUseCase memberCommandUseCase;
+
+    @Autowired
+    private PaymentCommandUseCase paymentCommandUseCase;
+
+    @Autowired
+    private PaymentOutboxRelayUseCase paymentOutboxRelayUseCase;
+
+    @Autowired
+    private OrderPort orderPort;
+
+    @Autowired
+    private MemberPort memberPort;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ExternalPaymentPort externalPaymentPort;
+
+    private Member saveMember() {
+        String phoneNumber = "010" + String.format("%08d", Math.floorMod(UUID.randomUUID().getMostSignificantBits(), 100_000_000L));
+        return memberPort.save(Member.createNewMember("동시성", phoneNumber, Gender.MALE, LocalDate.of(1990, 1, 1)));
+    }
+
+    private Order saveConfirmedOrder(Long memberId) {
+        return orderPort.save(Order.create(memberId, List.of(OrderLine.of(1L, 1)), UUID.randomUUID().toString()));
+    }
+
+    /**
+     * 모든 스레드를 래치로 동시에 출발시키고, 성공은 "OK", 거절은 에러 코드로 모아 건수를 센다
+     */
+    private Map<String, Integer> runConcurrently(int threads, Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch ready = new CountDownLatch(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    try {
+                        task.call();
+                        return "OK";
+                    } catch (BizException e) {
+                        return e.getErrorCode().getCode();
+                    }
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            Map<String, Integer> outcomes = new ConcurrentHashMap<>();
+            for (Future<String> future : futures) {
+                outcomes.merge(future.get(30, TimeUnit.SECONDS), 1, Integer::sum);
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 비교 대상: 주문 행을 먼저 잠가(SELECT ... FOR UPDATE) 취소 요청을 직렬화하는 방식
+     */
+    private void cancelWithPessimisticLock(Long orderId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createNativeQuery("SELECT id FROM orders WHERE id = :orderId FOR UPDATE")
+                    .setParameter("orderId", orderId)
+                    .getSingleResult();
+            Order order = orderPort.findById(orderId).orElseThrow();
+            if (order.isCancelled()) {
+                throw new BizException(ErrorCode.ORDER_ALREADY_CANCELLED);
+            }
+            order.cancel();
+            orderPort.updateStatus(order, OrderStatus.CONFIRMED);
+            paymentCommandUseCase.cancelPayment(new CancelPaymentCommand(order.getPaymentId()));
+        });
+    }
+
+    private double measureThroughput(Long memberId, Consumer<Long> cancel) throws Exception {
+        long elapsedNanos = 0;
+        for (int round = 0; round < THROUGHPUT_ROUNDS; round++) {
+            Long orderId = saveConfirmedOrder(memberId).getId();
+            long startNanos = System.nanoTime();
+            Map<String, Integer> outcomes = runConcurrently(THREADS, () -> {
+                cancel.accept(orderId);
+                return null;
+            });
+            elapsedNanos += System.nanoTime() - startNanos;
+            assertThat(outcomes.get("OK")).isEqualTo(1);
+        }
+        return THROUGHPUT_ROUNDS * THREADS / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    @Test
+    @DisplayName("한 주문에 64개 스레드가 동시에 취소하면 하나만 취소되고 결제 취소는 게이트웨이에 한 번만 전달")
+    void cancelOrder_ConcurrentRequests_ExactlyOneGatewayCancel() throws Exception {
+        // Given
+        Order order = saveConfirmedOrder(saveMember().getId());
+
+        // When
+        Map<String, Integer> outcomes = runConcurrently(THREADS, () -> {
+            orderCommandUseCase.cancelOrder(new CancelOrderCommand(order.getId()));
+            return null;
+        });
+        paymentOutboxRelayUseCase.relayDueOutbox();
+        paymentOutboxRelayUseCase.relayDueOutbox();
+
+        // Then
+        assertThat(outcomes).containsOnlyKeys("OK", ErrorCode.ORDER_ALREADY_CANCELLED.getCode());
+        assertThat(outcomes.get("OK")).isEqualTo(1);
+        assertThat(outcomes.get(ErrorCode.ORDER_ALREADY_CANCELLED.getCode())).isEqualTo(THREADS - 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment_outbox WHERE payment_id = ?",
+                Long.class, order.getPaymentId())).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM payment_outbox WHERE payment_id = ?",
+                String.class, order.getPaymentId())).isEqualTo(PaymentOutboxStatus.COMPLETED.name());
+        then(externalPaymentPort).should(times(1)).cancelPayment(order.getPaymentId());
+        assertThat(orderPort.findById(order.getId())).hasValueSatisfying(cancelledOrder -> {
+            assertThat(cancelledOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+            assertThat(cancelledOrder.getVersion()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("한 회원에 64개 스레드가 동시에 탈퇴하면 하나만 반영되고 나머지는 다시 조회해 이미 탈퇴로 거절")
+    void withdraw_ConcurrentRequests_ExactlyOneApplied() throws Exception {
+        // Given
+        Member member = saveMember();
+
+        // When
+        Map<String, Integer> outcomes = runConcurrently(THREADS, () -> {
+            memberCommandUseCase.withdraw(new MemberWithdrawCommand(member.getId()));
+            return null;
+        });
+
+        // Then
+        assertThat(outcomes).containsOnlyKeys("OK", ErrorCode.MEMBER_ALREADY_WITHDRAWN.getCode());
+        assertThat(outcomes.get("OK")).isEqualTo(1);
+        assertThat(memberPort.findById(member.getId())).hasValueSatisfying(withdrawnMember -> {
+            assertThat(withdrawnMember.getStatus()).isEqualTo(MemberStatus.WITHDRAWN);
+            assertThat(withdrawnMember.getVersion()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("처리량 비교 - 낙관적 락(버전 + 재시도) vs 비관적 락(SELECT ... FOR UPDATE), 두 방식 모두 주문당 취소 1건")
+    void cancelOrder_ThroughputVersusPessimisticLock() throws Exception {
+        // Given
+        Long memberId = saveMember().getId();
+        // 커넥션 풀/JIT 워밍업
+        measureThroughput(memberId, orderId -> orderCommandUseCase.cancelOrder(new CancelOrderCommand(orderId)));
+        measureThroughput(memberId, this::cancelWithPessimisticLock);
+
+        // When
+        double optimistic = measureThroughput(memberId,
+                orderId -> orderCommandUseCase.cancelOrder(new CancelOrderCommand(orderId)));
+        double pessimistic = measureThroughput(memberId, this::cancelWithPessimisticLock);
+
+        // Then
+        log.info("주문 취소 처리량 ({}스레드 x {}주문): optimistic={} req/s, pessimistic={} req/s",
+                THREADS, THROUGHPUT_ROUNDS, String.format("%.0f", optimistic), String.format("%.0f", pessimistic));
+        assertThat(optimistic).isPositive();
+        assertThat(pessimistic).isPositive();
+    }
+}
@@ -3,13 +3,19 @@ package com.cafe.order.application.service.order;
 import com.cafe.order.application.port.in.member.MemberQueryUseCase;
 import com.cafe.order.application.port.in.order.command.CancelOrderCommand;
 import com.cafe.order.application.port.in.order.command.CreateOrderCommand;
+import com.cafe.order.application.port.in.order.command.CreateOrderResult;
 import com.cafe.order.application.port.in.order.command.OrderLineCommand;
 import com.cafe.order.application.port.in.payment.PaymentCommandUseCase;
+import com.cafe.order.application.port.in.payment.command.CancelPaymentCommand;
 import com.cafe.order.application.port.in.payment.command.ProcessPaymentCommand;
 import com.cafe.order.application.port.in.product.ProductQueryUseCase;
+import com.cafe.order.application.port.out.order.OrderIdempotencyPort;
 import com.cafe.order.application.port.out.order.OrderPort;
+import com.cafe.order.application.port.out.order.OrderShardPort;
 import com.cafe.order.common.BizException;
+import com.cafe.order.common.Deadline;
 import com.cafe.order.common.ErrorCode;
+import com.cafe.order.config.OrderBatchProperties;
 import com.cafe.order.domain.member.model.Member;
 import com.cafe.order.domain.member.model.enums.MemberStatus;
 import com.cafe.order.domain.order.model.Order;
@@ -23,21 +29,40 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("OrderCommandService 테스트")
@@ -61,6 +86,31 @@ class OrderCommandServiceTest {
     @Mock
     private OrderDomainService orderDomainService;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private OrderIdempotencyPort orderIdempotencyPort;
+
+    @Mock
+    private OrderIdempotencyCache orderIdempotencyCache;
+
+    @Mock
+    private OrderShardPort orderShardPort;
+
+    @Spy
+    private OrderBatchProperties orderBatchProperties = new OrderBatchProperties();
+
+    private void givenTransactionExecutesCallback() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private void givenIdempotencyCacheMiss() {
+        given(orderIdempotencyCache.get(any(), any())).willAnswer(invocation ->
+                invocation.<Supplier<CompletableFuture<Order>>>getArgument(1).get());
+    }
+
     // ========== 주문 생성 ==========
 
     @Test
@@ -84,35 +134,127 @@ class OrderCommandServiceTest {
                 Product.builder().id(2L).name("라떼").price(BigDecimal.valueOf(5000)).build()
         );
 
-        Payment payment = Payment.builder()
-                .id(1L)
-                .paymentId("payment-123")
-                .orderId(1L)
-                .paymentDateTime(LocalDateTime.now())
-                .build();
-
-        Order savedOrder = Order.builder()
+        Order pendingOrder = Order.builder()
                 .id(1L)
                 .memberId(memberId)
                 .orderLines(List.of())
-                .paymentId(payment.getPaymentId())
-                .status(OrderStatus.CONFIRMED)
+                .status(OrderStatus.PENDING)
                 .orderDateTime(LocalDateTime.now())
                 .build();
 
+        Payment payment = Payment.builder()
+                .paymentId("payment-123")
+                .orderId(1L)
+                .paymentDateTime(LocalDateTime.now())
+                .build();
+
+        givenTransactionExecutesCallback();
         given(memberQueryUseCase.findById(memberId)).willReturn(member);
         given(productQueryUseCase.findProductsByIds(List.of(1L, 2L))).willReturn(products);
         willDoNothing().given(orderDomainService).validateOrderCreation(member, products);
-        given(paymentCommandUseCase.processPayment(any(ProcessPaymentCommand.class))).willReturn(payment);
-        given(orderPort.save(any(Order.class))).willReturn(savedOrder);
+        given(orderPort.save(any(Order.class))).willReturn(pendingOrder);
+        given(paymentCommandUseCase.processPayment(any(ProcessPaymentCommand.class)))
+                .willReturn(CompletableFuture.completedFuture(payment));
+        given(orderPort.updateStatus(pendingOrder, OrderStatus.PENDING)).willReturn(true);
 
         // When
-        Order result = orderCommandService.createOrder(command);
+        Order result = orderCommandService.createOrder(command).join();
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(result.getPaymentId()).isEqualTo("payment-123");
+        then(paymentCommandUseCase).should().savePayment(payment);
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 결제 실패 시 PENDING 주문을 실패 처리")
+    void createOrder_Fail_PaymentFailed() {
+        // Given
+        Long memberId = 1L;
+        CreateOrderCommand command = new CreateOrderCommand(memberId, List.of(new OrderLineCommand(1L, 1)));
+
+        Member member = Member.builder()
+                .id(memberId)
+                .status(MemberStatus.ACTIVE)
+                .build();
+
+        List<Product> products = List.of(
+                Product.builder().id(1L).name("아메리카노").price(BigDecimal.valueOf(4500)).build()
+        );
+
+        Order pendingOrder = Order.builder()
+                .id(1L)
+                .memberId(memberId)
+                .orderLines(List.of())
+                .status(OrderStatus.PENDING)
+                .orderDateTime(LocalDateTime.now())
+                .build();
+
+        givenTransactionExecutesCallback();
+        given(memberQueryUseCase.findById(memberId)).willReturn(member);
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(products);
+        willDoNothing().given(orderDomainService).validateOrderCreation(member, products);
+        given(orderPort.save(any(Order.class))).willReturn(pendingOrder);
+        given(paymentCommandUseCase.processPayment(any(ProcessPaymentCommand.class)))
+                .willReturn(CompletableFuture.failedFuture(new BizException(ErrorCode.PAYMENT_FAILED)));
+
+        // When & Then
+        assertThatThrownBy(() -> orderCommandService.createOrder(command).join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(BizException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAYMENT_FAILED);
+
+        assertThat(pendingOrder.getStatus()).isEqualTo(OrderStatus.FAILED);
+        then(orderIdempotencyPort).should().deleteByOrderId(1L);
+        then(paymentCommandUseCase).should(never()).savePayment(any());
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 결제 응답 전에 복구 스케줄러가 실패 처리한 주문은 확정하지 않고 결제 취소 등록")
+    void createOrder_Fail_OrderFailedByRecoveryBeforeConfirm() {
+        // Given
+        Long memberId = 1L;
+        CreateOrderCommand command = new CreateOrderCommand(memberId, List.of(new OrderLineCommand(1L, 1)));
+
+        Member member = Member.builder()
+                .id(memberId)
+                .status(MemberStatus.ACTIVE)
+                .build();
+
+        Order pendingOrder = Order.builder()
+                .id(1L)
+                .memberId(memberId)
+                .orderLines(List.of())
+                .status(OrderStatus.PENDING)
+                .orderDateTime(LocalDateTime.now())
+                .build();
+
+        Payment payment = Payment.builder()
+                .paymentId("payment-123")
+                .orderId(1L)
+                .paymentDateTime(LocalDateTime.now())
+                .build();
+
+        givenTransactionExecutesCallback();
+        given(memberQueryUseCase.findById(memberId)).willReturn(member);
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(List.of());
+        given(orderPort.save(any(Order.class))).willReturn(pendingOrder);
+        given(paymentCommandUseCase.processPayment(any(ProcessPaymentCommand.class)))
+                .willReturn(CompletableFuture.completedFuture(payment));
+        given(orderPort.updateStatus(pendingOrder, OrderStatus.PENDING)).willReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> orderCommandService.createOrder(command).join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(BizException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAYMENT_FAILED);
+
+        then(paymentCommandUseCase).should().cancelPayment(new CancelPaymentCommand("payment-123"));
+        then(paymentCommandUseCase).should(never()).savePayment(any());
     }
 
     @Test
@@ -141,9 +283,487 @@ class OrderCommandServiceTest {
                 .isInstanceOf(BizException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_MEMBER_NOT_ACTIVE);
 
+        // 회원/상품 검증은 저장 트랜잭션을 시작하기 전에 끝난다
+        then(transactionTemplate).should(never()).execute(any());
+        then(paymentCommandUseCase).should(never()).processPayment(any());
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 캐시에는 ACTIVE 지만 다른 인스턴스에서 탈퇴한 회원은 프라이머리 재확인으로 거절")
+    void createOrder_Fail_WithdrawnOnAnotherInstance() {
+        // Given
+        Long memberId = 1L;
+        CreateOrderCommand command = new CreateOrderCommand(memberId, List.of(new OrderLineCommand(1L, 1)));
+        Member cachedMember = Member.builder()
+                .id(memberId)
+                .status(MemberStatus.ACTIVE)
+                .build();
+
+        given(memberQueryUseCase.findById(memberId)).willReturn(cachedMember);
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(List.of());
+        given(memberQueryUseCase.findInactiveMemberIds(List.of(memberId))).willReturn(Set.of(memberId));
+
+        // When & Then
+        assertThatThrownBy(() -> orderCommandService.createOrder(command))
+                .isInstanceOf(BizException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_MEMBER_NOT_ACTIVE);
+        then(transactionTemplate).should(never()).execute(any());
+        then(paymentCommandUseCase).should(never()).processPayment(any());
+    }
+
+    @Test
+    @DisplayName("주문 생성 성공 - Idempotency-Key 를 PENDING 주문과 함께 저장")
+    void createOrder_Success_WithIdempotencyKey() {
+        // Given
+        Long memberId = 1L;
+        String idempotencyKey = "key-1";
+        CreateOrderCommand command = new CreateOrderCommand(memberId, List.of(new OrderLineCommand(1L, 1)), idempotencyKey);
+
+        Member member = Member.builder()
+                .id(memberId)
+                .status(MemberStatus.ACTIVE)
+                .build();
+
+        List<Product> products = List.of(
+                Product.builder().id(1L).name("아메리카노").price(BigDecimal.valueOf(4500)).build()
+        );
+
+        Order pendingOrder = Order.builder()
+                .id(1L)
+                .memberId(memberId)
+                .orderLines(List.of())
+                .status(OrderStatus.PENDING)
+                .orderDateTime(LocalDateTime.now())
+                .build();
+
+        Payment payment = Payment.builder()
+                .paymentId("payment-123")
+                .orderId(1L)
+                .paymentDateTime(LocalDateTime.now())
+                .build();
+
+        givenIdempotencyCacheMiss();
+        givenTransactionExecutesCallback();
+        given(memberQueryUseCase.findById(memberId)).willReturn(member);
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(products);
+        given(orderPort.save(any(Order.class))).willReturn(pendingOrder);
+        given(paymentCommandUseCase.processPayment(any(ProcessPaymentCommand.class)))
+                .willReturn(CompletableFuture.completedFuture(payment));
+        given(orderPort.updateStatus(pendingOrder, OrderStatus.PENDING)).willReturn(true);
+
+        // When
+        Order result = orderCommandService.createOrder(command).join();
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        then(orderIdempotencyPort).should().save(idempotencyKey, memberId, 1L);
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 저장된 Idempotency-Key 와 충돌하면 결제 없이 기존 주문 반환")
+    void createOrder_DuplicateKey_ReturnsExistingOrder() {
+        // Given
+        Long memberId = 1L;
+        String idempotencyKey = "key-1";
+        CreateOrderCommand command = new CreateOrderCommand(memberId, List.of(new OrderLineCommand(1L, 1)), idempotencyKey);
+
+        Order existingOrder = Order.builder()
+                .id(10L)
+                .memberId(memberId)
+                .orderLines(List.of())
+                .status(OrderStatus.CONFIRMED)
+                .paymentId("payment-123")
+                .build();
+
+        givenIdempotencyCacheMiss();
+        given(transactionTemplate.execute(any()))
+                .willThrow(new DataIntegrityViolationException("uk_order_idempotency_key"))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(orderIdempotencyPort.findOrderIdByKey(memberId, idempotencyKey)).willReturn(Optional.of(10L));
+        given(orderPort.findById(10L)).willReturn(Optional.of(existingOrder));
+
+        // When
+        Order result = orderCommandService.createOrder(command).join();
+
+        // Then
+        assertThat(result).isSameAs(existingOrder);
+        then(paymentCommandUseCase).should(never()).processPayment(any());
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 저장된 Idempotency-Key 의 주문이 아직 PENDING 이면 성공 대신 처리 중으로 거절")
+    void createOrder_DuplicateKey_PendingOrder_RejectedAsInProgress() {
+        // Given: 다른 인스턴스에서 결제 중인 주문
+        Long memberId = 1L;
+        String idempotencyKey = "key-1";
+        CreateOrderCommand command = new CreateOrderCommand(memberId, List.of(new OrderLineCommand(1L, 1)), idempotencyKey);
+
+        Order pendingOrder = Order.builder()
+                .id(10L)
+                .memberId(memberId)
+                .orderLines(List.of())
+                .status(OrderStatus.PENDING)
+                .build();
+
+        givenIdempotencyCacheMiss();
+        given(transactionTemplate.execute(any()))
+                .willThrow(new DataIntegrityViolationException("uk_order_idempotency_key"))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(orderIdempotencyPort.findOrderIdByKey(memberId, idempotencyKey)).willReturn(Optional.of(10L));
+        given(orderPort.findById(10L)).willReturn(Optional.of(pendingOrder));
+
+        // When & Then
+        assertThatThrownBy(() -> orderCommandService.createOrder(command).join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(BizException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ORDER_IN_PROGRESS);
         then(paymentCommandUseCase).should(never()).processPayment(any());
     }
 
+    @Test
+    @DisplayName("주문 생성 실패 - 다른 회원이 사용한 Idempotency-Key")
+    void createOrder_Fail_IdempotencyKeyOfOtherMember() {
+        // Given
+        CreateOrderCommand command = new CreateOrderCommand(2L, List.of(new OrderLineCommand(1L, 1)), "key-1");
+
+        Order otherMembersOrder = Order.builder()
+                .id(10L)
+                .memberId(1L)
+                .orderLines(List.of())
+                .status(OrderStatus.CONFIRMED)
+                .build();
+
+        given(orderIdempotencyCache.get(any(), any())).willReturn(CompletableFuture.completedFuture(otherMembersOrder));
+
+        // When & Then
+        assertThatThrownBy(() -> orderCommandService.createOrder(command).join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(BizException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ORDER_IDEMPOTENCY_KEY_CONFLICT);
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 처리 기한을 결제 요청으로 전달")
+    void createOrder_PropagatesDeadlineToPayment() {
+        // Given
+        Long memberId = 1L;
+        Deadline deadline = Deadline.after(Duration.ofSeconds(3));
+        CreateOrderCommand command = new CreateOrderCommand(memberId, List.of(new OrderLineCommand(1L, 1)), null, deadline);
+
+        Member member = Member.builder()
+                .id(memberId)
+                .status(MemberStatus.ACTIVE)
+                .build();
+
+        Order pendingOrder = Order.builder()
+                .id(1L)
+                .memberId(memberId)
+                .orderLines(List.of())
+                .status(OrderStatus.PENDING)
+                .orderDateTime(LocalDateTime.now())
+                .build();
+
+        givenTransactionExecutesCallback();
+        given(memberQueryUseCase.findById(memberId)).willReturn(member);
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(List.of());
+        given(orderPort.save(any(Order.class))).willReturn(pendingOrder);
+        given(paymentCommandUseCase.processPayment(any(ProcessPaymentCommand.class)))
+                .willReturn(CompletableFuture.failedFuture(new BizException(ErrorCode.REQUEST_DEADLINE_EXCEEDED)));
+
+        // When
+        assertThatThrownBy(() -> orderCommandService.createOrder(command).join())
+                .isInstanceOf(CompletionException.class);
+
+        // Then
+        then(paymentCommandUseCase).should().processPayment(new ProcessPaymentCommand(1L, deadline));
+        assertThat(pendingOrder.getStatus()).isEqualTo(OrderStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("주문 생성 실패 - 처리 기한이 지난 요청은 DB 조회와 결제 없이 거절")
+    void createOrder_Fail_DeadlineExpired() {
+        // Given
+        CreateOrderCommand command = new CreateOrderCommand(
+                1L, List.of(new OrderLineCommand(1L, 1)), "key-1", Deadline.after(Duration.ofMillis(-1)));
+
+        // When & Then
+        assertThatThrownBy(() -> orderCommandService.createOrder(command))
+                .isInstanceOf(BizException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.REQUEST_DEADLINE_EXCEEDED);
+
+        then(orderIdempotencyCache).shouldHaveNoInteractions();
+        then(memberQueryUseCase).shouldHaveNoInteractions();
+        then(orderPort).shouldHaveNoInteractions();
+        then(paymentCommandUseCase).shouldHaveNoInteractions();
+    }
+
+    // ========== 주문 일괄 생성 ==========
+
+    private static Member activeMember(Long memberId) {
+        return Member.builder()
+                .id(memberId)
+                .status(MemberStatus.ACTIVE)
+                .build();
+    }
+
+    private static Product product(Long productId) {
+        return Product.builder().id(productId).name("상품" + productId).price(BigDecimal.valueOf(4500)).build();
+    }
+
+    private static Payment payment(String paymentId, Long orderId) {
+        return Payment.builder()
+                .paymentId(paymentId)
+                .orderId(orderId)
+                .paymentDateTime(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 샤딩이 꺼진 경우처럼 모든 주문을 한 묶음으로 처리
+     */
+    private void givenSingleShardGroup() {
+        given(orderShardPort.groupByMember(anyList(), any()))
+                .willAnswer(invocation -> List.of(invocation.<List<Integer>>getArgument(0)));
+    }
+
+    /**
+     * 저장 순서대로 주문 ID 1, 2, 3... 을 부여
+     */
+    private void givenSaveAllAssignsIds() {
+        AtomicLong nextId = new AtomicLong(1);
+        given(orderPort.saveAll(anyList())).willAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            return IntStream.range(0, orders.size())
+                    .mapToObj(i -> Order.builder()
+                            .id(nextId.getAndIncrement())
+                            .memberId(orders.get(i).getMemberId())
+                            .orderLines(orders.get(i).getOrderLines())
+                            .status(orders.get(i).getStatus())
+                            .orderDateTime(orders.get(i).getOrderDateTime())
+                            .version(0L)
+                            .build())
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 - 없는 회원/결제 실패 주문만 실패하고, 나머지는 한 트랜잭션에서 확정 및 결제 일괄 저장")
+    void createOrders_PartialFailure() {
+        // Given: 같은 회원의 주문 2건 + 없는 회원의 주문 1건, 두 번째 결제는 실패
+        List<CreateOrderCommand> commands = List.of(
+                new CreateOrderCommand(1L, List.of(new OrderLineCommand(1L, 1), new OrderLineCommand(2L, 1))),
+                new CreateOrderCommand(99L, List.of(new OrderLineCommand(1L, 1))),
+                new CreateOrderCommand(1L, List.of(new OrderLineCommand(2L, 3))),
+                new CreateOrderCommand(1L, List.of(new OrderLineCommand(1L, 2)))
+        );
+        Payment payment1 = payment("payment-1", 1L);
+        Payment payment3 = payment("payment-3", 3L);
+
+        givenTransactionExecutesCallback();
+        givenSingleShardGroup();
+        givenSaveAllAssignsIds();
+        given(memberQueryUseCase.findById(1L)).willReturn(activeMember(1L));
+        given(memberQueryUseCase.findById(99L)).willThrow(new BizException(ErrorCode.MEMBER_NOT_FOUND));
+        given(productQueryUseCase.findProductsByIds(List.of(1L, 2L))).willReturn(List.of(product(1L), product(2L)));
+        given(paymentCommandUseCase.processPayment(new ProcessPaymentCommand(1L, Deadline.none())))
+                .willReturn(CompletableFuture.completedFuture(payment1));
+        given(paymentCommandUseCase.processPayment(new ProcessPaymentCommand(2L, Deadline.none())))
+                .willReturn(CompletableFuture.failedFuture(new BizException(ErrorCode.PAYMENT_FAILED)));
+        given(paymentCommandUseCase.processPayment(new ProcessPaymentCommand(3L, Deadline.none())))
+                .willReturn(CompletableFuture.completedFuture(payment3));
+        given(orderPort.updateStatus(any(Order.class), eq(OrderStatus.PENDING))).willReturn(true);
+
+        // When
+        List<CreateOrderResult> results = orderCommandService.createOrders(commands).join();
+
+        // Then
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0).order().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(results.get(0).order().getPaymentId()).isEqualTo("payment-1");
+        assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.MEMBER_NOT_FOUND);
+        assertThat(results.get(2).errorCode()).isEqualTo(ErrorCode.PAYMENT_FAILED);
+        assertThat(results.get(3).order().getPaymentId()).isEqualTo("payment-3");
+
+        then(memberQueryUseCase).should(times(1)).findById(1L);
+        then(productQueryUseCase).should(times(1)).findProductsByIds(anyList());
+        then(orderPort).should(times(1)).saveAll(anyList());
+        then(transactionTemplate).should(times(2)).execute(any());
+        then(paymentCommandUseCase).should().savePayments(List.of(payment1, payment3));
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 - 배치 회원 상태를 한 번에 다시 확인해 다른 인스턴스에서 탈퇴한 회원의 주문만 거절")
+    void createOrders_RejectsMembersWithdrawnOnAnotherInstance() {
+        // Given
+        List<CreateOrderCommand> commands = List.of(
+                new CreateOrderCommand(1L, List.of(new OrderLineCommand(1L, 1))),
+                new CreateOrderCommand(2L, List.of(new OrderLineCommand(1L, 1))),
+                new CreateOrderCommand(1L, List.of(new OrderLineCommand(1L, 2))));
+        Payment payment1 = Payment.createPayment("payment-1", 1L, LocalDateTime.now());
+        Payment payment2 = Payment.createPayment("payment-2", 2L, LocalDateTime.now());
+
+        givenTransactionExecutesCallback();
+        givenSingleShardGroup();
+        givenSaveAllAssignsIds();
+        given(memberQueryUseCase.findById(1L)).willReturn(activeMember(1L));
+        given(memberQueryUseCase.findById(2L)).willReturn(activeMember(2L));
+        given(memberQueryUseCase.findInactiveMemberIds(Set.of(1L, 2L))).willReturn(Set.of(2L));
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(List.of(product(1L)));
+        given(paymentCommandUseCase.processPayment(new ProcessPaymentCommand(1L, Deadline.none())))
+                .willReturn(CompletableFuture.completedFuture(payment1));
+        given(paymentCommandUseCase.processPayment(new ProcessPaymentCommand(2L, Deadline.none())))
+                .willReturn(CompletableFuture.completedFuture(payment2));
+        given(orderPort.updateStatus(any(Order.class), eq(OrderStatus.PENDING))).willReturn(true);
+
+        // When
+        List<CreateOrderResult> results = orderCommandService.createOrders(commands).join();
+
+        // Then
+        assertThat(results.get(0).isCreated()).isTrue();
+        assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.ORDER_MEMBER_NOT_ACTIVE);
+        assertThat(results.get(2).isCreated()).isTrue();
+        then(memberQueryUseCase).should(times(1)).findInactiveMemberIds(any());
+        then(paymentCommandUseCase).should(times(2)).processPayment(any());
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 - 결제 API 동시 호출 수를 max-concurrent-payments 로 제한")
+    void createOrders_BoundedPaymentFanOut() {
+        // Given: 동시 호출 2건, 주문 5건
+        orderBatchProperties.setMaxConcurrentPayments(2);
+        List<CreateOrderCommand> commands = IntStream.range(0, 5)
+                .mapToObj(i -> new CreateOrderCommand(1L, List.of(new OrderLineCommand(1L, 1))))
+                .toList();
+        List<CompletableFuture<Payment>> payments = IntStream.range(0, 5)
+                .mapToObj(i -> new CompletableFuture<Payment>())
+                .toList();
+
+        givenTransactionExecutesCallback();
+        givenSingleShardGroup();
+        givenSaveAllAssignsIds();
+        given(memberQueryUseCase.findById(1L)).willReturn(activeMember(1L));
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(List.of(product(1L)));
+        for (int i = 0; i < 5; i++) {
+            given(paymentCommandUseCase.processPayment(new ProcessPaymentCommand(i + 1L, Deadline.none())))
+                    .willReturn(payments.get(i));
+        }
+        given(orderPort.updateStatus(any(Order.class), eq(OrderStatus.PENDING))).willReturn(true);
+
+        // When
+        CompletableFuture<List<CreateOrderResult>> results = orderCommandService.createOrders(commands);
+
+        // Then: 결제 하나가 끝날 때마다 다음 결제를 하나씩 호출
+        then(paymentCommandUseCase).should(times(2)).processPayment(any());
+        payments.get(1).complete(payment("payment-2", 2L));
+        then(paymentCommandUseCase).should(times(3)).processPayment(any());
+        assertThat(results).isNotDone();
+
+        for (int i = 0; i < 5; i++) {
+            payments.get(i).complete(payment("payment-" + (i + 1), i + 1L));
+        }
+        assertThat(results.join()).allMatch(CreateOrderResult::isCreated);
+        then(paymentCommandUseCase).should(times(5)).processPayment(any());
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 - 샤드 묶음마다 저장/완료 트랜잭션을 나누고, 결제 동시 호출 한도는 모든 묶음이 함께 씀")
+    void createOrders_ShardGroups_ShareConcurrentPaymentLimit() {
+        // Given: 다른 샤드의 두 회원이 번갈아 주문, 동시 호출 2건
+        orderBatchProperties.setMaxConcurrentPayments(2);
+        List<CreateOrderCommand> commands = IntStream.range(0, 4)
+                .mapToObj(i -> new CreateOrderCommand(1L + i % 2, List.of(new OrderLineCommand(1L, 1))))
+                .toList();
+        List<CompletableFuture<Payment>> payments = IntStream.range(0, 4)
+                .mapToObj(i -> new CompletableFuture<Payment>())
+                .toList();
+
+        givenTransactionExecutesCallback();
+        givenSaveAllAssignsIds();
+        given(orderShardPort.groupByMember(anyList(), any())).willAnswer(invocation -> {
+            List<Integer> positions = invocation.getArgument(0);
+            ToLongFunction<Integer> memberId = invocation.getArgument(1);
+            return List.copyOf(positions.stream()
+                    .collect(Collectors.groupingBy(memberId::applyAsLong, LinkedHashMap::new, Collectors.toList()))
+                    .values());
+        });
+        given(memberQueryUseCase.findById(1L)).willReturn(activeMember(1L));
+        given(memberQueryUseCase.findById(2L)).willReturn(activeMember(2L));
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(List.of(product(1L)));
+        for (int i = 0; i < 4; i++) {
+            given(paymentCommandUseCase.processPayment(new ProcessPaymentCommand(i + 1L, Deadline.none())))
+                    .willReturn(payments.get(i));
+        }
+        given(orderPort.updateStatus(any(Order.class), eq(OrderStatus.PENDING))).willReturn(true);
+
+        // When
+        CompletableFuture<List<CreateOrderResult>> results = orderCommandService.createOrders(commands);
+
+        // Then: 묶음이 둘이어도 결제는 2건씩만 호출
+        then(orderPort).should(times(2)).saveAll(anyList());
+        then(paymentCommandUseCase).should(times(2)).processPayment(any());
+
+        for (int i = 0; i < 4; i++) {
+            payments.get(i).complete(payment("payment-" + (i + 1), i + 1L));
+        }
+        List<CreateOrderResult> created = results.join();
+        assertThat(created).extracting(result -> result.order().getMemberId()).containsExactly(1L, 2L, 1L, 2L);
+        then(transactionTemplate).should(times(4)).execute(any());
+        then(paymentCommandUseCase).should(times(2)).savePayments(anyList());
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 - 없는 상품이 섞이면 상품별로 다시 조회해 그 상품을 주문한 주문만 실패")
+    void createOrders_ProductNotFound_OnlyAffectedOrdersRejected() {
+        // Given
+        List<CreateOrderCommand> commands = List.of(
+                new CreateOrderCommand(1L, List.of(new OrderLineCommand(1L, 1))),
+                new CreateOrderCommand(1L, List.of(new OrderLineCommand(1L, 1), new OrderLineCommand(404L, 1)))
+        );
+
+        givenTransactionExecutesCallback();
+        givenSingleShardGroup();
+        givenSaveAllAssignsIds();
+        given(memberQueryUseCase.findById(1L)).willReturn(activeMember(1L));
+        given(productQueryUseCase.findProductsByIds(List.of(1L, 404L)))
+                .willThrow(new BizException(ErrorCode.PRODUCT_NOT_FOUND));
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(List.of(product(1L)));
+        given(productQueryUseCase.findProductsByIds(List.of(404L)))
+                .willThrow(new BizException(ErrorCode.PRODUCT_NOT_FOUND));
+        given(paymentCommandUseCase.processPayment(new ProcessPaymentCommand(1L, Deadline.none())))
+                .willReturn(CompletableFuture.completedFuture(payment("payment-1", 1L)));
+        given(orderPort.updateStatus(any(Order.class), eq(OrderStatus.PENDING))).willReturn(true);
+
+        // When
+        List<CreateOrderResult> results = orderCommandService.createOrders(commands).join();
+
+        // Then
+        assertThat(results.get(0).isCreated()).isTrue();
+        assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.PRODUCT_NOT_FOUND);
+        then(paymentCommandUseCase).should(times(1)).processPayment(any());
+    }
+
+    @Test
+    @DisplayName("주문 일괄 생성 - 모든 주문이 검증에 실패하면 저장/결제 없이 결과만 반환")
+    void createOrders_AllRejected_NoSaveOrPayment() {
+        // Given
+        List<CreateOrderCommand> commands = List.of(
+                new CreateOrderCommand(1L, List.of(new OrderLineCommand(1L, 1)), null,
+                        Deadline.after(Duration.ofMillis(-1)))
+        );
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(List.of(product(1L)));
+
+        // When
+        List<CreateOrderResult> results = orderCommandService.createOrders(commands).join();
+
+        // Then
+        assertThat(results.get(0).errorCode()).isEqualTo(ErrorCode.REQUEST_DEADLINE_EXCEEDED);
+        then(orderPort).shouldHaveNoInteractions();
+        then(paymentCommandUseCase).shouldHaveNoInteractions();
+    }
+
     // ========== 주문 취소 ==========
 
     @Test
@@ -162,17 +782,44 @@ class OrderCommandServiceTest {
                 .paymentId(paymentId)
                 .build();
 
-        given(orderPort.findById(orderId)).willReturn(Optional.of(order));
+        given(orderPort.findStatusById(orderId)).willReturn(Optional.of(order));
         willDoNothing().given(orderDomainService).validateOrderCancellation(order);
         willDoNothing().given(paymentCommandUseCase).cancelPayment(any());
-        given(orderPort.save(any(Order.class))).willReturn(order);
+        given(orderPort.updateStatus(order, OrderStatus.CONFIRMED)).willReturn(true);
 
         // When
         orderCommandService.cancelOrder(command);
 
         // Then
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
         then(orderDomainService).should().validateOrderCancellation(order);
-        then(paymentCommandUseCase).should().cancelPayment(any());
+        then(paymentCommandUseCase).should().cancelPayment(new CancelPaymentCommand(paymentId));
+        then(orderPort).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("주문 취소 실패 - 조회 이후 다른 요청이 먼저 변경한 경우 결제 취소 없이 버전 충돌(재시도 대상)로 실패")
+    void cancelOrder_Fail_ConcurrentCancel() {
+        // Given
+        Long orderId = 1L;
+        CancelOrderCommand command = new CancelOrderCommand(orderId);
+
+        Order order = Order.builder()
+                .id(orderId)
+                .memberId(1L)
+                .orderLines(List.of())
+                .status(OrderStatus.CONFIRMED)
+                .paymentId("payment-123")
+                .build();
+
+        given(orderPort.findStatusById(orderId)).willReturn(Optional.of(order));
+        given(orderPort.updateStatus(order, OrderStatus.CONFIRMED)).willReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> orderCommandService.cancelOrder(command))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        then(paymentCommandUseCase).should(never()).cancelPayment(any());
     }
 
     @Test
@@ -191,7 +838,7 @@ class OrderCommandServiceTest {
                 .cancelDateTime(LocalDateTime.now())
                 .build();
 
-        given(orderPort.findById(orderId)).willReturn(Optional.of(order));
+        given(orderPort.findStatusById(orderId)).willReturn(Optional.of(order));
         willThrow(new BizException(ErrorCode.ORDER_ALREADY_CANCELLED))
                 .given(orderDomainService).validateOrderCancellation(order);
 
@@ -202,4 +849,68 @@ class OrderCommandServiceTest {
 
         then(paymentCommandUseCase).should(never()).cancelPayment(any());
     }
+
+    // ========== 미확정 주문 복구 ==========
+
+    private void givenSingleShard() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(orderShardPort).forEachShard(any());
+    }
+
+    @Test
+    @DisplayName("미확정 주문 복구 - 기준 시각 이전 PENDING 주문을 실패 처리")
+    void recoverPendingOrders_Success() {
+        // Given
+        LocalDateTime pendingBefore = LocalDateTime.now().minusMinutes(1);
+
+        Order stalePendingOrder = Order.builder()
+                .id(1L)
+                .memberId(1L)
+                .orderLines(List.of())
+                .status(OrderStatus.PENDING)
+                .orderDateTime(pendingBefore.minusMinutes(5))
+                .build();
+
+        given(orderPort.findPendingOrdersBefore(pendingBefore, 100)).willReturn(List.of(stalePendingOrder));
+        given(orderPort.updateStatus(stalePendingOrder, OrderStatus.PENDING)).willReturn(true);
+        givenSingleShard();
+        givenTransactionExecutesCallback();
+
+        // When
+        int recovered = orderCommandService.recoverPendingOrders(pendingBefore, 100);
+
+        // Then
+        assertThat(recovered).isEqualTo(1);
+        assertThat(stalePendingOrder.getStatus()).isEqualTo(OrderStatus.FAILED);
+        then(orderIdempotencyPort).should().deleteByOrderId(1L);
+    }
+
+    @Test
+    @DisplayName("미확정 주문 복구 - 조회 이후 결제 확정된 주문은 건너뜀")
+    void recoverPendingOrders_SkipsOrderConfirmedMeanwhile() {
+        // Given
+        LocalDateTime pendingBefore = LocalDateTime.now().minusMinutes(1);
+
+        Order pendingOrder = Order.builder()
+                .id(1L)
+                .memberId(1L)
+                .orderLines(List.of())
+                .status(OrderStatus.PENDING)
+                .orderDateTime(pendingBefore.minusMinutes(5))
+                .build();
+
+        given(orderPort.findPendingOrdersBefore(pendingBefore, 100)).willReturn(List.of(pendingOrder));
+        given(orderPort.updateStatus(pendingOrder, OrderStatus.PENDING)).willReturn(false);
+        givenSingleShard();
+        givenTransactionExecutesCallback();
+
+        // When
+        int recovered = orderCommandService.recoverPendingOrders(pendingBefore, 100);
+
+        // Then
+        assertThat(recovered).isZero();
+        then(orderIdempotencyPort).should(never()).deleteByOrderId(any());
+    }
 }
@@ -0,0 +1,86 @@
+package com.cafe.order.application.service.order;
+
+import com.cafe.order.config.OrderIdempotencyProperties;
+import com.cafe.order.domain.order.model.Order;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OrderIdempotencyCache 테스트")
+class OrderIdempotencyCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderIdempotencyCache orderIdempotencyCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderIdempotencyCache = new OrderIdempotencyCache(new OrderIdempotencyProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("진행 중인 요청과 같은 키의 요청은 새로 주문하지 않고 같은 결과를 기다림")
+    void get_CoalescesInFlightRequests() {
+        // Given
+        AtomicInteger createCount = new AtomicInteger();
+        CompletableFuture<Order> inFlight = new CompletableFuture<>();
+
+        // When
+        CompletableFuture<Order> first = orderIdempotencyCache.get("key-1", () -> {
+            createCount.incrementAndGet();
+            return inFlight;
+        });
+        CompletableFuture<Order> second = orderIdempotencyCache.get("key-1", () -> {
+            createCount.incrementAndGet();
+            return CompletableFuture.completedFuture(Order.builder().id(2L).build());
+        });
+
+        Order order = Order.builder().id(1L).build();
+        inFlight.complete(order);
+
+        // Then
+        assertThat(createCount).hasValue(1);
+        assertThat(first.join()).isSameAs(order);
+        assertThat(second.join()).isSameAs(order);
+    }
+
+    @Test
+    @DisplayName("실패한 결과는 보관하지 않아 같은 키로 다시 주문할 수 있음")
+    void get_DoesNotKeepFailedResult() {
+        // Given
+        orderIdempotencyCache.get("key-1", () -> CompletableFuture.failedFuture(new IllegalStateException()));
+
+        // When
+        Order order = Order.builder().id(1L).build();
+        CompletableFuture<Order> retry = orderIdempotencyCache.get("key-1", () -> CompletableFuture.completedFuture(order));
+
+        // Then
+        assertThat(retry.join()).isSameAs(order);
+    }
+
+    @Test
+    @DisplayName("중복이 아닌 요청의 캐시 조회는 평균 1ms 미만")
+    void get_NonDuplicateLookupIsSubMillisecond() {
+        // Given
+        Order order = Order.builder().id(1L).build();
+        int requests = 10_000;
+
+        // When
+        for (int i = 0; i < requests; i++) {
+            orderIdempotencyCache.get("key-" + i, () -> CompletableFuture.completedFuture(order));
+        }
+
+        // Then
+        Timer lookupTimer = meterRegistry.get("order.idempotency.lookup").timer();
+        assertThat(lookupTimer.count()).isEqualTo(requests);
+        assertThat(lookupTimer.mean(TimeUnit.MILLISECONDS)).isLessThan(1.0);
+    }
+}
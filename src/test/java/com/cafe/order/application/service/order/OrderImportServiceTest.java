@@ -0,0 +1,236 @@
+package com.cafe.order.application.service.order;
+
+import com.cafe.order.application.port.in.member.MemberQueryUseCase;
+import com.cafe.order.application.port.in.order.command.ImportOrderCommand;
+import com.cafe.order.application.port.in.order.command.ImportOrderResult;
+import com.cafe.order.application.port.in.order.command.OrderLineCommand;
+import com.cafe.order.application.port.in.payment.PaymentCommandUseCase;
+import com.cafe.order.application.port.in.payment.PaymentQueryUseCase;
+import com.cafe.order.application.port.in.product.ProductQueryUseCase;
+import com.cafe.order.application.port.out.order.OrderPort;
+import com.cafe.order.application.port.out.order.OrderShardPort;
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.ErrorCode;
+import com.cafe.order.domain.member.model.Member;
+import com.cafe.order.domain.member.model.enums.MemberStatus;
+import com.cafe.order.domain.order.model.Order;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import com.cafe.order.domain.order.service.OrderDomainService;
+import com.cafe.order.domain.payment.model.Payment;
+import com.cafe.order.domain.product.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderImportService 테스트")
+class OrderImportServiceTest {
+
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2025, 1, 1, 9, 30);
+
+    @InjectMocks
+    private OrderImportService orderImportService;
+
+    @Mock
+    private OrderPort orderPort;
+
+    @Mock
+    private MemberQueryUseCase memberQueryUseCase;
+
+    @Mock
+    private ProductQueryUseCase productQueryUseCase;
+
+    @Mock
+    private PaymentQueryUseCase paymentQueryUseCase;
+
+    @Mock
+    private PaymentCommandUseCase paymentCommandUseCase;
+
+    @Spy
+    private OrderDomainService orderDomainService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private OrderShardPort orderShardPort;
+
+    private final AtomicLong orderIds = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(orderShardPort.groupByMember(anyList(), any()))
+                .willAnswer(invocation -> List.of(invocation.<List<Integer>>getArgument(0)));
+        given(orderShardPort.onMemberShard(any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    private static ImportOrderCommand command(long memberId, long productId, String paymentId) {
+        return new ImportOrderCommand(memberId, List.of(new OrderLineCommand(productId, 1)), paymentId, ORDER_DATE_TIME);
+    }
+
+    private static Member member(long memberId, MemberStatus status) {
+        return Member.builder().id(memberId).status(status).build();
+    }
+
+    private static Product product(long productId) {
+        return Product.builder().id(productId).name("상품" + productId).price(BigDecimal.valueOf(4500)).build();
+    }
+
+    private void givenOrderPortAssignsIds() {
+        given(orderPort.saveAll(anyList())).willAnswer(invocation ->
+                invocation.<List<Order>>getArgument(0).stream()
+                        .map(order -> Order.builder()
+                                .id(orderIds.incrementAndGet())
+                                .memberId(order.getMemberId())
+                                .orderLines(order.getOrderLines())
+                                .status(order.getStatus())
+                                .paymentId(order.getPaymentId())
+                                .orderDateTime(order.getOrderDateTime())
+                                .build())
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("일괄 등록 - 없는 회원/탈퇴 회원/없는 상품/이미 등록되거나 청크 안에서 중복된 결제 ID 만 제외하고 한 번에 저장")
+    void importOrders_RejectsInvalidAndSavesRest() {
+        // Given
+        given(memberQueryUseCase.findById(1L)).willReturn(member(1L, MemberStatus.ACTIVE));
+        given(memberQueryUseCase.findById(2L)).willThrow(new BizException(ErrorCode.MEMBER_NOT_FOUND));
+        given(memberQueryUseCase.findById(3L)).willReturn(member(3L, MemberStatus.WITHDRAWN));
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(List.of(product(1L)));
+        given(productQueryUseCase.findProductsByIds(List.of(9L))).willThrow(new BizException(ErrorCode.PRODUCT_NOT_FOUND));
+        given(paymentQueryUseCase.findRegisteredPaymentIds(anyCollection())).willReturn(Set.of("pos-registered"));
+        givenOrderPortAssignsIds();
+
+        List<ImportOrderCommand> commands = List.of(
+                command(1L, 1L, "pos-1"),
+                command(2L, 1L, "pos-2"),
+                command(3L, 1L, "pos-3"),
+                command(1L, 9L, "pos-4"),
+                command(1L, 1L, "pos-registered"),
+                command(1L, 1L, "pos-1"),
+                command(1L, 1L, "pos-5"));
+
+        // When
+        List<ImportOrderResult> results = orderImportService.importOrders(commands);
+
+        // Then
+        assertThat(results).extracting(ImportOrderResult::orderId)
+                .containsExactly(101L, null, null, null, null, null, 102L);
+        assertThat(results).extracting(ImportOrderResult::errorCode).containsExactly(
+                null,
+                ErrorCode.MEMBER_NOT_FOUND,
+                ErrorCode.ORDER_MEMBER_NOT_ACTIVE,
+                ErrorCode.PRODUCT_NOT_FOUND,
+                ErrorCode.ORDER_PAYMENT_DUPLICATED,
+                ErrorCode.ORDER_PAYMENT_DUPLICATED,
+                null);
+
+        // 청크 안에서 같은 회원/상품은 한 번만 조회
+        then(memberQueryUseCase).should(times(1)).findById(1L);
+        then(productQueryUseCase).should(times(1)).findProductsByIds(List.of(1L));
+
+        ArgumentCaptor<List<Order>> orders = ArgumentCaptor.captor();
+        then(orderPort).should().saveAll(orders.capture());
+        assertThat(orders.getValue()).extracting(Order::getStatus).containsOnly(OrderStatus.CONFIRMED);
+        assertThat(orders.getValue()).extracting(Order::getOrderDateTime).containsOnly(ORDER_DATE_TIME);
+
+        ArgumentCaptor<List<Payment>> payments = ArgumentCaptor.captor();
+        then(paymentCommandUseCase).should().savePayments(payments.capture());
+        assertThat(payments.getValue()).extracting(Payment::getPaymentId, Payment::getOrderId)
+                .containsExactly(
+                        tuple("pos-1", 101L),
+                        tuple("pos-5", 102L));
+    }
+
+    @Test
+    @DisplayName("일괄 등록 - 확인 이후 다른 요청이 같은 결제 ID 를 먼저 저장해 청크 저장이 실패하면 건별로 다시 저장해 충돌한 주문만 제외")
+    void importOrders_FallsBackToSingleSavesOnConflict() {
+        // Given
+        given(memberQueryUseCase.findById(1L)).willReturn(member(1L, MemberStatus.ACTIVE));
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(List.of(product(1L)));
+        given(paymentQueryUseCase.findRegisteredPaymentIds(anyCollection())).willReturn(Set.of());
+        givenOrderPortAssignsIds();
+        given(paymentCommandUseCase.savePayments(anyList())).willAnswer(invocation -> {
+            List<Payment> payments = invocation.getArgument(0);
+            if (payments.stream().anyMatch(payment -> payment.getPaymentId().equals("pos-raced"))) {
+                throw new DataIntegrityViolationException("duplicate payment_id");
+            }
+            return payments;
+        });
+
+        // When
+        List<ImportOrderResult> results = orderImportService.importOrders(List.of(
+                command(1L, 1L, "pos-1"),
+                command(1L, 1L, "pos-raced"),
+                command(1L, 1L, "pos-2")));
+
+        // Then
+        assertThat(results).extracting(ImportOrderResult::isImported).containsExactly(true, false, true);
+        assertThat(results.get(1).errorCode()).isEqualTo(ErrorCode.ORDER_PAYMENT_DUPLICATED);
+        // 청크 1회 + 건별 3회
+        then(orderPort).should(times(4)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("일괄 등록 - 샤딩 시 청크를 회원의 샤드별로 나누어 샤드마다 한 트랜잭션으로 저장하고 결과는 입력 순서대로 반환")
+    void importOrders_SplitsChunkByMemberShard() {
+        // Given: 회원 1, 2 는 서로 다른 샤드
+        given(orderShardPort.groupByMember(anyList(), any())).willAnswer(invocation -> {
+            List<Integer> positions = invocation.getArgument(0);
+            ToLongFunction<Integer> memberId = invocation.getArgument(1);
+            return List.copyOf(positions.stream()
+                    .collect(Collectors.groupingBy(memberId::applyAsLong, LinkedHashMap::new, Collectors.toList()))
+                    .values());
+        });
+        given(memberQueryUseCase.findById(1L)).willReturn(member(1L, MemberStatus.ACTIVE));
+        given(memberQueryUseCase.findById(2L)).willReturn(member(2L, MemberStatus.ACTIVE));
+        given(productQueryUseCase.findProductsByIds(List.of(1L))).willReturn(List.of(product(1L)));
+        given(paymentQueryUseCase.findRegisteredPaymentIds(anyCollection())).willReturn(Set.of());
+        givenOrderPortAssignsIds();
+
+        // When
+        List<ImportOrderResult> results = orderImportService.importOrders(List.of(
+                command(1L, 1L, "pos-1"),
+                command(2L, 1L, "pos-2"),
+                command(1L, 1L, "pos-3")));
+
+        // Then: 회원 1 의 묶음(pos-1, pos-3)이 먼저 저장되고, 결과는 요청 순서
+        assertThat(results).extracting(ImportOrderResult::orderId).containsExactly(101L, 103L, 102L);
+        then(orderShardPort).should().onMemberShard(eq(1L), any());
+        then(orderShardPort).should().onMemberShard(eq(2L), any());
+        then(orderPort).should(times(2)).saveAll(anyList());
+    }
+}
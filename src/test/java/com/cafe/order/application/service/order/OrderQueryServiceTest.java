@@ -0,0 +1,96 @@
+package com.cafe.order.application.service.order;
+
+import com.cafe.order.application.port.in.member.MemberQueryUseCase;
+import com.cafe.order.application.port.in.order.query.OrderHistoryCursor;
+import com.cafe.order.application.port.in.order.query.OrderHistoryPage;
+import com.cafe.order.application.port.in.order.query.OrderHistoryQuery;
+import com.cafe.order.application.port.in.order.query.OrderSummary;
+import com.cafe.order.application.port.out.order.OrderQueryPort;
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.ErrorCode;
+import com.cafe.order.domain.order.model.enums.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderQueryService 단위 테스트")
+class OrderQueryServiceTest {
+
+    private static final LocalDateTime BASE_DATE_TIME = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @InjectMocks
+    private OrderQueryService orderQueryService;
+
+    @Mock
+    private OrderQueryPort orderQueryPort;
+
+    @Mock
+    private MemberQueryUseCase memberQueryUseCase;
+
+    private static List<OrderSummary> orders(long newestOrderId, int count) {
+        return LongStream.range(0, count)
+                .mapToObj(i -> new OrderSummary(newestOrderId - i, OrderStatus.CONFIRMED, "payment-" + (newestOrderId - i),
+                        BASE_DATE_TIME.minusMinutes(i), null, List.of(new OrderSummary.Line(1L, 1))))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("주문 내역 조회 - size + 1 개를 조회해 다음 페이지가 있으면 마지막 주문을 커서로 반환")
+    void findOrderHistory_HasNext() {
+        // Given
+        OrderHistoryCursor cursor = new OrderHistoryCursor(BASE_DATE_TIME.plusMinutes(1), 11L);
+        given(orderQueryPort.findOrderHistory(1L, cursor, 4)).willReturn(orders(10L, 4));
+
+        // When
+        OrderHistoryPage page = orderQueryService.findOrderHistory(new OrderHistoryQuery(1L, cursor, 3));
+
+        // Then
+        assertThat(page.orders()).extracting(OrderSummary::orderId).containsExactly(10L, 9L, 8L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(new OrderHistoryCursor(BASE_DATE_TIME.minusMinutes(2), 8L));
+    }
+
+    @Test
+    @DisplayName("주문 내역 조회 - 남은 주문이 size 이하면 마지막 페이지")
+    void findOrderHistory_LastPage() {
+        // Given
+        given(orderQueryPort.findOrderHistory(1L, null, 4)).willReturn(orders(2L, 2));
+
+        // When
+        OrderHistoryPage page = orderQueryService.findOrderHistory(new OrderHistoryQuery(1L, null, 3));
+
+        // Then
+        assertThat(page.orders()).extracting(OrderSummary::orderId).containsExactly(2L, 1L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("주문 내역 조회 실패 - 존재하지 않는 회원")
+    void findOrderHistory_Fail_MemberNotFound() {
+        // Given
+        given(memberQueryUseCase.findById(999L)).willThrow(new BizException(ErrorCode.MEMBER_NOT_FOUND));
+
+        // When & Then
+        assertThatThrownBy(() -> orderQueryService.findOrderHistory(new OrderHistoryQuery(999L, null, 20)))
+                .isInstanceOf(BizException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.MEMBER_NOT_FOUND);
+        then(orderQueryPort).should(never()).findOrderHistory(any(), any(), anyInt());
+    }
+}
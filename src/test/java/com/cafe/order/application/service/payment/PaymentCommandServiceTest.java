@@ -3,10 +3,13 @@ package com.cafe.order.application.service.payment;
 import com.cafe.order.application.port.in.payment.command.CancelPaymentCommand;
 import com.cafe.order.application.port.in.payment.command.ProcessPaymentCommand;
 import com.cafe.order.application.port.out.payment.ExternalPaymentPort;
+import com.cafe.order.application.port.out.payment.PaymentOutboxPort;
 import com.cafe.order.application.port.out.payment.PaymentPort;
 import com.cafe.order.common.BizException;
 import com.cafe.order.common.ErrorCode;
 import com.cafe.order.domain.payment.model.Payment;
+import com.cafe.order.domain.payment.model.enums.PaymentOutboxStatus;
+import com.cafe.order.domain.payment.model.enums.PaymentOutboxType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,14 +18,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.BDDMockito.willDoNothing;
-import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("PaymentCommandService 테스트")
@@ -37,81 +42,90 @@ class PaymentCommandServiceTest {
     @Mock
     private ExternalPaymentPort externalPaymentPort;
 
+    @Mock
+    private PaymentOutboxPort paymentOutboxPort;
+
     // ========== 결제 처리 ==========
 
     @Test
     @DisplayName("결제 처리 성공")
     void processPayment_Success() {
         // Given
-        Long memberId = 1L;
-        ProcessPaymentCommand command = new ProcessPaymentCommand(memberId);
+        Long orderId = 1L;
+        ProcessPaymentCommand command = new ProcessPaymentCommand(orderId);
 
         String externalPaymentId = "ext-payment-123";
-        Payment savedPayment = Payment.builder()
-                .id(1L)
-                .paymentId(externalPaymentId)
-                .orderId(null)
-                .paymentDateTime(LocalDateTime.now())
-                .build();
 
-        given(externalPaymentPort.processPayment()).willReturn(externalPaymentId);
-        given(paymentPort.save(any(Payment.class))).willReturn(savedPayment);
+        given(externalPaymentPort.processPayment(any()))
+                .willReturn(CompletableFuture.completedFuture(externalPaymentId));
 
         // When
-        Payment result = paymentCommandService.processPayment(command);
+        Payment result = paymentCommandService.processPayment(command).join();
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getPaymentId()).isEqualTo(externalPaymentId);
+        assertThat(result.getOrderId()).isEqualTo(orderId);
+        then(paymentPort).should(never()).save(any());
     }
 
     @Test
     @DisplayName("결제 처리 실패 - 외부 API 오류")
     void processPayment_Fail_ExternalApiError() {
         // Given
-        Long memberId = 1L;
-        ProcessPaymentCommand command = new ProcessPaymentCommand(memberId);
+        Long orderId = 1L;
+        ProcessPaymentCommand command = new ProcessPaymentCommand(orderId);
 
-        given(externalPaymentPort.processPayment())
-                .willThrow(new BizException(ErrorCode.PAYMENT_FAILED));
+        given(externalPaymentPort.processPayment(any()))
+                .willReturn(CompletableFuture.failedFuture(new BizException(ErrorCode.PAYMENT_FAILED)));
 
         // When & Then
-        assertThatThrownBy(() -> paymentCommandService.processPayment(command))
+        assertThatThrownBy(() -> paymentCommandService.processPayment(command).join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
                 .isInstanceOf(BizException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAYMENT_FAILED);
     }
 
-    // ========== 결제 취소 ==========
-
     @Test
-    @DisplayName("결제 취소 성공")
-    void cancelPayment_Success() {
+    @DisplayName("결제 저장 성공")
+    void savePayment_Success() {
         // Given
-        String paymentId = "ext-payment-123";
-        CancelPaymentCommand command = new CancelPaymentCommand(paymentId);
+        Payment payment = Payment.createPayment("ext-payment-123", 1L);
+        Payment savedPayment = Payment.builder()
+                .id(1L)
+                .paymentId(payment.getPaymentId())
+                .orderId(payment.getOrderId())
+                .paymentDateTime(payment.getPaymentDateTime())
+                .build();
 
-        willDoNothing().given(externalPaymentPort).cancelPayment(paymentId);
+        given(paymentPort.save(payment)).willReturn(savedPayment);
 
         // When
-        paymentCommandService.cancelPayment(command);
+        Payment result = paymentCommandService.savePayment(payment);
 
         // Then
-        then(externalPaymentPort).should().cancelPayment(paymentId);
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getPaymentId()).isEqualTo("ext-payment-123");
     }
 
+    // ========== 결제 취소 ==========
+
     @Test
-    @DisplayName("결제 취소 실패 - 외부 API 오류")
-    void cancelPayment_Fail_ExternalApiError() {
+    @DisplayName("결제 취소 - 외부 API 를 호출하지 않고 Outbox 에 취소 요청을 기록")
+    void cancelPayment_Success() {
         // Given
         String paymentId = "ext-payment-123";
         CancelPaymentCommand command = new CancelPaymentCommand(paymentId);
 
-        willThrow(new BizException(ErrorCode.PAYMENT_FAILED))
-                .given(externalPaymentPort).cancelPayment(paymentId);
+        // When
+        paymentCommandService.cancelPayment(command);
 
-        // When & Then
-        assertThatThrownBy(() -> paymentCommandService.cancelPayment(command))
-                .isInstanceOf(BizException.class)
-                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.PAYMENT_FAILED);
+        // Then
+        then(paymentOutboxPort).should().save(argThat(outbox ->
+                outbox.getPaymentId().equals(paymentId)
+                        && outbox.getType() == PaymentOutboxType.CANCEL
+                        && outbox.getStatus() == PaymentOutboxStatus.PENDING));
+        then(externalPaymentPort).should(never()).cancelPayment(any());
     }
 }
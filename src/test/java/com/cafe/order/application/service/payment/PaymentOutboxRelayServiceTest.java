@@ -0,0 +1,207 @@
+package com.cafe.order.application.service.payment;
+
+import com.cafe.order.application.port.out.order.OrderShardPort;
+import com.cafe.order.application.port.out.payment.ExternalPaymentPort;
+import com.cafe.order.application.port.out.payment.PaymentOutboxPort;
+import com.cafe.order.common.BizException;
+import com.cafe.order.common.ErrorCode;
+import com.cafe.order.config.PaymentOutboxProperties;
+import com.cafe.order.domain.payment.model.PaymentOutbox;
+import com.cafe.order.domain.payment.model.enums.PaymentOutboxStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentOutboxRelayService 테스트")
+class PaymentOutboxRelayServiceTest {
+
+    @Mock
+    private PaymentOutboxPort paymentOutboxPort;
+
+    @Mock
+    private OrderShardPort orderShardPort;
+
+    @Mock
+    private ExternalPaymentPort externalPaymentPort;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PaymentOutboxProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentOutboxRelayService paymentOutboxRelayService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PaymentOutboxProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofSeconds(1));
+        meterRegistry = new SimpleMeterRegistry();
+
+        paymentOutboxRelayService = new PaymentOutboxRelayService(
+                paymentOutboxPort, orderShardPort, externalPaymentPort, transactionTemplate, Runnable::run, properties, meterRegistry);
+
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(paymentOutboxPort.countUndelivered()).willReturn(0L);
+        given(paymentOutboxPort.findOldestUndeliveredRequestedDateTime()).willReturn(Optional.empty());
+        given(paymentOutboxPort.saveLeased(any(), any())).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("릴레이 성공 - 외부 결제 취소 후 완료 처리")
+    void relayDueOutbox_Success() {
+        // Given
+        PaymentOutbox outbox = PaymentOutbox.requestCancel("payment-123");
+        given(paymentOutboxPort.claimDue(any(), any(), any(), anyInt())).willReturn(List.of(outbox));
+
+        // When
+        int relayed = paymentOutboxRelayService.relayDueOutbox();
+
+        // Then
+        assertThat(relayed).isEqualTo(1);
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutboxStatus.COMPLETED);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        then(externalPaymentPort).should().cancelPayment("payment-123");
+        then(paymentOutboxPort).should().saveLeased(eq(outbox), any());
+        assertThat(meterRegistry.get("payment.outbox.delivered").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("릴레이 실패 - 외부 API 오류 시 백오프 후 재시도 예약")
+    void relayDueOutbox_Fail_RetryScheduled() {
+        // Given
+        PaymentOutbox outbox = PaymentOutbox.requestCancel("payment-123");
+        given(paymentOutboxPort.claimDue(any(), any(), any(), anyInt())).willReturn(List.of(outbox));
+        willThrow(new BizException(ErrorCode.PAYMENT_FAILED)).given(externalPaymentPort).cancelPayment("payment-123");
+
+        // When
+        paymentOutboxRelayService.relayDueOutbox();
+
+        // Then
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutboxStatus.PENDING);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getNextAttemptDateTime()).isAfter(LocalDateTime.now());
+        then(paymentOutboxPort).should().saveLeased(eq(outbox), any());
+        assertThat(meterRegistry.get("payment.outbox.retried").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("릴레이 실패 - 최대 재시도 횟수 도달 시 실패 처리")
+    void relayDueOutbox_Fail_MaxAttemptsExceeded() {
+        // Given
+        PaymentOutbox outbox = PaymentOutbox.builder()
+                .id(1L)
+                .paymentId("payment-123")
+                .status(PaymentOutboxStatus.PROCESSING)
+                .attempts(2)
+                .requestedDateTime(LocalDateTime.now().minusMinutes(1))
+                .nextAttemptDateTime(LocalDateTime.now())
+                .build();
+        given(paymentOutboxPort.claimDue(any(), any(), any(), anyInt())).willReturn(List.of(outbox));
+        willThrow(new BizException(ErrorCode.PAYMENT_FAILED)).given(externalPaymentPort).cancelPayment("payment-123");
+
+        // When
+        paymentOutboxRelayService.relayDueOutbox();
+
+        // Then
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutboxStatus.FAILED);
+        assertThat(outbox.getAttempts()).isEqualTo(3);
+        assertThat(meterRegistry.get("payment.outbox.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("선점 기한이 지나 결과 기록이 거절되면 덮어쓰지 않고 예외 없이 건너뜀")
+    void relayDueOutbox_LeaseLost_SkipsResult() {
+        // Given
+        PaymentOutbox outbox = PaymentOutbox.requestCancel("payment-123");
+        given(paymentOutboxPort.claimDue(any(), any(), any(), anyInt())).willReturn(List.of(outbox));
+        given(paymentOutboxPort.saveLeased(any(), any())).willReturn(false);
+
+        // When
+        int relayed = paymentOutboxRelayService.relayDueOutbox();
+
+        // Then
+        assertThat(relayed).isEqualTo(1);
+        then(paymentOutboxPort).should().saveLeased(eq(outbox), any());
+        then(paymentOutboxPort).should(never()).save(any());
+    }
+
+    @Test
+    @DisplayName("배치를 워커 수만큼씩 나눠 선점해, 선점한 항목은 기다리지 않고 바로 전달된다")
+    void relayDueOutbox_ClaimsInWavesOfWorkerPoolSize() {
+        // Given
+        properties.setBatchSize(6);
+        properties.setWorkerPoolSize(4);
+        List<PaymentOutbox> firstWave = List.of(
+                PaymentOutbox.requestCancel("payment-1"), PaymentOutbox.requestCancel("payment-2"),
+                PaymentOutbox.requestCancel("payment-3"), PaymentOutbox.requestCancel("payment-4"));
+        List<PaymentOutbox> secondWave = List.of(
+                PaymentOutbox.requestCancel("payment-5"), PaymentOutbox.requestCancel("payment-6"));
+        given(paymentOutboxPort.claimDue(any(), any(), any(), eq(4))).willReturn(firstWave);
+        given(paymentOutboxPort.claimDue(any(), any(), any(), eq(2))).willReturn(secondWave);
+
+        // When
+        int relayed = paymentOutboxRelayService.relayDueOutbox();
+
+        // Then
+        assertThat(relayed).isEqualTo(6);
+        InOrder inOrder = inOrder(paymentOutboxPort, externalPaymentPort);
+        inOrder.verify(paymentOutboxPort).claimDue(any(), any(), any(), eq(4));
+        inOrder.verify(externalPaymentPort).cancelPayment("payment-4");
+        inOrder.verify(paymentOutboxPort).saveLeased(eq(firstWave.get(3)), any());
+        inOrder.verify(paymentOutboxPort).claimDue(any(), any(), any(), eq(2));
+        inOrder.verify(externalPaymentPort).cancelPayment("payment-6");
+    }
+
+    @Test
+    @DisplayName("샤드마다 배치가 가득 차지 않을 때까지 이어서 전달")
+    void relayAllDueOutbox_RepeatsWhileBatchIsFullOnEachShard() {
+        // Given: 샤드 2개, 각 샤드에서 가득 찬 배치 다음에 빈 배치
+        properties.setBatchSize(1);
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(orderShardPort).forEachShard(any());
+        given(paymentOutboxPort.claimDue(any(), any(), any(), anyInt()))
+                .willReturn(List.of(PaymentOutbox.requestCancel("payment-1")))
+                .willReturn(List.of())
+                .willReturn(List.of(PaymentOutbox.requestCancel("payment-2")))
+                .willReturn(List.of());
+
+        // When
+        int relayed = paymentOutboxRelayService.relayAllDueOutbox();
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+        then(paymentOutboxPort).should(times(4)).claimDue(any(), any(), any(), anyInt());
+        then(externalPaymentPort).should().cancelPayment("payment-1");
+        then(externalPaymentPort).should().cancelPayment("payment-2");
+    }
+}
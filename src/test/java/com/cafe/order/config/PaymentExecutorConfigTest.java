@@ -0,0 +1,52 @@
+package com.cafe.order.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PaymentExecutorConfig 테스트")
+class PaymentExecutorConfigTest {
+
+    @Test
+    @DisplayName("플랫폼 Executor - 풀과 대기열이 가득 차면 작업을 거절하고 거절 수를 기록")
+    void platformExecutor_RejectsWhenSaturated() throws InterruptedException {
+        // Given
+        PaymentExecutorProperties properties = new PaymentExecutorProperties();
+        properties.setCorePoolSize(1);
+        properties.setMaxPoolSize(1);
+        properties.setQueueCapacity(1);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ThreadPoolExecutor executor = PaymentExecutorConfig.createPlatformExecutor(properties, meterRegistry);
+
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blockingTask = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        try {
+            executor.execute(blockingTask);
+            executor.execute(blockingTask);
+
+            // When & Then
+            assertThatThrownBy(() -> executor.execute(blockingTask))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(executor.getQueue()).hasSize(1);
+            assertThat(meterRegistry.get("payment.executor.rejected").counter().count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
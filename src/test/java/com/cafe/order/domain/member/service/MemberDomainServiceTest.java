@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -152,4 +153,30 @@ class MemberDomainServiceTest {
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.MEMBER_NOT_WITHDRAWN);
     }
+
+    @Test
+    @DisplayName("철회 기간 만료 시각 - 이 시각 이전 탈퇴는 철회 불가, 이후 탈퇴는 철회 가능")
+    void withdrawalExpiredBefore_MatchesCancellationPeriod() {
+        // Given
+        LocalDateTime expiredBefore = memberDomainService.withdrawalExpiredBefore(LocalDateTime.now());
+        Member expired = Member.builder()
+                .id(1L)
+                .status(MemberStatus.WITHDRAWN)
+                .withdrawalDateTime(expiredBefore.minusMinutes(1))
+                .build();
+        Member cancellable = Member.builder()
+                .id(2L)
+                .status(MemberStatus.WITHDRAWN)
+                .withdrawalDateTime(expiredBefore.plusMinutes(1))
+                .build();
+
+        // When & Then
+        assertThat(expiredBefore).isBefore(LocalDateTime.now().minusDays(29));
+        assertThatThrownBy(() -> memberDomainService.validateCancelWithdrawalRequirements(expired))
+                .isInstanceOf(BizException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.WITHDRAWAL_PERIOD_EXPIRED);
+        assertThatCode(() -> memberDomainService.validateCancelWithdrawalRequirements(cancellable))
+                .doesNotThrowAnyException();
+    }
 }
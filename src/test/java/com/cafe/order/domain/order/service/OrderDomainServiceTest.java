@@ -124,4 +124,22 @@ class OrderDomainServiceTest {
                 .extracting("errorCode")
                 .isEqualTo(ErrorCode.ORDER_ALREADY_CANCELLED);
     }
+
+    @Test
+    @DisplayName("주문 취소 검증 실패 - 결제 확정 전(PENDING) 주문")
+    void validateOrderCancellation_Fail_PendingOrder() {
+        // Given
+        Order pendingOrder = Order.builder()
+                .id(1L)
+                .memberId(1L)
+                .orderLines(List.of())
+                .status(OrderStatus.PENDING)
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> orderDomainService.validateOrderCancellation(pendingOrder))
+                .isInstanceOf(BizException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.ORDER_NOT_CANCELLABLE);
+    }
 }